@@ -19,6 +19,9 @@ db.createCollection('backups');
 db.backups.createIndex({ userId: 1, createdAt: -1 });
 db.backups.createIndex({ status: 1 });
 
+db.createCollection('monthly_statistics');
+db.monthly_statistics.createIndex({ userId: 1, yearMonth: 1 });
+
 // 초기 데이터 삽입 (필요한 경우)
 db.notifications.insertOne({
   userId: 'system',
@@ -0,0 +1,43 @@
+package com.example.budgettracker.benchmark;
+
+import com.example.budgettracker.global.util.AESUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AES 암호화/복호화 (이메일 등 개인정보 필드)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AesUtilBenchmark {
+
+    private static final String PLAIN_TEXT = "bench.user+budget@example.com";
+
+    private AESUtil aesUtil;
+    private String encrypted;
+
+    @Setup
+    public void setUp() {
+        aesUtil = new AESUtil("1234567890123456", new SimpleMeterRegistry());
+        encrypted = aesUtil.encrypt(PLAIN_TEXT);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return aesUtil.encrypt(PLAIN_TEXT);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return aesUtil.decrypt(encrypted);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.budgettracker.benchmark;
+
+import com.example.budgettracker.domain.transaction.entity.Category;
+import com.example.budgettracker.domain.transaction.entity.Transaction;
+import com.example.budgettracker.domain.user.entity.User;
+import com.example.budgettracker.fixture.DefaultCategory;
+import com.example.budgettracker.fixture.SyntheticDataGenerator;
+import com.example.budgettracker.fixture.SyntheticDataOptions;
+import com.example.budgettracker.fixture.SyntheticDataSink;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 고정 데이터 및 저장소 스텁
+ *
+ * DB 없이 서비스 계층만 측정하기 위해 저장소 인터페이스를 동적 프록시로 대체한다.
+ * 거래 데이터는 테스트 픽스처의 합성 데이터 생성기로 만들며, 같은 시드면 항상 같다.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 20240301L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 기본 카테고리 7개 (CategoryService 초기 데이터와 동일)
+     */
+    static List<Category> defaultCategories() {
+        return Arrays.stream(DefaultCategory.values()).map(DefaultCategory::toEntity).toList();
+    }
+
+    static List<Category> userCategories(long userId, int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            categories.add(new Category("사용자 카테고리 " + i, "설명 " + i, "custom", "#000000", userId, false));
+        }
+        return categories;
+    }
+
+    /**
+     * 한 달 치 거래 내역 (합성 데이터 생성기의 사용자별 소비 패턴)
+     */
+    static List<Transaction> transactions(int rows, YearMonth month) {
+        User user = User.builder().email("bench@example.com").password("password").name("bench").build();
+        Map<DefaultCategory, Category> categories = new EnumMap<>(DefaultCategory.class);
+        for (DefaultCategory category : DefaultCategory.values()) {
+            categories.put(category, category.toEntity());
+        }
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataOptions.of(1, month, 1).withSeed(SEED));
+        List<Transaction> transactions = new ArrayList<>(rows);
+        for (SyntheticDataSink.TransactionRow row : generator.monthOfTransactions(month, rows)) {
+            transactions.add(Transaction.builder()
+                    .user(user)
+                    .type(row.type())
+                    .category(categories.get(row.category()))
+                    .amount(BigDecimal.valueOf(row.amountCents(), 2))
+                    .date(row.date())
+                    .description(row.description())
+                    .build());
+        }
+        return transactions;
+    }
+
+    /**
+     * 메서드 이름별 응답을 돌려주는 저장소 스텁 (default 메서드는 원래 구현 실행)
+     */
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
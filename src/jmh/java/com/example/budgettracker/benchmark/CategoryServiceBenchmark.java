@@ -0,0 +1,52 @@
+package com.example.budgettracker.benchmark;
+
+import com.example.budgettracker.domain.transaction.dto.CategoryResponse;
+import com.example.budgettracker.domain.transaction.entity.Category;
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository;
+import com.example.budgettracker.domain.transaction.service.CategoryService;
+import com.example.budgettracker.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CategoryService.getAllCategories 기본 + 사용자 카테고리 병합 및 응답 변환
+ *
+ * 실제 저장소처럼 호출마다 새 목록을 돌려준다. (서비스가 목록에 addAll 하므로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CategoryServiceBenchmark {
+
+    @Param({"0", "20", "200"})
+    private int userCategories;
+
+    private CategoryService categoryService;
+
+    @Setup
+    public void setUp() {
+        List<Category> defaults = BenchmarkFixtures.defaultCategories();
+        List<Category> custom = BenchmarkFixtures.userCategories(1L, userCategories);
+        CategoryRepository categoryRepository = BenchmarkFixtures.stub(CategoryRepository.class, Map.of(
+                "findByIsDefaultTrue", args -> new ArrayList<>(defaults),
+                "findByUserId", args -> new ArrayList<>(custom)));
+        categoryService = new CategoryService(categoryRepository,
+                BenchmarkFixtures.stub(UserRepository.class, Map.of()));
+    }
+
+    @Benchmark
+    public List<CategoryResponse> getAllCategories() {
+        return categoryService.getAllCategories("1");
+    }
+}
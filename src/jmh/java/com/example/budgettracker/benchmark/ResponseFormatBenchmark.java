@@ -0,0 +1,85 @@
+package com.example.budgettracker.benchmark;
+
+import com.example.budgettracker.domain.transaction.dto.TransactionResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 목록 응답 형식별 직렬화/역직렬화 시간 (JSON, CBOR, Smile)
+ *
+ * 형식별 응답 크기는 Setup 에서 출력한다. (gzip 전 크기)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ResponseFormatBenchmark {
+
+    private static final TypeReference<List<TransactionResponse>> RESPONSE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private List<TransactionResponse> responses;
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        responses = BenchmarkFixtures.transactions(rows, YearMonth.of(2024, 3)).stream()
+                .map(TransactionResponse::from)
+                .toList();
+        objectMapper = mapper(format);
+        payload = objectMapper.writeValueAsBytes(responses);
+        int json = mapper("json").writeValueAsBytes(responses).length;
+        System.out.printf("%n[%s, %d건] 응답 크기 %,d bytes (JSON 대비 %.1f%%)%n",
+                format, rows, payload.length, payload.length * 100.0 / json);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<TransactionResponse> deserialize() throws IOException {
+        return objectMapper.readValue(payload, RESPONSE_LIST);
+    }
+
+    /**
+     * Spring Boot 기본 ObjectMapper 와 같은 날짜 설정
+     */
+    private static ObjectMapper mapper(String format) {
+        MapperBuilder<?, ?> builder = switch (format) {
+            case "json" -> JsonMapper.builder();
+            case "cbor" -> CBORMapper.builder();
+            case "smile" -> SmileMapper.builder();
+            default -> throw new IllegalArgumentException(format);
+        };
+        return builder.addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.budgettracker.benchmark;
+
+import com.example.budgettracker.domain.statistics.dto.BudgetComparisonResponse;
+import com.example.budgettracker.domain.statistics.dto.MonthlyStatisticsResponse;
+import com.example.budgettracker.domain.statistics.service.StatisticsService;
+import com.example.budgettracker.domain.transaction.entity.Transaction;
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatisticsService 메모리 집계 (OLTP 모드)
+ *
+ * 저장소가 돌려준 거래 목록을 스트림으로 집계하는 비용만 측정한다. (DB 조회 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StatisticsServiceBenchmark {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int rows;
+
+    private StatisticsService statisticsService;
+
+    @Setup
+    public void setUp() {
+        List<Transaction> transactions = BenchmarkFixtures.transactions(rows, MONTH);
+        TransactionRepository transactionRepository = BenchmarkFixtures.stub(TransactionRepository.class,
+                Map.of("findWithCategoryByUserIdAndDateRange", args -> transactions));
+        statisticsService = new StatisticsService(transactionRepository, null);
+    }
+
+    @Benchmark
+    public MonthlyStatisticsResponse monthlyStatistics() {
+        return statisticsService.getMonthlyStatistics("1", MONTH.toString());
+    }
+
+    @Benchmark
+    public BudgetComparisonResponse budgetComparison() {
+        return statisticsService.getBudgetComparison("1", MONTH.toString());
+    }
+}
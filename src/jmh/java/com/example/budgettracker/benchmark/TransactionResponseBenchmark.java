@@ -0,0 +1,63 @@
+package com.example.budgettracker.benchmark;
+
+import com.example.budgettracker.domain.transaction.dto.TransactionResponse;
+import com.example.budgettracker.domain.transaction.entity.Transaction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 목록 응답 변환 + JSON 직렬화 (GET /api/transactions)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TransactionResponseBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private List<Transaction> transactions;
+    private List<TransactionResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        transactions = BenchmarkFixtures.transactions(rows, YearMonth.of(2024, 3));
+        responses = transactions.stream().map(TransactionResponse::from).toList();
+        // Spring Boot 기본 ObjectMapper 와 같은 날짜 설정
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public List<TransactionResponse> from() {
+        return transactions.stream().map(TransactionResponse::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] fromAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(transactions.stream().map(TransactionResponse::from).toList());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.budgettracker.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 별도 JVM 으로 띄운 애플리케이션 프로세스 (기동 시간 측정, CDS 학습 실행용)
+ *
+ * 실행 환경과 같은 조건을 만들기 위해 부하 발생기와 다른 JVM 에서 java -jar 로 실행한다.
+ * 준비 완료는 인증이 필요한 엔드포인트(/api/categories)에 HTTP 응답(401 포함)이 오는 시점으로 본다.
+ * (헬스 체크는 DB 연결을 기다리므로 외부 서비스 없이 측정할 때 쓰지 않는다)
+ */
+final class AppProcess implements AutoCloseable {
+
+    static final String READY_PATH = "/api/categories";
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds \\(process running for ([0-9.]+)\\)");
+
+    private final Process process;
+    private final Path log;
+    private final URI baseUri;
+    private final long launchedAt;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+
+    private AppProcess(Process process, Path log, int port, long launchedAt) {
+        this.process = process;
+        this.log = log;
+        this.baseUri = URI.create("http://localhost:" + port);
+        this.launchedAt = launchedAt;
+    }
+
+    /**
+     * @param jar 실행할 JAR
+     * @param jvmArgs JVM 옵션 (-XX:SharedArchiveFile 등)
+     * @param profiles 활성 프로필 (쉼표 구분)
+     * @param log 애플리케이션 출력 파일
+     */
+    static AppProcess start(Path jar, List<String> jvmArgs, String profiles, Path log) throws IOException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.profiles.active=" + profiles);
+
+        Files.createDirectories(log.toAbsolutePath().getParent());
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new AppProcess(process, log, port, launchedAt);
+    }
+
+    /**
+     * 첫 HTTP 응답까지 대기
+     *
+     * @return 프로세스 실행부터 첫 응답까지 걸린 시간
+     */
+    Duration awaitReady(Duration timeout) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(READY_PATH)).timeout(Duration.ofSeconds(5)).GET().build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 종료되었습니다 (exit " + process.exitValue() + "): " + log);
+            }
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+                return Duration.ofNanos(System.nanoTime() - launchedAt);
+            } catch (IOException e) {
+                Thread.sleep(20);
+            }
+        }
+        throw new IllegalStateException("준비 시간 초과 (" + timeout.toSeconds() + "초): " + log);
+    }
+
+    URI getBaseUri() {
+        return baseUri;
+    }
+
+    HttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * 로그의 "Started ... (process running for N)" 값 (JVM 시작 → 컨텍스트 준비 완료, 없으면 null)
+     */
+    Duration reportedReadyTime() throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log));
+        return matcher.find()
+                ? Duration.ofMillis(Math.round(Double.parseDouble(matcher.group(2)) * 1000))
+                : null;
+    }
+
+    /**
+     * 정상 종료 (SIGTERM, 종료 훅과 -XX:ArchiveClassesAtExit 덤프가 실행된다)
+     */
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(60, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
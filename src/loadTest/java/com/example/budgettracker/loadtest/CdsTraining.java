@@ -0,0 +1,139 @@
+package com.example.budgettracker.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AppCDS 아카이브 학습 실행 (./gradlew cdsArchive)
+ *
+ * 애플리케이션을 -XX:ArchiveClassesAtExit 로 띄우고 대표 요청(회원가입, 로그인, 거래 등록/조회, 통계, 메트릭)을
+ * 몇 차례 보낸 뒤 정상 종료해, 기동과 요청 처리에 쓰인 클래스를 아카이브에 담는다.
+ *
+ * DB 가 없으면(docker-compose 미실행) DB 가 필요한 요청은 실패하지만, 웹/보안/JSON/JPA/드라이버 경로의 클래스는
+ * 그대로 로딩되므로 기동 시간 개선 효과는 대부분 유지된다. 가능하면 DB 를 띄운 상태에서 학습한다.
+ *
+ * 옵션: --jar, --archive, --profiles (fast-startup), --aot (false), --rounds (3)
+ */
+public final class CdsTraining {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private CdsTraining() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Path jar = Path.of(options.get("jar"));
+        Path archive = Path.of(options.get("archive"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "3"));
+        Files.deleteIfExists(archive);
+
+        List<String> jvmArgs = new ArrayList<>();
+        jvmArgs.add("-XX:ArchiveClassesAtExit=" + archive);
+        // DB 가 없을 때 요청마다 커넥션 대기로 오래 멈추지 않게 한다
+        jvmArgs.add("-Dspring.datasource.hikari.connection-timeout=2000");
+        if (Boolean.parseBoolean(options.getOrDefault("aot", "false"))) {
+            jvmArgs.add("-Dspring.aot.enabled=true");
+        }
+
+        Path log = archive.resolveSibling("logs").resolve("cds-training.log");
+        try (AppProcess app = AppProcess.start(jar, jvmArgs, options.getOrDefault("profiles", "fast-startup"), log)) {
+            Duration ready = app.awaitReady(Duration.ofMinutes(3));
+            System.out.printf("학습 실행 준비 완료: %dms%n", ready.toMillis());
+            for (int round = 0; round < rounds; round++) {
+                int failures = representativeRequests(app, round);
+                System.out.printf("학습 요청 %d회차 완료 (실패 %d건)%n", round + 1, failures);
+            }
+        }
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("아카이브가 생성되지 않았습니다. 로그를 확인하세요: " + log);
+        }
+        System.out.printf("CDS 아카이브: %s (%d KB)%n", archive.toAbsolutePath(), Files.size(archive) / 1024);
+    }
+
+    /**
+     * @return 실패(5xx 또는 응답 없음) 요청 수
+     */
+    private static int representativeRequests(AppProcess app, int round) throws InterruptedException {
+        String email = "cds-training-" + ProcessHandle.current().pid() + "-" + round + "@example.com";
+        String password = "training1234";
+        int failures = 0;
+
+        failures += send(app, post("/api/auth/signup", null,
+                "{\"email\":\"" + email + "\",\"password\":\"" + password + "\",\"name\":\"학습\"}", app)).failed();
+        Response login = send(app, post("/api/auth/login", null,
+                "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}", app));
+        failures += login.failed();
+        Matcher matcher = TOKEN.matcher(login.body());
+        String token = matcher.find() ? matcher.group(1) : "invalid";
+
+        failures += send(app, post("/api/transactions", token,
+                "{\"amount\":12000,\"type\":\"EXPENSE\",\"category\":{\"id\":1},\"description\":\"점심\",\"date\":\"2024-03-15T12:00:00\"}",
+                app)).failed();
+        for (String path : List.of("/api/transactions", "/api/categories", "/api/statistics/monthly?yearMonth=2024-03",
+                "/api/statistics/trend?startYearMonth=2024-01&endYearMonth=2024-03",
+                "/api/statistics/budget-comparison?yearMonth=2024-03", "/actuator/prometheus")) {
+            failures += send(app, get(path, token, app)).failed();
+        }
+        // 검증 실패/잘못된 JSON 처리 경로
+        failures += send(app, post("/api/transactions", token, "{\"amount\":-1}", app)).failed();
+        failures += send(app, post("/api/auth/login", null, "{", app)).failed();
+        return failures;
+    }
+
+    private static HttpRequest get(String path, String token, AppProcess app) {
+        return request(path, token, app).GET().build();
+    }
+
+    private static HttpRequest post(String path, String token, String body, AppProcess app) {
+        return request(path, token, app)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest.Builder request(String path, String token, AppProcess app) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(app.getBaseUri().resolve(path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static Response send(AppProcess app, HttpRequest request) throws InterruptedException {
+        try {
+            HttpResponse<String> response = app.getClient().send(request, HttpResponse.BodyHandlers.ofString());
+            return new Response(response.statusCode(), response.body());
+        } catch (java.io.IOException e) {
+            return new Response(LatencyRecorder.NO_RESPONSE, "");
+        }
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private record Response(int status, String body) {
+
+        int failed() {
+            return status == LatencyRecorder.NO_RESPONSE || status >= 500 ? 1 : 0;
+        }
+    }
+}
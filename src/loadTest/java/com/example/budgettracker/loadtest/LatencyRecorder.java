@@ -0,0 +1,113 @@
+package com.example.budgettracker.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간/상태 코드 기록
+ *
+ * 측정 구간의 모든 응답 시간을 보관했다가 끝난 뒤 정렬해 백분위를 구한다.
+ * (시나리오당 수십만 건 수준이므로 히스토그램 없이 원본을 보관해도 충분하다)
+ */
+final class LatencyRecorder {
+
+    /**
+     * 연결 실패/타임아웃 등 응답을 받지 못한 경우의 상태 코드
+     */
+    static final int NO_RESPONSE = 0;
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(String endpoint, int status, long nanos) {
+        endpoints.computeIfAbsent(endpoint, key -> new Samples()).add(status, nanos);
+    }
+
+    /**
+     * 열린 모델에서 동시 요청 한도를 넘어 보내지 못한 요청
+     */
+    void dropped() {
+        dropped.increment();
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * 전체 합계 (엔드포인트 구분 없음)
+     */
+    Summary total() {
+        Samples total = new Samples();
+        endpoints.values().forEach(total::addAll);
+        return total.summarize();
+    }
+
+    Map<String, Summary> byEndpoint() {
+        Map<String, Summary> result = new TreeMap<>();
+        endpoints.forEach((endpoint, samples) -> result.put(endpoint, samples.summarize()));
+        return result;
+    }
+
+    /**
+     * 응답 시간 요약 (밀리초)
+     */
+    record Summary(long requests, long errors, double p50, double p95, double p99, double max, double mean,
+                   Map<String, Long> statusCounts) {
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private final Map<String, Long> statusCounts = new TreeMap<>();
+        private long errors;
+
+        synchronized void add(int status, long latencyNanos) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latencyNanos;
+            statusCounts.merge(status == NO_RESPONSE ? "none" : String.valueOf(status), 1L, Long::sum);
+            if (status == NO_RESPONSE || status >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized void addAll(Samples other) {
+            synchronized (other) {
+                for (int i = 0; i < other.size; i++) {
+                    if (size == nanos.length) {
+                        nanos = Arrays.copyOf(nanos, size * 2);
+                    }
+                    nanos[size++] = other.nanos[i];
+                }
+                other.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+                errors += other.errors;
+            }
+        }
+
+        synchronized Summary summarize() {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+            return new Summary(size, errors,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    size == 0 ? 0 : sorted[size - 1] / 1_000_000.0, mean, new TreeMap<>(statusCounts));
+        }
+
+        /**
+         * nearest-rank 백분위 (밀리초)
+         */
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
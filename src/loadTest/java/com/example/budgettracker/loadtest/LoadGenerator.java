@@ -0,0 +1,104 @@
+package com.example.budgettracker.loadtest;
+
+import com.example.budgettracker.loadtest.ScenarioRequests.Call;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 닫힌/열린 모델 부하 발생기
+ *
+ * - 닫힌 모델: concurrency 개의 가상 스레드가 요청 → 응답 → (대기) 를 반복한다.
+ * - 열린 모델: 예정 도착 시각마다 비동기로 요청을 보낸다. 응답 시간은 예정 시각부터 재므로
+ *   서버가 밀려 발생기가 늦게 보낸 시간도 포함된다 (coordinated omission 방지).
+ */
+final class LoadGenerator {
+
+    private final HttpClient client;
+    private final ScenarioRequests requests;
+    private final LoadTestOptions options;
+
+    LoadGenerator(HttpClient client, ScenarioRequests requests, LoadTestOptions options) {
+        this.client = client;
+        this.requests = requests;
+        this.options = options;
+    }
+
+    LatencyRecorder run(Scenario scenario, Duration length, SplittableRandom random) throws InterruptedException {
+        return options.model() == LoadTestOptions.LoadModel.CLOSED
+                ? closed(scenario, length, random)
+                : open(scenario, length, random);
+    }
+
+    private LatencyRecorder closed(Scenario scenario, Duration length, SplittableRandom random) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long deadline = System.nanoTime() + length.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                SplittableRandom workerRandom = random.split();
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Call call = requests.next(scenario, workerRandom);
+                        long start = System.nanoTime();
+                        int status = send(call);
+                        recorder.record(call.endpoint(), status, System.nanoTime() - start);
+                        if (!options.thinkTime().isZero()) {
+                            Thread.sleep(options.thinkTime());
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return recorder;
+    }
+
+    private LatencyRecorder open(Scenario scenario, Duration length, SplittableRandom random) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        double intervalNanos = 1_000_000_000.0 / options.rate();
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+
+        double next = start;
+        while (true) {
+            next += options.poissonArrivals() ? -Math.log(1 - random.nextDouble()) * intervalNanos : intervalNanos;
+            long intended = (long) next;
+            if (intended >= end) {
+                break;
+            }
+            for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                recorder.dropped();
+                continue;
+            }
+            Call call = requests.next(scenario, random);
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        int status = response != null ? response.statusCode() : LatencyRecorder.NO_RESPONSE;
+                        recorder.record(call.endpoint(), status, System.nanoTime() - intended);
+                        inFlight.release();
+                    });
+        }
+        // 남은 요청 완료 대기
+        inFlight.acquire(options.maxInFlight());
+        return recorder;
+    }
+
+    private int send(Call call) throws InterruptedException {
+        try {
+            return client.send(call.request(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return LatencyRecorder.NO_RESPONSE;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.budgettracker.loadtest;
+
+import com.example.budgettracker.BudgetTrackerApplication;
+import com.example.budgettracker.fixture.DefaultCategory;
+import com.example.budgettracker.fixture.JdbcBulkLoader;
+import com.example.budgettracker.fixture.SyntheticDataGenerator;
+import com.example.budgettracker.fixture.SyntheticDataSink.TransactionRow;
+import com.example.budgettracker.global.util.AESUtil;
+import com.example.budgettracker.loadtest.ScenarioRequests.Call;
+import com.example.budgettracker.loadtest.ScenarioRequests.Session;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+
+/**
+ * 오프라인 부하 테스트 커맨드
+ *
+ * 외부 서비스 없이 애플리케이션을 loadtest 프로필(H2 MySQL 모드, 인메모리 통계 읽기 모델)로 띄우고,
+ * 합성 데이터를 적재한 뒤 실제 HTTP 엔드포인트에 부하를 주고 결과를 JSON 리포트로 저장한다.
+ *
+ * ./gradlew loadTest --args="--scenarios=login,dashboard --model=open --rate=200 --duration=60"
+ *
+ * 옵션
+ * - --scenarios (login,dashboard,import): 순서대로 실행
+ * - --model (closed | open), --concurrency (16, closed), --think-time-ms (0, closed)
+ * - --rate (100, open: 초당 도착 요청 수), --arrival (poisson | constant), --max-in-flight (1000, open)
+ * - --warmup (5초), --duration (30초): 시나리오별
+ * - --users (200), --months (3), --from (2024-01), --seed (42): 적재할 합성 데이터
+ * - --session-users (50): 대시보드/일괄 등록에 사용할 로그인 사용자 수
+ * - --profiles: loadtest 와 함께 켤 프로필 (예: fast-startup, 기동/첫 요청 시간 비교용)
+ * - --label (local), --report (build/reports/loadtest/report.json)
+ */
+public final class LoadTestCli {
+
+    private static final int IMPORT_ROWS = 10_000;
+
+    private LoadTestCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        long bootStart = System.nanoTime();
+        SpringApplication application = new SpringApplication(BudgetTrackerApplication.class);
+        // loadtest 를 마지막에 두어 DB 연결/스키마 생성 설정이 다른 프로필에 덮이지 않게 한다
+        List<String> profiles = new ArrayList<>(options.profiles());
+        profiles.add("loadtest");
+        application.setAdditionalProfiles(profiles.toArray(String[]::new));
+        try (ConfigurableApplicationContext context = application.run()) {
+            long startupMillis = Duration.ofNanos(System.nanoTime() - bootStart).toMillis();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+            System.out.printf("애플리케이션 기동: %dms (port %d, profiles %s)%n", startupMillis, port, profiles);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            long firstRequestMillis = firstRequest(client, baseUri, bootStart);
+            System.out.printf("첫 요청 완료: 기동 시작 후 %dms%n", firstRequestMillis);
+
+            // 스키마 생성 완료 대기 (fast-startup 프로필은 EntityManagerFactory 를 백그라운드에서 초기화)
+            context.getBean(EntityManagerFactory.class).getMetamodel();
+
+            // 합성 데이터 적재 (이름은 애플리케이션과 같은 AES 키로 암호화)
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(options.data());
+            JdbcBulkLoader loader = new JdbcBulkLoader(context.getBean(DataSource.class),
+                    JdbcBulkLoader.DEFAULT_BATCH_SIZE, context.getBean(AESUtil.class)::encrypt);
+            JdbcBulkLoader.LoadResult loaded = loader.load(generator, Runtime.getRuntime().availableProcessors());
+            Map<DefaultCategory, Long> categoryIds = loader.ensureDefaultCategories();
+            List<TransactionRow> importRows = generator.monthOfTransactions(options.data().lastMonth().plusMonths(1), IMPORT_ROWS);
+            System.out.printf("합성 데이터 적재: users=%d, budgets=%d, transactions=%d (%dms)%n",
+                    loaded.users(), loaded.budgets(), loaded.transactions(), loaded.elapsed().toMillis());
+
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            List<Session> sessions = login(client, objectMapper,
+                    new ScenarioRequests(baseUri, objectMapper, options.data(), List.of(), categoryIds, importRows), options);
+            ScenarioRequests requests = new ScenarioRequests(baseUri, objectMapper, options.data(), sessions, categoryIds, importRows);
+
+            LoadGenerator load = new LoadGenerator(client, requests, options);
+            SplittableRandom random = new SplittableRandom(options.data().seed());
+            List<LoadTestReport.ScenarioResult> results = new ArrayList<>();
+            for (Scenario scenario : options.scenarios()) {
+                System.out.printf("[%s] 워밍업 %ds, 측정 %ds (%s)%n", scenario.getCode(),
+                        options.warmup().toSeconds(), options.duration().toSeconds(), describe(options));
+                load.run(scenario, options.warmup(), random.split());
+                LoadTestReport.ScenarioResult result =
+                        LoadTestReport.ScenarioResult.of(scenario, options, load.run(scenario, options.duration(), random.split()));
+                results.add(result);
+                System.out.printf("[%s] %.1f req/s, 오류 %d, 버림 %d, p50 %.1fms, p95 %.1fms, p99 %.1fms%n",
+                        result.scenario(), result.throughput(), result.errors(), result.dropped(),
+                        result.latencyMillis().p50(), result.latencyMillis().p95(), result.latencyMillis().p99());
+            }
+
+            LoadTestReport report = new LoadTestReport(options.label(), OffsetDateTime.now().toString(),
+                    environment(), describeOptions(options), LoadTestReport.Dataset.of(loaded), startupMillis, firstRequestMillis,
+                    results);
+            Files.createDirectories(options.report().toAbsolutePath().getParent());
+            objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), report);
+            System.out.println("리포트: " + options.report().toAbsolutePath());
+        }
+    }
+
+    /**
+     * 기동 시작부터 첫 요청(카테고리 목록, 인증 필요 없이 401 응답) 완료까지 걸린 시간
+     * 지연 초기화 시 첫 요청에서 생성되는 빈(보안 필터 체인, 컨트롤러 등) 비용을 포함한다.
+     */
+    private static long firstRequest(HttpClient client, URI baseUri, long bootStart) throws Exception {
+        client.send(HttpRequest.newBuilder(baseUri.resolve("/api/categories")).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return Duration.ofNanos(System.nanoTime() - bootStart).toMillis();
+    }
+
+    /**
+     * 대시보드/일괄 등록용 세션 준비 (측정 제외)
+     */
+    private static List<Session> login(HttpClient client, ObjectMapper objectMapper, ScenarioRequests requests,
+                                       LoadTestOptions options) throws Exception {
+        List<Session> sessions = new ArrayList<>(options.sessionUsers());
+        for (int i = 0; i < options.sessionUsers(); i++) {
+            long userId = options.data().firstUserId() + i;
+            Call call = requests.login(ScenarioRequests.email(userId));
+            HttpResponse<String> response = client.send(call.request(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("세션 로그인 실패 (" + response.statusCode() + "): " + response.body());
+            }
+            sessions.add(new Session(userId, objectMapper.readTree(response.body()).path("token").asText()));
+        }
+        return sessions;
+    }
+
+    private static String describe(LoadTestOptions options) {
+        return options.model() == LoadTestOptions.LoadModel.CLOSED
+                ? "closed, concurrency=" + options.concurrency()
+                : "open, rate=" + options.rate() + "/s, " + (options.poissonArrivals() ? "poisson" : "constant");
+    }
+
+    private static Map<String, Object> describeOptions(LoadTestOptions options) {
+        Map<String, Object> described = new LinkedHashMap<>();
+        described.put("model", options.model().name().toLowerCase());
+        described.put("concurrency", options.concurrency());
+        described.put("rate", options.rate());
+        described.put("arrival", options.poissonArrivals() ? "poisson" : "constant");
+        described.put("maxInFlight", options.maxInFlight());
+        described.put("thinkTimeMillis", options.thinkTime().toMillis());
+        described.put("warmupSeconds", options.warmup().toSeconds());
+        described.put("durationSeconds", options.duration().toSeconds());
+        described.put("seed", options.data().seed());
+        described.put("sessionUsers", options.sessionUsers());
+        described.put("profiles", options.profiles());
+        return described;
+    }
+
+    private static Map<String, Object> environment() {
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("javaVersion", System.getProperty("java.version"));
+        environment.put("javaVm", System.getProperty("java.vm.name"));
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        return environment;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.budgettracker.loadtest;
+
+import com.example.budgettracker.fixture.SyntheticDataOptions;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션
+ *
+ * @param scenarios 실행할 시나리오 (순서대로)
+ * @param model 부하 모델
+ * @param concurrency 닫힌 모델의 동시 사용자 수
+ * @param rate 열린 모델의 초당 도착 요청 수
+ * @param poissonArrivals 열린 모델에서 도착 간격을 지수 분포로 할지 여부 (false 면 일정 간격)
+ * @param maxInFlight 열린 모델의 최대 동시 요청 수 (넘치면 버리고 dropped 로 집계)
+ * @param thinkTime 닫힌 모델에서 요청 사이 대기 시간
+ * @param warmup 시나리오별 워밍업 시간 (집계 제외)
+ * @param duration 시나리오별 측정 시간
+ * @param data 적재할 합성 데이터
+ * @param sessionUsers 대시보드/일괄 등록에서 로그인해 두고 사용할 사용자 수
+ * @param profiles loadtest 와 함께 켤 프로필 (예: fast-startup)
+ * @param label 리포트 라벨 (릴리스 버전 등)
+ * @param report 리포트 파일 경로 (JSON)
+ */
+public record LoadTestOptions(List<Scenario> scenarios, LoadModel model, int concurrency, double rate,
+                              boolean poissonArrivals, int maxInFlight, Duration thinkTime,
+                              Duration warmup, Duration duration, SyntheticDataOptions data, int sessionUsers,
+                              List<String> profiles, String label, Path report) {
+
+    /**
+     * --이름=값 형식 인자 해석 (LoadTestCli 옵션 참고)
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        SyntheticDataOptions data = new SyntheticDataOptions(
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(SyntheticDataOptions.DEFAULT_SEED))),
+                Integer.parseInt(options.getOrDefault("users", "200")),
+                YearMonth.parse(options.getOrDefault("from", "2024-01")),
+                Integer.parseInt(options.getOrDefault("months", "3")),
+                SyntheticDataOptions.DEFAULT_FIRST_USER_ID);
+        int sessionUsers = Math.min(data.users(), Integer.parseInt(options.getOrDefault("session-users", "50")));
+        if (sessionUsers < 1) {
+            throw new IllegalArgumentException("--users, --session-users 는 1 이상이어야 합니다.");
+        }
+
+        return new LoadTestOptions(
+                Arrays.stream(options.getOrDefault("scenarios", "login,dashboard,import").split(","))
+                        .map(String::trim)
+                        .map(Scenario::of)
+                        .toList(),
+                LoadModel.valueOf(options.getOrDefault("model", "closed").toUpperCase()),
+                Integer.parseInt(options.getOrDefault("concurrency", "16")),
+                Double.parseDouble(options.getOrDefault("rate", "100")),
+                !"constant".equals(options.getOrDefault("arrival", "poisson")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "1000")),
+                Duration.ofMillis(Long.parseLong(options.getOrDefault("think-time-ms", "0"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))),
+                data,
+                sessionUsers,
+                Arrays.stream(options.getOrDefault("profiles", "").split(","))
+                        .map(String::trim)
+                        .filter(profile -> !profile.isEmpty())
+                        .toList(),
+                options.getOrDefault("label", "local"),
+                Path.of(options.getOrDefault("report", "build/reports/loadtest/report.json")));
+    }
+
+    /**
+     * 부하 모델
+     *
+     * CLOSED: 동시 사용자 수 고정, 응답을 받아야 다음 요청 (처리량은 서버 속도에 따라 정해짐)
+     * OPEN: 응답과 무관하게 정해진 속도로 요청 도착 (지연 시간은 예정 시각부터 측정해 대기 시간까지 포함)
+     */
+    public enum LoadModel {
+        CLOSED, OPEN
+    }
+}
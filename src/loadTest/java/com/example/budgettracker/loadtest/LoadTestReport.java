@@ -0,0 +1,55 @@
+package com.example.budgettracker.loadtest;
+
+import com.example.budgettracker.fixture.JdbcBulkLoader;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 리포트 (JSON 으로 저장, 릴리스 간 비교용)
+ *
+ * @param label 리포트 라벨 (릴리스 버전 등)
+ * @param generatedAt 생성 시각 (ISO-8601)
+ * @param environment 실행 환경 (JVM, CPU 수)
+ * @param options 실행 옵션
+ * @param dataset 적재한 합성 데이터 규모
+ * @param startupMillis 애플리케이션 기동 시간
+ * @param firstRequestMillis 기동 시작부터 첫 요청 완료까지 걸린 시간
+ * @param scenarios 시나리오별 결과
+ */
+record LoadTestReport(String label, String generatedAt, Map<String, Object> environment,
+                             Map<String, Object> options, Dataset dataset, long startupMillis, long firstRequestMillis,
+                             List<ScenarioResult> scenarios) {
+
+    /**
+     * @param loadMillis 적재 시간
+     */
+    record Dataset(long users, long budgets, long transactions, long loadMillis) {
+
+        static Dataset of(JdbcBulkLoader.LoadResult result) {
+            return new Dataset(result.users(), result.budgets(), result.transactions(), result.elapsed().toMillis());
+        }
+    }
+
+    /**
+     * @param scenario 시나리오 코드
+     * @param model 부하 모델 (closed | open)
+     * @param durationMillis 측정 시간
+     * @param throughput 초당 완료 요청 수
+     * @param dropped 열린 모델에서 동시 요청 한도 초과로 보내지 못한 요청 수
+     * @param latencyMillis 전체 응답 시간 (밀리초)
+     * @param endpoints 엔드포인트별 응답 시간
+     */
+    record ScenarioResult(String scenario, String model, long durationMillis, double throughput,
+                                 long requests, long errors, long dropped, LatencyRecorder.Summary latencyMillis,
+                                 Map<String, LatencyRecorder.Summary> endpoints) {
+
+        static ScenarioResult of(Scenario scenario, LoadTestOptions options, LatencyRecorder recorder) {
+            LatencyRecorder.Summary total = recorder.total();
+            long durationMillis = options.duration().toMillis();
+            return new ScenarioResult(scenario.getCode(), options.model().name().toLowerCase(), durationMillis,
+                    total.requests() * 1000.0 / durationMillis, total.requests(), total.errors(),
+                    recorder.getDropped(), total, recorder.byEndpoint());
+        }
+    }
+}
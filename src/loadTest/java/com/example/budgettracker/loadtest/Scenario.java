@@ -0,0 +1,41 @@
+package com.example.budgettracker.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트 시나리오 (운영 트래픽 패턴)
+ */
+public enum Scenario {
+
+    /**
+     * 로그인 폭주: 여러 사용자가 동시에 POST /api/auth/login (BCrypt 검증 + JWT 발급)
+     */
+    LOGIN("login"),
+
+    /**
+     * 대시보드 폴링: 거래 내역 목록, 월별 통계, 기간별 추이, 예산 대비 지출 조회
+     */
+    DASHBOARD("dashboard"),
+
+    /**
+     * 일괄 등록: 합성 거래 내역을 POST /api/transactions 로 연속 등록
+     */
+    IMPORT("import");
+
+    private final String code;
+
+    Scenario(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public static Scenario of(String code) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + code));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.budgettracker.loadtest;
+
+import com.example.budgettracker.fixture.DefaultCategory;
+import com.example.budgettracker.fixture.JdbcBulkLoader;
+import com.example.budgettracker.fixture.SyntheticDataOptions;
+import com.example.budgettracker.fixture.SyntheticDataSink.TransactionRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시나리오별 HTTP 요청 생성기
+ *
+ * 로그인은 적재된 합성 사용자 전체에서, 대시보드/일괄 등록은 미리 로그인해 둔 세션 사용자 중에서 무작위로 고른다.
+ */
+final class ScenarioRequests {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final SyntheticDataOptions data;
+    private final List<Session> sessions;
+    private final Map<DefaultCategory, Long> categoryIds;
+    private final List<TransactionRow> importRows;
+    private final AtomicInteger importCursor = new AtomicInteger();
+
+    ScenarioRequests(URI baseUri, ObjectMapper objectMapper, SyntheticDataOptions data, List<Session> sessions,
+                     Map<DefaultCategory, Long> categoryIds, List<TransactionRow> importRows) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.data = data;
+        this.sessions = sessions;
+        this.categoryIds = categoryIds;
+        this.importRows = importRows;
+    }
+
+    /**
+     * 로그인 요청 (세션 준비 시에도 사용)
+     */
+    Call login(String email) {
+        Map<String, Object> body = Map.of("email", email, "password", JdbcBulkLoader.PASSWORD);
+        return new Call("POST /api/auth/login", post("/api/auth/login", null, body));
+    }
+
+    Call next(Scenario scenario, SplittableRandom random) {
+        return switch (scenario) {
+            case LOGIN -> login(email(data.firstUserId() + random.nextInt(data.users())));
+            case DASHBOARD -> dashboard(sessions.get(random.nextInt(sessions.size())), random);
+            case IMPORT -> importTransaction(sessions.get(random.nextInt(sessions.size())));
+        };
+    }
+
+    static String email(long userId) {
+        return "user" + userId + "@synthetic.example";
+    }
+
+    private Call dashboard(Session session, SplittableRandom random) {
+        YearMonth month = data.firstMonth().plusMonths(random.nextInt(data.months()));
+        int pick = random.nextInt(10);
+        if (pick < 4) {
+            return new Call("GET /api/statistics/monthly",
+                    get("/api/statistics/monthly?yearMonth=" + month, session.token()));
+        }
+        if (pick < 6) {
+            return new Call("GET /api/statistics/budget-comparison",
+                    get("/api/statistics/budget-comparison?yearMonth=" + month, session.token()));
+        }
+        if (pick < 8) {
+            return new Call("GET /api/statistics/trend",
+                    get("/api/statistics/trend?startYearMonth=" + data.firstMonth()
+                            + "&endYearMonth=" + data.lastMonth(), session.token()));
+        }
+        return new Call("GET /api/transactions", get("/api/transactions", session.token()));
+    }
+
+    private Call importTransaction(Session session) {
+        TransactionRow row = importRows.get(Math.floorMod(importCursor.getAndIncrement(), importRows.size()));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("amount", BigDecimal.valueOf(row.amountCents(), 2));
+        body.put("type", row.type());
+        body.put("category", Map.of("id", categoryIds.get(row.category())));
+        body.put("description", row.description());
+        body.put("date", row.date().toString());
+        return new Call("POST /api/transactions", post("/api/transactions", session.token(), body));
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        try {
+            return request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * 측정 대상 요청 (endpoint 는 리포트 집계 키)
+     */
+    record Call(String endpoint, HttpRequest request) {
+    }
+
+    /**
+     * 로그인해 둔 사용자
+     */
+    record Session(long userId, String token) {
+    }
+}
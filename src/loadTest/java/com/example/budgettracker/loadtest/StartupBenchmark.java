@@ -0,0 +1,138 @@
+package com.example.budgettracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시간 비교 (./gradlew startupBenchmark)
+ *
+ * 실행 방식마다 애플리케이션을 runs 번 새 JVM 으로 띄워 첫 HTTP 응답까지 걸린 시간을 잰다.
+ * - boot-jar: 현재 배포 방식 (bootJar, 중첩 JAR)
+ * - jar: 풀어 놓은 JAR (lib/*.jar 클래스패스)
+ * - jar+cds: 풀어 놓은 JAR + AppCDS 아카이브
+ * - jar+aot / jar+aot+cds: Spring AOT 로 만든 빈 정의 사용 (-Paot 빌드에서만)
+ *
+ * 외부 DB 없이 측정할 수 있도록 기본 프로필은 fast-startup 이다. (DB 연결은 첫 쿼리 때 맺는다)
+ *
+ * 옵션: --boot-jar, --jar, --archive, --aot (false), --runs (5), --profiles (fast-startup), --report
+ */
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = CdsTraining.parse(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        String profiles = options.getOrDefault("profiles", "fast-startup");
+        boolean aot = Boolean.parseBoolean(options.getOrDefault("aot", "false"));
+        Path bootJar = Path.of(options.get("boot-jar"));
+        Path jar = Path.of(options.get("jar"));
+        Path archive = Path.of(options.get("archive"));
+        Path report = Path.of(options.get("report"));
+        Path logs = report.resolveSibling("logs");
+
+        Map<String, Variant> variants = new LinkedHashMap<>();
+        variants.put("boot-jar", new Variant(bootJar, List.of()));
+        variants.put("jar", new Variant(jar, List.of()));
+        if (Files.exists(archive)) {
+            variants.put("jar+cds", new Variant(jar, List.of("-XX:SharedArchiveFile=" + archive)));
+        }
+        if (aot) {
+            variants.put("jar+aot", new Variant(jar, List.of("-Dspring.aot.enabled=true")));
+            if (Files.exists(archive)) {
+                variants.put("jar+aot+cds", new Variant(jar,
+                        List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive)));
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, Variant> entry : variants.entrySet()) {
+            String name = entry.getKey();
+            Variant variant = entry.getValue();
+            if (!Files.exists(variant.jar())) {
+                System.out.printf("%s: JAR 이 없어 건너뜁니다 (%s)%n", name, variant.jar());
+                continue;
+            }
+            List<Long> firstResponse = new ArrayList<>();
+            List<Long> reportedReady = new ArrayList<>();
+            for (int run = 0; run < runs; run++) {
+                Path log = logs.resolve(name.replace('+', '-') + "-" + run + ".log");
+                try (AppProcess app = AppProcess.start(variant.jar(), variant.jvmArgs(), profiles, log)) {
+                    firstResponse.add(app.awaitReady(Duration.ofMinutes(3)).toMillis());
+                    Duration ready = app.reportedReadyTime();
+                    if (ready != null) {
+                        reportedReady.add(ready.toMillis());
+                    }
+                }
+            }
+            Result result = Result.of(name, variant.jvmArgs(), firstResponse, reportedReady);
+            results.add(result);
+            System.out.printf("%-12s 첫 응답 중앙값 %,6dms (최소 %,d / 최대 %,d), 컨텍스트 준비 중앙값 %,6dms%n",
+                    name, result.firstResponseMillis().median(), result.firstResponseMillis().min(),
+                    result.firstResponseMillis().max(), result.readyMillis().median());
+        }
+
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("generatedAt", OffsetDateTime.now().toString());
+        output.put("environment", Map.of(
+                "java", System.getProperty("java.version"),
+                "vm", System.getProperty("java.vm.name"),
+                "availableProcessors", Runtime.getRuntime().availableProcessors()));
+        output.put("profiles", profiles);
+        output.put("runs", runs);
+        output.put("variants", results);
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), output);
+        Files.writeString(report.resolveSibling("startup.md"), markdown(results, runs, profiles));
+        System.out.println("기동 시간 리포트: " + report.toAbsolutePath());
+    }
+
+    private static String markdown(List<Result> results, int runs, String profiles) {
+        StringBuilder markdown = new StringBuilder()
+                .append("# 기동 시간 비교 (").append(runs).append("회, 프로필 ").append(profiles).append(")\n\n")
+                .append("| 방식 | 첫 응답 중앙값 (ms) | 최소 | 최대 | 컨텍스트 준비 중앙값 (ms) |\n")
+                .append("|---|---:|---:|---:|---:|\n");
+        for (Result result : results) {
+            markdown.append(String.format("| %s | %d | %d | %d | %d |%n", result.variant(),
+                    result.firstResponseMillis().median(), result.firstResponseMillis().min(),
+                    result.firstResponseMillis().max(), result.readyMillis().median()));
+        }
+        return markdown.toString();
+    }
+
+    private record Variant(Path jar, List<String> jvmArgs) {
+    }
+
+    /**
+     * @param firstResponseMillis 프로세스 실행부터 첫 HTTP 응답까지
+     * @param readyMillis 로그의 "process running for" (JVM 시작부터 컨텍스트 준비 완료까지)
+     */
+    record Result(String variant, List<String> jvmArgs, Stats firstResponseMillis, Stats readyMillis) {
+
+        static Result of(String variant, List<String> jvmArgs, List<Long> firstResponse, List<Long> ready) {
+            return new Result(variant, jvmArgs, Stats.of(firstResponse), Stats.of(ready));
+        }
+    }
+
+    record Stats(long median, long min, long max, List<Long> samples) {
+
+        static Stats of(List<Long> samples) {
+            if (samples.isEmpty()) {
+                return new Stats(0, 0, 0, List.of());
+            }
+            List<Long> sorted = samples.stream().sorted().toList();
+            return new Stats(sorted.get((sorted.size() - 1) / 2), sorted.get(0), sorted.get(sorted.size() - 1), samples);
+        }
+    }
+}
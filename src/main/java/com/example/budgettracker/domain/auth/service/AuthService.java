@@ -6,7 +6,9 @@ import com.example.budgettracker.domain.auth.dto.SignupRequest;
 import com.example.budgettracker.domain.auth.dto.SignupResponse;
 import com.example.budgettracker.domain.user.entity.User;
 import com.example.budgettracker.domain.user.repository.UserRepository;
+import com.example.budgettracker.domain.user.service.RegisteredEmailFilter;
 import com.example.budgettracker.global.exception.BusinessException;
+import com.example.budgettracker.global.shard.DirectoryShard;
 import com.example.budgettracker.global.util.AESUtil;
 import com.example.budgettracker.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 로그인, 비밀번호 검증, JWT 토큰 생성 등의 기능을 제공합니다.
  */
 @Service // 스프링 서비스 컴포넌트임을 명시
+@DirectoryShard // 사용자 계정은 디렉터리 샤드에서 읽고 씀 (샤딩 사용 시)
 @RequiredArgsConstructor // final 필드에 대한 생성자 자동 생성
 @Transactional(readOnly = true) // 트랜잭션 설정 (기본적으로 읽기 전용)
 public class AuthService {
@@ -31,6 +34,7 @@ public class AuthService {
     private final JwtUtil jwtUtil; // JWT 토큰 생성 및 검증 유틸리티
     private final AESUtil aesUtil; // AES 암호화/복호화 유틸리티
     private final AuthenticationManager authenticationManager;
+    private final RegisteredEmailFilter registeredEmailFilter; // 가입된 이메일 Bloom 필터 (이메일 중복 확인용)
 
     @Transactional
     public SignupResponse signup(SignupRequest request) {
@@ -45,6 +49,7 @@ public class AuthService {
                 .build();
 
         user = userRepository.save(user);
+        registeredEmailFilter.put(user.getEmail());
 
         return SignupResponse.builder()
                 .email(user.getEmail())
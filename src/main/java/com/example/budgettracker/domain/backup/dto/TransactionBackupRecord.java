@@ -0,0 +1,55 @@
+package com.example.budgettracker.domain.backup.dto;
+
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 백업 청크에 저장되는 거래 내역 레코드
+ * (연관 엔티티 대신 ID만 담아 JPQL 생성자 프로젝션으로 바로 조회한다)
+ *
+ * deleted 가 true 인 레코드는 삭제 기록(툼스톤)으로 id, userId, updatedAt(삭제 시각)만 채워진다.
+ */
+@Getter
+@NoArgsConstructor
+public class TransactionBackupRecord {
+    private Long id;
+    private Long userId;
+    private Long categoryId;
+    private TransactionType type;
+    private BigDecimal amount;
+    private String description;
+    private LocalDateTime date;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private boolean deleted;
+
+    public TransactionBackupRecord(Long id, Long userId, Long categoryId, TransactionType type, BigDecimal amount,
+                                   String description, LocalDateTime date,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.type = type;
+        this.amount = amount;
+        this.description = description;
+        this.date = date;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 삭제 기록
+     */
+    public static TransactionBackupRecord deleted(Long id, Long userId, LocalDateTime deletedAt) {
+        TransactionBackupRecord record = new TransactionBackupRecord();
+        record.id = id;
+        record.userId = userId;
+        record.updatedAt = deletedAt;
+        record.deleted = true;
+        return record;
+    }
+}
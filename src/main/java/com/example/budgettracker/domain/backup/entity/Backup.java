@@ -0,0 +1,75 @@
+package com.example.budgettracker.domain.backup.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 백업 청크 도큐먼트
+ *
+ * 한 번의 사용자 백업(runId)은 chunk-size 건씩 나뉜 여러 청크로 저장된다.
+ * 각 청크의 data 는 거래 내역 레코드를 한 줄에 하나씩(JSON Lines) 담아 GZIP 으로 압축한 값이다.
+ * 모든 청크를 저장한 뒤에만 COMPLETED 로 바뀌며, 복원과 다음 백업의 기준점은 COMPLETED 청크만 사용한다.
+ *
+ * @Document: MongoDB backups 컬렉션 매핑 (인덱스: userId + createdAt, status)
+ */
+@Document(collection = "backups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Backup {
+
+    @Id
+    private String id;
+
+    private Long userId;
+
+    /**
+     * 백업 실행 ID (같은 실행에서 만든 청크가 공유)
+     */
+    private String runId;
+
+    /**
+     * 실행 내 청크 순번 (0부터)
+     */
+    private int chunkNo;
+
+    /**
+     * 청크에 담긴 레코드 수
+     */
+    private int recordCount;
+
+    /**
+     * 청크 마지막 레코드의 수정일시/ID (다음 백업의 기준점)
+     */
+    private LocalDateTime watermarkUpdatedAt;
+
+    private Long watermarkTransactionId;
+
+    /**
+     * GZIP 압축된 JSON Lines
+     */
+    private byte[] data;
+
+    private BackupStatus status;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    public Backup(Long userId, String runId, int chunkNo, int recordCount,
+                  LocalDateTime watermarkUpdatedAt, Long watermarkTransactionId, byte[] data) {
+        this.userId = userId;
+        this.runId = runId;
+        this.chunkNo = chunkNo;
+        this.recordCount = recordCount;
+        this.watermarkUpdatedAt = watermarkUpdatedAt;
+        this.watermarkTransactionId = watermarkTransactionId;
+        this.data = data;
+        this.status = BackupStatus.IN_PROGRESS;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.budgettracker.domain.backup.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 백업 실행 기준점 도큐먼트
+ *
+ * 마지막으로 모든 사용자를 성공적으로 백업한 실행의 상한(changedSince)을 저장한다.
+ * 재시작 후에도 이 시각 이후 변경된 사용자만 찾으므로 첫 실행처럼 전체 사용자를 다시 훑지 않는다.
+ *
+ * @Document: MongoDB backup_checkpoints 컬렉션 매핑 (실행 종류당 한 도큐먼트)
+ */
+@Document(collection = "backup_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackupCheckpoint {
+
+    public static final String INCREMENTAL = "incremental";
+
+    @Id
+    private String id;
+
+    /**
+     * 이 시각 이후 변경된 사용자만 다음 실행 대상
+     */
+    private LocalDateTime changedSince;
+
+    public BackupCheckpoint(String id, LocalDateTime changedSince) {
+        this.id = id;
+        this.changedSince = changedSince;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.budgettracker.domain.backup.entity;
+
+/**
+ * 백업 청크 상태
+ */
+public enum BackupStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
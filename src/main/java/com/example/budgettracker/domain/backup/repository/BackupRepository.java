@@ -0,0 +1,27 @@
+package com.example.budgettracker.domain.backup.repository;
+
+import com.example.budgettracker.domain.backup.entity.Backup;
+import com.example.budgettracker.domain.backup.entity.BackupStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 백업 청크 도큐먼트를 위한 데이터 액세스 계층
+ */
+@Repository
+public interface BackupRepository extends MongoRepository<Backup, String> {
+
+    /**
+     * 사용자의 마지막 완료 청크 (다음 백업의 기준점)
+     */
+    Optional<Backup> findFirstByUserIdAndStatusOrderByCreatedAtDescChunkNoDesc(Long userId, BackupStatus status);
+
+    /**
+     * 사용자의 완료 청크를 백업 순서대로 커서로 조회 (복원용, 압축 데이터 포함)
+     */
+    Stream<Backup> streamByUserIdAndStatusOrderByCreatedAtAscChunkNoAsc(Long userId, BackupStatus status);
+
+}
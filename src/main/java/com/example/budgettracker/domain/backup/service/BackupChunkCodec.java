@@ -0,0 +1,71 @@
+package com.example.budgettracker.domain.backup.service;
+
+import com.example.budgettracker.domain.backup.dto.TransactionBackupRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 백업 청크 인코딩/디코딩
+ *
+ * 레코드를 한 줄에 하나씩(JSON Lines) GZIP 으로 압축한다.
+ * 디코딩은 압축을 풀면서 한 줄씩 전달하므로 청크 전체를 객체 목록으로 만들지 않는다.
+ */
+@Component
+public class BackupChunkCodec {
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public BackupChunkCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(TransactionBackupRecord.class);
+        this.reader = objectMapper.readerFor(TransactionBackupRecord.class);
+    }
+
+    public byte[] encode(List<TransactionBackupRecord> records) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            for (TransactionBackupRecord record : records) {
+                out.write(writer.writeValueAsBytes(record));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("백업 청크 압축 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * @return 디코딩한 레코드 수
+     */
+    public int decode(byte[] data, Consumer<TransactionBackupRecord> consumer) {
+        int count = 0;
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(data)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    consumer.accept(reader.readValue(line));
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("백업 청크 압축 해제 실패", e);
+        }
+        return count;
+    }
+}
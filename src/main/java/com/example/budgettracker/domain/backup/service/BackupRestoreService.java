@@ -0,0 +1,215 @@
+package com.example.budgettracker.domain.backup.service;
+
+import com.example.budgettracker.domain.backup.dto.TransactionBackupRecord;
+import com.example.budgettracker.domain.backup.entity.Backup;
+import com.example.budgettracker.domain.backup.entity.BackupStatus;
+import com.example.budgettracker.domain.backup.repository.BackupRepository;
+import com.example.budgettracker.domain.balance.service.BalanceService;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.ChangeType;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.Snapshot;
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository;
+import com.example.budgettracker.domain.transaction.service.TransactionOutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 백업 복원 서비스
+ *
+ * 완료된 청크를 백업 순서대로 MongoDB 커서로 읽고, 한 청크씩 압축을 풀며 레코드를 전달한다.
+ * 같은 거래 내역이 여러 청크에 있으면 나중 청크(최신 값)가 마지막에 전달된다.
+ * 삭제 레코드(툼스톤)는 그 거래 내역의 변경분보다 뒤에 전달된다.
+ */
+@Slf4j
+@Service
+public class BackupRestoreService {
+
+    private static final String DELETE_SQL = "DELETE FROM transactions WHERE id = ? AND user_id = ?";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO transactions (id, user_id, category_id, type, amount, description, date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE category_id = VALUES(category_id), type = VALUES(type), " +
+            "amount = VALUES(amount), description = VALUES(description), date = VALUES(date), " +
+            "updated_at = VALUES(updated_at), version = version + 1";
+
+    private final BackupRepository backupRepository;
+    private final BackupChunkCodec codec;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionRepository transactionRepository;
+    private final TransactionOutboxService outboxService;
+    private final BalanceService balanceService;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+
+    public BackupRestoreService(BackupRepository backupRepository,
+                                BackupChunkCodec codec,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionRepository transactionRepository,
+                                TransactionOutboxService outboxService,
+                                BalanceService balanceService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${backup.chunk-size:500}") int batchSize) {
+        this.backupRepository = backupRepository;
+        this.codec = codec;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionRepository = transactionRepository;
+        this.outboxService = outboxService;
+        this.balanceService = balanceService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 사용자의 백업 레코드를 순서대로 전달
+     *
+     * @param userId 사용자 ID
+     * @param consumer 레코드 처리기
+     * @return 전달한 레코드 수
+     */
+    public long restore(Long userId, Consumer<TransactionBackupRecord> consumer) {
+        long count = 0;
+        try (Stream<Backup> chunks = backupRepository
+                .streamByUserIdAndStatusOrderByCreatedAtAscChunkNoAsc(userId, BackupStatus.COMPLETED)) {
+            for (Backup chunk : (Iterable<Backup>) chunks::iterator) {
+                count += codec.decode(chunk.getData(), consumer);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 사용자의 백업을 transactions 테이블에 복원 (변경 레코드는 upsert, 삭제 레코드는 DELETE)
+     * batch-size 단위로 한 트랜잭션씩 반영하므로 중간에 실패해도 다시 실행하면 같은 결과가 된다.
+     * 실제로 바뀐 행마다 같은 트랜잭션에서 아웃박스에 변경 이벤트(변경 전 값 포함)를 쌓아
+     * 통계 읽기 모델과 예산 알림도 복원된 값을 따라가게 하고, 끝나면 누적 잔액을 보정한다.
+     * 이미 있던 행은 버전을 올려 그 사이 수정 중이던 요청이 충돌로 끝나게 한다.
+     *
+     * @param userId 사용자 ID
+     * @return 복원한 레코드 수
+     */
+    public long restoreToDatabase(Long userId) {
+        List<TransactionBackupRecord> batch = new ArrayList<>(batchSize);
+
+        long count = restore(userId, record -> {
+            batch.add(record);
+            if (batch.size() >= batchSize) {
+                apply(userId, batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            apply(userId, batch);
+        }
+
+        balanceService.reconcile(userId);
+
+        log.info("백업 복원 완료: userId={}, records={}", userId, count);
+        return count;
+    }
+
+    /**
+     * 레코드 묶음을 전달 순서대로 반영하고 바뀐 행의 변경 이벤트를 쌓는다.
+     * 같은 종류(upsert/삭제)가 이어지는 구간은 JDBC 배치 한 번으로 실행한다.
+     */
+    private void apply(Long userId, List<TransactionBackupRecord> records) {
+        transaction.executeWithoutResult(status -> {
+            Map<Long, Snapshot> current = new HashMap<>();
+            transactionRepository.findBackupRecordsByIds(records.stream().map(TransactionBackupRecord::getId).distinct().toList())
+                    .forEach(row -> current.put(row.getId(), snapshot(row)));
+
+            List<TransactionChangedEvent> events = new ArrayList<>();
+            List<TransactionBackupRecord> pending = new ArrayList<>();
+            for (TransactionBackupRecord record : records) {
+                if (!pending.isEmpty() && pending.get(0).isDeleted() != record.isDeleted()) {
+                    write(userId, pending);
+                    pending.clear();
+                }
+                pending.add(record);
+
+                Snapshot before = current.get(record.getId());
+                Snapshot after = record.isDeleted() ? null : snapshot(record);
+                ChangeType changeType = changeType(before, after);
+                if (changeType != null) {
+                    events.add(TransactionChangedEvent.builder()
+                            .changeType(changeType)
+                            .transactionId(record.getId())
+                            .userId(userId)
+                            .before(before)
+                            .after(after)
+                            .build());
+                }
+                if (after != null) {
+                    current.put(record.getId(), after);
+                } else {
+                    current.remove(record.getId());
+                }
+            }
+            write(userId, pending);
+            events.forEach(outboxService::append);
+        });
+    }
+
+    /**
+     * 변경 종류 (값이 같거나 없는 행을 지우는 경우는 이벤트 없음)
+     */
+    private static ChangeType changeType(Snapshot before, Snapshot after) {
+        if (before == null) {
+            return after != null ? ChangeType.CREATED : null;
+        }
+        if (after == null) {
+            return ChangeType.DELETED;
+        }
+        boolean same = Objects.equals(before.getCategoryId(), after.getCategoryId())
+                && before.getType() == after.getType()
+                && before.getAmount().compareTo(after.getAmount()) == 0
+                && Objects.equals(before.getDate(), after.getDate());
+        return same ? null : ChangeType.UPDATED;
+    }
+
+    private static Snapshot snapshot(TransactionBackupRecord record) {
+        return Snapshot.builder()
+                .categoryId(record.getCategoryId())
+                .type(record.getType())
+                .amount(record.getAmount())
+                .date(record.getDate())
+                .build();
+    }
+
+    private void write(Long userId, List<TransactionBackupRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (records.get(0).isDeleted()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, records, records.size(), (ps, record) -> {
+                ps.setLong(1, record.getId());
+                ps.setLong(2, userId);
+            });
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setLong(1, record.getId());
+            ps.setLong(2, record.getUserId());
+            ps.setObject(3, record.getCategoryId());
+            ps.setString(4, record.getType().name());
+            ps.setBigDecimal(5, record.getAmount());
+            ps.setString(6, record.getDescription());
+            ps.setTimestamp(7, Timestamp.valueOf(record.getDate()));
+            ps.setTimestamp(8, record.getCreatedAt() != null ? Timestamp.valueOf(record.getCreatedAt()) : null);
+            ps.setTimestamp(9, Timestamp.valueOf(record.getUpdatedAt()));
+        });
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.budgettracker.domain.backup.service;
+
+import com.example.budgettracker.domain.backup.dto.TransactionBackupRecord;
+import com.example.budgettracker.domain.backup.entity.Backup;
+import com.example.budgettracker.domain.backup.entity.BackupCheckpoint;
+import com.example.budgettracker.domain.backup.entity.BackupStatus;
+import com.example.budgettracker.domain.backup.repository.BackupRepository;
+import com.example.budgettracker.domain.transaction.entity.TransactionTombstone;
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository;
+import com.example.budgettracker.domain.transaction.repository.TransactionTombstoneRepository;
+import com.example.budgettracker.global.shard.ShardContext;
+import com.example.budgettracker.global.shard.ShardRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 증분 백업 서비스
+ *
+ * - 사용자별 기준점(마지막 완료 청크의 수정일시, ID) 이후 변경된 거래 내역만
+ *   (user_id, updated_at, id) 인덱스 키셋 조회로 읽어 chunk-size 건씩 압축 청크로 저장한다.
+ * - 커밋 지연 중인 트랜잭션을 놓치지 않도록 safety-lag 이전에 수정된 행까지만 백업한다.
+ * - 삭제된 거래 내역은 삭제 트랜잭션이 남긴 툼스톤(TransactionTombstone)을 변경분 뒤에 삭제 레코드로 담고,
+ *   실행이 완료되면 담은 툼스톤을 지운다. (복원 시 삭제로 반영)
+ * - 백업 대상 사용자는 직전 실행 이후 수정된 거래가 있거나 툼스톤이 남은 사용자만 조회한다. (첫 실행은 전체 사용자)
+ *   직전 실행의 상한은 MongoDB(BackupCheckpoint)에 저장하므로 재시작해도 전체 사용자를 다시 훑지 않는다.
+ * - 사용자 단위 작업은 backupExecutor(고정 크기 풀)에서 병렬로 실행된다. (샤딩 시 사용자의 샤드에서 실행)
+ */
+@Slf4j
+@Service
+public class BackupService {
+
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTombstoneRepository tombstoneRepository;
+    private final BackupRepository backupRepository;
+    private final MongoTemplate mongoTemplate;
+    private final BackupChunkCodec codec;
+    private final Executor backupExecutor;
+    private final ShardRunner shardRunner;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long safetyLagSeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public BackupService(TransactionRepository transactionRepository,
+                         TransactionTombstoneRepository tombstoneRepository,
+                         BackupRepository backupRepository,
+                         MongoTemplate mongoTemplate,
+                         BackupChunkCodec codec,
+                         @Qualifier("backupExecutor") Executor backupExecutor,
+                         ShardRunner shardRunner,
+                         @Value("${backup.enabled:true}") boolean enabled,
+                         @Value("${backup.chunk-size:500}") int chunkSize,
+                         @Value("${backup.safety-lag-seconds:60}") long safetyLagSeconds) {
+        this.transactionRepository = transactionRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.backupRepository = backupRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.codec = codec;
+        this.backupExecutor = backupExecutor;
+        this.shardRunner = shardRunner;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.safetyLagSeconds = safetyLagSeconds;
+    }
+
+    @Scheduled(cron = "${backup.cron:0 0 * * * *}")
+    public void scheduledBackup() {
+        backupAll();
+    }
+
+    /**
+     * 전체 사용자 증분 백업
+     *
+     * 사용자 작업을 풀에 넘기고 바로 반환한다. (스케줄러 스레드를 점유하지 않음)
+     * 이전 실행이 끝나지 않았으면 건너뛴다.
+     *
+     * @return 실행 완료 시 완료되는 future (백업한 레코드 수)
+     */
+    public CompletableFuture<Long> backupAll() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        LocalDateTime until = LocalDateTime.now().minusSeconds(safetyLagSeconds);
+        // 샤드별 대상 사용자 (사용자 작업은 풀 스레드에서 해당 샤드로 실행)
+        List<long[]> targets = new ArrayList<>();
+        try {
+            LocalDateTime changedSince = loadChangedSince();
+            shardRunner.forEachShard(() -> {
+                int shardId = ShardContext.current();
+                Set<Long> userIds = new LinkedHashSet<>(changedSince == null
+                        ? transactionRepository.findAllUserIds()
+                        : transactionRepository.findUserIdsUpdatedSince(changedSince));
+                userIds.addAll(tombstoneRepository.findUserIds());
+                userIds.forEach(userId -> targets.add(new long[]{shardId, userId}));
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+
+        AtomicLong records = new AtomicLong();
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<?>[] tasks = targets.stream()
+                .map(target -> CompletableFuture
+                        .runAsync(() -> ShardContext.run((int) target[0],
+                                () -> records.addAndGet(backupUser(target[1], until))), backupExecutor)
+                        .exceptionally(e -> {
+                            failures.incrementAndGet();
+                            log.error("사용자 백업 실패: userId={}", target[1], e);
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(tasks)
+                .handle((ignored, e) -> {
+                    // 실패한 사용자가 있으면 다음 실행에서 같은 구간부터 다시 대상 사용자를 찾는다.
+                    try {
+                        if (failures.get() == 0) {
+                            mongoTemplate.save(new BackupCheckpoint(BackupCheckpoint.INCREMENTAL, until));
+                        }
+                    } finally {
+                        running.set(false);
+                    }
+                    log.info("증분 백업 완료: users={}, records={}, failures={}",
+                            targets.size(), records.get(), failures.get());
+                    return records.get();
+                });
+    }
+
+    /**
+     * 한 사용자의 증분 백업
+     *
+     * @param userId 사용자 ID
+     * @param until 백업 상한 (이 시각 이전에 수정된 행까지)
+     * @return 백업한 레코드 수
+     */
+    public int backupUser(Long userId, LocalDateTime until) {
+        Backup last = backupRepository
+                .findFirstByUserIdAndStatusOrderByCreatedAtDescChunkNoDesc(userId, BackupStatus.COMPLETED)
+                .orElse(null);
+        LocalDateTime watermarkUpdatedAt = last != null ? last.getWatermarkUpdatedAt() : INITIAL_WATERMARK;
+        Long watermarkTransactionId = last != null ? last.getWatermarkTransactionId() : 0L;
+
+        String runId = UUID.randomUUID().toString();
+        int chunkNo = 0;
+        int total = 0;
+        List<List<Long>> tombstoneIds = new ArrayList<>();
+        try {
+            while (true) {
+                List<TransactionBackupRecord> page = transactionRepository.findBackupRecordsAfter(
+                        userId, watermarkUpdatedAt, watermarkTransactionId, until, PageRequest.of(0, chunkSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                TransactionBackupRecord lastRecord = page.get(page.size() - 1);
+                watermarkUpdatedAt = lastRecord.getUpdatedAt();
+                watermarkTransactionId = lastRecord.getId();
+                insertChunk(userId, runId, chunkNo++, page, watermarkUpdatedAt, watermarkTransactionId);
+                total += page.size();
+
+                if (page.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            // 삭제 기록은 변경분 뒤에 담아 복원 시 같은 실행의 upsert 보다 나중에 반영되게 한다.
+            // 기준점은 바꾸지 않으므로 다음 실행은 변경분 기준점부터 이어간다.
+            long tombstoneId = 0L;
+            while (true) {
+                List<TransactionTombstone> tombstones = tombstoneRepository.findAfter(
+                        userId, tombstoneId, until, PageRequest.of(0, chunkSize));
+                if (tombstones.isEmpty()) {
+                    break;
+                }
+
+                insertChunk(userId, runId, chunkNo++, tombstones.stream()
+                                .map(t -> TransactionBackupRecord.deleted(t.getTransactionId(), t.getUserId(), t.getDeletedAt()))
+                                .toList(),
+                        watermarkUpdatedAt, watermarkTransactionId);
+                tombstoneIds.add(tombstones.stream().map(TransactionTombstone::getId).toList());
+                tombstoneId = tombstones.get(tombstones.size() - 1).getId();
+                total += tombstones.size();
+
+                if (tombstones.size() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            markRun(runId, BackupStatus.FAILED);
+            throw e;
+        }
+
+        if (chunkNo > 0) {
+            markRun(runId, BackupStatus.COMPLETED);
+        }
+        // 완료된 청크에 담긴 툼스톤만 지운다. (지우기 전에 실패하면 다음 실행에서 다시 담겨도 복원 결과는 같다)
+        tombstoneIds.forEach(tombstoneRepository::deleteAllByIdInBatch);
+        return total;
+    }
+
+    private void insertChunk(Long userId, String runId, int chunkNo, List<TransactionBackupRecord> records,
+                             LocalDateTime watermarkUpdatedAt, Long watermarkTransactionId) {
+        backupRepository.insert(Backup.builder()
+                .userId(userId)
+                .runId(runId)
+                .chunkNo(chunkNo)
+                .recordCount(records.size())
+                .watermarkUpdatedAt(watermarkUpdatedAt)
+                .watermarkTransactionId(watermarkTransactionId)
+                .data(codec.encode(records))
+                .build());
+    }
+
+    /**
+     * 직전 성공 실행의 백업 상한 (없으면 null, 전체 사용자 대상)
+     */
+    private LocalDateTime loadChangedSince() {
+        BackupCheckpoint checkpoint = mongoTemplate.findById(BackupCheckpoint.INCREMENTAL, BackupCheckpoint.class);
+        return checkpoint != null ? checkpoint.getChangedSince() : null;
+    }
+
+    private void markRun(String runId, BackupStatus status) {
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("runId").is(runId)),
+                Update.update("status", status),
+                Backup.class);
+    }
+}
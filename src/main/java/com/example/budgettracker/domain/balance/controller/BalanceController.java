@@ -0,0 +1,66 @@
+package com.example.budgettracker.domain.balance.controller;
+
+import com.example.budgettracker.domain.balance.dto.BalanceReconcileResponse;
+import com.example.budgettracker.domain.balance.dto.BalanceResponse;
+import com.example.budgettracker.domain.balance.service.BalanceService;
+import com.example.budgettracker.global.util.MoneyUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 누적 잔액 API 컨트롤러
+ * 
+ * @RestController: REST API 컨트롤러임을 명시
+ * @RequestMapping: 기본 경로 설정
+ * @Tag: Swagger 문서용 태그
+ * @RequiredArgsConstructor: final 필드에 대한 생성자 자동 생성
+ */
+@RestController
+@RequestMapping("/api/balance")
+@Tag(name = "Balance", description = "누적 잔액 API")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-key")
+public class BalanceController {
+
+    private final BalanceService balanceService;
+
+    /**
+     * 전체 기간 누적 잔액을 조회하는 API
+     * 
+     * @param authentication 인증 정보
+     * @return 누적 잔액 응답
+     */
+    @Operation(summary = "누적 잔액 조회", description = "전체 기간의 수입 합계 - 지출 합계를 조회합니다. 거래 내역을 다시 합산하지 않습니다.")
+    @GetMapping
+    public ResponseEntity<BalanceResponse> getBalance(
+            @Parameter(hidden = true)
+            Authentication authentication) {
+        long cents = balanceService.getBalanceCents(Long.parseLong(authentication.getName()));
+        return ResponseEntity.ok(BalanceResponse.builder()
+                .balance(MoneyUtil.fromCents(cents))
+                .build());
+    }
+
+    /**
+     * 누적 잔액을 거래 내역 합계와 비교해 보정하는 API
+     * 
+     * @param authentication 인증 정보
+     * @return 보정 결과
+     */
+    @Operation(summary = "누적 잔액 보정", description = "거래 내역 전체를 다시 합산해 저장된 잔액과 비교하고, 다르면 교체합니다.")
+    @PostMapping("/reconcile")
+    public ResponseEntity<BalanceReconcileResponse> reconcile(
+            @Parameter(hidden = true)
+            Authentication authentication) {
+        return ResponseEntity.ok(balanceService.reconcile(Long.parseLong(authentication.getName())));
+    }
+}
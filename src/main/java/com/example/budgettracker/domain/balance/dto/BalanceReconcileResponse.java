@@ -0,0 +1,35 @@
+package com.example.budgettracker.domain.balance.dto;
+
+import com.example.budgettracker.global.util.MoneyUtil;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@Schema(description = "누적 잔액 보정 결과")
+public class BalanceReconcileResponse {
+
+    @Schema(description = "거래 내역으로 다시 계산한 잔액", example = "1000000")
+    private BigDecimal balance;
+
+    @Schema(description = "보정 전 스냅샷 잔액", example = "988000")
+    private BigDecimal previousBalance;
+
+    @Schema(description = "차이 (balance - previousBalance)", example = "12000")
+    private BigDecimal drift;
+
+    @Schema(description = "스냅샷을 교체했는지 여부", example = "true")
+    private boolean corrected;
+
+    public static BalanceReconcileResponse of(long balanceCents, long previousCents) {
+        return BalanceReconcileResponse.builder()
+                .balance(MoneyUtil.fromCents(balanceCents))
+                .previousBalance(MoneyUtil.fromCents(previousCents))
+                .drift(MoneyUtil.fromCents(balanceCents - previousCents))
+                .corrected(balanceCents != previousCents)
+                .build();
+    }
+}
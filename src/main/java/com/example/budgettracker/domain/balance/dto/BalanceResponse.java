@@ -0,0 +1,16 @@
+package com.example.budgettracker.domain.balance.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@Schema(description = "누적 잔액 응답")
+public class BalanceResponse {
+
+    @Schema(description = "전체 기간 잔액 (수입 - 지출)", example = "1000000")
+    private BigDecimal balance;
+}
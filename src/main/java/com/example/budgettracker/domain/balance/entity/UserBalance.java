@@ -0,0 +1,51 @@
+package com.example.budgettracker.domain.balance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 누적 잔액 스냅샷 엔티티
+ *
+ * 전체 기간 수입 합계 - 지출 합계를 센트 단위로 저장한다.
+ * 거래 내역 쓰기와 같은 DB 트랜잭션에서 변경분만 더하므로 조회 시 거래 내역을 다시 합산하지 않는다.
+ *
+ * @Entity: JPA 엔티티 클래스임을 나타냄
+ * @Table: 사용자당 한 행 (PK = user_id)
+ */
+@Entity
+@Table(name = "user_balances")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserBalance {
+
+    /**
+     * 사용자 ID (PK)
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 누적 잔액 (센트)
+     */
+    @Column(name = "balance_cents", nullable = false)
+    private long balanceCents;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 보정 결과로 교체
+     */
+    public void replace(long balanceCents) {
+        this.balanceCents = balanceCents;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.budgettracker.domain.balance.repository;
+
+import com.example.budgettracker.domain.balance.entity.UserBalance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UserBalanceRepository extends JpaRepository<UserBalance, Long> {
+
+    /**
+     * 잔액에 변경분 더하기
+     *
+     * @return 갱신된 행 수 (스냅샷이 아직 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE UserBalance b SET b.balanceCents = b.balanceCents + :delta, b.updatedAt = :now WHERE b.userId = :userId")
+    int addCents(@Param("userId") Long userId,
+                 @Param("delta") long delta,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 스냅샷 생성 (이미 있으면 변경분만 더하기)
+     *
+     * @param initialCents 새로 만들 때의 잔액 (거래 내역 합계)
+     * @param delta 다른 트랜잭션이 먼저 만들었을 때 더할 변경분
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_balances (user_id, balance_cents, updated_at) VALUES (:userId, :initialCents, :now) " +
+                   "ON DUPLICATE KEY UPDATE balance_cents = balance_cents + :delta, updated_at = :now",
+           nativeQuery = true)
+    int insertOrAddCents(@Param("userId") Long userId,
+                         @Param("initialCents") long initialCents,
+                         @Param("delta") long delta,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 보정용 잠금 조회 (보정 중에는 같은 사용자의 쓰기가 잔액 갱신에서 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM UserBalance b WHERE b.userId = :userId")
+    Optional<UserBalance> findByUserIdForUpdate(@Param("userId") Long userId);
+}
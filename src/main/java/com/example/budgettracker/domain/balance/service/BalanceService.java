@@ -0,0 +1,253 @@
+package com.example.budgettracker.domain.balance.service;
+
+import com.example.budgettracker.domain.balance.dto.BalanceReconcileResponse;
+import com.example.budgettracker.domain.balance.entity.UserBalance;
+import com.example.budgettracker.domain.balance.repository.UserBalanceRepository;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent;
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository;
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository;
+import com.example.budgettracker.global.metrics.CacheMetrics;
+import com.example.budgettracker.global.shard.ShardRunner;
+import com.example.budgettracker.global.util.MoneyUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 누적 잔액 (수입 - 지출)
+ *
+ * 조회할 때마다 전체 거래 내역을 합산하지 않고, 쓰기마다 변경분만 반영해 O(1) 로 답한다.
+ *
+ * - 스냅샷(user_balances): 거래 내역 쓰기와 같은 DB 트랜잭션에서 UPDATE 한 번으로 변경분을 더한다.
+ *   (TransactionService 가 발행하는 이벤트를 트랜잭션 안에서 동기로 받음)
+ *   스냅샷이 아직 없는 사용자는 첫 쓰기에서 거래 내역 합계로 만든다.
+ * - 메모리 캐시: 사용자별 LongAdder 에 커밋된 변경분을 더한다. 같은 사용자의 동시 쓰기도 서로 기다리지 않는다.
+ *   처음 조회하거나 cache-ttl-ms 가 지나면 스냅샷에서 다시 읽는다. (다른 인스턴스의 쓰기는 TTL 안에 반영)
+ *   스냅샷을 읽는 사이 이 인스턴스에서 진행 중이거나 끝난 쓰기가 있었으면 캐시에 올리지 않는다. (변경분 이중 반영 방지)
+ * - 보정: 스냅샷 행을 잠근 뒤 거래 내역 합계와 비교해 다르면 교체한다. 잠금 이후에 시작된 쓰기는 보정이 끝난 뒤
+ *   변경분을 더하므로 잃어버리지 않는다. 매일 reconcile-cron 에 최근 변경된 사용자를 샤드별로 보정한다.
+ */
+@Slf4j
+@Service
+public class BalanceService {
+
+    private final UserBalanceRepository balanceRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionOutboxRepository outboxRepository;
+    private final TransactionTemplate transaction;
+    private final ShardRunner shardRunner;
+    private final long cacheTtlMillis;
+    private final int reconcileDays;
+
+    private final Map<Long, CachedBalance> cache = new ConcurrentHashMap<>();
+    private final CacheMetrics cacheMetrics;
+
+    public BalanceService(UserBalanceRepository balanceRepository,
+                          TransactionRepository transactionRepository,
+                          TransactionOutboxRepository outboxRepository,
+                          PlatformTransactionManager transactionManager,
+                          ShardRunner shardRunner,
+                          MeterRegistry meterRegistry,
+                          @Value("${balance.cache-ttl-ms:60000}") long cacheTtlMillis,
+                          @Value("${balance.reconcile-days:1}") int reconcileDays) {
+        this.balanceRepository = balanceRepository;
+        this.transactionRepository = transactionRepository;
+        this.outboxRepository = outboxRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.shardRunner = shardRunner;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.reconcileDays = Math.max(1, reconcileDays);
+        this.cacheMetrics = new CacheMetrics(meterRegistry, "user-balances", cache);
+    }
+
+    /**
+     * 거래 내역 쓰기 트랜잭션 안에서 스냅샷에 변경분 반영, 커밋되면 캐시에 반영
+     */
+    @EventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        long delta = event.balanceDeltaCents();
+        if (delta == 0) {
+            return;
+        }
+        Long userId = event.getUserId();
+        addToSnapshot(userId, delta);
+
+        // 진행 중 표시는 만료 정리와 겹치지 않도록 compute 안에서 한다
+        CachedBalance entry = cache.compute(userId, (id, existing) -> {
+            CachedBalance target = existing != null ? existing : new CachedBalance();
+            target.inflight.incrementAndGet();
+            return target;
+        });
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    entry.cents.add(delta);
+                }
+                entry.completed.incrementAndGet();
+                entry.inflight.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 누적 잔액 (센트)
+     */
+    public long getBalanceCents(Long userId) {
+        CachedBalance entry = cache.computeIfAbsent(userId, id -> new CachedBalance());
+        if (entry.isFresh(System.currentTimeMillis(), cacheTtlMillis)) {
+            cacheMetrics.hit();
+            return entry.cents.sum();
+        }
+        cacheMetrics.miss();
+
+        // 사용자당 한 스레드만 스냅샷을 읽는다
+        synchronized (entry) {
+            long now = System.currentTimeMillis();
+            if (entry.isFresh(now, cacheTtlMillis)) {
+                return entry.cents.sum();
+            }
+            long completedBefore = entry.completed.get();
+            boolean idle = entry.inflight.get() == 0;
+            long cents = loadSnapshot(userId);
+
+            entry.cents.reset();
+            entry.cents.add(cents);
+            if (idle && entry.inflight.get() == 0 && entry.completed.get() == completedBefore) {
+                entry.loadedAt = now;
+                entry.loaded = true;
+            } else {
+                entry.loaded = false;
+            }
+            return cents;
+        }
+    }
+
+    /**
+     * 스냅샷을 거래 내역 합계와 비교해 다르면 교체
+     */
+    public BalanceReconcileResponse reconcile(Long userId) {
+        long[] result = transaction.execute(status -> {
+            UserBalance balance = balanceRepository.findByUserIdForUpdate(userId).orElse(null);
+            long actual = MoneyUtil.toCents(transactionRepository.sumBalanceByUserId(userId));
+            long previous;
+            if (balance == null) {
+                previous = actual;
+                balanceRepository.insertOrAddCents(userId, actual, 0L, LocalDateTime.now());
+            } else {
+                previous = balance.getBalanceCents();
+                if (previous != actual) {
+                    balance.replace(actual);
+                }
+            }
+            return new long[]{previous, actual};
+        });
+
+        boolean corrected = result[0] != result[1];
+        if (corrected) {
+            log.warn("누적 잔액 불일치 보정: userId={}, snapshot={}, actual={}", userId, result[0], result[1]);
+        }
+        // 다음 조회에서 보정된 스냅샷을 다시 읽는다 (읽는 중이면 끝난 뒤 무효화)
+        CachedBalance entry = cache.get(userId);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.loaded = false;
+            }
+        }
+        return BalanceReconcileResponse.of(result[1], result[0]);
+    }
+
+    /**
+     * 최근 변경된 사용자의 스냅샷 보정
+     */
+    @Scheduled(cron = "${balance.reconcile-cron:0 0 4 * * *}")
+    public void reconcileRecent() {
+        shardRunner.forEachShard(this::reconcileShard);
+    }
+
+    /**
+     * 만료된 캐시 정리 (진행 중인 쓰기가 있는 사용자는 남긴다)
+     */
+    @Scheduled(fixedDelayString = "${balance.cache-ttl-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (Long userId : cache.keySet()) {
+            cache.computeIfPresent(userId, (id, entry) ->
+                    entry.inflight.get() == 0 && !entry.isFresh(now, cacheTtlMillis) ? null : entry);
+        }
+    }
+
+    private void reconcileShard() {
+        LocalDateTime since = LocalDateTime.now().minusDays(reconcileDays);
+        // 거래 내역을 삭제한 사용자도 포함
+        Set<Long> userIds = new LinkedHashSet<>(transactionRepository.findUserIdsUpdatedSince(since));
+        userIds.addAll(outboxRepository.findUserIdsWithEventsSince(since));
+
+        int corrected = 0;
+        for (Long userId : userIds) {
+            try {
+                if (reconcile(userId).isCorrected()) {
+                    corrected++;
+                }
+            } catch (Exception e) {
+                log.error("누적 잔액 보정 실패: userId={}", userId, e);
+            }
+        }
+        log.info("누적 잔액 보정 완료: users={}, corrected={}", userIds.size(), corrected);
+    }
+
+    /**
+     * 스냅샷에 변경분 더하기 (없으면 이번 쓰기를 포함한 거래 내역 합계로 생성)
+     * 다른 트랜잭션이 먼저 만들었으면 그 합계에는 이번 쓰기가 빠져 있으므로 변경분을 더한다.
+     */
+    private void addToSnapshot(Long userId, long delta) {
+        LocalDateTime now = LocalDateTime.now();
+        if (balanceRepository.addCents(userId, delta, now) > 0) {
+            return;
+        }
+        long initial = MoneyUtil.toCents(transactionRepository.sumBalanceByUserId(userId));
+        balanceRepository.insertOrAddCents(userId, initial, delta, now);
+    }
+
+    /**
+     * 스냅샷 조회 (레플리카 지연으로 방금 커밋된 변경분이 빠지지 않도록 프라이머리에서 읽는다)
+     */
+    private long loadSnapshot(Long userId) {
+        Long cents = transaction.execute(status -> balanceRepository.findById(userId)
+                .map(UserBalance::getBalanceCents)
+                .orElseGet(() -> MoneyUtil.toCents(transactionRepository.sumBalanceByUserId(userId))));
+        return cents == null ? 0L : cents;
+    }
+
+    /**
+     * 사용자별 캐시 항목
+     * inflight/completed 는 스냅샷을 읽는 동안 이 인스턴스의 쓰기가 있었는지 확인하는 데 쓴다.
+     */
+    private static final class CachedBalance {
+        private final LongAdder cents = new LongAdder();
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+        private volatile boolean loaded;
+        private volatile long loadedAt;
+
+        private boolean isFresh(long now, long ttlMillis) {
+            return loaded && now - loadedAt <= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.budgettracker.domain.batch.controller;
+
+import com.example.budgettracker.domain.batch.dto.BatchRequest;
+import com.example.budgettracker.domain.batch.dto.BatchResponse;
+import com.example.budgettracker.domain.batch.service.BatchService;
+import com.example.budgettracker.global.metrics.QueryBudget;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 배치 작업 API 컨트롤러
+ * 
+ * 오프라인에서 쌓인 거래 내역/카테고리/예산 변경을 한 번의 요청으로 동기화한다.
+ * 
+ * @Tag: Swagger 문서에서 API 그룹을 나타냄
+ * @RestController: REST API 컨트롤러임을 나타냄
+ * @RequestMapping: 기본 URL 경로 설정
+ * @RequiredArgsConstructor: final 필드에 대한 생성자 자동 생성
+ */
+@Tag(name = "배치", description = "배치 작업 API")
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-key")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    /**
+     * 배치 작업 실행 API
+     * 
+     * 작업별 결과는 개별 API 를 호출했을 때의 상태 코드와 응답 본문을 담는다.
+     * 쿼리 예산은 작업당 최대 쿼리 수(4) x batch.max-operations 로, 작업 수 한도를 바꾸면 함께 바뀐다.
+     * 
+     * @Operation: API 엔드포인트 설명
+     * @param authentication 인증 정보
+     * @param request 작업 목록과 실패 처리 방식
+     * @return 작업별 결과
+     */
+    @Operation(summary = "배치 작업 실행", description = "거래 내역/카테고리/예산의 생성, 수정, 삭제를 순서대로 실행합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "배치 실행 완료 (작업별 성공 여부는 결과 참고)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 또는 작업 수 초과"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @QueryBudget(value = 4, perItemOf = "batch.max-operations")
+    @PostMapping
+    public ResponseEntity<BatchResponse> executeBatch(
+            @Parameter(hidden = true)
+            Authentication authentication,
+            @Parameter(description = "배치 작업 요청", required = true)
+            @Valid @RequestBody BatchRequest request) {
+        return ResponseEntity.ok(batchService.execute(authentication.getName(), request));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.budgettracker.domain.batch.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 하나 (개별 API 호출과 같은 메서드/경로/본문)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "배치 작업")
+public class BatchOperation {
+
+    public enum Method {
+        POST, PUT, DELETE
+    }
+
+    @Schema(description = "HTTP 메서드 (POST: 생성, PUT: 수정, DELETE: 삭제)", example = "POST")
+    @NotNull(message = "메서드는 필수입니다.")
+    private Method method;
+
+    @Schema(description = "대상 경로 (/api/transactions, /api/categories, /api/budgets 및 하위 /{id})",
+            example = "/api/transactions")
+    @NotBlank(message = "경로는 필수입니다.")
+    private String path;
+
+    @Schema(description = "요청 본문 (개별 API 의 요청 본문과 같음, DELETE 는 생략)")
+    private JsonNode body;
+}
@@ -0,0 +1,44 @@
+package com.example.budgettracker.domain.batch.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배치 작업 요청
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "배치 작업 요청")
+public class BatchRequest {
+
+    /**
+     * 작업 실패 시 처리 방식
+     */
+    public enum ErrorPolicy {
+        /**
+         * 전체를 한 트랜잭션으로 실행하고, 하나라도 실패하면 모두 되돌린다.
+         */
+        ATOMIC,
+        /**
+         * 작업마다 따로 커밋하고, 실패한 작업만 건너뛴다.
+         */
+        CONTINUE
+    }
+
+    @Schema(description = "실행할 작업 (순서대로 실행)")
+    @NotEmpty(message = "작업 목록은 비어 있을 수 없습니다.")
+    private List<@Valid BatchOperation> operations;
+
+    @Schema(description = "실패 처리 방식 (ATOMIC: 전체 롤백, CONTINUE: 실패한 작업만 건너뜀)", example = "ATOMIC")
+    @Builder.Default
+    private ErrorPolicy onError = ErrorPolicy.ATOMIC;
+}
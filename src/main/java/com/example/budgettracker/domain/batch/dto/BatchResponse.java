@@ -0,0 +1,33 @@
+package com.example.budgettracker.domain.batch.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 배치 작업 응답
+ */
+@Getter
+@Schema(description = "배치 작업 응답")
+public class BatchResponse {
+
+    @Schema(description = "성공한 작업이 반영되었는지 (ATOMIC 은 하나라도 실패하면 false)", example = "true")
+    private final boolean committed;
+
+    @Schema(description = "성공한 작업 수", example = "10")
+    private final int succeeded;
+
+    @Schema(description = "실패하거나 실행하지 않은 작업 수", example = "0")
+    private final int failed;
+
+    @Schema(description = "작업별 결과 (요청 순서)")
+    private final List<BatchResult> results;
+
+    public BatchResponse(boolean committed, List<BatchResult> results) {
+        this.committed = committed;
+        this.succeeded = (int) results.stream().filter(BatchResult::isSuccess).count();
+        this.failed = results.size() - succeeded;
+        this.results = results;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.budgettracker.domain.batch.dto;
+
+import com.example.budgettracker.global.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 배치 작업 하나의 결과 (요청 순서와 같은 index)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Schema(description = "배치 작업 결과")
+public class BatchResult {
+
+    @Schema(description = "요청의 작업 순번 (0부터)", example = "0")
+    private final int index;
+
+    @Schema(description = "개별 API 로 호출했을 때의 HTTP 상태 코드", example = "200")
+    private final int status;
+
+    @Schema(description = "개별 API 의 응답 본문 (실패 시 null)")
+    private final Object body;
+
+    @Schema(description = "실패 사유 (성공 시 null)")
+    private final String error;
+
+    public static BatchResult success(int index, Object body) {
+        return new BatchResult(index, HttpStatus.OK.value(), body, null);
+    }
+
+    public static BatchResult failure(int index, HttpStatus status, String error) {
+        return new BatchResult(index, status.value(), null, error);
+    }
+
+    public static BatchResult skipped(int index) {
+        ErrorCode errorCode = ErrorCode.BATCH_OPERATION_SKIPPED;
+        return failure(index, errorCode.getStatus(), errorCode.getMessage());
+    }
+
+    @Schema(description = "성공 여부")
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.budgettracker.domain.batch.service;
+
+import com.example.budgettracker.domain.batch.dto.BatchOperation;
+import com.example.budgettracker.domain.batch.dto.BatchRequest;
+import com.example.budgettracker.domain.batch.dto.BatchResponse;
+import com.example.budgettracker.domain.batch.dto.BatchResult;
+import com.example.budgettracker.domain.budget.dto.BudgetRequest;
+import com.example.budgettracker.domain.budget.service.BudgetService;
+import com.example.budgettracker.domain.transaction.dto.CategoryRequest;
+import com.example.budgettracker.domain.transaction.dto.TransactionRequest;
+import com.example.budgettracker.domain.transaction.entity.Category;
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository;
+import com.example.budgettracker.domain.transaction.service.CategoryService;
+import com.example.budgettracker.domain.transaction.service.TransactionService;
+import com.example.budgettracker.domain.user.entity.User;
+import com.example.budgettracker.domain.user.repository.UserRepository;
+import com.example.budgettracker.global.exception.CustomException;
+import com.example.budgettracker.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 배치 작업 실행
+ *
+ * 거래 내역/카테고리/예산의 생성, 수정, 삭제를 요청 순서대로 실행한다.
+ * 사용자는 배치당 한 번만 조회하고, 거래 내역이 참조하는 카테고리는 배치 안에서 ID 별로 한 번만 조회(접근 권한 확인 포함)한다.
+ *
+ * - ATOMIC: 전체를 한 트랜잭션으로 실행하고, 첫 실패에서 멈춘 뒤 모두 되돌린다. (남은 작업은 424)
+ * - CONTINUE: 작업마다 트랜잭션을 따로 열어 커밋하고, 실패한 작업만 되돌린 뒤 다음 작업을 계속한다.
+ */
+@Slf4j
+@Service
+public class BatchService {
+
+    private static final Pattern PATH = Pattern.compile("/api/(transactions|categories|budgets)(?:/(\\d{1,18}))?");
+
+    private final TransactionService transactionService;
+    private final CategoryService categoryService;
+    private final BudgetService budgetService;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxOperations;
+
+    public BatchService(TransactionService transactionService,
+                        CategoryService categoryService,
+                        BudgetService budgetService,
+                        UserRepository userRepository,
+                        CategoryRepository categoryRepository,
+                        ObjectMapper objectMapper,
+                        Validator validator,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${batch.max-operations:100}") int maxOperations) {
+        this.transactionService = transactionService;
+        this.categoryService = categoryService;
+        this.budgetService = budgetService;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * 배치 실행
+     *
+     * @param userId 사용자 ID
+     * @param request 작업 목록과 실패 처리 방식
+     * @return 작업별 결과 (요청 순서)
+     */
+    public BatchResponse execute(String userId, BatchRequest request) {
+        List<BatchOperation> operations = request.getOperations();
+        if (operations.size() > maxOperations) {
+            throw new CustomException(ErrorCode.BATCH_TOO_LARGE);
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        BatchContext context = new BatchContext(user);
+
+        return request.getOnError() == BatchRequest.ErrorPolicy.CONTINUE
+                ? executeEach(context, operations)
+                : executeAtomic(context, operations);
+    }
+
+    private BatchResponse executeAtomic(BatchContext context, List<BatchOperation> operations) {
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        Boolean committed;
+        try {
+            committed = transactionTemplate.execute(status -> {
+                for (int index = 0; index < operations.size(); index++) {
+                    BatchResult result = run(context, index, operations.get(index), status);
+                    results.add(result);
+                    if (!result.isSuccess()) {
+                        status.setRollbackOnly();
+                        for (int skipped = index + 1; skipped < operations.size(); skipped++) {
+                            results.add(BatchResult.skipped(skipped));
+                        }
+                        return false;
+                    }
+                }
+                return true;
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 작업마다 반영하므로 보통 해당 작업의 409 로 끝나지만, 커밋에서 드러난 충돌은 어느 작업인지 알 수 없다.
+            results.clear();
+            for (int index = 0; index < operations.size(); index++) {
+                results.add(conflict(index));
+            }
+            committed = false;
+        }
+        return new BatchResponse(Boolean.TRUE.equals(committed), results);
+    }
+
+    private BatchResponse executeEach(BatchContext context, List<BatchOperation> operations) {
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            int current = index;
+            try {
+                results.add(transactionTemplate.execute(status -> {
+                    BatchResult result = run(context, current, operations.get(current), status);
+                    if (!result.isSuccess()) {
+                        status.setRollbackOnly();
+                    }
+                    return result;
+                }));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // 커밋 시 버전 충돌 (작업 중 다른 요청이 같은 행을 수정)
+                results.add(conflict(current));
+            }
+        }
+        return new BatchResponse(results.stream().anyMatch(BatchResult::isSuccess), results);
+    }
+
+    /**
+     * 작업 하나 실행 (예외를 개별 API 와 같은 상태 코드의 결과로 변환)
+     * 작업마다 변경을 반영(flush)해 버전 충돌이 커밋이 아닌 그 작업의 409 로 드러나게 한다.
+     */
+    private BatchResult run(BatchContext context, int index, BatchOperation operation, TransactionStatus status) {
+        try {
+            Object body = dispatch(context, operation);
+            status.flush();
+            return BatchResult.success(index, body);
+        } catch (CustomException e) {
+            return BatchResult.failure(index, e.getErrorCode().getStatus(), e.getMessage());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(index);
+        } catch (RuntimeException e) {
+            log.error("배치 작업 실패: index={}, method={}, path={}", index, operation.getMethod(), operation.getPath(), e);
+            ErrorCode errorCode = ErrorCode.INTERNAL_SERVER_ERROR;
+            return BatchResult.failure(index, errorCode.getStatus(), errorCode.getMessage());
+        }
+    }
+
+    private static BatchResult conflict(int index) {
+        ErrorCode errorCode = ErrorCode.CONCURRENT_MODIFICATION;
+        return BatchResult.failure(index, errorCode.getStatus(), errorCode.getMessage());
+    }
+
+    private Object dispatch(BatchContext context, BatchOperation operation) {
+        Matcher matcher = PATH.matcher(operation.getPath());
+        if (!matcher.matches() || (matcher.group(2) == null) != (operation.getMethod() == BatchOperation.Method.POST)) {
+            throw new CustomException(ErrorCode.BATCH_UNSUPPORTED_OPERATION);
+        }
+        Long id = matcher.group(2) != null ? Long.valueOf(matcher.group(2)) : null;
+        User user = context.user;
+        String userId = user.getId().toString();
+
+        switch (matcher.group(1)) {
+            case "transactions" -> {
+                return switch (operation.getMethod()) {
+                    case POST -> transactionService.createTransactionForUser(user, transactionRequest(context, operation));
+                    case PUT -> transactionService.updateTransaction(userId, id, transactionRequest(context, operation));
+                    case DELETE -> {
+                        transactionService.deleteTransaction(userId, id);
+                        yield null;
+                    }
+                };
+            }
+            case "categories" -> {
+                if (id != null) {
+                    context.categories.remove(id);  // 수정/삭제된 카테고리는 다시 조회
+                }
+                return switch (operation.getMethod()) {
+                    case POST -> categoryService.createCategoryForUser(user, body(operation, CategoryRequest.class));
+                    case PUT -> categoryService.updateCategory(userId, id, body(operation, CategoryRequest.class));
+                    case DELETE -> {
+                        categoryService.deleteCategory(userId, id);
+                        yield null;
+                    }
+                };
+            }
+            default -> {
+                return switch (operation.getMethod()) {
+                    case POST -> budgetService.createBudgetForUser(user, body(operation, BudgetRequest.class));
+                    case PUT -> budgetService.updateBudget(user.getId(), id, body(operation, BudgetRequest.class));
+                    case DELETE -> {
+                        budgetService.deleteBudget(user.getId(), id);
+                        yield null;
+                    }
+                };
+            }
+        }
+    }
+
+    /**
+     * 거래 내역 요청의 카테고리를 배치 안에서 조회한 카테고리로 바꾼다.
+     */
+    private TransactionRequest transactionRequest(BatchContext context, BatchOperation operation) {
+        TransactionRequest request = body(operation, TransactionRequest.class);
+        return TransactionRequest.builder()
+                .amount(request.getAmount())
+                .type(request.getType())
+                .category(category(context, request.getCategory().getId()))
+                .description(request.getDescription())
+                .date(request.getDate())
+                .version(request.getVersion())
+                .build();
+    }
+
+    private Category category(BatchContext context, Long categoryId) {
+        if (categoryId == null) {
+            throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+        Category category = context.categories.get(categoryId);
+        if (category == null) {
+            category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
+            if (!category.getIsDefault() && !context.user.getId().equals(category.getUserId())) {
+                throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+            }
+            context.categories.put(categoryId, category);
+        }
+        return category;
+    }
+
+    /**
+     * 요청 본문 변환 및 검증 (개별 API 의 @Valid 와 같은 제약)
+     */
+    private <T> T body(BatchOperation operation, Class<T> type) {
+        if (operation.getBody() == null || operation.getBody().isNull()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        T value;
+        try {
+            value = objectMapper.treeToValue(operation.getBody(), type);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, violations.iterator().next().getMessage());
+        }
+        return value;
+    }
+
+    /**
+     * 배치 하나 동안 재사용하는 조회 결과
+     */
+    private static final class BatchContext {
+
+        private final User user;
+        private final Map<Long, Category> categories = new HashMap<>();
+
+        private BatchContext(User user) {
+            this.user = user;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.budgettracker.domain.budget.controller;
 
 import com.example.budgettracker.domain.budget.dto.BudgetRequest;
 import com.example.budgettracker.domain.budget.dto.BudgetResponse;
+import com.example.budgettracker.domain.budget.dto.BudgetYearRequest;
 import com.example.budgettracker.domain.budget.service.BudgetService;
 import com.example.budgettracker.global.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,10 +12,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Year;
 import java.util.List;
 
 /**
@@ -25,6 +26,8 @@ import java.util.List;
  * - 예산 조회 (/api/budgets/{id})
  * - 예산 목록 조회 (/api/budgets)
  * - 예산 수정 (/api/budgets/{id})
+ * - 예산 저장 (/api/budgets, 월/카테고리 기준 생성 또는 변경)
+ * - 1년 예산 저장 (/api/budgets/years/{year})
  * - 예산 삭제 (/api/budgets/{id})
  * 
  * 보안:
@@ -49,9 +52,9 @@ public class BudgetController {
     @SecurityRequirement(name = "bearer-key")
     @PostMapping
     public ResponseEntity<ApiResponse<Long>> createBudget(
-            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) Authentication authentication,
             @Valid @RequestBody BudgetRequest request) {
-        Long budgetId = budgetService.createBudget(Long.parseLong(userDetails.getUsername()), request);
+        Long budgetId = budgetService.createBudget(Long.parseLong(authentication.getName()), request);
         return ResponseEntity.ok(ApiResponse.success(budgetId, "예산이 성공적으로 생성되었습니다."));
     }
 
@@ -59,9 +62,9 @@ public class BudgetController {
     @SecurityRequirement(name = "bearer-key")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<BudgetResponse>> getBudget(
-            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) Authentication authentication,
             @PathVariable Long id) {
-        BudgetResponse budget = budgetService.getBudget(Long.parseLong(userDetails.getUsername()), id);
+        BudgetResponse budget = budgetService.getBudget(Long.parseLong(authentication.getName()), id);
         return ResponseEntity.ok(ApiResponse.success(budget, "예산 조회가 완료되었습니다."));
     }
 
@@ -69,8 +72,8 @@ public class BudgetController {
     @SecurityRequirement(name = "bearer-key")
     @GetMapping
     public ResponseEntity<ApiResponse<List<BudgetResponse>>> getBudgets(
-            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
-        List<BudgetResponse> budgets = budgetService.getBudgets(Long.parseLong(userDetails.getUsername()));
+            @Parameter(hidden = true) Authentication authentication) {
+        List<BudgetResponse> budgets = budgetService.getBudgets(Long.parseLong(authentication.getName()));
         return ResponseEntity.ok(ApiResponse.success(budgets, "예산 목록 조회가 완료되었습니다."));
     }
 
@@ -78,20 +81,41 @@ public class BudgetController {
     @SecurityRequirement(name = "bearer-key")
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Long>> updateBudget(
-            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) Authentication authentication,
             @PathVariable Long id,
             @Valid @RequestBody BudgetRequest request) {
-        Long budgetId = budgetService.updateBudget(Long.parseLong(userDetails.getUsername()), id, request);
+        Long budgetId = budgetService.updateBudget(Long.parseLong(authentication.getName()), id, request);
         return ResponseEntity.ok(ApiResponse.success(budgetId, "예산이 성공적으로 수정되었습니다."));
     }
 
+    @Operation(summary = "예산 저장", description = "월/카테고리 예산이 없으면 생성하고 있으면 금액을 변경합니다.")
+    @SecurityRequirement(name = "bearer-key")
+    @PutMapping
+    public ResponseEntity<ApiResponse<Void>> upsertBudget(
+            @Parameter(hidden = true) Authentication authentication,
+            @Valid @RequestBody BudgetRequest request) {
+        budgetService.upsertBudget(Long.parseLong(authentication.getName()), request);
+        return ResponseEntity.ok(ApiResponse.success(null, "예산이 성공적으로 저장되었습니다."));
+    }
+
+    @Operation(summary = "1년 예산 저장", description = "한 카테고리의 1월~12월 예산을 한 번에 생성/변경합니다.")
+    @SecurityRequirement(name = "bearer-key")
+    @PutMapping("/years/{year}")
+    public ResponseEntity<ApiResponse<Void>> upsertYearBudgets(
+            @Parameter(hidden = true) Authentication authentication,
+            @PathVariable int year,
+            @Valid @RequestBody BudgetYearRequest request) {
+        budgetService.upsertYearBudgets(Long.parseLong(authentication.getName()), Year.of(year), request);
+        return ResponseEntity.ok(ApiResponse.success(null, "예산이 성공적으로 저장되었습니다."));
+    }
+
     @Operation(summary = "예산 삭제", description = "특정 예산을 삭제합니다.")
     @SecurityRequirement(name = "bearer-key")
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteBudget(
-            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) Authentication authentication,
             @PathVariable Long id) {
-        budgetService.deleteBudget(Long.parseLong(userDetails.getUsername()), id);
+        budgetService.deleteBudget(Long.parseLong(authentication.getName()), id);
         return ResponseEntity.ok(ApiResponse.success(null, "예산이 성공적으로 삭제되었습니다."));
     }
 } 
\ No newline at end of file
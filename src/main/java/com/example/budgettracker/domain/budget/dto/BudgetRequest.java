@@ -20,4 +20,9 @@ public class BudgetRequest {
 
     @NotNull(message = "카테고리는 필수입니다.")
     private Long categoryId;
+
+    /**
+     * 수정 시 마지막으로 조회한 버전 (다르면 409, 생략하면 충돌 시 자동 재시도)
+     */
+    private Long version;
 } 
\ No newline at end of file
@@ -18,6 +18,7 @@ public class BudgetResponse {
     private BigDecimal amount;
     private YearMonth yearMonth;
     private Long categoryId;
+    private Long version;
 
     public static BudgetResponse from(Budget budget) {
         return BudgetResponse.builder()
@@ -25,6 +26,7 @@ public class BudgetResponse {
                 .amount(budget.getAmount())
                 .yearMonth(budget.getYearMonth())
                 .categoryId(budget.getCategoryId())
+                .version(budget.getVersion())
                 .build();
     }
 } 
\ No newline at end of file
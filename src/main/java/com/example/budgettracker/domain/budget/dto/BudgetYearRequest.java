@@ -0,0 +1,27 @@
+package com.example.budgettracker.domain.budget.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 한 카테고리의 1년 예산 일괄 저장 요청
+ */
+@Getter
+@Setter
+public class BudgetYearRequest {
+    @NotNull(message = "카테고리는 필수입니다.")
+    private Long categoryId;
+
+    /**
+     * 1월부터 12월까지의 금액
+     */
+    @NotNull(message = "월별 금액은 필수입니다.")
+    @Size(min = 12, max = 12, message = "월별 금액은 12개여야 합니다.")
+    private List<@NotNull(message = "금액은 필수입니다.") @Positive(message = "금액은 양수여야 합니다.") BigDecimal> monthlyAmounts;
+}
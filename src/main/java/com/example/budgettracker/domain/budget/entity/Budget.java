@@ -6,12 +6,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Builder;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.YearMonth;
 
+/**
+ * 예산 (사용자, 카테고리, 월마다 하나)
+ *
+ * 중복은 유니크 제약으로 막는다. 생성은 조회 없이 바로 INSERT 하고, 월/카테고리 기준 저장은
+ * INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 처리한다. (BudgetRepository.upsert)
+ */
 @Entity
-@Table(name = "budgets")
+@Table(name = "budgets", uniqueConstraints = @UniqueConstraint(
+        name = "uk_budgets_user_category_month", columnNames = {"user_id", "category_id", "budget_month"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,9 +36,27 @@ public class Budget {
     @Column(nullable = false)
     private BigDecimal amount;
 
-    @Column(nullable = false)
+    /**
+     * 예산 월 ("yyyy-MM" 문자열로 저장, year_month 는 MySQL 예약어라 budget_month 컬럼 사용)
+     */
+    @Convert(converter = YearMonthConverter.class)
+    @Column(name = "budget_month", nullable = false, length = 7)
     private YearMonth yearMonth;
 
     @Column(name = "category_id", nullable = false)
     private Long categoryId;
+
+    /**
+     * 버전 (낙관적 잠금, 동시 수정 감지)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    public void update(BigDecimal amount, YearMonth yearMonth, Long categoryId) {
+        this.amount = amount;
+        this.yearMonth = yearMonth;
+        this.categoryId = categoryId;
+    }
 } 
\ No newline at end of file
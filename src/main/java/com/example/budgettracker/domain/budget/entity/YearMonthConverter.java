@@ -0,0 +1,26 @@
+package com.example.budgettracker.domain.budget.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.YearMonth;
+
+/**
+ * YearMonth <-> "yyyy-MM" 문자열 변환
+ *
+ * 기본 매핑은 자바 직렬화 바이트(varbinary)라 SQL 로 조회/적재할 수 없다.
+ * 문자열은 사전순 정렬이 날짜순과 같아 범위 조건에도 쓸 수 있다.
+ */
+@Converter
+public class YearMonthConverter implements AttributeConverter<YearMonth, String> {
+
+    @Override
+    public String convertToDatabaseColumn(YearMonth attribute) {
+        return attribute != null ? attribute.toString() : null;
+    }
+
+    @Override
+    public YearMonth convertToEntityAttribute(String dbData) {
+        return dbData != null ? YearMonth.parse(dbData) : null;
+    }
+}
@@ -2,13 +2,39 @@ package com.example.budgettracker.domain.budget.repository;
 
 import com.example.budgettracker.domain.budget.entity.Budget;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
 
-public interface BudgetRepository extends JpaRepository<Budget, Long> {
+public interface BudgetRepository extends JpaRepository<Budget, Long>, BudgetRepositoryCustom {
     @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.yearMonth = :yearMonth")
     List<Budget> findByUserIdAndYearMonth(@Param("userId") Long userId, @Param("yearMonth") YearMonth yearMonth);
-} 
\ No newline at end of file
+
+    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.categoryId = :categoryId AND b.yearMonth = :yearMonth")
+    Optional<Budget> findByUserIdAndCategoryIdAndYearMonth(@Param("userId") Long userId,
+                                                           @Param("categoryId") Long categoryId,
+                                                           @Param("yearMonth") YearMonth yearMonth);
+
+    /**
+     * 예산 저장 (없으면 생성, 있으면 금액 변경 후 버전 증가)
+     * 유니크 제약(user_id, category_id, budget_month) 기준으로 한 번에 처리한다.
+     * 변경할 금액은 바인딩한 값을 다시 쓴다. (VALUES() 는 MySQL 8.0.20 부터 사용 중단, 행 별칭(AS new)은 loadtest/테스트의 H2 MySQL 모드가 지원하지 않음)
+     *
+     * @param yearMonth "yyyy-MM" (YearMonthConverter 와 같은 형식)
+     * @return 영향받은 행 수 (MySQL: 생성 1, 변경 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO budgets (user_id, category_id, budget_month, amount, version) " +
+                   "VALUES (:userId, :categoryId, :yearMonth, :amount, 0) " +
+                   "ON DUPLICATE KEY UPDATE amount = :amount, version = version + 1",
+           nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("categoryId") Long categoryId,
+               @Param("yearMonth") String yearMonth,
+               @Param("amount") BigDecimal amount);
+}
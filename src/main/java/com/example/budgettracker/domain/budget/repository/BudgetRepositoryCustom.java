@@ -0,0 +1,19 @@
+package com.example.budgettracker.domain.budget.repository;
+
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.List;
+
+/**
+ * 예산 일괄 저장 (행 수만큼 VALUES 를 늘려야 해서 @Query 로 고정할 수 없는 쿼리)
+ */
+public interface BudgetRepositoryCustom {
+
+    /**
+     * 한 카테고리의 1년 예산을 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 저장
+     *
+     * @param monthlyAmounts 1월부터 12월까지의 금액
+     * @return 영향받은 행 수 (MySQL: 생성 1, 변경 2 씩)
+     */
+    int upsertYear(Long userId, Long categoryId, Year year, List<BigDecimal> monthlyAmounts);
+}
@@ -0,0 +1,49 @@
+package com.example.budgettracker.domain.budget.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * BudgetRepositoryCustom 구현 (네이티브 다중 행 upsert)
+ *
+ * JPA 트랜잭션과 같은 연결에서 실행되도록 EntityManager 네이티브 쿼리를 쓴다.
+ * 이미 있는 행의 새 금액은 월별 CASE 로 고른다. (VALUES() 는 MySQL 8.0.20 부터 사용 중단, 행 별칭은 H2 미지원)
+ */
+public class BudgetRepositoryCustomImpl implements BudgetRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int upsertYear(Long userId, Long categoryId, Year year, List<BigDecimal> monthlyAmounts) {
+        StringJoiner values = new StringJoiner(", ");
+        StringBuilder amountByMonth = new StringBuilder("CASE budget_month");
+        for (int i = 0; i < monthlyAmounts.size(); i++) {
+            values.add("(?, ?, ?, ?, 0)");
+            amountByMonth.append(" WHEN ? THEN ?");
+        }
+        amountByMonth.append(" ELSE amount END");
+        Query query = entityManager.createNativeQuery(
+                "INSERT INTO budgets (user_id, category_id, budget_month, amount, version) VALUES " + values +
+                " ON DUPLICATE KEY UPDATE amount = " + amountByMonth + ", version = version + 1");
+
+        int position = 1;
+        for (int i = 0; i < monthlyAmounts.size(); i++) {
+            query.setParameter(position++, userId);
+            query.setParameter(position++, categoryId);
+            query.setParameter(position++, year.atMonth(i + 1).toString());
+            query.setParameter(position++, monthlyAmounts.get(i));
+        }
+        for (int i = 0; i < monthlyAmounts.size(); i++) {
+            query.setParameter(position++, year.atMonth(i + 1).toString());
+            query.setParameter(position++, monthlyAmounts.get(i));
+        }
+        return query.executeUpdate();
+    }
+}
@@ -2,16 +2,21 @@ package com.example.budgettracker.domain.budget.service;
 
 import com.example.budgettracker.domain.budget.dto.BudgetRequest;
 import com.example.budgettracker.domain.budget.dto.BudgetResponse;
+import com.example.budgettracker.domain.budget.dto.BudgetYearRequest;
 import com.example.budgettracker.domain.budget.entity.Budget;
 import com.example.budgettracker.domain.budget.repository.BudgetRepository;
 import com.example.budgettracker.domain.user.entity.User;
 import com.example.budgettracker.domain.user.repository.UserRepository;
-import com.example.budgettracker.global.exception.BusinessException;
+import com.example.budgettracker.global.exception.CustomException;
 import com.example.budgettracker.global.exception.ErrorCode;
+import com.example.budgettracker.global.transaction.OptimisticLockRetry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Year;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,16 +26,21 @@ import java.util.stream.Collectors;
 public class BudgetService {
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     @Transactional
     public Long createBudget(Long userId, BudgetRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        if (!budgetRepository.findByUserIdAndYearMonth(userId, request.getYearMonth()).isEmpty()) {
-            throw new BusinessException(ErrorCode.BUDGET_PERIOD_OVERLAP);
-        }
+        User user = userRepository.findById(String.valueOf(userId))
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return createBudgetForUser(user, request);
+    }
 
+    /**
+     * 예산 생성 (이미 조회한 사용자로 생성, 배치 작업용)
+     * 미리 조회하지 않고 INSERT 하며, 같은 월/카테고리 예산이 있으면 유니크 제약 위반으로 거절한다.
+     */
+    @Transactional
+    public Long createBudgetForUser(User user, BudgetRequest request) {
         Budget budget = Budget.builder()
                 .user(user)
                 .amount(request.getAmount())
@@ -38,15 +48,36 @@ public class BudgetService {
                 .categoryId(request.getCategoryId())
                 .build();
 
-        return budgetRepository.save(budget).getId();
+        try {
+            return budgetRepository.save(budget).getId();
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.BUDGET_PERIOD_OVERLAP);
+        }
+    }
+
+    /**
+     * 예산 저장 (월/카테고리 예산이 없으면 생성, 있으면 금액 변경)
+     * 조회 없이 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 처리한다.
+     */
+    @Transactional
+    public void upsertBudget(Long userId, BudgetRequest request) {
+        budgetRepository.upsert(userId, request.getCategoryId(), request.getYearMonth().toString(), request.getAmount());
+    }
+
+    /**
+     * 한 카테고리의 1년 예산 저장 (12개월을 한 문장으로 생성/변경)
+     */
+    @Transactional
+    public void upsertYearBudgets(Long userId, Year year, BudgetYearRequest request) {
+        budgetRepository.upsertYear(userId, request.getCategoryId(), year, request.getMonthlyAmounts());
     }
 
     public BudgetResponse getBudget(Long userId, Long budgetId) {
         Budget budget = budgetRepository.findById(budgetId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BUDGET_NOT_FOUND));
+                .orElseThrow(() -> new CustomException(ErrorCode.BUDGET_NOT_FOUND));
 
         if (!budget.getUser().getId().equals(userId)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+            throw new CustomException(ErrorCode.BUDGET_ACCESS_DENIED);
         }
 
         return BudgetResponse.from(budget);
@@ -59,40 +90,48 @@ public class BudgetService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    /**
+     * 예산 수정 (조회한 엔티티를 변경 감지로 갱신, 버전이 다르면 충돌)
+     * 요청에 버전이 있으면 충돌 시 409, 없으면 다시 조회해 재시도한다. (OptimisticLockRetry)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long updateBudget(Long userId, Long budgetId, BudgetRequest request) {
-        Budget budget = budgetRepository.findById(budgetId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BUDGET_NOT_FOUND));
-
-        if (!budget.getUser().getId().equals(userId)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
-        }
-
-        List<Budget> existingBudgets = budgetRepository.findByUserIdAndYearMonth(userId, request.getYearMonth());
-        if (!existingBudgets.isEmpty() && !existingBudgets.get(0).getId().equals(budgetId)) {
-            throw new BusinessException(ErrorCode.BUDGET_PERIOD_OVERLAP);
-        }
-
-        Budget updatedBudget = Budget.builder()
-                .id(budgetId)
-                .user(budget.getUser())
-                .amount(request.getAmount())
-                .yearMonth(request.getYearMonth())
-                .categoryId(request.getCategoryId())
-                .build();
-
-        return budgetRepository.save(updatedBudget).getId();
+        return optimisticLockRetry.execute(request.getVersion() == null, () -> {
+            Budget budget = budgetRepository.findById(budgetId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.BUDGET_NOT_FOUND));
+
+            if (!budget.getUser().getId().equals(userId)) {
+                throw new CustomException(ErrorCode.BUDGET_ACCESS_DENIED);
+            }
+            if (request.getVersion() != null && request.getVersion() != budget.getVersion()) {
+                throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+            }
+
+            budget.update(request.getAmount(), request.getYearMonth(), request.getCategoryId());
+            // 다른 예산과 월/카테고리가 겹치면 유니크 제약 위반 (버전 충돌도 여기서 드러남)
+            try {
+                budgetRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                throw new CustomException(ErrorCode.BUDGET_PERIOD_OVERLAP);
+            }
+            return budget.getId();
+        });
     }
 
-    @Transactional
+    /**
+     * 예산 삭제 (그 사이 수정됐으면 다시 조회해 재시도)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteBudget(Long userId, Long budgetId) {
-        Budget budget = budgetRepository.findById(budgetId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BUDGET_NOT_FOUND));
+        optimisticLockRetry.execute(true, () -> {
+            Budget budget = budgetRepository.findById(budgetId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.BUDGET_NOT_FOUND));
 
-        if (!budget.getUser().getId().equals(userId)) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
-        }
+            if (!budget.getUser().getId().equals(userId)) {
+                throw new CustomException(ErrorCode.BUDGET_ACCESS_DENIED);
+            }
 
-        budgetRepository.delete(budget);
+            budgetRepository.delete(budget);
+        });
     }
 } 
\ No newline at end of file
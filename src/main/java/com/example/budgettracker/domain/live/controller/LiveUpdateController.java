@@ -0,0 +1,62 @@
+package com.example.budgettracker.domain.live.controller;
+
+import com.example.budgettracker.domain.live.service.LiveUpdateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 변경분 API 컨트롤러
+ * 
+ * 통계 API 를 주기적으로 다시 조회하는 대신, 연결을 열어 두고 거래 내역이 바뀔 때마다 증감을 받는다.
+ * 
+ * @Tag: Swagger 문서에서 API 그룹을 나타냄
+ * @RestController: REST API 컨트롤러임을 나타냄
+ * @RequestMapping: 기본 URL 경로 설정
+ * @RequiredArgsConstructor: final 필드에 대한 생성자 자동 생성
+ */
+@Tag(name = "실시간", description = "실시간 변경분 API")
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-key")
+public class LiveUpdateController {
+
+    private final LiveUpdateService liveUpdateService;
+
+    /**
+     * 실시간 변경분 스트림 (Server-Sent Events)
+     * 
+     * 이벤트:
+     * - connected: 연결 직후 1번 (현재 순번). 이후 통계를 한 번 조회해 기준값으로 쓴다.
+     * - transaction: 거래 내역 변경마다 잔액/이번 달 수입·지출/예산 사용액 증감 (id = 순번)
+     * - resync: 클라이언트가 느려 변경분을 버렸음. 통계를 다시 조회한다.
+     * - 주석(heartbeat): 연결 유지용
+     * 
+     * 순번이 건너뛰거나 연결이 끊겼다 다시 붙으면 통계를 다시 조회한다.
+     * 
+     * @param authentication 인증 정보
+     * @return SSE 스트림
+     */
+    @Operation(summary = "실시간 변경분 스트림", description = "거래 내역이 바뀔 때마다 잔액, 이번 달 수입/지출, 예산 사용액 증감을 SSE 로 보냅니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "스트림 연결"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "노드 연결 수 한도 초과")
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(hidden = true)
+            Authentication authentication) {
+        return liveUpdateService.connect(Long.parseLong(authentication.getName()));
+    }
+}
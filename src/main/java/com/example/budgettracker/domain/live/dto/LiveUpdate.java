@@ -0,0 +1,134 @@
+package com.example.budgettracker.domain.live.dto;
+
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.ChangeType;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.Snapshot;
+import com.example.budgettracker.global.util.MoneyUtil;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 실시간 변경분 (SSE "transaction" 이벤트)
+ *
+ * 거래 내역 변경 하나가 잔액, 이번 달 수입/지출, 예산 사용액을 얼마나 바꿨는지 담는다.
+ * 클라이언트는 처음 한 번 조회한 값에 증감만 더한다.
+ */
+@Getter
+@Builder
+@Schema(description = "실시간 변경분")
+public class LiveUpdate {
+
+    @Schema(description = "연결 내 순번 (건너뛰면 다시 조회)", example = "12")
+    private long sequence;
+
+    @Schema(description = "거래 내역 ID", example = "1")
+    private Long transactionId;
+
+    @Schema(description = "변경 종류", example = "CREATED")
+    private ChangeType changeType;
+
+    @Schema(description = "잔액 증감 (수입 - 지출)", example = "-12000")
+    private BigDecimal balanceDelta;
+
+    @Schema(description = "이번 달 수입/지출 증감 (이번 달 거래가 아니면 null)")
+    private MonthToDate monthToDate;
+
+    @Schema(description = "카테고리/월별 지출 증감 (예산 사용액)")
+    private List<BudgetUsage> budgetUsage;
+
+    /**
+     * 변경 전/후 스냅샷의 차이로 변경분 계산
+     *
+     * @param currentMonth 이번 달 (이번 달 거래만 monthToDate 에 반영)
+     */
+    public static LiveUpdate of(TransactionChangedEvent event, YearMonth currentMonth, long sequence) {
+        Delta delta = new Delta(currentMonth);
+        delta.add(event.getBefore(), -1);
+        delta.add(event.getAfter(), 1);
+
+        List<BudgetUsage> budgetUsage = new ArrayList<>();
+        delta.spent.forEach((key, cents) -> {
+            if (cents != 0) {
+                budgetUsage.add(new BudgetUsage(key.categoryId(), key.yearMonth().toString(), MoneyUtil.fromCents(cents)));
+            }
+        });
+
+        return LiveUpdate.builder()
+                .sequence(sequence)
+                .transactionId(event.getTransactionId())
+                .changeType(event.getChangeType())
+                .balanceDelta(MoneyUtil.fromCents(delta.balance))
+                .monthToDate(delta.touchedCurrentMonth
+                        ? new MonthToDate(currentMonth.toString(),
+                                MoneyUtil.fromCents(delta.monthIncome), MoneyUtil.fromCents(delta.monthExpense))
+                        : null)
+                .budgetUsage(budgetUsage)
+                .build();
+    }
+
+    @Schema(description = "이번 달 수입/지출 증감")
+    public record MonthToDate(
+            @Schema(description = "년월", example = "2024-03") String yearMonth,
+            @Schema(description = "수입 증감", example = "0") BigDecimal incomeDelta,
+            @Schema(description = "지출 증감", example = "12000") BigDecimal expenseDelta) {
+    }
+
+    @Schema(description = "카테고리/월별 지출 증감")
+    public record BudgetUsage(
+            @Schema(description = "카테고리 ID", example = "1") Long categoryId,
+            @Schema(description = "년월", example = "2024-03") String yearMonth,
+            @Schema(description = "지출 증감", example = "12000") BigDecimal spentDelta) {
+    }
+
+    private record SpendKey(Long categoryId, YearMonth yearMonth) implements Comparable<SpendKey> {
+        @Override
+        public int compareTo(SpendKey other) {
+            int byMonth = yearMonth.compareTo(other.yearMonth);
+            return byMonth != 0 ? byMonth : Long.compare(categoryId, other.categoryId);
+        }
+    }
+
+    private static final class Delta {
+        private final YearMonth currentMonth;
+        private final Map<SpendKey, Long> spent = new TreeMap<>();
+        private long balance;
+        private long monthIncome;
+        private long monthExpense;
+        private boolean touchedCurrentMonth;
+
+        private Delta(YearMonth currentMonth) {
+            this.currentMonth = currentMonth;
+        }
+
+        private void add(Snapshot snapshot, int sign) {
+            if (snapshot == null || snapshot.getType() == null) {
+                return;
+            }
+            long cents = sign * MoneyUtil.toCents(snapshot.getAmount());
+            boolean income = snapshot.getType() == TransactionType.INCOME;
+            balance += income ? cents : -cents;
+
+            YearMonth yearMonth = snapshot.getDate() != null ? YearMonth.from(snapshot.getDate()) : null;
+            if (currentMonth.equals(yearMonth)) {
+                touchedCurrentMonth = true;
+                if (income) {
+                    monthIncome += cents;
+                } else {
+                    monthExpense += cents;
+                }
+            }
+            if (!income && snapshot.getCategoryId() != null && yearMonth != null) {
+                spent.merge(new SpendKey(snapshot.getCategoryId(), yearMonth), cents, Long::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.budgettracker.domain.live.service;
+
+import com.example.budgettracker.domain.live.dto.LiveUpdate;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent;
+import com.example.budgettracker.global.exception.CustomException;
+import com.example.budgettracker.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 실시간 변경분 SSE 스트림
+ *
+ * 거래 내역 쓰기가 커밋되면(AFTER_COMMIT) 그 사용자의 연결에 잔액/이번 달 수입·지출/예산 사용액 증감을 보낸다.
+ * 연결이 없는 사용자의 쓰기는 Map 조회 한 번으로 끝난다.
+ *
+ * - 연결은 서블릿 비동기 요청이라 대기 중에는 요청 스레드를 잡지 않는다. (노드당 연결 수는 server.tomcat.max-connections 도 함께 확인)
+ * - 전송은 연결마다 한 번에 하나씩 가상 스레드에서 실행하므로 느린 클라이언트가 쓰기 요청이나 다른 연결을 막지 않는다.
+ *   변경분 JSON 은 연결 수와 관계없이 한 번만 만들어 모든 연결이 같은 이벤트를 보낸다.
+ * - 연결마다 대기열을 queue-capacity 로 제한한다. 넘치면 쌓인 변경분을 버리고 "resync" 이벤트를 보내
+ *   클라이언트가 통계를 한 번 다시 조회하게 한다. (메모리를 느린 클라이언트 수에 비례해 무한히 쓰지 않음)
+ * - heartbeat-interval 마다 주석 한 줄을 보내 프록시의 유휴 연결 끊김을 막고 끊긴 연결을 정리한다.
+ * - 사용자당 연결이 max-connections-per-user 를 넘으면 가장 오래된 연결을 닫고, 노드 전체 한도를 넘으면 503 으로 거절한다.
+ *
+ * 쓰기를 처리한 인스턴스의 연결에만 보낸다. 인스턴스가 여러 대면 사용자 기준 고정 라우팅이 필요하다.
+ *
+ * 메트릭: budget.live.connections (연결 수), budget.live.sent (보낸 이벤트), budget.live.dropped (넘쳐서 버린 변경분),
+ * budget.live.rejected (연결 한도 초과)
+ */
+@Slf4j
+@Service
+public class LiveUpdateService implements DisposableBean {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+    private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("resync").data("{}").build();
+
+    private final Map<Long, UserChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final int queueCapacity;
+    private final long reconnectMillis;
+    private final Clock clock;
+    private final Counter sent;
+    private final Counter dropped;
+    private final Counter rejected;
+
+    @Autowired
+    public LiveUpdateService(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${live.timeout:30m}") Duration timeout,
+                             @Value("${live.max-connections:20000}") int maxConnections,
+                             @Value("${live.max-connections-per-user:5}") int maxConnectionsPerUser,
+                             @Value("${live.queue-capacity:64}") int queueCapacity,
+                             @Value("${live.reconnect:3s}") Duration reconnect) {
+        this(objectMapper, meterRegistry, timeout, maxConnections, maxConnectionsPerUser, queueCapacity, reconnect, Clock.systemDefaultZone());
+    }
+
+    LiveUpdateService(ObjectMapper objectMapper, MeterRegistry meterRegistry, Duration timeout, int maxConnections, int maxConnectionsPerUser,
+                      int queueCapacity, Duration reconnect, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.queueCapacity = queueCapacity;
+        this.reconnectMillis = reconnect.toMillis();
+        this.clock = clock;
+        this.sent = Counter.builder("budget.live.sent").register(meterRegistry);
+        this.dropped = Counter.builder("budget.live.dropped").register(meterRegistry);
+        this.rejected = Counter.builder("budget.live.rejected").register(meterRegistry);
+        Gauge.builder("budget.live.connections", connectionCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 사용자 연결 등록
+     * 첫 이벤트("connected")에 현재 순번을 담아 보낸다.
+     */
+    public SseEmitter connect(Long userId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            rejected.increment();
+            throw new CustomException(ErrorCode.LIVE_CONNECTION_LIMIT);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        LiveConnection[] created = new LiveConnection[1];
+        UserChannel channel = channels.compute(userId, (id, existing) -> {
+            UserChannel target = existing != null ? existing : new UserChannel(id);
+            created[0] = new LiveConnection(target, emitter);
+            target.connections.add(created[0]);
+            return target;
+        });
+        LiveConnection connection = created[0];
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(connection));
+
+        List<LiveConnection> connections = channel.connections;
+        if (connections.size() > maxConnectionsPerUser) {
+            connections.get(0).close();
+        }
+
+        synchronized (channel) {
+            connection.enqueue(SseEmitter.event()
+                    .name("connected")
+                    .reconnectTime(reconnectMillis)
+                    .data(Map.of("sequence", channel.sequence), MediaType.APPLICATION_JSON)
+                    .build());
+        }
+        return emitter;
+    }
+
+    /**
+     * 거래 내역 변경 커밋 후 해당 사용자의 연결에 변경분 전송
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        UserChannel channel = channels.get(event.getUserId());
+        if (channel == null) {
+            return;
+        }
+        // 순번 증가와 대기열 추가를 묶어 연결마다 순번 순서대로 쌓이게 한다
+        synchronized (channel) {
+            long sequence = ++channel.sequence;
+            Set<DataWithMediaType> update = SseEmitter.event()
+                    .id(String.valueOf(sequence))
+                    .name("transaction")
+                    .data(toJson(LiveUpdate.of(event, YearMonth.now(clock), sequence)))
+                    .build();
+            for (LiveConnection connection : channel.connections) {
+                connection.enqueue(update);
+            }
+        }
+    }
+
+    /**
+     * 유휴 연결 유지 및 끊긴 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${live.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        channels.values().forEach(channel -> channel.connections.forEach(connection ->
+                connection.enqueue(HEARTBEAT)));
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        channels.values().forEach(channel -> channel.connections.forEach(LiveConnection::close));
+        sender.shutdownNow();
+    }
+
+    private String toJson(LiveUpdate update) {
+        try {
+            return objectMapper.writeValueAsString(update);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실시간 변경분 직렬화 실패", e);
+        }
+    }
+
+    private void remove(LiveConnection connection) {
+        if (!connection.removed.compareAndSet(false, true)) {
+            return;
+        }
+        connectionCount.decrementAndGet();
+        channels.computeIfPresent(connection.channel.userId, (id, channel) -> {
+            channel.connections.remove(connection);
+            return channel.connections.isEmpty() ? null : channel;
+        });
+    }
+
+    /**
+     * 한 사용자의 연결 목록과 순번
+     */
+    private static final class UserChannel {
+        private final Long userId;
+        private final List<LiveConnection> connections = new CopyOnWriteArrayList<>();
+        private long sequence;
+
+        private UserChannel(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    /**
+     * 연결 하나의 전송 대기열 (한 번에 한 가상 스레드만 전송)
+     */
+    private final class LiveConnection {
+        private final UserChannel channel;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        private LiveConnection(UserChannel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Set<DataWithMediaType> event) {
+            if (removed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > queueCapacity) {
+                queued.decrementAndGet();
+                dropped.increment();
+                overflowed = true;
+            } else {
+                queue.add(event);
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!removed.get()) {
+                    if (overflowed) {
+                        overflowed = false;
+                        int discarded = 0;
+                        while (queue.poll() != null) {
+                            queued.decrementAndGet();
+                            discarded++;
+                        }
+                        dropped.increment(discarded);
+                        emitter.send(RESYNC);
+                        sent.increment();
+                        continue;
+                    }
+                    if ((event = queue.poll()) == null) {
+                        break;
+                    }
+                    queued.decrementAndGet();
+                    emitter.send(event);
+                    sent.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 이미 완료된 연결
+                log.debug("실시간 연결 전송 실패 userId={}: {}", channel.userId, e.getMessage());
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 전송을 마치는 사이에 들어온 이벤트 처리
+            if ((!queue.isEmpty() || overflowed) && !removed.get() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void close() {
+            remove(this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료됨
+            }
+        }
+    }
+}
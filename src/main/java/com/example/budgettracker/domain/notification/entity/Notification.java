@@ -0,0 +1,54 @@
+package com.example.budgettracker.domain.notification.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 도큐먼트
+ *
+ * MongoDB notifications 컬렉션에 저장된다. (인덱스: userId + createdAt, type + status)
+ *
+ * @Document: MongoDB 컬렉션 매핑
+ */
+@Document(collection = "notifications")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Notification {
+
+    @Id
+    private String id;
+
+    /**
+     * 수신 사용자 ID (시스템 알림은 "system")
+     */
+    private String userId;
+
+    private NotificationType type;
+
+    private String title;
+
+    private String message;
+
+    private NotificationStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public Notification(String userId, NotificationType type, String title, String message) {
+        this.userId = userId;
+        this.type = type;
+        this.title = title;
+        this.message = message;
+        this.status = NotificationStatus.UNREAD;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+}
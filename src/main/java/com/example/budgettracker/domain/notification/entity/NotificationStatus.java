@@ -0,0 +1,9 @@
+package com.example.budgettracker.domain.notification.entity;
+
+/**
+ * 알림 상태
+ */
+public enum NotificationStatus {
+    UNREAD,
+    READ
+}
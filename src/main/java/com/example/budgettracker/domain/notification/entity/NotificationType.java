@@ -0,0 +1,12 @@
+package com.example.budgettracker.domain.notification.entity;
+
+/**
+ * 알림 유형
+ *
+ * BUDGET_ALERT: 예산 사용률 임계치 도달 알림
+ * SYSTEM: 시스템 알림
+ */
+public enum NotificationType {
+    BUDGET_ALERT,
+    SYSTEM
+}
@@ -0,0 +1,12 @@
+package com.example.budgettracker.domain.notification.repository;
+
+import com.example.budgettracker.domain.notification.entity.Notification;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림 도큐먼트를 위한 데이터 액세스 계층
+ */
+@Repository
+public interface NotificationRepository extends MongoRepository<Notification, String> {
+}
@@ -0,0 +1,302 @@
+package com.example.budgettracker.domain.notification.service;
+
+import com.example.budgettracker.domain.budget.entity.Budget;
+import com.example.budgettracker.domain.budget.repository.BudgetRepository;
+import com.example.budgettracker.domain.notification.entity.Notification;
+import com.example.budgettracker.domain.notification.entity.NotificationType;
+import com.example.budgettracker.domain.notification.repository.NotificationRepository;
+import com.example.budgettracker.domain.transaction.entity.Category;
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent;
+import com.example.budgettracker.domain.transaction.event.TransactionEventSubscriber;
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository;
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository;
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository;
+import com.example.budgettracker.global.metrics.CacheMetrics;
+import com.example.budgettracker.global.util.MoneyUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예산 알림 엔진
+ *
+ * 거래 내역 변경 이벤트를 받아 (사용자, 카테고리, 월) 단위의 지출 카운터를 증분 갱신하고,
+ * 예산 대비 사용률이 임계치(기본 80%, 100%)를 넘는 순간 알림을 만든다.
+ *
+ * - 아웃박스 폴러 스레드에서 커밋된 이벤트만 전달받으므로 요청 지연에 영향을 주지 않는다.
+ * - 카운터는 키별 최초 1회만 DB에서 적재하고, 이후에는 변경분(delta)만 더한다. (쓰기당 O(1))
+ * - 적재 시 합계와 함께 사용자의 마지막 이벤트 순번을 읽고, 이후 반영한 순번으로 올려 가며
+ *   합계에 이미 포함된 이벤트(적재 전 커밋분, 아웃박스 재전달분)는 다시 더하지 않는다.
+ *   순번은 사용자별로 커밋 순서대로 매겨지므로, 마지막 순번 이하의 이벤트는 모두 커밋되어 합계에 들어 있다.
+ * - 알림은 큐에 모았다가 주기적으로 notifications 컬렉션에 일괄 insert 한다.
+ * - 예산 변경을 반영하기 위해 카운터는 counter-ttl 이 지나면 버리고 다시 적재한다.
+ */
+@Slf4j
+@Service
+public class BudgetAlertService implements TransactionEventSubscriber {
+
+    private final BudgetRepository budgetRepository;
+    private final TransactionRepository transactionRepository;
+    private final CategoryRepository categoryRepository;
+    private final NotificationRepository notificationRepository;
+    private final TransactionOutboxRepository outboxRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int[] thresholds;
+    private final int batchSize;
+    private final long counterTtlMillis;
+
+    private final Map<SpendKey, SpendCounter> counters = new ConcurrentHashMap<>();
+    private final Queue<Notification> pendingNotifications = new ConcurrentLinkedQueue<>();
+    private final CacheMetrics counterCacheMetrics;
+
+    public BudgetAlertService(BudgetRepository budgetRepository,
+                              TransactionRepository transactionRepository,
+                              CategoryRepository categoryRepository,
+                              NotificationRepository notificationRepository,
+                              TransactionOutboxRepository outboxRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${budget.alert.thresholds:80,100}") int[] thresholds,
+                              @Value("${budget.alert.batch-size:100}") int batchSize,
+                              @Value("${budget.alert.counter-ttl-ms:600000}") long counterTtlMillis) {
+        this.budgetRepository = budgetRepository;
+        this.transactionRepository = transactionRepository;
+        this.categoryRepository = categoryRepository;
+        this.notificationRepository = notificationRepository;
+        this.outboxRepository = outboxRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.thresholds = thresholds;
+        this.batchSize = batchSize;
+        this.counterTtlMillis = counterTtlMillis;
+        this.counterCacheMetrics = new CacheMetrics(meterRegistry, "budget-alert-counters", counters);
+    }
+
+    /**
+     * 거래 내역 변경 이벤트 처리
+     *
+     * 변경 전 값은 차감하고 변경 후 값은 더하되, 같은 카운터에 걸리는 변경분은 먼저 합산해 한 번만 반영한다.
+     * (카테고리/월/금액이 바뀐 수정은 두 개의 카운터에 각각 반영된다)
+     * 알림은 best-effort 이므로 오류를 삼켜 다른 구독자의 재전달을 유발하지 않는다.
+     * 다른 구독자의 실패로 같은 묶음이 다시 전달되면 카운터별 마지막 반영 이벤트 ID 로 걸러낸다.
+     *
+     * @param events 한 사용자의 거래 내역 변경 이벤트 목록
+     */
+    @Override
+    public void onTransactionEvents(List<TransactionChangedEvent> events) {
+        for (TransactionChangedEvent event : events) {
+            try {
+                Map<SpendKey, Long> deltas = new LinkedHashMap<>();
+                addDelta(deltas, event.getUserId(), event.getBefore(), -1);
+                addDelta(deltas, event.getUserId(), event.getAfter(), 1);
+                deltas.forEach((key, delta) -> apply(key, delta, event.getEventId()));
+            } catch (Exception e) {
+                log.error("예산 알림 처리 중 오류가 발생했습니다. eventId={}", event.getEventId(), e);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 알림을 batch-size 단위로 일괄 저장
+     */
+    @Scheduled(fixedDelayString = "${budget.alert.flush-interval-ms:1000}")
+    public void flush() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        Notification notification;
+        while ((notification = pendingNotifications.poll()) != null) {
+            batch.add(notification);
+            if (batch.size() >= batchSize) {
+                insert(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+    }
+
+    /**
+     * 만료된 카운터 정리
+     * 지난 달 카운터와 TTL 이 지난 카운터를 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${budget.alert.counter-ttl-ms:600000}")
+    public void evictExpiredCounters() {
+        long now = System.currentTimeMillis();
+        YearMonth currentMonth = YearMonth.now();
+        counters.entrySet().removeIf(entry ->
+                entry.getKey().yearMonth().isBefore(currentMonth)
+                        || now - entry.getValue().loadedAt > counterTtlMillis);
+    }
+
+    private void addDelta(Map<SpendKey, Long> deltas, Long userId, TransactionChangedEvent.Snapshot snapshot, int sign) {
+        if (snapshot == null
+                || snapshot.getType() != TransactionType.EXPENSE
+                || snapshot.getCategoryId() == null
+                || snapshot.getDate() == null) {
+            return;
+        }
+
+        SpendKey key = new SpendKey(userId, snapshot.getCategoryId(), YearMonth.from(snapshot.getDate()));
+        deltas.merge(key, sign * MoneyUtil.toCents(snapshot.getAmount()), Long::sum);
+    }
+
+    private void apply(SpendKey key, long delta, Long eventId) {
+        // 같은 카운터 안에서 금액이 그대로인 수정은 합계를 바꾸지 않으므로 적재하지 않는다.
+        if (delta == 0) {
+            return;
+        }
+
+        boolean[] loaded = {false};
+        SpendCounter counter = counters.computeIfAbsent(key, k -> {
+            loaded[0] = true;
+            return load(k);
+        });
+        if (loaded[0]) {
+            counterCacheMetrics.miss();
+        } else {
+            counterCacheMetrics.hit();
+        }
+
+        if (counter.budgetCents <= 0) {
+            return;
+        }
+
+        // 적재 시점까지 커밋된 이벤트와 이미 반영한 이벤트는 합계에 포함되어 있으므로 다시 더하지 않는다.
+        // 적재를 일으킨 이벤트만 임계치를 확인하고, 밀려 있던 이벤트와 재전달된 이벤트는 건너뛴다.
+        long current;
+        synchronized (counter) {
+            boolean counted = eventId != null && eventId <= counter.appliedEventId;
+            if (counted && !loaded[0]) {
+                return;
+            }
+            current = counted ? counter.spentCents.get() : counter.spentCents.addAndGet(delta);
+            if (eventId != null && eventId > counter.appliedEventId) {
+                counter.appliedEventId = eventId;
+            }
+        }
+        long previous = current - delta;
+        if (delta <= 0) {
+            return;
+        }
+
+        for (int i = 0; i < thresholds.length; i++) {
+            long limit = counter.budgetCents * thresholds[i] / 100;
+            if (previous < limit && current >= limit && counter.markFired(i)) {
+                pendingNotifications.add(createNotification(key, counter, thresholds[i], current));
+            }
+        }
+    }
+
+    private SpendCounter load(SpendKey key) {
+        return readOnlyTransaction.execute(status -> loadSnapshot(key));
+    }
+
+    /**
+     * 합계와 마지막 이벤트 순번을 같은 읽기 트랜잭션에서 조회해 둘이 같은 시점을 가리키게 한다.
+     */
+    private SpendCounter loadSnapshot(SpendKey key) {
+        long budgetCents = budgetRepository
+                .findByUserIdAndCategoryIdAndYearMonth(key.userId(), key.categoryId(), key.yearMonth())
+                .map(Budget::getAmount)
+                .map(MoneyUtil::toCents)
+                .orElse(0L);
+
+        // 예산이 없는 카테고리는 합계를 조회하지 않는다.
+        if (budgetCents <= 0) {
+            return new SpendCounter(0L, 0L, 0L, null);
+        }
+
+        long lastEventId = outboxRepository.findLastEventIdByUserId(key.userId());
+
+        BigDecimal spent = transactionRepository.sumAmountByCategory(
+                key.userId(),
+                key.categoryId(),
+                TransactionType.EXPENSE,
+                key.yearMonth().atDay(1).atStartOfDay(),
+                key.yearMonth().plusMonths(1).atDay(1).atStartOfDay());
+        String categoryName = categoryRepository.findById(key.categoryId())
+                .map(Category::getName)
+                .orElse(null);
+
+        return new SpendCounter(budgetCents, MoneyUtil.toCents(spent), lastEventId, categoryName);
+    }
+
+    private Notification createNotification(SpendKey key, SpendCounter counter, int threshold, long spentCents) {
+        String target = counter.categoryName != null ? counter.categoryName : "카테고리 " + key.categoryId();
+        String title = threshold >= 100
+                ? String.format("%s 예산 초과", target)
+                : String.format("%s 예산 %d%% 사용", target, threshold);
+        String message = String.format("%s %s 예산 %s원 중 %s원을 사용했습니다. (%d%% 도달)",
+                key.yearMonth(), target,
+                MoneyUtil.fromCents(counter.budgetCents).toPlainString(),
+                MoneyUtil.fromCents(spentCents).toPlainString(),
+                threshold);
+
+        return Notification.builder()
+                .userId(String.valueOf(key.userId()))
+                .type(NotificationType.BUDGET_ALERT)
+                .title(title)
+                .message(message)
+                .build();
+    }
+
+    private void insert(List<Notification> batch) {
+        try {
+            notificationRepository.insert(batch);
+        } catch (Exception e) {
+            log.error("예산 알림 {}건 저장에 실패했습니다.", batch.size(), e);
+        }
+    }
+
+    /**
+     * 카운터 키: (사용자, 카테고리, 월)
+     */
+    private record SpendKey(Long userId, Long categoryId, YearMonth yearMonth) {
+    }
+
+    /**
+     * 월간 카테고리 지출 카운터 (금액은 원 단위 x 100 의 long 값)
+     */
+    private static class SpendCounter {
+        private final long budgetCents;
+        private final AtomicLong spentCents;
+        // 합계에 반영된 마지막 이벤트 순번 (카운터 잠금 안에서만 읽고 쓴다)
+        private long appliedEventId;
+        private final String categoryName;
+        private final AtomicInteger firedThresholds = new AtomicInteger();
+        private final long loadedAt = System.currentTimeMillis();
+
+        private SpendCounter(long budgetCents, long spentCents, long appliedEventId, String categoryName) {
+            this.budgetCents = budgetCents;
+            this.spentCents = new AtomicLong(spentCents);
+            this.appliedEventId = appliedEventId;
+            this.categoryName = categoryName;
+        }
+
+        /**
+         * 임계치 알림은 카운터 수명 동안 한 번만 발송한다.
+         */
+        private boolean markFired(int index) {
+            int bit = 1 << index;
+            int previous = firedThresholds.getAndUpdate(value -> value | bit);
+            return (previous & bit) == 0;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.budgettracker.domain.statistics.dto.BudgetComparisonResponse;
 import com.example.budgettracker.domain.statistics.dto.MonthlyStatisticsResponse;
 import com.example.budgettracker.domain.statistics.dto.PeriodTrendResponse;
 import com.example.budgettracker.domain.statistics.service.StatisticsService;
+import com.example.budgettracker.global.response.SparseFieldset;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -44,6 +45,7 @@ public class StatisticsController {
      * @return 월별 통계 응답
      */
     @Operation(summary = "월별 통계 조회", description = "특정 월의 수입, 지출, 순수익 및 카테고리별 지출 통계를 조회합니다.")
+    @SparseFieldset
     @GetMapping("/monthly")
     public ResponseEntity<MonthlyStatisticsResponse> getMonthlyStatistics(
             @Parameter(hidden = true)
@@ -65,6 +67,7 @@ public class StatisticsController {
      * @return 기간별 추이 응답
      */
     @Operation(summary = "기간별 추이 조회", description = "특정 기간 동안의 수입, 지출, 순수익 추이를 조회합니다.")
+    @SparseFieldset
     @GetMapping("/trend")
     public ResponseEntity<PeriodTrendResponse> getPeriodTrend(
             @Parameter(hidden = true)
@@ -89,6 +92,7 @@ public class StatisticsController {
      * @return 예산 대비 지출 응답
      */
     @Operation(summary = "예산 대비 지출 조회", description = "특정 월의 예산 대비 실제 지출 통계를 조회합니다.")
+    @SparseFieldset
     @GetMapping("/budget-comparison")
     public ResponseEntity<BudgetComparisonResponse> getBudgetComparison(
             @Parameter(hidden = true)
@@ -0,0 +1,53 @@
+package com.example.budgettracker.domain.statistics.readmodel;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 통계 읽기 모델 저장소 (테스트/로컬 실행용)
+ */
+@Repository
+@ConditionalOnProperty(name = "statistics.read-model.store", havingValue = "memory")
+public class InMemoryMonthlyStatisticsStore implements MonthlyStatisticsStore {
+
+    private final Map<String, MonthlyStatistics> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<MonthlyStatistics> find(Long userId, YearMonth yearMonth) {
+        return Optional.ofNullable(documents.get(MonthlyStatistics.idOf(userId, yearMonth)));
+    }
+
+    @Override
+    public List<MonthlyStatistics> findRange(Long userId, YearMonth start, YearMonth end) {
+        String from = start.toString();
+        String to = end.toString();
+        return documents.values().stream()
+                .filter(statistics -> statistics.getUserId().equals(userId))
+                .filter(statistics -> statistics.getYearMonth().compareTo(from) >= 0
+                        && statistics.getYearMonth().compareTo(to) <= 0)
+                .sorted(Comparator.comparing(MonthlyStatistics::getYearMonth))
+                .toList();
+    }
+
+    @Override
+    public void apply(Long userId, YearMonth yearMonth, long eventId, MonthlyStatisticsDelta delta) {
+        documents.compute(MonthlyStatistics.idOf(userId, yearMonth), (id, statistics) -> {
+            MonthlyStatistics target = statistics != null ? statistics : MonthlyStatistics.empty(userId, yearMonth);
+            target.apply(eventId, delta);
+            return target;
+        });
+    }
+
+    @Override
+    public void replace(MonthlyStatistics statistics) {
+        documents.compute(statistics.getId(), (id, current) ->
+                current == null || current.getLastEventId() <= statistics.getLastEventId() ? statistics : current);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.budgettracker.domain.statistics.readmodel;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoDB 기반 통계 읽기 모델 저장소
+ *
+ * 변경분은 조건부 upsert($inc) 한 번으로 반영한다.
+ * 조건(lastEventId < eventId)에 걸려 upsert 가 중복 키로 실패하면 이미 반영된 이벤트이므로 무시한다.
+ * eventId 는 사용자별 순번이라 커밋 순서대로 전달되므로, 늦게 커밋된 이벤트가 이 조건에 걸려 빠지지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics.read-model.store", havingValue = "mongo", matchIfMissing = true)
+public class MongoMonthlyStatisticsStore implements MonthlyStatisticsStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<MonthlyStatistics> find(Long userId, YearMonth yearMonth) {
+        return Optional.ofNullable(mongoTemplate.findById(
+                MonthlyStatistics.idOf(userId, yearMonth), MonthlyStatistics.class));
+    }
+
+    @Override
+    public List<MonthlyStatistics> findRange(Long userId, YearMonth start, YearMonth end) {
+        Query query = Query.query(Criteria.where("userId").is(userId)
+                        .and("yearMonth").gte(start.toString()).lte(end.toString()))
+                .with(Sort.by("yearMonth"));
+        return mongoTemplate.find(query, MonthlyStatistics.class);
+    }
+
+    @Override
+    public void apply(Long userId, YearMonth yearMonth, long eventId, MonthlyStatisticsDelta delta) {
+        Query query = Query.query(Criteria.where("_id").is(MonthlyStatistics.idOf(userId, yearMonth))
+                .and("lastEventId").lt(eventId));
+
+        Update update = new Update()
+                .setOnInsert("userId", userId)
+                .setOnInsert("yearMonth", yearMonth.toString())
+                .inc("incomeCents", delta.getIncomeCents())
+                .inc("expenseCents", delta.getExpenseCents())
+                .set("lastEventId", eventId)
+                .set("updatedAt", LocalDateTime.now());
+        delta.getCategoryExpenseCents().forEach((categoryId, cents) -> {
+            update.inc("categoryExpenses." + categoryId + ".amountCents", cents);
+            String name = delta.getCategoryNames().get(categoryId);
+            if (name != null) {
+                update.set("categoryExpenses." + categoryId + ".name", name);
+            }
+        });
+
+        try {
+            mongoTemplate.upsert(query, update, MonthlyStatistics.class);
+        } catch (DuplicateKeyException e) {
+            // 이미 반영된 이벤트 (재전달)
+        }
+    }
+
+    @Override
+    public void replace(MonthlyStatistics statistics) {
+        Query query = Query.query(Criteria.where("_id").is(statistics.getId())
+                .and("lastEventId").lte(statistics.getLastEventId()));
+        try {
+            mongoTemplate.findAndReplace(query, statistics, FindAndReplaceOptions.options().upsert());
+        } catch (DuplicateKeyException e) {
+            // 보정 중 더 최신 이벤트가 반영됨 (다음 보정 주기에 다시 확인)
+        }
+    }
+}
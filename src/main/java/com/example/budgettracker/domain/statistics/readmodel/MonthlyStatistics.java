@@ -0,0 +1,111 @@
+package com.example.budgettracker.domain.statistics.readmodel;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자/월 단위 통계 읽기 모델 도큐먼트
+ *
+ * 거래 내역 변경 이벤트로 비동기 갱신되며, 월별 통계/기간별 추이 조회를 도큐먼트 조회만으로 처리한다.
+ * 금액은 원자적 증감을 위해 cents(long) 로 보관한다.
+ *
+ * @Document: MongoDB monthly_statistics 컬렉션 매핑 (인덱스: userId + yearMonth)
+ */
+@Document(collection = "monthly_statistics")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MonthlyStatistics {
+
+    /**
+     * 도큐먼트 ID ("{userId}:{yyyy-MM}")
+     */
+    @Id
+    private String id;
+
+    private Long userId;
+
+    /**
+     * 년월 (yyyy-MM, 문자열 비교로 기간 조회 가능)
+     */
+    private String yearMonth;
+
+    private long incomeCents;
+
+    private long expenseCents;
+
+    /**
+     * 카테고리별 지출 (key: 카테고리 ID)
+     */
+    @Builder.Default
+    private Map<String, CategoryExpense> categoryExpenses = new HashMap<>();
+
+    /**
+     * 마지막으로 반영한 사용자 이벤트 순번 (중복 전달 무시용)
+     */
+    private long lastEventId;
+
+    private LocalDateTime updatedAt;
+
+    public static String idOf(Long userId, YearMonth yearMonth) {
+        return userId + ":" + yearMonth;
+    }
+
+    public static MonthlyStatistics empty(Long userId, YearMonth yearMonth) {
+        return MonthlyStatistics.builder()
+                .id(idOf(userId, yearMonth))
+                .userId(userId)
+                .yearMonth(yearMonth.toString())
+                .build();
+    }
+
+    /**
+     * 변경분 반영
+     * 이미 반영한 이벤트(eventId <= lastEventId)는 무시한다.
+     *
+     * @param eventId 사용자 이벤트 순번
+     * @param delta 변경분
+     * @return 반영 여부
+     */
+    public boolean apply(long eventId, MonthlyStatisticsDelta delta) {
+        if (eventId <= lastEventId) {
+            return false;
+        }
+        this.incomeCents += delta.getIncomeCents();
+        this.expenseCents += delta.getExpenseCents();
+        delta.getCategoryExpenseCents().forEach((categoryId, cents) -> {
+            CategoryExpense expense = categoryExpenses.computeIfAbsent(
+                    String.valueOf(categoryId), k -> new CategoryExpense(null, 0L));
+            expense.amountCents += cents;
+            String name = delta.getCategoryNames().get(categoryId);
+            if (name != null) {
+                expense.name = name;
+            }
+        });
+        this.lastEventId = eventId;
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /**
+     * 카테고리별 지출 합계
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class CategoryExpense {
+        private String name;
+        private long amountCents;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.budgettracker.domain.statistics.readmodel;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 하나의 이벤트가 한 달 통계에 주는 변경분
+ * (수정 이벤트의 변경 전/후가 같은 달이면 하나의 변경분으로 합쳐진다)
+ */
+@Getter
+public class MonthlyStatisticsDelta {
+
+    private long incomeCents;
+    private long expenseCents;
+    private final Map<Long, Long> categoryExpenseCents = new HashMap<>();
+    private final Map<Long, String> categoryNames = new HashMap<>();
+
+    public void addIncome(long cents) {
+        this.incomeCents += cents;
+    }
+
+    public void addExpense(Long categoryId, String categoryName, long cents) {
+        this.expenseCents += cents;
+        if (categoryId != null) {
+            categoryExpenseCents.merge(categoryId, cents, Long::sum);
+            if (categoryName != null) {
+                categoryNames.put(categoryId, categoryName);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.budgettracker.domain.statistics.readmodel;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 통계 읽기 모델 저장소
+ *
+ * 운영에서는 MongoDB 구현(MongoMonthlyStatisticsStore)을, 테스트에서는 메모리 구현을 사용한다.
+ * (statistics.read-model.store: mongo | memory)
+ */
+public interface MonthlyStatisticsStore {
+
+    /**
+     * 한 달 통계 도큐먼트 조회
+     */
+    Optional<MonthlyStatistics> find(Long userId, YearMonth yearMonth);
+
+    /**
+     * 기간(시작/종료 월 포함) 내 통계 도큐먼트 조회 (yearMonth 오름차순)
+     */
+    List<MonthlyStatistics> findRange(Long userId, YearMonth start, YearMonth end);
+
+    /**
+     * 변경분을 원자적으로 반영 (도큐먼트가 없으면 생성)
+     * eventId 가 이미 반영된 이벤트보다 크지 않으면 무시한다.
+     */
+    void apply(Long userId, YearMonth yearMonth, long eventId, MonthlyStatisticsDelta delta);
+
+    /**
+     * 도큐먼트 전체 교체 (정합성 보정용)
+     * 저장된 도큐먼트가 이미 더 최신 이벤트를 반영했다면 교체하지 않는다.
+     */
+    void replace(MonthlyStatistics statistics);
+}
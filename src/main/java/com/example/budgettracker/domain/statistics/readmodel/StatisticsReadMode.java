@@ -0,0 +1,16 @@
+package com.example.budgettracker.domain.statistics.readmodel;
+
+/**
+ * 통계 조회 방식 (statistics.read-mode)
+ */
+public enum StatisticsReadMode {
+    /**
+     * MySQL 거래 내역을 요청마다 집계
+     */
+    OLTP,
+
+    /**
+     * 통계 읽기 모델(monthly_statistics) 도큐먼트 조회
+     */
+    READ_MODEL
+}
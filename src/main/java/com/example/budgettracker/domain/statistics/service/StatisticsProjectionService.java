@@ -0,0 +1,93 @@
+package com.example.budgettracker.domain.statistics.service;
+
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatisticsDelta;
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatisticsStore;
+import com.example.budgettracker.domain.transaction.entity.Category;
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.Snapshot;
+import com.example.budgettracker.domain.transaction.event.TransactionEventSubscriber;
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository;
+import com.example.budgettracker.global.metrics.CacheMetrics;
+import com.example.budgettracker.global.util.MoneyUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 통계 읽기 모델 프로젝션
+ *
+ * 거래 내역 변경 이벤트를 (사용자, 월) 도큐먼트의 증감으로 바꿔 저장소에 반영한다.
+ * - 수정 이벤트는 변경 전 값을 빼고 변경 후 값을 더한다. (월이 바뀌면 두 도큐먼트에 나눠 반영)
+ * - 도큐먼트마다 마지막으로 반영한 eventId 를 두어, 재전달된 이벤트는 무시한다.
+ * - 반영 중 예외가 나면 그대로 던져 아웃박스가 해당 사용자의 이벤트를 다시 전달하게 한다.
+ */
+@Service
+public class StatisticsProjectionService implements TransactionEventSubscriber {
+
+    private final MonthlyStatisticsStore statisticsStore;
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * 카테고리 이름 캐시 (이름 변경은 정합성 보정 작업에서 반영)
+     */
+    private final Map<Long, String> categoryNames = new ConcurrentHashMap<>();
+    private final CacheMetrics categoryNameCacheMetrics;
+
+    public StatisticsProjectionService(MonthlyStatisticsStore statisticsStore,
+                                       CategoryRepository categoryRepository,
+                                       MeterRegistry meterRegistry) {
+        this.statisticsStore = statisticsStore;
+        this.categoryRepository = categoryRepository;
+        this.categoryNameCacheMetrics = new CacheMetrics(meterRegistry, "category-names", categoryNames);
+    }
+
+    @Override
+    public void onTransactionEvents(List<TransactionChangedEvent> events) {
+        for (TransactionChangedEvent event : events) {
+            Map<YearMonth, MonthlyStatisticsDelta> deltas = new TreeMap<>();
+            addSnapshot(deltas, event.getBefore(), -1);
+            addSnapshot(deltas, event.getAfter(), 1);
+
+            deltas.forEach((yearMonth, delta) ->
+                    statisticsStore.apply(event.getUserId(), yearMonth, event.getEventId(), delta));
+        }
+    }
+
+    private void addSnapshot(Map<YearMonth, MonthlyStatisticsDelta> deltas, Snapshot snapshot, int sign) {
+        if (snapshot == null || snapshot.getDate() == null) {
+            return;
+        }
+        long cents = sign * MoneyUtil.toCents(snapshot.getAmount());
+        MonthlyStatisticsDelta delta = deltas.computeIfAbsent(
+                YearMonth.from(snapshot.getDate()), yearMonth -> new MonthlyStatisticsDelta());
+
+        if (snapshot.getType() == TransactionType.INCOME) {
+            delta.addIncome(cents);
+        } else if (snapshot.getType() == TransactionType.EXPENSE) {
+            delta.addExpense(snapshot.getCategoryId(), categoryName(snapshot.getCategoryId()), cents);
+        }
+    }
+
+    private String categoryName(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        String cached = categoryNames.get(categoryId);
+        if (cached != null) {
+            categoryNameCacheMetrics.hit();
+            return cached;
+        }
+        categoryNameCacheMetrics.miss();
+        String name = categoryRepository.findById(categoryId).map(Category::getName).orElse(null);
+        if (name != null) {
+            categoryNames.put(categoryId, name);
+        }
+        return name;
+    }
+}
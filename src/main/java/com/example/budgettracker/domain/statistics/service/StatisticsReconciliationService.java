@@ -0,0 +1,170 @@
+package com.example.budgettracker.domain.statistics.service;
+
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatistics;
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatistics.CategoryExpense;
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatisticsStore;
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository;
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository;
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository.TypeCategoryAmount;
+import com.example.budgettracker.global.shard.ShardRunner;
+import com.example.budgettracker.global.util.MoneyUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 통계 읽기 모델 정합성 보정 작업
+ *
+ * 최근 reconcile-months 개월 동안 거래가 있었던 사용자의 월별 도큐먼트를 MySQL 집계 결과와 비교하고,
+ * 다르면 집계 결과로 교체한다.
+ *
+ * 집계와 마지막 이벤트 순번 조회는 하나의 읽기 전용 트랜잭션(동일 스냅샷)에서 수행하므로,
+ * 교체된 도큐먼트의 lastEventId 이후 이벤트만 프로젝션으로 이어서 반영된다.
+ * 순번(UserEventSequence)은 아웃박스 정리와 무관하게 줄지 않고, 도큐먼트를 스냅샷보다 먼저 읽으므로
+ * 도큐먼트에 반영된 순번은 항상 스냅샷의 순번 이하이다.
+ */
+@Slf4j
+@Service
+public class StatisticsReconciliationService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionOutboxRepository outboxRepository;
+    private final MonthlyStatisticsStore statisticsStore;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ShardRunner shardRunner;
+    private final int reconcileMonths;
+
+    public StatisticsReconciliationService(TransactionRepository transactionRepository,
+                                           TransactionOutboxRepository outboxRepository,
+                                           MonthlyStatisticsStore statisticsStore,
+                                           PlatformTransactionManager transactionManager,
+                                           ShardRunner shardRunner,
+                                           @Value("${statistics.read-model.reconcile-months:2}") int reconcileMonths) {
+        this.transactionRepository = transactionRepository;
+        this.outboxRepository = outboxRepository;
+        this.statisticsStore = statisticsStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.shardRunner = shardRunner;
+        this.reconcileMonths = Math.max(1, reconcileMonths);
+    }
+
+    /**
+     * 최근 월의 읽기 모델 보정
+     */
+    @Scheduled(cron = "${statistics.read-model.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        shardRunner.forEachShard(this::reconcileShard);
+    }
+
+    private void reconcileShard() {
+        YearMonth current = YearMonth.now();
+        YearMonth from = current.minusMonths(reconcileMonths - 1L);
+        LocalDateTime since = from.atDay(1).atStartOfDay();
+
+        // 거래가 모두 삭제된 달도 보정하도록 최근 이벤트가 있는 사용자도 포함
+        Set<Long> userIds = new LinkedHashSet<>(transactionRepository.findUserIdsWithTransactionsSince(since));
+        userIds.addAll(outboxRepository.findUserIdsWithEventsSince(since));
+
+        int corrected = 0;
+        for (Long userId : userIds) {
+            for (YearMonth yearMonth = from; !yearMonth.isAfter(current); yearMonth = yearMonth.plusMonths(1)) {
+                try {
+                    if (reconcile(userId, yearMonth)) {
+                        corrected++;
+                    }
+                } catch (Exception e) {
+                    log.error("통계 읽기 모델 보정 실패: userId={}, yearMonth={}", userId, yearMonth, e);
+                }
+            }
+        }
+        log.info("통계 읽기 모델 보정 완료: users={}, months={}, corrected={}", userIds.size(), reconcileMonths, corrected);
+    }
+
+    /**
+     * 한 사용자/월 도큐먼트 보정
+     *
+     * @return 도큐먼트를 교체했는지 여부
+     */
+    public boolean reconcile(Long userId, YearMonth yearMonth) {
+        MonthlyStatistics actual = statisticsStore.find(userId, yearMonth).orElse(null);
+        MonthlyStatistics expected = readOnlyTransaction.execute(status -> aggregate(userId, yearMonth));
+
+        boolean consistent = actual != null
+                ? sameTotals(expected, actual)
+                : expected.getIncomeCents() == 0 && expected.getExpenseCents() == 0;
+        if (consistent) {
+            return false;
+        }
+
+        log.warn("통계 읽기 모델 불일치 보정: userId={}, yearMonth={}", userId, yearMonth);
+        statisticsStore.replace(expected);
+        return true;
+    }
+
+    private MonthlyStatistics aggregate(Long userId, YearMonth yearMonth) {
+        long lastEventId = outboxRepository.findLastEventIdByUserId(userId);
+
+        long incomeCents = 0;
+        long expenseCents = 0;
+        Map<String, CategoryExpense> categoryExpenses = new HashMap<>();
+        for (TypeCategoryAmount row : transactionRepository.sumAmountGroupByTypeAndCategory(
+                userId, yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay())) {
+            long cents = MoneyUtil.toCents(row.getAmount());
+            if (row.getType() == TransactionType.INCOME) {
+                incomeCents += cents;
+            } else if (row.getType() == TransactionType.EXPENSE) {
+                expenseCents += cents;
+                if (row.getCategoryId() != null) {
+                    categoryExpenses.put(String.valueOf(row.getCategoryId()),
+                            new CategoryExpense(row.getCategoryName(), cents));
+                }
+            }
+        }
+
+        return MonthlyStatistics.builder()
+                .id(MonthlyStatistics.idOf(userId, yearMonth))
+                .userId(userId)
+                .yearMonth(yearMonth.toString())
+                .incomeCents(incomeCents)
+                .expenseCents(expenseCents)
+                .categoryExpenses(categoryExpenses)
+                .lastEventId(lastEventId)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private boolean sameTotals(MonthlyStatistics expected, MonthlyStatistics actual) {
+        if (expected.getIncomeCents() != actual.getIncomeCents()
+                || expected.getExpenseCents() != actual.getExpenseCents()) {
+            return false;
+        }
+        Map<String, CategoryExpense> actualExpenses = actual.getCategoryExpenses();
+        for (Map.Entry<String, CategoryExpense> entry : actualExpenses.entrySet()) {
+            CategoryExpense expectedExpense = expected.getCategoryExpenses().get(entry.getKey());
+            long expectedCents = expectedExpense != null ? expectedExpense.getAmountCents() : 0L;
+            if (entry.getValue().getAmountCents() != expectedCents) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, CategoryExpense> entry : expected.getCategoryExpenses().entrySet()) {
+            CategoryExpense actualExpense = actualExpenses.get(entry.getKey());
+            if (actualExpense == null || !Objects.equals(actualExpense.getName(), entry.getValue().getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -3,10 +3,14 @@ package com.example.budgettracker.domain.statistics.service;
 import com.example.budgettracker.domain.statistics.dto.BudgetComparisonResponse;
 import com.example.budgettracker.domain.statistics.dto.MonthlyStatisticsResponse;
 import com.example.budgettracker.domain.statistics.dto.PeriodTrendResponse;
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatistics;
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatisticsStore;
+import com.example.budgettracker.domain.statistics.readmodel.StatisticsReadMode;
 import com.example.budgettracker.domain.transaction.entity.Transaction;
 import com.example.budgettracker.domain.transaction.entity.TransactionType;
 import com.example.budgettracker.domain.transaction.repository.TransactionRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.budgettracker.global.util.MoneyUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,21 +22,32 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 통계 및 분석 관련 비즈니스 로직을 처리하는 서비스
  * 
  * @Service: Spring 서비스 컴포넌트임을 명시
- * @RequiredArgsConstructor: final 필드에 대한 생성자 자동 생성
  * @Transactional: 트랜잭션 설정 (기본적으로 읽기 전용)
+ *
+ * statistics.read-mode=READ_MODEL 이면 월별 통계/기간별 추이를 통계 읽기 모델에서 조회한다.
  */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StatisticsService {
 
     private final TransactionRepository transactionRepository;
+    private final MonthlyStatisticsStore statisticsStore;
+    private final StatisticsReadMode readMode;
+
+    public StatisticsService(TransactionRepository transactionRepository,
+                             MonthlyStatisticsStore statisticsStore,
+                             @Value("${statistics.read-mode:OLTP}") StatisticsReadMode readMode) {
+        this.transactionRepository = transactionRepository;
+        this.statisticsStore = statisticsStore;
+        this.readMode = readMode;
+    }
 
     /**
      * 월별 통계 정보를 조회합니다.
@@ -44,6 +59,10 @@ public class StatisticsService {
     public MonthlyStatisticsResponse getMonthlyStatistics(String userId, String yearMonth) {
         // 입력된 년월을 YearMonth 객체로 변환
         YearMonth targetMonth = YearMonth.parse(yearMonth, DateTimeFormatter.ofPattern("yyyy-MM"));
+
+        if (readMode == StatisticsReadMode.READ_MODEL) {
+            return getMonthlyStatisticsFromReadModel(userId, targetMonth);
+        }
         
         // 해당 월의 시작일과 종료일
         LocalDate startDate = targetMonth.atDay(1);
@@ -75,6 +94,35 @@ public class StatisticsService {
                 )
             ));
             
+        return toMonthlyStatisticsResponse(yearMonth, totalIncome, totalExpense, categoryExpenses);
+    }
+
+    /**
+     * 읽기 모델 도큐먼트로 월별 통계를 만듭니다. (도큐먼트가 없으면 거래가 없는 달)
+     */
+    private MonthlyStatisticsResponse getMonthlyStatisticsFromReadModel(String userId, YearMonth targetMonth) {
+        MonthlyStatistics statistics = statisticsStore.find(Long.parseLong(userId), targetMonth)
+            .orElseGet(() -> MonthlyStatistics.empty(Long.parseLong(userId), targetMonth));
+
+        Map<String, BigDecimal> categoryExpenses = statistics.getCategoryExpenses().entrySet().stream()
+            .filter(entry -> entry.getValue().getAmountCents() != 0)
+            .collect(Collectors.toMap(
+                entry -> entry.getValue().getName() != null ? entry.getValue().getName() : "카테고리 " + entry.getKey(),
+                entry -> MoneyUtil.fromCents(entry.getValue().getAmountCents()),
+                BigDecimal::add
+            ));
+
+        return toMonthlyStatisticsResponse(
+            targetMonth.format(DateTimeFormatter.ofPattern("yyyy-MM")),
+            MoneyUtil.fromCents(statistics.getIncomeCents()),
+            MoneyUtil.fromCents(statistics.getExpenseCents()),
+            categoryExpenses);
+    }
+
+    private MonthlyStatisticsResponse toMonthlyStatisticsResponse(String yearMonth,
+                                                                  BigDecimal totalIncome,
+                                                                  BigDecimal totalExpense,
+                                                                  Map<String, BigDecimal> categoryExpenses) {
         // 카테고리별 지출 비율 계산
         List<MonthlyStatisticsResponse.CategoryExpenseDto> categoryExpenseDtos = 
             categoryExpenses.entrySet().stream()
@@ -118,6 +166,32 @@ public class StatisticsService {
         YearMonth end = YearMonth.parse(endYearMonth, DateTimeFormatter.ofPattern("yyyy-MM"));
         
         List<PeriodTrendResponse.MonthlyTrendDto> monthlyTrends = new ArrayList<>();
+
+        if (readMode == StatisticsReadMode.READ_MODEL) {
+            // 기간 내 도큐먼트를 한 번에 조회하고, 도큐먼트가 없는 달은 0 으로 채운다.
+            Map<String, MonthlyStatistics> documents = statisticsStore.findRange(Long.parseLong(userId), start, end)
+                .stream()
+                .collect(Collectors.toMap(MonthlyStatistics::getYearMonth, Function.identity()));
+
+            for (YearMonth current = start; !current.isAfter(end); current = current.plusMonths(1)) {
+                MonthlyStatistics statistics = documents.get(current.toString());
+                BigDecimal income = statistics != null ? MoneyUtil.fromCents(statistics.getIncomeCents()) : BigDecimal.ZERO;
+                BigDecimal expense = statistics != null ? MoneyUtil.fromCents(statistics.getExpenseCents()) : BigDecimal.ZERO;
+
+                monthlyTrends.add(PeriodTrendResponse.MonthlyTrendDto.builder()
+                    .yearMonth(current.format(DateTimeFormatter.ofPattern("yyyy-MM")))
+                    .income(income)
+                    .expense(expense)
+                    .netIncome(income.subtract(expense))
+                    .build());
+            }
+
+            return PeriodTrendResponse.builder()
+                .startYearMonth(startYearMonth)
+                .endYearMonth(endYearMonth)
+                .monthlyTrends(monthlyTrends)
+                .build();
+        }
         
         for (YearMonth current = start; !current.isAfter(end); current = current.plusMonths(1)) {
             LocalDate startDate = current.atDay(1);
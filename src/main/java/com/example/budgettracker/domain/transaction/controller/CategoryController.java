@@ -4,16 +4,20 @@ import com.example.budgettracker.domain.transaction.dto.CategoryRequest;
 import com.example.budgettracker.domain.transaction.dto.CategoryResponse;
 import com.example.budgettracker.domain.transaction.service.CategoryService;
 import com.example.budgettracker.global.dto.ApiResponse;
+import com.example.budgettracker.global.util.JsonArrayStreamWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -32,6 +36,7 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 모든 카테고리 조회 API
@@ -49,6 +54,27 @@ public class CategoryController {
         return ResponseEntity.ok(categoryService.getAllCategories(userId));
     }
 
+    /**
+     * 카테고리 스트리밍 조회 API (?stream=true)
+     * 
+     * 응답 형식은 목록 조회와 같으며, DB 커서에서 읽는 대로 JSON 배열 원소를 쓴다.
+     * 
+     * @Operation: API 엔드포인트 설명
+     * @param authentication 인증 정보
+     * @param response 응답 스트림
+     */
+    @Operation(summary = "카테고리 목록 스트리밍 조회", description = "사용 가능한 모든 카테고리를 JSON 배열로 스트리밍합니다. (stream=true)")
+    @GetMapping(params = "stream=true")
+    public void streamAllCategories(
+            @Parameter(hidden = true)
+            Authentication authentication,
+            @Parameter(hidden = true)
+            HttpServletResponse response) throws IOException {
+        JsonArrayStreamWriter<CategoryResponse> writer = JsonArrayStreamWriter.open(objectMapper, response);
+        categoryService.streamAllCategories(authentication.getName(), writer);
+        writer.finish();
+    }
+
     /**
      * 카테고리 상세 조회 API
      * 
@@ -4,6 +4,10 @@ import com.example.budgettracker.domain.transaction.dto.TransactionRequest;
 import com.example.budgettracker.domain.transaction.dto.TransactionResponse;
 import com.example.budgettracker.domain.transaction.service.TransactionService;
 import com.example.budgettracker.global.dto.ApiResponse;
+import com.example.budgettracker.global.response.FieldSelection;
+import com.example.budgettracker.global.response.SparseFieldset;
+import com.example.budgettracker.global.util.JsonArrayStreamWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,12 +15,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -35,6 +41,7 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 거래 내역 생성 API
@@ -65,21 +72,57 @@ public class TransactionController {
     /**
      * 거래 내역 조회 API
      * 
+     * fields 를 주면 고른 필드의 컬럼만 조회하고 응답에서도 나머지 필드를 뺀다.
+     * 
      * @Operation: API 엔드포인트 설명
      * @param authentication 인증 정보
+     * @param fields 응답 필드 (예: id,amount,date,category.name)
      * @return 거래 내역 목록 응답 데이터
      */
     @Operation(summary = "거래 내역 목록 조회", description = "사용자의 모든 거래 내역을 조회합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "거래 내역 목록 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 필드"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
     })
+    @SparseFieldset
     @GetMapping
     public ResponseEntity<List<TransactionResponse>> getTransactions(
             @Parameter(hidden = true)
-            Authentication authentication) {
+            Authentication authentication,
+            @Parameter(description = "응답 필드 (쉼표 구분, 예: id,amount,date,category.name)")
+            @RequestParam(required = false) String fields) {
         String userId = authentication.getName();
-        return ResponseEntity.ok(transactionService.getUserTransactions(userId));
+        FieldSelection selection = FieldSelection.parse(fields);
+        return ResponseEntity.ok(selection == null
+                ? transactionService.getUserTransactions(userId)
+                : transactionService.getUserTransactions(userId, selection));
+    }
+
+    /**
+     * 거래 내역 스트리밍 조회 API (?stream=true)
+     * 
+     * 응답 형식은 목록 조회와 같다. DB 커서에서 읽는 대로 JSON 배열 원소를 써서
+     * 첫 바이트까지의 시간과 메모리 사용량이 거래 건수에 비례해 늘지 않는다.
+     * 
+     * @Operation: API 엔드포인트 설명
+     * @param authentication 인증 정보
+     * @param response 응답 스트림
+     */
+    @Operation(summary = "거래 내역 목록 스트리밍 조회", description = "사용자의 모든 거래 내역을 JSON 배열로 스트리밍합니다. (stream=true)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "거래 내역 목록 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping(params = "stream=true")
+    public void streamTransactions(
+            @Parameter(hidden = true)
+            Authentication authentication,
+            @Parameter(hidden = true)
+            HttpServletResponse response) throws IOException {
+        JsonArrayStreamWriter<TransactionResponse> writer = JsonArrayStreamWriter.open(objectMapper, response);
+        transactionService.streamUserTransactions(authentication.getName(), writer);
+        writer.finish();
     }
 
     /**
@@ -97,6 +140,7 @@ public class TransactionController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "거래 내역을 찾을 수 없음")
     })
+    @SparseFieldset
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getTransaction(
             @Parameter(hidden = true)
@@ -0,0 +1,30 @@
+package com.example.budgettracker.domain.transaction.dto;
+
+import com.example.budgettracker.domain.transaction.entity.Category;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래 내역 응답에 포함되는 카테고리 요약 (ID, 이름, 색상)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카테고리 요약")
+public class CategorySummary {
+
+    @Schema(description = "카테고리 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "카테고리 이름", example = "식비")
+    private String name;
+
+    @Schema(description = "카테고리 색상", example = "#FF5733")
+    private String color;
+
+    public static CategorySummary from(Category category) {
+        return category == null ? null : new CategorySummary(category.getId(), category.getName(), category.getColor());
+    }
+}
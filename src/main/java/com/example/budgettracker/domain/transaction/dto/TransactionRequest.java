@@ -40,4 +40,7 @@ public class TransactionRequest {
     @Schema(description = "거래 일시", example = "2024-03-28T12:00:00")
     @NotNull(message = "날짜는 필수입니다.")
     private LocalDateTime date;
+
+    @Schema(description = "수정 시 마지막으로 조회한 버전 (다르면 409, 생략하면 충돌 시 자동 재시도)", example = "3")
+    private Long version;
 } 
\ No newline at end of file
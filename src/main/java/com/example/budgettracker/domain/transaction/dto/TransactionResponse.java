@@ -1,6 +1,5 @@
 package com.example.budgettracker.domain.transaction.dto;
 
-import com.example.budgettracker.domain.transaction.entity.Category;
 import com.example.budgettracker.domain.transaction.entity.Transaction;
 import com.example.budgettracker.domain.transaction.entity.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,6 +11,12 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * 거래 내역 응답
+ *
+ * 카테고리는 ID/이름/색상만 담는다. 목록/상세 조회는 JPQL 생성자 프로젝션으로 이 객체를 바로 만들어
+ * 엔티티와 카테고리 프록시를 영속성 컨텍스트에 올리지 않는다. (TransactionRepository.findResponsesByUserId)
+ */
 @Getter
 @Builder
 @NoArgsConstructor
@@ -28,8 +33,8 @@ public class TransactionResponse {
     @Schema(description = "거래 유형 (INCOME: 수입, EXPENSE: 지출)", example = "EXPENSE")
     private TransactionType type;
 
-    @Schema(description = "거래 카테고리", example = "FOOD")
-    private Category category;
+    @Schema(description = "거래 카테고리")
+    private CategorySummary category;
 
     @Schema(description = "거래 설명", example = "점심 식사")
     private String description;
@@ -37,14 +42,29 @@ public class TransactionResponse {
     @Schema(description = "거래 일시", example = "2024-03-28T12:00:00")
     private LocalDateTime date;
 
+    @Schema(description = "버전 (수정 요청에 그대로 보내면 그 사이 다른 수정이 있을 때 409)", example = "3")
+    private Long version;
+
+    /**
+     * JPQL 생성자 프로젝션용 (카테고리 컬럼을 펼쳐서 받는다)
+     */
+    public TransactionResponse(Long id, BigDecimal amount, TransactionType type,
+                               Long categoryId, String categoryName, String categoryColor,
+                               String description, LocalDateTime date, Long version) {
+        this(id, amount, type,
+                categoryId == null ? null : new CategorySummary(categoryId, categoryName, categoryColor),
+                description, date, version);
+    }
+
     public static TransactionResponse from(Transaction transaction) {
         return TransactionResponse.builder()
                 .id(transaction.getId())
                 .amount(transaction.getAmount())
                 .type(transaction.getType())
-                .category(transaction.getCategory())
+                .category(CategorySummary.from(transaction.getCategory()))
                 .description(transaction.getDescription())
                 .date(transaction.getDate())
+                .version(transaction.getVersion())
                 .build();
     }
 } 
\ No newline at end of file
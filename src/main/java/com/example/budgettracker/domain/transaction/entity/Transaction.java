@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,12 +20,17 @@ import java.time.LocalDateTime;
  * 
  * @Entity: JPA 엔티티 클래스임을 나타냄
  * @Table: 데이터베이스 테이블 정보를 지정
+ *   - idx_transactions_user_updated: 사용자별 증분 백업 (수정일시, ID 순 키셋 조회)
+ *   - idx_transactions_updated: 백업 대상 사용자 조회
  * @Getter: Lombok을 사용하여 getter 메서드 자동 생성
  * @NoArgsConstructor: 기본 생성자 자동 생성
  * @EntityListeners: 엔티티 이벤트 리스너 설정
  */
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_user_updated", columnList = "user_id, updated_at, id"),
+        @Index(name = "idx_transactions_updated", columnList = "updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -119,6 +125,17 @@ public class Transaction {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    /**
+     * 버전 (낙관적 잠금)
+     * 
+     * @Version: 수정/삭제 시 WHERE 절에 버전을 넣어 그 사이 다른 요청이 바꿨으면 실패시킴
+     * @ColumnDefault: 기존 행과 SQL 로 직접 넣는 행(백업 복원 등)은 0 부터 시작
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
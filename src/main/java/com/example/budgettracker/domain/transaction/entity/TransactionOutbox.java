@@ -0,0 +1,109 @@
+package com.example.budgettracker.domain.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 변경 이벤트 아웃박스 엔티티
+ *
+ * 거래 내역 변경과 같은 DB 트랜잭션 안에서 저장되므로, 커밋된 변경은 반드시 이벤트로 남는다.
+ * 폴러가 id 순서대로 읽어 구독자에게 전달한 뒤 상태를 갱신하고, 전달에 실패하면 nextAttemptAt 까지 미룬다.
+ * 중복 판단에는 id 가 아니라 사용자별 순번(eventId)을 쓴다.
+ *
+ * @Entity: JPA 엔티티 클래스임을 나타냄
+ * @Table: 미처리 이벤트 조회용 (status, id), 사용자별 대기 이벤트 확인용 (user_id, status, event_id) 인덱스 포함
+ */
+@Entity
+@Table(name = "transaction_outbox",
+        indexes = {
+                @Index(name = "idx_transaction_outbox_status_id", columnList = "status, id"),
+                @Index(name = "idx_transaction_outbox_user_status", columnList = "user_id, status, event_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransactionOutbox {
+
+    /**
+     * 행 ID (PK, 폴러 조회 순서)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 사용자 ID (사용자별 전달 순서 보장 단위)
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 사용자별 이벤트 순번 (UserEventSequence, 구독자에게 eventId 로 전달)
+     */
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    /**
+     * 거래 내역 ID
+     */
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    /**
+     * 이벤트 본문 (TransactionChangedEvent JSON)
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * 처리 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    /**
+     * 전달 실패 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 전달 시도 가능 시각 (실패 후 재시도 대기, 없으면 바로 전달)
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    @Builder
+    public TransactionOutbox(Long userId, Long eventId, Long transactionId, String payload) {
+        this.userId = userId;
+        this.eventId = eventId;
+        this.transactionId = transactionId;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 아웃박스 이벤트 처리 상태
+     *
+     * PENDING: 전달 대기
+     * PUBLISHED: 모든 구독자에게 전달 완료
+     * FAILED: 최대 재시도 횟수 초과 또는 본문 해석 실패
+     */
+    public enum OutboxStatus {
+        PENDING,
+        PUBLISHED,
+        FAILED
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.budgettracker.domain.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 거래 내역 기록 (증분 백업용 툼스톤)
+ *
+ * 삭제된 행은 수정일시로 추적할 수 없으므로, 삭제하는 트랜잭션에서 함께 남겨 다음 증분 백업이 삭제를 담게 한다.
+ * 백업 청크에 담겨 완료되면 지운다. (BackupService)
+ *
+ * @Entity: JPA 엔티티 클래스임을 나타냄
+ * @Table: 사용자별 조회용 (user_id, id) 인덱스 포함
+ */
+@Entity
+@Table(name = "transaction_tombstones",
+        indexes = @Index(name = "idx_transaction_tombstones_user_id", columnList = "user_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransactionTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 삭제된 거래 내역 ID
+     */
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Builder
+    public TransactionTombstone(Long userId, Long transactionId) {
+        this.userId = userId;
+        this.transactionId = transactionId;
+        this.deletedAt = LocalDateTime.now();
+    }
+}
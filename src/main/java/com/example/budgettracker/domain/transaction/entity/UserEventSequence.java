@@ -0,0 +1,40 @@
+package com.example.budgettracker.domain.transaction.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 거래 이벤트 순번 엔티티
+ *
+ * 아웃박스에 이벤트를 쌓는 트랜잭션이 이 행을 증가시키며 순번을 받는다. (TransactionOutboxRepository#incrementEventId)
+ * 행 잠금이 커밋까지 유지되므로 같은 사용자의 순번은 빈틈 없이, 커밋 순서대로 매겨진다.
+ * 아웃박스 ID(IDENTITY)와 달리 낮은 순번이 높은 순번보다 늦게 커밋되는 일이 없어 구독자가 "마지막 순번 이하는 반영됨"으로 중복을 거를 수 있다.
+ * 아웃박스 행을 정리해도 남으므로 마지막 순번이 줄지 않는다.
+ *
+ * @Entity: JPA 엔티티 클래스임을 나타냄
+ * @Table: 사용자당 한 행 (PK = user_id)
+ */
+@Entity
+@Table(name = "user_event_sequences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserEventSequence {
+
+    /**
+     * 사용자 ID (PK)
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 마지막으로 발급한 이벤트 순번
+     */
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+}
@@ -0,0 +1,104 @@
+package com.example.budgettracker.domain.transaction.event;
+
+import com.example.budgettracker.domain.transaction.entity.Transaction;
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import com.example.budgettracker.global.util.MoneyUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 변경 이벤트
+ *
+ * 거래 내역이 생성/수정/삭제될 때 발행되며, 변경 전(before)과 변경 후(after) 스냅샷을 함께 담는다.
+ * 구독자는 두 스냅샷의 차이만으로 집계 값을 증분 갱신할 수 있다.
+ * - 생성: before = null
+ * - 삭제: after = null
+ *
+ * eventId 는 쓰기 트랜잭션에서 발급한 사용자별 순번(UserEventSequence)으로 아웃박스에서 꺼낼 때 채워진다.
+ * 같은 사용자 안에서 빈틈 없이 커밋 순서대로 증가한다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionChangedEvent {
+
+    private Long eventId;
+    private ChangeType changeType;
+    private Long transactionId;
+    private Long userId;
+    private Snapshot before;
+    private Snapshot after;
+
+    public static TransactionChangedEvent created(Transaction transaction) {
+        return of(ChangeType.CREATED, transaction, null, Snapshot.of(transaction));
+    }
+
+    public static TransactionChangedEvent updated(Transaction transaction, Snapshot before) {
+        return of(ChangeType.UPDATED, transaction, before, Snapshot.of(transaction));
+    }
+
+    public static TransactionChangedEvent deleted(Transaction transaction) {
+        return of(ChangeType.DELETED, transaction, Snapshot.of(transaction), null);
+    }
+
+    private static TransactionChangedEvent of(ChangeType changeType, Transaction transaction,
+                                              Snapshot before, Snapshot after) {
+        return TransactionChangedEvent.builder()
+                .changeType(changeType)
+                .transactionId(transaction.getId())
+                .userId(transaction.getUser().getId())
+                .before(before)
+                .after(after)
+                .build();
+    }
+
+    /**
+     * 잔액(수입 - 지출) 변경분 (센트)
+     */
+    public long balanceDeltaCents() {
+        return signedCents(after) - signedCents(before);
+    }
+
+    private static long signedCents(Snapshot snapshot) {
+        if (snapshot == null || snapshot.getType() == null) {
+            return 0L;
+        }
+        long cents = MoneyUtil.toCents(snapshot.getAmount());
+        return snapshot.getType() == TransactionType.INCOME ? cents : -cents;
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * 이벤트 시점의 거래 내역 값
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Snapshot {
+        private Long categoryId;
+        private TransactionType type;
+        private BigDecimal amount;
+        private LocalDateTime date;
+
+        public static Snapshot of(Transaction transaction) {
+            return Snapshot.builder()
+                    .categoryId(transaction.getCategory() != null ? transaction.getCategory().getId() : null)
+                    .type(transaction.getType())
+                    .amount(transaction.getAmount())
+                    .date(transaction.getDate())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.budgettracker.domain.transaction.event;
+
+import java.util.List;
+
+/**
+ * 거래 내역 변경 이벤트 구독자
+ *
+ * 아웃박스 폴러가 사용자 단위로 묶은 이벤트를 발생 순서대로 전달한다.
+ * 전달은 최소 1회(at-least-once)이므로 같은 이벤트가 다시 올 수 있으며,
+ * 구독자는 eventId 를 이용해 중복을 걸러야 한다.
+ * 예외를 던지면 해당 사용자의 이벤트 묶음 전체가 다음 주기에 다시 전달된다.
+ */
+public interface TransactionEventSubscriber {
+
+    /**
+     * @param events 한 사용자의 이벤트 목록 (eventId 오름차순)
+     */
+    void onTransactionEvents(List<TransactionChangedEvent> events);
+}
@@ -1,11 +1,18 @@
 package com.example.budgettracker.domain.transaction.repository;
 
+import com.example.budgettracker.domain.transaction.dto.CategoryResponse;
 import com.example.budgettracker.domain.transaction.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 카테고리 엔티티를 위한 데이터 액세스 계층
@@ -38,4 +45,18 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @return 기본 카테고리 목록
      */
     List<Category> findByIsDefaultTrue();
-} 
\ No newline at end of file
+
+    /**
+     * 사용자가 사용할 수 있는 카테고리(기본 + 사용자 정의) 응답 스트림 (스트리밍 응답용)
+     * 목록 조회와 같은 순서(기본 카테고리 먼저)로 반환한다.
+     *
+     * @param userId 사용자 ID
+     * @return 카테고리 응답 스트림 (트랜잭션 안에서 소비 후 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.budgettracker.domain.transaction.dto.CategoryResponse(" +
+           "c.id, c.name, c.description, c.icon, c.color, c.userId) " +
+           "FROM Category c WHERE c.isDefault = true OR c.userId = :userId " +
+           "ORDER BY c.isDefault DESC, c.id")
+    Stream<CategoryResponse> streamResponsesByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,80 @@
+package com.example.budgettracker.domain.transaction.repository;
+
+import com.example.budgettracker.domain.transaction.entity.TransactionOutbox;
+import com.example.budgettracker.domain.transaction.entity.TransactionOutbox.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 거래 내역 이벤트 아웃박스를 위한 데이터 액세스 계층
+ */
+@Repository
+public interface TransactionOutboxRepository extends JpaRepository<TransactionOutbox, Long> {
+
+    /**
+     * 지금 전달할 수 있는 이벤트를 발생 순서대로 조회
+     * 재시도 대기 중인 이벤트와, 같은 사용자의 대기 중인 이벤트보다 뒤 순번인 이벤트는 제외하여 사용자별 순서를 지킨다.
+     *
+     * @param status 처리 상태
+     * @param now 기준 시각
+     * @param pageable 조회 건수
+     * @return 이벤트 목록
+     */
+    @Query("SELECT o FROM TransactionOutbox o WHERE o.status = :status " +
+           "AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) " +
+           "AND NOT EXISTS (SELECT w.id FROM TransactionOutbox w WHERE w.userId = o.userId AND w.status = :status " +
+           "AND w.nextAttemptAt > :now AND w.eventId < o.eventId) " +
+           "ORDER BY o.id")
+    List<TransactionOutbox> findDue(@Param("status") OutboxStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TransactionOutbox o SET o.status = :status, o.processedAt = :processedAt WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") OutboxStatus status,
+                     @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TransactionOutbox o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TransactionOutbox o WHERE o.status = :status AND o.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+
+    /**
+     * 사용자 이벤트 순번 증가 (처음이면 1 로 생성)
+     * 순번 행을 잠그므로 같은 사용자의 다음 쓰기는 이 트랜잭션이 끝날 때까지 여기서 대기한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_event_sequences (user_id, last_event_id) VALUES (:userId, 1) " +
+                   "ON DUPLICATE KEY UPDATE last_event_id = last_event_id + 1",
+           nativeQuery = true)
+    int incrementEventId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 마지막 이벤트 순번 (없으면 0)
+     * 트랜잭션 밖에서는 커밋된 순번, incrementEventId 뒤에는 방금 발급한 순번이다.
+     */
+    @Query("SELECT COALESCE(MAX(s.lastEventId), 0) FROM UserEventSequence s WHERE s.userId = :userId")
+    long findLastEventIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 시점 이후 이벤트가 발생한 사용자 ID 목록
+     */
+    @Query("SELECT DISTINCT o.userId FROM TransactionOutbox o WHERE o.createdAt >= :from")
+    List<Long> findUserIdsWithEventsSince(@Param("from") LocalDateTime from);
+}
@@ -1,14 +1,182 @@
 package com.example.budgettracker.domain.transaction.repository;
 
+import com.example.budgettracker.domain.backup.dto.TransactionBackupRecord;
+import com.example.budgettracker.domain.transaction.dto.TransactionResponse;
 import com.example.budgettracker.domain.transaction.entity.Transaction;
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    List<Transaction> findByUserId(String userId);
-    List<Transaction> findByUserIdAndDateBetween(String userId, LocalDate startDate, LocalDate endDate);
-} 
\ No newline at end of file
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionRepositoryCustom {
+    /**
+     * 사용자의 전체 거래 내역
+     * 응답/집계에서 카테고리를 항상 읽으므로 한 번에 조인해서 가져온다. (행마다 카테고리 조회 방지)
+     */
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId")
+    List<Transaction> findWithCategoryByUserId(@Param("userId") Long userId);
+
+    /**
+     * 기간 내 거래 내역 (시작일시 포함, 종료일시 미포함, 카테고리 포함)
+     */
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.date >= :from AND t.date < :to")
+    List<Transaction> findWithCategoryByUserIdAndDateRange(@Param("userId") Long userId,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
+
+    /**
+     * 사용자 ID 문자열로 전체 거래 내역 조회
+     * (user.id 가 Long 이므로 파생 쿼리 대신 변환 후 위임)
+     */
+    default List<Transaction> findByUserId(String userId) {
+        return findWithCategoryByUserId(Long.parseLong(userId));
+    }
+
+    /**
+     * 날짜 기간 조회 (종료일 포함)
+     * (date 컬럼이 LocalDateTime 이므로 [시작일 0시, 종료일 다음날 0시) 범위로 변환 후 위임)
+     */
+    default List<Transaction> findByUserIdAndDateBetween(String userId, LocalDate startDate, LocalDate endDate) {
+        return findWithCategoryByUserIdAndDateRange(
+                Long.parseLong(userId), startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 사용자의 전체 거래 내역 응답 (JPQL 생성자 프로젝션)
+     * 필요한 컬럼만 읽어 응답 객체를 바로 만든다. (엔티티/카테고리 프록시 생성, 변경 감지 스냅샷 없음)
+     */
+    @Query("SELECT new com.example.budgettracker.domain.transaction.dto.TransactionResponse(" +
+           "t.id, t.amount, t.type, c.id, c.name, c.color, t.description, t.date, t.version) " +
+           "FROM Transaction t LEFT JOIN t.category c " +
+           "WHERE t.user.id = :userId")
+    List<TransactionResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 전체 거래 내역 응답 스트림 (스트리밍 응답용, 트랜잭션 안에서 소비 후 닫아야 함)
+     * MySQL 은 URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 서버 커서에서 읽는다. (없으면 전체를 받은 뒤 순회)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.budgettracker.domain.transaction.dto.TransactionResponse(" +
+           "t.id, t.amount, t.type, c.id, c.name, c.color, t.description, t.date, t.version) " +
+           "FROM Transaction t LEFT JOIN t.category c " +
+           "WHERE t.user.id = :userId")
+    Stream<TransactionResponse> streamResponsesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 거래 내역 단건 응답 (JPQL 생성자 프로젝션, 다른 사용자의 거래면 빈 값)
+     */
+    @Query("SELECT new com.example.budgettracker.domain.transaction.dto.TransactionResponse(" +
+           "t.id, t.amount, t.type, c.id, c.name, c.color, t.description, t.date, t.version) " +
+           "FROM Transaction t LEFT JOIN t.category c " +
+           "WHERE t.id = :id AND t.user.id = :userId")
+    Optional<TransactionResponse> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 단건 조회 (카테고리 포함)
+     */
+    @EntityGraph(attributePaths = "category")
+    Optional<Transaction> findWithCategoryById(Long id);
+
+    /**
+     * 특정 기간, 카테고리, 유형의 거래 금액 합계
+     * (시작일 포함, 종료일 미포함)
+     */
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
+           "WHERE t.user.id = :userId AND t.category.id = :categoryId AND t.type = :type " +
+           "AND t.date >= :from AND t.date < :to")
+    BigDecimal sumAmountByCategory(@Param("userId") Long userId,
+                                   @Param("categoryId") Long categoryId,
+                                   @Param("type") TransactionType type,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to);
+
+    /**
+     * 특정 기간의 유형/카테고리별 거래 금액 합계
+     * (시작일 포함, 종료일 미포함)
+     */
+    @Query("SELECT t.type AS type, c.id AS categoryId, c.name AS categoryName, SUM(t.amount) AS amount " +
+           "FROM Transaction t LEFT JOIN t.category c " +
+           "WHERE t.user.id = :userId AND t.date >= :from AND t.date < :to " +
+           "GROUP BY t.type, c.id, c.name")
+    List<TypeCategoryAmount> sumAmountGroupByTypeAndCategory(@Param("userId") Long userId,
+                                                             @Param("from") LocalDateTime from,
+                                                             @Param("to") LocalDateTime to);
+
+    /**
+     * 전체 기간 잔액 (수입 합계 - 지출 합계)
+     */
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.type = com.example.budgettracker.domain.transaction.entity.TransactionType.INCOME " +
+           "THEN t.amount ELSE -t.amount END), 0) " +
+           "FROM Transaction t WHERE t.user.id = :userId")
+    BigDecimal sumBalanceByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 시점 이후 거래 내역이 있는 사용자 ID 목록
+     */
+    @Query("SELECT DISTINCT t.user.id FROM Transaction t WHERE t.date >= :from")
+    List<Long> findUserIdsWithTransactionsSince(@Param("from") LocalDateTime from);
+
+    /**
+     * 사용자의 거래 내역 중 기준점(수정일시, ID) 이후 until 이전의 변경분을 수정일시, ID 순으로 조회
+     * (증분 백업용 키셋 페이지)
+     */
+    @Query("SELECT new com.example.budgettracker.domain.backup.dto.TransactionBackupRecord(" +
+           "t.id, t.user.id, t.category.id, t.type, t.amount, t.description, t.date, t.createdAt, t.updatedAt) " +
+           "FROM Transaction t " +
+           "WHERE t.user.id = :userId " +
+           "AND (t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :id)) " +
+           "AND t.updatedAt < :until " +
+           "ORDER BY t.updatedAt, t.id")
+    List<TransactionBackupRecord> findBackupRecordsAfter(@Param("userId") Long userId,
+                                                         @Param("updatedAt") LocalDateTime updatedAt,
+                                                         @Param("id") Long id,
+                                                         @Param("until") LocalDateTime until,
+                                                         Pageable pageable);
+
+    /**
+     * 거래 내역 현재 값을 백업 레코드 형태로 조회 (복원 전 변경 전 값 확인용)
+     */
+    @Query("SELECT new com.example.budgettracker.domain.backup.dto.TransactionBackupRecord(" +
+           "t.id, t.user.id, t.category.id, t.type, t.amount, t.description, t.date, t.createdAt, t.updatedAt) " +
+           "FROM Transaction t WHERE t.id IN :ids")
+    List<TransactionBackupRecord> findBackupRecordsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 거래 내역이 있는 모든 사용자 ID 목록 (user_id 인덱스만 사용)
+     */
+    @Query("SELECT DISTINCT t.user.id FROM Transaction t")
+    List<Long> findAllUserIds();
+
+    /**
+     * 특정 시점 이후 수정된 거래 내역이 있는 사용자 ID 목록 (since 포함)
+     */
+    @Query("SELECT DISTINCT t.user.id FROM Transaction t WHERE t.updatedAt >= :since")
+    List<Long> findUserIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 유형/카테고리별 금액 합계 프로젝션
+     */
+    interface TypeCategoryAmount {
+        TransactionType getType();
+        Long getCategoryId();
+        String getCategoryName();
+        BigDecimal getAmount();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.budgettracker.domain.transaction.repository;
+
+import com.example.budgettracker.domain.transaction.dto.TransactionResponse;
+import com.example.budgettracker.global.response.FieldSelection;
+
+import java.util.List;
+
+/**
+ * 거래 내역 동적 조회 (JPQL 로 고정할 수 없는 쿼리)
+ */
+public interface TransactionRepositoryCustom {
+
+    /**
+     * 고른 필드의 컬럼만 조회한 거래 내역 목록
+     *
+     * 선택하지 않은 필드는 null 로 남는다. 카테고리 이름/색상을 고르지 않으면 카테고리를 조인하지 않는다.
+     *
+     * @throws com.example.budgettracker.global.exception.CustomException 지원하지 않는 필드 (INVALID_FIELDS)
+     */
+    List<TransactionResponse> findResponsesByUserId(Long userId, FieldSelection fields);
+}
@@ -0,0 +1,103 @@
+package com.example.budgettracker.domain.transaction.repository;
+
+import com.example.budgettracker.domain.transaction.dto.CategorySummary;
+import com.example.budgettracker.domain.transaction.dto.TransactionResponse;
+import com.example.budgettracker.domain.transaction.entity.Category;
+import com.example.budgettracker.domain.transaction.entity.Transaction;
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import com.example.budgettracker.global.exception.CustomException;
+import com.example.budgettracker.global.exception.ErrorCode;
+import com.example.budgettracker.global.response.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * TransactionRepositoryCustom 구현 (Criteria 튜플 조회)
+ *
+ * 응답 필드 이름을 엔티티 경로로 바로 쓰지 않고 아래 목록에 있는 필드만 허용한다.
+ */
+public class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
+
+    private static final Set<String> FIELDS = Set.of(
+            "id", "amount", "type", "description", "date", "version", "category.id", "category.name", "category.color");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransactionResponse> findResponsesByUserId(Long userId, FieldSelection fields) {
+        for (String path : fields.paths()) {
+            if (!FIELDS.contains(path) && !"category".equals(path)) {
+                throw new CustomException(ErrorCode.INVALID_FIELDS);
+            }
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Transaction> t = query.from(Transaction.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : List.of("id", "amount", "type", "description", "date", "version")) {
+            if (fields.includes(field)) {
+                selections.add(t.get(field).alias(alias(field)));
+            }
+        }
+        if (fields.includes("category.id")) {
+            selections.add(t.get("category").get("id").alias(alias("category.id")));  // FK 컬럼이라 조인 불필요
+        }
+        if (fields.includes("category.name") || fields.includes("category.color")) {
+            Join<Transaction, Category> c = t.join("category", JoinType.LEFT);
+            for (String field : List.of("name", "color")) {
+                if (fields.includes("category." + field)) {
+                    selections.add(c.get(field).alias(alias("category." + field)));
+                }
+            }
+        }
+        if (selections.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_FIELDS);
+        }
+
+        query.multiselect(selections).where(cb.equal(t.get("user").get("id"), userId));
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> toResponse(tuple, fields))
+                .toList();
+    }
+
+    private static TransactionResponse toResponse(Tuple tuple, FieldSelection fields) {
+        boolean hasCategory = fields.includes("category.id")
+                || fields.includes("category.name") || fields.includes("category.color");
+        return TransactionResponse.builder()
+                .id(value(tuple, fields, "id", Long.class))
+                .amount(value(tuple, fields, "amount", BigDecimal.class))
+                .type(value(tuple, fields, "type", TransactionType.class))
+                .description(value(tuple, fields, "description", String.class))
+                .date(value(tuple, fields, "date", LocalDateTime.class))
+                .version(value(tuple, fields, "version", Long.class))
+                .category(hasCategory ? new CategorySummary(
+                        value(tuple, fields, "category.id", Long.class),
+                        value(tuple, fields, "category.name", String.class),
+                        value(tuple, fields, "category.color", String.class)) : null)
+                .build();
+    }
+
+    private static <T> T value(Tuple tuple, FieldSelection fields, String path, Class<T> type) {
+        return fields.includes(path) ? tuple.get(alias(path), type) : null;
+    }
+
+    private static String alias(String path) {
+        return path.replace('.', '_');
+    }
+}
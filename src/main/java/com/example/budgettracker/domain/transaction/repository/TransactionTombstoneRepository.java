@@ -0,0 +1,35 @@
+package com.example.budgettracker.domain.transaction.repository;
+
+import com.example.budgettracker.domain.transaction.entity.TransactionTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제된 거래 내역 기록(툼스톤)을 위한 데이터 액세스 계층
+ */
+@Repository
+public interface TransactionTombstoneRepository extends JpaRepository<TransactionTombstone, Long> {
+
+    /**
+     * 사용자의 툼스톤을 ID 순서대로 키셋 조회 (until 이전에 삭제된 것만)
+     */
+    @Query("SELECT t FROM TransactionTombstone t " +
+           "WHERE t.userId = :userId AND t.id > :id AND t.deletedAt < :until " +
+           "ORDER BY t.id")
+    List<TransactionTombstone> findAfter(@Param("userId") Long userId,
+                                         @Param("id") Long id,
+                                         @Param("until") LocalDateTime until,
+                                         Pageable pageable);
+
+    /**
+     * 아직 백업되지 않은 툼스톤이 있는 사용자 ID 목록
+     */
+    @Query("SELECT DISTINCT t.userId FROM TransactionTombstone t")
+    List<Long> findUserIds();
+}
@@ -8,17 +8,19 @@ import com.example.budgettracker.domain.user.entity.User;
 import com.example.budgettracker.domain.user.repository.UserRepository;
 import com.example.budgettracker.global.exception.CustomException;
 import com.example.budgettracker.global.exception.ErrorCode;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 카테고리 관리 서비스
+ *
+ * 기본 카테고리 생성은 기동 시간에 영향을 주지 않도록 DefaultCategorySeeder 가 기동 후 백그라운드에서 처리한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,28 +30,6 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
 
-    /**
-     * 기본 카테고리 초기화
-     * 애플리케이션 시작 시 기본 카테고리가 없으면 생성
-     */
-    @PostConstruct
-    @Transactional
-    public void initDefaultCategories() {
-        if (categoryRepository.findByIsDefaultTrue().isEmpty()) {
-            List<Category> defaultCategories = Arrays.asList(
-                new Category("식비", "음식 관련 지출", "food", "#FF5733", null, true),
-                new Category("교통비", "교통 수단 관련 지출", "transport", "#33A8FF", null, true),
-                new Category("주거비", "주택 관련 고정 지출", "home", "#33FF57", null, true),
-                new Category("쇼핑", "의류, 생필품 등 구매", "shopping", "#A833FF", null, true),
-                new Category("문화생활", "영화, 공연, 취미 활동 등", "entertainment", "#FF33A8", null, true),
-                new Category("월급", "정기적인 급여 수입", "salary", "#33FFA8", null, true),
-                new Category("용돈", "가족, 친구 등에게 받은 용돈", "gift", "#FFA833", null, true)
-            );
-            
-            categoryRepository.saveAll(defaultCategories);
-        }
-    }
-
     /**
      * 모든 카테고리 조회 (기본 + 사용자 정의)
      *
@@ -68,6 +48,18 @@ public class CategoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 모든 카테고리 스트리밍 (기본 + 사용자 정의, DB 커서에서 읽는 대로 consumer 에 전달)
+     *
+     * @param userId 사용자 ID
+     * @param consumer 카테고리 응답 처리
+     */
+    public void streamAllCategories(String userId, Consumer<CategoryResponse> consumer) {
+        try (Stream<CategoryResponse> rows = categoryRepository.streamResponsesByUserId(Long.parseLong(userId))) {
+            rows.forEach(consumer);
+        }
+    }
+
     /**
      * 카테고리 상세 조회
      *
@@ -102,7 +94,22 @@ public class CategoryService {
         if (!userRepository.existsById(userId)) {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
-        
+        return createCategory(Long.parseLong(userId), request);
+    }
+
+    /**
+     * 사용자 정의 카테고리 생성 (사용자 존재 여부를 이미 확인한 경우, 배치 작업용)
+     *
+     * @param user 사용자
+     * @param request 카테고리 생성 요청
+     * @return 생성된 카테고리
+     */
+    @Transactional
+    public CategoryResponse createCategoryForUser(User user, CategoryRequest request) {
+        return createCategory(user.getId(), request);
+    }
+
+    private CategoryResponse createCategory(Long userId, CategoryRequest request) {
         // 이미 동일한 이름의 카테고리가 있는지 확인 (기본 카테고리 포함)
         if (categoryRepository.findByName(request.getName()).isPresent()) {
             throw new CustomException(ErrorCode.CATEGORY_ALREADY_EXISTS);
@@ -113,7 +120,7 @@ public class CategoryService {
                 .description(request.getDescription())
                 .icon(request.getIcon())
                 .color(request.getColor())
-                .userId(Long.parseLong(userId))
+                .userId(userId)
                 .isDefault(false)
                 .build();
         
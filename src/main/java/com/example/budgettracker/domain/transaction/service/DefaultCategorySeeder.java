@@ -0,0 +1,95 @@
+package com.example.budgettracker.domain.transaction.service;
+
+import com.example.budgettracker.domain.transaction.entity.Category;
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 기본 카테고리 생성기
+ *
+ * 예전에는 CategoryService 의 @PostConstruct 에서 매 기동마다 조회/저장해 기동이 DB 응답만큼 늦어졌다.
+ * 지금은 애플리케이션이 요청을 받을 준비가 된 뒤(ApplicationReadyEvent) 백그라운드 스레드에서 실행한다.
+ *
+ * - 멱등: 이름 기준으로 없는 기본 카테고리만 추가하므로 여러 번 실행해도 결과가 같다.
+ * - 이미 생성된 환경에서는 조회 1번으로 끝난다. (없는 카테고리는 saveAll 한 트랜잭션으로 저장)
+ * - 마이그레이션 등 다른 곳에서 생성한다면 category.seed.enabled=false 로 끈다.
+ *
+ * 빈 DB 에 처음 배포하는 경우 기동 직후 잠깐 동안은 기본 카테고리 목록이 비어 있을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DefaultCategorySeeder {
+
+    /**
+     * 기본 카테고리 목록
+     */
+    static final List<DefaultCategory> DEFAULT_CATEGORIES = List.of(
+            new DefaultCategory("식비", "음식 관련 지출", "food", "#FF5733"),
+            new DefaultCategory("교통비", "교통 수단 관련 지출", "transport", "#33A8FF"),
+            new DefaultCategory("주거비", "주택 관련 고정 지출", "home", "#33FF57"),
+            new DefaultCategory("쇼핑", "의류, 생필품 등 구매", "shopping", "#A833FF"),
+            new DefaultCategory("문화생활", "영화, 공연, 취미 활동 등", "entertainment", "#FF33A8"),
+            new DefaultCategory("월급", "정기적인 급여 수입", "salary", "#33FFA8"),
+            new DefaultCategory("용돈", "가족, 친구 등에게 받은 용돈", "gift", "#FFA833")
+    );
+
+    private final CategoryRepository categoryRepository;
+
+    @Value("${category.seed.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 기동 완료 후 백그라운드에서 기본 카테고리 생성
+     */
+    @Async("startupTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int created = seed();
+            if (created > 0) {
+                log.info("기본 카테고리 {}개 생성", created);
+            }
+        } catch (Exception e) {
+            // 다음 기동 때 다시 시도된다
+            log.warn("기본 카테고리 생성 실패", e);
+        }
+    }
+
+    /**
+     * 없는 기본 카테고리만 생성
+     *
+     * @return 새로 생성한 카테고리 수
+     */
+    public int seed() {
+        Set<String> existing = categoryRepository.findByIsDefaultTrue().stream()
+                .map(Category::getName)
+                .collect(Collectors.toSet());
+        List<Category> missing = DEFAULT_CATEGORIES.stream()
+                .filter(category -> !existing.contains(category.name()))
+                .map(DefaultCategory::toEntity)
+                .toList();
+        categoryRepository.saveAll(missing);
+        return missing.size();
+    }
+
+    record DefaultCategory(String name, String description, String icon, String color) {
+
+        Category toEntity() {
+            return new Category(name, description, icon, color, null, true);
+        }
+    }
+}
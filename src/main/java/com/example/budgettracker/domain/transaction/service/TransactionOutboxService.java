@@ -0,0 +1,241 @@
+package com.example.budgettracker.domain.transaction.service;
+
+import com.example.budgettracker.domain.transaction.entity.TransactionOutbox;
+import com.example.budgettracker.domain.transaction.entity.TransactionOutbox.OutboxStatus;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent;
+import com.example.budgettracker.domain.transaction.event.TransactionEventSubscriber;
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository;
+import com.example.budgettracker.global.shard.ShardRunner;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 내역 변경 이벤트 아웃박스 서비스
+ *
+ * - append: 거래 내역 변경과 같은 트랜잭션에서 이벤트 행을 저장 (쓰기 요청은 INSERT 한 번만 추가로 부담)
+ * - poll: 미처리 이벤트를 id 순서대로 batch-size 만큼 읽어 사용자별로 묶은 뒤 구독자에게 전달
+ *
+ * 전달 보장:
+ * - 최소 1회(at-least-once): 전달에 성공한 뒤에만 PUBLISHED 로 바꾼다.
+ * - 중복 제거: eventId 는 쓰기 트랜잭션에서 발급한 사용자별 순번(UserEventSequence)이다.
+ *   같은 사용자의 순번은 커밋 순서대로 빈틈 없이 매겨지므로, 구독자는 반영한 마지막 순번 이하를 재전달로 보고 거른다.
+ *   (IDENTITY 인 id 는 낮은 값이 높은 값보다 늦게 커밋될 수 있어 중복 판단에 쓰지 않는다)
+ * - 사용자별 순서: 한 사용자의 이벤트는 항상 순번 순서로 한 묶음씩 전달되고,
+ *   실패하면 그 사용자의 묶음 전체가 재시도 대기(nextAttemptAt)에 들어간다. 대기 시간은 retry-backoff-ms 부터
+ *   시도마다 두 배로 늘어나며(최대 max-retry-backoff-ms), 대기 중에는 그 사용자의 뒤 순번 이벤트도 전달하지 않는다.
+ *   같은 폴링 주기 안에서 곧바로 다시 시도하지 않으므로 max-attempts 가 실제 시간 간격을 두고 소진된다.
+ *   다른 사용자는 영향을 받지 않는다.
+ * - 폴러는 단일 스케줄러 스레드에서 실행된다. 여러 인스턴스를 띄울 때는 한 곳에서만 outbox.poller.enabled=true 로 둔다.
+ */
+@Slf4j
+@Service
+public class TransactionOutboxService {
+
+    private final TransactionOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final List<TransactionEventSubscriber> subscribers;
+    private final ShardRunner shardRunner;
+    private final boolean pollerEnabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long maxRetryBackoffMs;
+    private final long retentionHours;
+
+    public TransactionOutboxService(TransactionOutboxRepository outboxRepository,
+                                    ObjectMapper objectMapper,
+                                    List<TransactionEventSubscriber> subscribers,
+                                    ShardRunner shardRunner,
+                                    @Value("${outbox.poller.enabled:true}") boolean pollerEnabled,
+                                    @Value("${outbox.batch-size:200}") int batchSize,
+                                    @Value("${outbox.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                                    @Value("${outbox.max-attempts:10}") int maxAttempts,
+                                    @Value("${outbox.retry-backoff-ms:1000}") long retryBackoffMs,
+                                    @Value("${outbox.max-retry-backoff-ms:300000}") long maxRetryBackoffMs,
+                                    @Value("${outbox.retention-hours:72}") long retentionHours) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.subscribers = subscribers;
+        this.shardRunner = shardRunner;
+        this.pollerEnabled = pollerEnabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxRetryBackoffMs = maxRetryBackoffMs;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 이벤트를 아웃박스에 저장
+     * 반드시 거래 내역을 변경하는 트랜잭션 안에서 호출되어야 한다.
+     *
+     * @param event 거래 내역 변경 이벤트
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(TransactionChangedEvent event) {
+        outboxRepository.incrementEventId(event.getUserId());
+        long eventId = outboxRepository.findLastEventIdByUserId(event.getUserId());
+        outboxRepository.save(TransactionOutbox.builder()
+                .userId(event.getUserId())
+                .eventId(eventId)
+                .transactionId(event.getTransactionId())
+                .payload(serialize(event))
+                .build());
+    }
+
+    /**
+     * 미처리 이벤트 전달
+     * 한 번에 샤드별 최대 max-batches-per-poll 개의 묶음까지 처리하여 스케줄러 스레드를 오래 점유하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!pollerEnabled) {
+            return;
+        }
+        shardRunner.forEachShard(this::pollShard);
+    }
+
+    private void pollShard() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<TransactionOutbox> rows = outboxRepository.findDue(
+                    OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return;
+            }
+            boolean progressed = deliver(rows);
+            if (rows.size() < batchSize || !progressed) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 처리 완료 후 보관 기간이 지난 이벤트 삭제
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 0 * * * *}")
+    public void cleanup() {
+        shardRunner.forEachShard(this::cleanupShard);
+    }
+
+    private void cleanupShard() {
+        int deleted = outboxRepository.deleteProcessedBefore(
+                OutboxStatus.PUBLISHED, LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.debug("아웃박스 이벤트 {}건을 정리했습니다.", deleted);
+        }
+    }
+
+    /**
+     * 사용자별로 묶어 전달하고 결과에 따라 상태를 갱신한다.
+     *
+     * @return 하나 이상의 이벤트 상태가 바뀌었는지 여부 (재시도 대기로 바뀐 이벤트는 다음 조회에서 빠진다)
+     */
+    private boolean deliver(List<TransactionOutbox> rows) {
+        Map<Long, List<TransactionOutbox>> rowsByUser = new LinkedHashMap<>();
+        for (TransactionOutbox row : rows) {
+            rowsByUser.computeIfAbsent(row.getUserId(), k -> new ArrayList<>()).add(row);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> published = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        boolean retried = false;
+
+        for (Map.Entry<Long, List<TransactionOutbox>> entry : rowsByUser.entrySet()) {
+            List<TransactionChangedEvent> events = new ArrayList<>(entry.getValue().size());
+            List<Long> ids = new ArrayList<>(entry.getValue().size());
+            for (TransactionOutbox row : entry.getValue()) {
+                TransactionChangedEvent event = deserialize(row);
+                if (event == null) {
+                    failed.add(row.getId());
+                    continue;
+                }
+                events.add(event);
+                ids.add(row.getId());
+            }
+            if (events.isEmpty()) {
+                continue;
+            }
+
+            try {
+                for (TransactionEventSubscriber subscriber : subscribers) {
+                    subscriber.onTransactionEvents(events);
+                }
+                published.addAll(ids);
+            } catch (Exception e) {
+                List<Long> retry = new ArrayList<>();
+                int attempts = 0;
+                for (TransactionOutbox row : entry.getValue()) {
+                    if (!ids.contains(row.getId())) {
+                        continue;
+                    }
+                    if (row.getAttempts() + 1 >= maxAttempts) {
+                        failed.add(row.getId());
+                    } else {
+                        retry.add(row.getId());
+                        attempts = Math.max(attempts, row.getAttempts() + 1);
+                    }
+                }
+                if (!retry.isEmpty()) {
+                    LocalDateTime nextAttemptAt = now.plusNanos(backoffMs(attempts) * 1_000_000L);
+                    log.warn("사용자 {}의 거래 이벤트 {}건 전달에 실패했습니다. {} 이후 재시도합니다.",
+                            entry.getKey(), ids.size(), nextAttemptAt, e);
+                    outboxRepository.incrementAttempts(retry, nextAttemptAt);
+                    retried = true;
+                }
+            }
+        }
+
+        if (!published.isEmpty()) {
+            outboxRepository.updateStatus(published, OutboxStatus.PUBLISHED, now);
+        }
+        if (!failed.isEmpty()) {
+            log.error("거래 이벤트 {}건을 전달하지 못해 FAILED 로 표시합니다. ids={}", failed.size(), failed);
+            outboxRepository.updateStatus(failed, OutboxStatus.FAILED, now);
+        }
+        return !published.isEmpty() || !failed.isEmpty() || retried;
+    }
+
+    /**
+     * 재시도 대기 시간 (attempts 번째 실패 후, 시도마다 두 배, 최대 max-retry-backoff-ms)
+     */
+    long backoffMs(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(retryBackoffMs << doublings, maxRetryBackoffMs);
+    }
+
+    private String serialize(TransactionChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("거래 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private TransactionChangedEvent deserialize(TransactionOutbox row) {
+        try {
+            return objectMapper.readValue(row.getPayload(), TransactionChangedEvent.class)
+                    .toBuilder()
+                    .eventId(row.getEventId())
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("거래 이벤트 본문을 해석할 수 없습니다. id={}", row.getId(), e);
+            return null;
+        }
+    }
+}
@@ -3,17 +3,25 @@ package com.example.budgettracker.domain.transaction.service;
 import com.example.budgettracker.domain.transaction.dto.TransactionRequest;
 import com.example.budgettracker.domain.transaction.dto.TransactionResponse;
 import com.example.budgettracker.domain.transaction.entity.Transaction;
+import com.example.budgettracker.domain.transaction.entity.TransactionTombstone;
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent;
 import com.example.budgettracker.domain.transaction.repository.TransactionRepository;
+import com.example.budgettracker.domain.transaction.repository.TransactionTombstoneRepository;
 import com.example.budgettracker.domain.user.entity.User;
 import com.example.budgettracker.domain.user.repository.UserRepository;
 import com.example.budgettracker.global.exception.CustomException;
 import com.example.budgettracker.global.exception.ErrorCode;
+import com.example.budgettracker.global.response.FieldSelection;
+import com.example.budgettracker.global.transaction.OptimisticLockRetry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -21,13 +29,24 @@ import java.util.stream.Collectors;
 public class TransactionService {
 
     private final TransactionRepository transactionRepository;
+    private final TransactionTombstoneRepository tombstoneRepository;
     private final UserRepository userRepository;
+    private final TransactionOutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     @Transactional
     public TransactionResponse createTransaction(String userId, TransactionRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return createTransactionForUser(user, request);
+    }
 
+    /**
+     * 거래 내역 생성 (이미 조회한 사용자로 생성, 배치 작업에서 사용자 조회를 한 번만 하기 위함)
+     */
+    @Transactional
+    public TransactionResponse createTransactionForUser(User user, TransactionRequest request) {
         Transaction transaction = Transaction.builder()
                 .user(user)
                 .amount(request.getAmount())
@@ -38,48 +57,98 @@ public class TransactionService {
                 .build();
 
         transaction = transactionRepository.save(transaction);
+        publish(TransactionChangedEvent.created(transaction));
         return TransactionResponse.from(transaction);
     }
 
+    /**
+     * 거래 내역 목록 (엔티티를 거치지 않는 프로젝션 조회)
+     */
     public List<TransactionResponse> getUserTransactions(String userId) {
-        return transactionRepository.findByUserId(userId).stream()
-                .map(TransactionResponse::from)
-                .collect(Collectors.toList());
+        return transactionRepository.findResponsesByUserId(Long.parseLong(userId));
     }
 
-    public TransactionResponse getTransaction(String userId, Long transactionId) {
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
+    /**
+     * 거래 내역 목록 (fields 로 고른 컬럼만 조회, 고르지 않은 필드는 null)
+     */
+    public List<TransactionResponse> getUserTransactions(String userId, FieldSelection fields) {
+        return transactionRepository.findResponsesByUserId(Long.parseLong(userId), fields);
+    }
 
-        if (!transaction.getUser().getId().toString().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+    /**
+     * 거래 내역 목록 스트리밍 (DB 커서에서 읽는 대로 consumer 에 전달, 목록을 메모리에 모으지 않음)
+     */
+    public void streamUserTransactions(String userId, Consumer<TransactionResponse> consumer) {
+        try (Stream<TransactionResponse> rows = transactionRepository.streamResponsesByUserId(Long.parseLong(userId))) {
+            rows.forEach(consumer);
         }
+    }
 
-        return TransactionResponse.from(transaction);
+    /**
+     * 거래 내역 상세 (프로젝션 조회, 없을 때만 존재 여부를 한 번 더 확인해 404/403 을 구분)
+     */
+    public TransactionResponse getTransaction(String userId, Long transactionId) {
+        return transactionRepository.findResponseByIdAndUserId(transactionId, Long.parseLong(userId))
+                .orElseThrow(() -> transactionRepository.existsById(transactionId)
+                        ? new CustomException(ErrorCode.UNAUTHORIZED_ACCESS)
+                        : new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
     }
 
-    @Transactional
+    /**
+     * 거래 내역 수정
+     * 요청에 버전이 있으면 그 버전 기준 수정이므로 충돌 시 409, 없으면 다시 조회해 재시도한다. (OptimisticLockRetry)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TransactionResponse updateTransaction(String userId, Long transactionId, TransactionRequest request) {
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
-
-        if (!transaction.getUser().getId().toString().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        transaction.update(request);
-        return TransactionResponse.from(transaction);
+        return optimisticLockRetry.execute(request.getVersion() == null, () -> {
+            Transaction transaction = transactionRepository.findWithCategoryById(transactionId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
+
+            if (!transaction.getUser().getId().toString().equals(userId)) {
+                throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+            }
+            if (request.getVersion() != null && request.getVersion() != transaction.getVersion()) {
+                throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+            }
+
+            TransactionChangedEvent.Snapshot before = TransactionChangedEvent.Snapshot.of(transaction);
+            transaction.update(request);
+            publish(TransactionChangedEvent.updated(transaction, before));
+            // 응답에 올라간 버전을 담도록 먼저 반영 (버전 충돌도 여기서 드러남)
+            transactionRepository.flush();
+            return TransactionResponse.from(transaction);
+        });
     }
 
-    @Transactional
+    /**
+     * 거래 내역 삭제 (그 사이 수정됐으면 다시 조회해 재시도)
+     * 증분 백업이 삭제를 담을 수 있도록 같은 트랜잭션에서 툼스톤을 남긴다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteTransaction(String userId, Long transactionId) {
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
-
-        if (!transaction.getUser().getId().toString().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        optimisticLockRetry.execute(true, () -> {
+            Transaction transaction = transactionRepository.findById(transactionId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.TRANSACTION_NOT_FOUND));
+
+            if (!transaction.getUser().getId().toString().equals(userId)) {
+                throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+            }
+
+            transactionRepository.delete(transaction);
+            tombstoneRepository.save(TransactionTombstone.builder()
+                    .userId(transaction.getUser().getId())
+                    .transactionId(transaction.getId())
+                    .build());
+            publish(TransactionChangedEvent.deleted(transaction));
+        });
+    }
 
-        transactionRepository.delete(transaction);
+    /**
+     * 변경 이벤트를 아웃박스에 적재하고, 커밋 후 실시간 스트림(LiveUpdateService)에도 전달
+     * 누적 잔액 스냅샷(BalanceService)은 이 트랜잭션 안에서 함께 갱신된다.
+     */
+    private void publish(TransactionChangedEvent event) {
+        outboxService.append(event);
+        eventPublisher.publishEvent(event);
     }
-} 
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import com.example.budgettracker.domain.user.dto.UpdateProfileRequest;
 import com.example.budgettracker.domain.user.entity.User;
 import com.example.budgettracker.domain.user.service.UserService;
 import com.example.budgettracker.global.dto.ApiResponse;
+import com.example.budgettracker.global.ratelimit.IpRateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,8 +21,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -60,7 +59,8 @@ public class UserController {
      * 
      * 기능:
      * - 회원가입 전 이메일 중복 여부 확인
-     * - 데이터베이스에서 이메일 존재 여부 검사
+     * - 가입된 이메일 Bloom 필터에 없으면 DB 조회 없이 사용 가능, 있으면 데이터베이스에서 존재 여부 검사
+     * - IP 별 요청 수 제한 (rate-limit.ip, 초과 시 429)
      * 
      * 요청 데이터:
      * - email: 확인할 이메일 주소
@@ -78,8 +78,10 @@ public class UserController {
     @Operation(summary = "이메일 중복 확인", description = "회원가입 시 이메일 중복 여부를 확인합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "이메일 중복 확인 성공"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "IP 별 요청 한도 초과")
     })
+    @IpRateLimited
     @PostMapping("/check-email")
     public ResponseEntity<ApiResponse<Boolean>> checkEmail(
             @Parameter(description = "이메일 정보", required = true)
@@ -143,7 +145,7 @@ public class UserController {
      * @Operation: API 엔드포인트 설명
      * @SecurityRequirement: JWT 토큰 필요 표시
      * @ApiResponses: 가능한 응답 코드와 설명
-     * @param userDetails 현재 인증된 사용자 정보
+     * @param authentication 현재 인증된 사용자 (이름은 사용자 ID)
      * @return 사용자 프로필 정보
      */
     @Operation(summary = "프로필 조회", description = "현재 로그인한 사용자의 프로필 정보를 조회합니다.")
@@ -154,8 +156,8 @@ public class UserController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
     @GetMapping("/me")
-    public ResponseEntity<Map<String, Object>> getProfile(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userService.getProfile(userDetails.getUsername());
+    public ResponseEntity<Map<String, Object>> getProfile(@Parameter(hidden = true) Authentication authentication) {
+        User user = userService.getProfile(authentication.getName());
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
         response.put("email", user.getEmail());
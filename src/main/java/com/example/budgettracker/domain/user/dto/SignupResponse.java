@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 @Builder // Lombok: Builder 패턴으로 객체 생성 가능하게 함
 public class SignupResponse {
 
-    private String id;        // 생성된 사용자의 고유 ID
+    private Long id;        // 생성된 사용자의 고유 ID
     private String email;   // 사용자의 이메일 (중복 확인된 값)
     private String name;    // 사용자의 이름
     private String message;
@@ -1,10 +1,17 @@
 package com.example.budgettracker.domain.user.repository;
 
 import com.example.budgettracker.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 사용자 엔티티(User)에 대한 DB 접근을 담당하는 리포지토리 인터페이스
@@ -24,4 +31,36 @@ public interface UserRepository extends JpaRepository<User, String> {
      * @return 존재 여부 (true / false)
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 비밀번호 해시 교체 (그 사이 비밀번호가 바뀌지 않았을 때만)
+     * @param id - 사용자 ID
+     * @param currentPassword - 읽어 둔 기존 해시
+     * @param newPassword - 새 해시
+     * @return 변경된 행 수 (0 이면 그 사이 비밀번호가 바뀜)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
+
+    /**
+     * ID 가 afterId 보다 큰 사용자의 이메일 스트림 (ID 순, 이메일 Bloom 필터 적재용)
+     * 트랜잭션 안에서 소비 후 닫아야 한다.
+     * @param afterId - 이 ID 이후 사용자만 (전체는 0)
+     * @return ID/이메일 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    Stream<IdAndEmail> streamEmailsAfter(@Param("afterId") Long afterId);
+
+    /**
+     * 사용자 ID/이메일 프로젝션
+     */
+    interface IdAndEmail {
+        Long getId();
+
+        String getEmail();
+    }
 }
\ No newline at end of file
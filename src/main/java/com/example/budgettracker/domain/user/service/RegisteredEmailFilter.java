@@ -0,0 +1,193 @@
+package com.example.budgettracker.domain.user.service;
+
+import com.example.budgettracker.domain.user.repository.UserRepository;
+import com.example.budgettracker.domain.user.repository.UserRepository.IdAndEmail;
+import com.example.budgettracker.global.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 Bloom 필터 (이메일 중복 확인 앞단)
+ *
+ * 필터에 없으면 가입된 적 없는 이메일이므로 DB 조회 없이 "사용 가능"으로 답한다.
+ * 필터에 있으면(가입됐거나 오탐) DB 로 확인한다.
+ *
+ * - 기동 완료 후 백그라운드에서 users 테이블을 ID 순 스트리밍으로 한 번 읽어 채운다. 다 채우기 전에는 항상 DB 로 확인한다.
+ * - 이 인스턴스의 가입은 저장 직후 바로 추가하고, 다른 인스턴스의 가입은 sync-interval-ms 마다 마지막으로 읽은 ID 이후를 읽어 추가한다.
+ *   ID 는 커밋 순서가 아니라 INSERT 순서로 발급되므로, 마지막 ID 보다 sync-overlap-ids 만큼 앞에서부터 다시 읽어
+ *   늦게 커밋된 낮은 ID 의 가입도 반영한다. (다시 넣어도 필터는 그대로다)
+ * - 다음 동기화 전까지, 또는 겹쳐 읽는 범위보다 더 늦게 커밋된 다른 인스턴스의 가입은 필터에 없어 "사용 가능"으로 보일 수 있다.
+ *   중복 확인 응답만 틀릴 뿐 가입 시에는 DB 유니크 제약으로 다시 확인한다.
+ * - 이메일은 앞뒤 공백을 빼고 소문자로 넣는다. (MySQL 기본 collation 이 대소문자를 구분하지 않음)
+ * - 회원 탈퇴 등으로 삭제된 이메일은 빠지지 않으므로 DB 로 확인하게 될 뿐 결과는 틀리지 않는다.
+ *
+ * 메트릭 budget.email.check (result 태그)
+ * - filtered: 필터에서 바로 "사용 가능" 응답
+ * - taken: DB 확인 결과 사용 중
+ * - false_positive: 필터에 있었으나 DB 에 없음 (오탐)
+ * - not_ready: 적재 전이라 DB 로 확인
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long syncOverlapIds;
+    private final BloomFilter filter;
+    private final Counter filtered;
+    private final Counter taken;
+    private final Counter falsePositive;
+    private final Counter notReady;
+
+    private volatile boolean ready;
+    private volatile long lastUserId;
+
+    public RegisteredEmailFilter(UserRepository userRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user.email-filter.enabled:true}") boolean enabled,
+                                 @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${user.email-filter.sync-overlap-ids:1000}") long syncOverlapIds) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.syncOverlapIds = Math.max(0L, syncOverlapIds);
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.filtered = counter(meterRegistry, "filtered");
+        this.taken = counter(meterRegistry, "taken");
+        this.falsePositive = counter(meterRegistry, "false_positive");
+        this.notReady = counter(meterRegistry, "not_ready");
+    }
+
+    /**
+     * 이메일 사용 여부 (필터에 없으면 DB 조회 없이 false)
+     */
+    public boolean exists(String email) {
+        if (email == null) {
+            return false;
+        }
+        if (!ready) {
+            notReady.increment();
+            return userRepository.existsByEmail(email);
+        }
+        if (!filter.mightContain(normalize(email))) {
+            filtered.increment();
+            return false;
+        }
+        boolean exists = userRepository.existsByEmail(email);
+        (exists ? taken : falsePositive).increment();
+        return exists;
+    }
+
+    /**
+     * 가입한 이메일 추가 (적재 중이어도 바로 추가)
+     */
+    public void put(String email) {
+        if (email != null) {
+            filter.put(normalize(email));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기동 완료 후 백그라운드에서 전체 이메일 적재
+     */
+    @Async("startupTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long loaded = load();
+            log.info("이메일 Bloom 필터 적재 완료: {}건 (비트 {}, 해시 {}개)", loaded, filter.getBitCount(), filter.getHashCount());
+        } catch (Exception e) {
+            // 적재 전과 같이 DB 로 확인한다
+            log.warn("이메일 Bloom 필터 적재 실패", e);
+        }
+    }
+
+    /**
+     * 전체 이메일 적재 후 필터 사용 시작
+     *
+     * @return 적재한 이메일 수
+     */
+    public long load() {
+        long loaded = loadAfter(0L);
+        ready = true;
+        return loaded;
+    }
+
+    /**
+     * 다른 인스턴스에서 가입한 이메일 반영 (마지막으로 읽은 ID 에서 sync-overlap-ids 만큼 앞부터 조회)
+     */
+    @Scheduled(fixedDelayString = "${user.email-filter.sync-interval-ms:30000}",
+            initialDelayString = "${user.email-filter.sync-interval-ms:30000}")
+    public void syncNewUsers() {
+        if (!enabled || !ready) {
+            return;
+        }
+        try {
+            long added = loadAfter(Math.max(0L, lastUserId - syncOverlapIds));
+            if (added > 0) {
+                log.debug("이메일 Bloom 필터 {}건 추가", added);
+            }
+        } catch (Exception e) {
+            log.warn("이메일 Bloom 필터 동기화 실패", e);
+        }
+    }
+
+    /**
+     * afterId 이후 이메일을 필터에 넣는다.
+     *
+     * @return 필터에 없던 이메일 수 (겹쳐 다시 읽은 이메일은 세지 않는다)
+     */
+    private long loadAfter(long afterId) {
+        Long loaded = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            long maxId = lastUserId;
+            try (Stream<IdAndEmail> users = userRepository.streamEmailsAfter(afterId)) {
+                for (IdAndEmail user : (Iterable<IdAndEmail>) users::iterator) {
+                    String email = normalize(user.getEmail());
+                    if (!filter.mightContain(email)) {
+                        filter.put(email);
+                        count++;
+                    }
+                    maxId = Math.max(maxId, user.getId());
+                }
+            }
+            lastUserId = maxId;
+            return count;
+        });
+        return loaded == null ? 0 : loaded;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("budget.email.check")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
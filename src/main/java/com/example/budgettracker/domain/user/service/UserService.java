@@ -9,14 +9,19 @@ import com.example.budgettracker.domain.user.dto.UpdateProfileRequest;
 import com.example.budgettracker.domain.user.repository.UserRepository;
 import com.example.budgettracker.global.exception.CustomException;
 import com.example.budgettracker.global.exception.ErrorCode;
+import com.example.budgettracker.global.shard.DirectoryShard;
 import com.example.budgettracker.global.util.AESUtil;
 import com.example.budgettracker.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
+@DirectoryShard
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
@@ -24,9 +29,14 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AESUtil aesUtil;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final PlatformTransactionManager transactionManager;
 
+    /**
+     * 이메일 사용 여부 (가입된 이메일 Bloom 필터에 없으면 DB 조회 없이 false)
+     */
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return registeredEmailFilter.exists(email);
     }
 
     @Transactional
@@ -44,17 +54,34 @@ public class UserService {
                 .name(encryptedName)
                 .build();
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        registeredEmailFilter.put(saved.getEmail());
+        return saved;
     }
 
+    /**
+     * 로그인
+     * BCrypt 비교는 오래 걸리므로 트랜잭션(커넥션)을 잡지 않은 채 실행한다.
+     * 사용자는 짧은 읽기 전용 트랜잭션으로 읽고, 해시를 새 강도로 바꿀 때만 쓰기 트랜잭션을 연다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        User user = readOnly.execute(status -> userRepository.findByEmail(request.getEmail()))
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
 
+        // 해시 강도가 설정과 다르면 새 강도로 다시 저장 (그 사이 비밀번호가 바뀌었으면 건너뜀)
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            String rehashed = passwordEncoder.encode(request.getPassword());
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed));
+        }
+
         String token = jwtUtil.generateToken(user.getEmail());
         return LoginResponse.builder()
                 .token(token)
@@ -68,7 +95,7 @@ public class UserService {
 
     @Transactional
     public SignupResponse updateProfile(String userId, UpdateProfileRequest request) {
-        User user = userRepository.findByEmail(userId)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         if (request.getName() != null) {
@@ -84,7 +111,7 @@ public class UserService {
 
     @Transactional
     public void updateUserInfo(String userId, SignupRequest request) {
-        User user = userRepository.findByEmail(userId)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         if (request.getName() != null) {
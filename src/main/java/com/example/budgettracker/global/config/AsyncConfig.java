@@ -0,0 +1,54 @@
+package com.example.budgettracker.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 비동기 작업 및 스케줄링 설정 클래스
+ *
+ * @EnableAsync: @Async 메서드를 요청 스레드가 아닌 별도 스레드에서 실행
+ * @EnableScheduling: @Scheduled 메서드 실행 활성화 (아웃박스 폴러, 알림 일괄 저장 등)
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * 사용자별 증분 백업 실행 풀
+     * 동시에 실행되는 사용자 백업 수를 backup.parallelism 으로 제한한다.
+     */
+    @Bean(name = "backupExecutor")
+    public Executor backupExecutor(@Value("${backup.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("backup-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 기동 후 백그라운드 작업 실행 풀 (기본 카테고리 생성 등)
+     * 기동 직후 한 번씩만 실행되므로 스레드 1개로 충분하고, 작업이 끝나면 스레드를 정리한다.
+     */
+    @Bean(name = "startupTaskExecutor")
+    public Executor startupTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setKeepAliveSeconds(10);
+        executor.setThreadNamePrefix("startup-");
+        executor.initialize();
+        return executor;
+    }
+}
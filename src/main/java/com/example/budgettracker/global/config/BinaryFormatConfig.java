@@ -0,0 +1,48 @@
+package com.example.budgettracker.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 바이너리 응답 형식 설정 클래스
+ *
+ * Accept 헤더로 요청하면 JSON 대신 CBOR(application/cbor) 또는 Smile(application/x-jackson-smile) 로 응답한다.
+ * 모바일 앱처럼 거래 목록/통계를 자주 받는 클라이언트의 전송량과 파싱 비용을 줄이기 위한 것이다.
+ *
+ * - JSON 변환기 뒤에 추가하므로 Accept 가 없거나 모든 형식을 허용하면 그대로 JSON 이다.
+ * - 날짜 형식, 모듈 등은 Spring Boot 의 ObjectMapper 설정(spring.jackson.*)을 그대로 쓴다.
+ * - 스트리밍 목록(?stream=true)은 JSON 으로만 응답한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(cborConverter(objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json)));
+        converters.add(smileConverter(objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json)));
+    }
+
+    public static MappingJackson2CborHttpMessageConverter cborConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder.factory(new CBORFactory()).build();
+        return new MappingJackson2CborHttpMessageConverter(objectMapper);
+    }
+
+    public static MappingJackson2SmileHttpMessageConverter smileConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder.factory(new SmileFactory()).build();
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper);
+    }
+}
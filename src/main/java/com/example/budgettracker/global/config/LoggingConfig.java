@@ -0,0 +1,28 @@
+package com.example.budgettracker.global.config;
+
+import com.example.budgettracker.global.logging.SqlLogListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로그 설정 클래스
+ *
+ * - 느린 쿼리/표본 SQL 로그 리스너 (MetricsConfig 의 데이터소스 프록시에 함께 등록)
+ *
+ * 출력 형식(prod 프로필: 비동기 JSON)은 logback-spring.xml, 레벨은 /actuator/loggers 로 조정한다.
+ */
+@Configuration
+public class LoggingConfig {
+
+    /**
+     * 데이터소스 프록시를 만들 때 필요하므로 static 으로 등록한다.
+     */
+    @Bean
+    public static SqlLogListener sqlLogListener(
+            @Value("${sql-log.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${sql-log.sample-rate:0}") int sampleRate,
+            @Value("${sql-log.max-per-second:20}") int maxPerSecond) {
+        return new SqlLogListener(slowThresholdMs, sampleRate, maxPerSecond);
+    }
+}
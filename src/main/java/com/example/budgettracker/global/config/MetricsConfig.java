@@ -0,0 +1,69 @@
+package com.example.budgettracker.global.config;
+
+import com.example.budgettracker.global.logging.SqlLogListener;
+import com.example.budgettracker.global.metrics.ControllerMetricsInterceptor;
+import com.example.budgettracker.global.metrics.QueryBudgetPolicy;
+import com.example.budgettracker.global.metrics.QueryMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 메트릭 설정 클래스
+ *
+ * - 컨트롤러 메서드별 처리 시간/요청당 쿼리 수 인터셉터 등록 (쿼리 예산, N+1 감지 포함)
+ * - 애플리케이션 데이터소스(dataSource 빈)를 쿼리 측정 프록시로 감싸기 (느린 쿼리/표본 SQL 로그 포함)
+ *
+ * Hikari 커넥션 풀, JVM, HTTP 요청 메트릭은 Spring Boot Actuator 가 자동으로 등록한다.
+ * (노출: /actuator/prometheus, management.admin-networks 에서만 허용)
+ *
+ * 메트릭 빈이 없는 컨텍스트(@WebMvcTest 등 웹 계층 슬라이스)에서는 인터셉터를 등록하지 않는다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<QueryBudgetPolicy> queryBudgetPolicy;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        QueryBudgetPolicy policy = queryBudgetPolicy.getIfAvailable();
+        if (meters == null || policy == null) {
+            return;
+        }
+        registry.addInterceptor(new ControllerMetricsInterceptor(meters, policy));
+    }
+
+    /**
+     * 데이터소스 측정 프록시
+     * 라우팅/샤딩 설정에서는 실제 풀이 아닌 최상위 dataSource 빈만 감싸 쿼리가 한 번씩만 집계되게 한다.
+     */
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                        ObjectProvider<SqlLogListener> sqlLogListener) {
+        QueryMetricsListener listener = new QueryMetricsListener(meterRegistry);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener);
+                    sqlLogListener.ifAvailable(builder::listener);
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.budgettracker.global.config;
+
+import com.example.budgettracker.global.ratelimit.IpRateLimitInterceptor;
+import com.example.budgettracker.global.ratelimit.IpRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 제한 설정 클래스
+ *
+ * - @IpRateLimited 컨트롤러 메서드에 IP 별 토큰 버킷 제한 인터셉터 등록
+ *
+ * 제한기 빈이 없는 컨텍스트(@WebMvcTest 등 웹 계층 슬라이스)에서는 인터셉터를 등록하지 않는다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<IpRateLimiter> ipRateLimiter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        ipRateLimiter.ifAvailable(limiter -> registry.addInterceptor(new IpRateLimitInterceptor(limiter)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.budgettracker.global.config;
+
+import com.example.budgettracker.global.datasource.ReplicaHealthChecker;
+import com.example.budgettracker.global.datasource.ReplicaNode;
+import com.example.budgettracker.global.datasource.ReplicaRoutingDataSource;
+import com.example.budgettracker.global.datasource.RoutingDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 데이터소스 설정 클래스
+ *
+ * datasource.routing.enabled=true 일 때만 적용되며,
+ * 기존 spring.datasource 는 프라이머리로, datasource.routing.replicas 는 읽기 전용 레플리카로 사용한다.
+ *
+ * @ConditionalOnProperty: 라우팅 활성화 시에만 설정 적용
+ * @EnableConfigurationProperties: datasource.routing.* 바인딩
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    /**
+     * 프라이머리 데이터소스 (spring.datasource, spring.datasource.hikari 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      RoutingDataSourceProperties properties,
+                                                      MeterRegistry meterRegistry) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        int index = 1;
+        for (RoutingDataSourceProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + index);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            if (replica.getDriverClassName() != null) {
+                dataSource.setDriverClassName(replica.getDriverClassName());
+            }
+            dataSource.setMaximumPoolSize(properties.getReplicaPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            // 레플리카가 내려가 있어도 애플리케이션은 기동되도록 연결 실패를 허용
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaNode("replica-" + index, dataSource));
+            index++;
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(HikariDataSource primaryDataSource,
+                                                     ReplicaRoutingDataSource routingDataSource,
+                                                     RoutingDataSourceProperties properties) {
+        return new ReplicaHealthChecker(primaryDataSource, routingDataSource.getReplicas(), properties.getMaxLagSeconds());
+    }
+
+    /**
+     * 애플리케이션이 사용하는 데이터소스
+     * 첫 SQL 실행 시점까지 커넥션 획득을 미뤄 트랜잭션의 readOnly 여부로 라우팅되게 한다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
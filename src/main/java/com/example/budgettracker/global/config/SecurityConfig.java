@@ -1,11 +1,19 @@
 package com.example.budgettracker.global.config;
 
+import com.example.budgettracker.global.security.BoundedBCryptPasswordEncoder;
 import com.example.budgettracker.global.security.CustomUserDetailsService;
 import com.example.budgettracker.global.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -13,10 +21,15 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Spring Security 설정 클래스
@@ -45,6 +58,9 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomUserDetailsService customUserDetailsService;
 
+    @Value("${management.admin-networks:127.0.0.1/32,::1/128}")
+    private String adminNetworks;
+
     /**
      * SecurityFilterChain 빈 설정
      * 
@@ -59,19 +75,32 @@ public class SecurityConfig {
      * - /api/auth/signup: 회원가입
      * - /api/auth/login: 로그인
      * - /api/user/check-email: 이메일 중복 확인
+     * - /actuator/health: 헬스 체크
      * - Swagger UI 관련 엔드포인트
      * 
+     * 비동기 응답(SSE, 스트리밍)의 재디스패치는 원래 요청에서 이미 인증했으므로 허용한다.
+     * (JWT 필터는 재디스패치에서 다시 실행되지 않음)
+     * 
+     * 관리 엔드포인트:
+     * - /actuator/loggers: 로그 레벨 조회/변경 (management.admin-networks 에서 온 요청만)
+     * - /actuator/prometheus: 메트릭 수집 (management.admin-networks 에서 온 요청만, 수집기 주소를 함께 등록)
+     * 
      * @param http HttpSecurity 객체
+     * @param authenticationProvider 인증 제공자
      * @return SecurityFilterChain 객체
      * @throws Exception 설정 중 발생할 수 있는 예외
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)  // CSRF 보호 비활성화 (JWT 사용)
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()  // 인증된 요청의 비동기 응답(SSE, 스트리밍) 재디스패치
                 .requestMatchers("/api/auth/signup", "/api/auth/login").permitAll()
                 .requestMatchers("/api/user/check-email").permitAll()
+                .requestMatchers("/actuator/health").permitAll()  // 헬스 체크
+                .requestMatchers("/actuator/loggers/**", "/actuator/prometheus").access(adminNetworkAccess())  // 실행 중 로그 레벨 변경, 메트릭 수집
                 .requestMatchers(
                     "/swagger-ui/**",
                     "/swagger-ui.html",
@@ -84,12 +113,29 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)  // 세션 사용하지 않음
             )
-            .authenticationProvider(authenticationProvider())  // 인증 제공자 설정
+            .authenticationProvider(authenticationProvider)  // 인증 제공자 설정
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);  // JWT 필터 추가
 
         return http.build();
     }
 
+    /**
+     * 관리 네트워크에서 온 요청만 허용 (로그 레벨 변경, 메트릭 수집)
+     * 
+     * 프록시 뒤에서는 요청 주소가 프록시 주소가 되므로 server.forward-headers-strategy 설정을 함께 확인한다.
+     * 
+     * @return 허용 네트워크 검사 AuthorizationManager
+     */
+    private AuthorizationManager<RequestAuthorizationContext> adminNetworkAccess() {
+        List<IpAddressMatcher> matchers = Arrays.stream(adminNetworks.split(","))
+                .map(String::trim)
+                .filter(network -> !network.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        return (authentication, context) -> new AuthorizationDecision(
+                matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+
     /**
      * AuthenticationProvider 빈 설정
      * 
@@ -102,13 +148,17 @@ public class SecurityConfig {
      * - UserDetailsService 설정
      * - PasswordEncoder 설정
      * 
+     * - 저장된 해시 강도가 설정과 다르면 로그인 성공 시 다시 해시해 저장 (UserDetailsPasswordService)
+     * 
+     * @param passwordEncoder 비밀번호 인코더
      * @return DaoAuthenticationProvider 객체
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -139,10 +189,19 @@ public class SecurityConfig {
      * - BCrypt (강력한 해시 알고리즘)
      * - 자동 솔트 생성
      * 
-     * @return BCryptPasswordEncoder 객체
+     * 해시 계산은 요청 스레드가 아닌 전용 스레드 풀에서 실행하고, 풀이 가득 차면 429 로 거절한다.
+     * (BoundedBCryptPasswordEncoder)
+     * 
+     * @return BoundedBCryptPasswordEncoder 객체
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                           @Value("${security.password.hashing-threads:0}") int threads,
+                                           @Value("${security.password.queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password.wait-timeout:2s}") Duration waitTimeout,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BoundedBCryptPasswordEncoder(strength,
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity, waitTimeout, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
     }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.example.budgettracker.global.config;
+
+import com.example.budgettracker.global.shard.DirectoryShard;
+import com.example.budgettracker.global.shard.DirectoryShardInterceptor;
+import com.example.budgettracker.global.shard.ShardContextFilter;
+import com.example.budgettracker.global.shard.ShardDirectory;
+import com.example.budgettracker.global.shard.ShardResolver;
+import com.example.budgettracker.global.shard.ShardRoutingDataSource;
+import com.example.budgettracker.global.shard.ShardSchemaInitializer;
+import com.example.budgettracker.global.shard.ShardTransactionManagers;
+import com.example.budgettracker.global.shard.ShardingProperties;
+import com.example.budgettracker.global.shard.UserShardMigrator;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 샤딩 설정 클래스
+ *
+ * sharding.enabled=true 일 때만 적용된다. 샤드 0 은 spring.datasource(디렉터리 샤드),
+ * sharding.shards 의 데이터소스가 샤드 1..N 이며, 요청마다 인증 사용자의 샤드로 라우팅된다.
+ * 사용자 계정은 디렉터리 샤드에서만 읽고 쓰며(@DirectoryShard), 스키마 관리는 모든 샤드에 실행한다.
+ * 읽기/쓰기 분리(datasource.routing)와 함께 켤 수 없다.
+ *
+ * @ConditionalOnProperty: 샤딩 활성화 시에만 설정 적용
+ * @EnableConfigurationProperties: sharding.* 바인딩
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    /**
+     * 디렉터리 샤드 (spring.datasource, spring.datasource.hikari 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource directoryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-0");
+        return dataSource;
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(HikariDataSource directoryDataSource,
+                                                         ShardingProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(directoryDataSource);
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + shards.size());
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            if (shard.getDriverClassName() != null) {
+                dataSource.setDriverClassName(shard.getDriverClassName());
+            }
+            dataSource.setMaximumPoolSize(properties.getPoolSize());
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 데이터소스
+     * 첫 SQL 실행 시점에 ShardContext 의 샤드로 커넥션을 얻는다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * JPA 스키마 관리(ddl-auto)를 데이터 샤드에도 실행
+     */
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardRoutingDataSource shardRoutingDataSource) {
+        return new ShardSchemaInitializer(shardRoutingDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaIntegrator(ShardSchemaInitializer shardSchemaInitializer) {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(shardSchemaInitializer));
+    }
+
+    /**
+     * @DirectoryShard 서비스를 디렉터리 샤드로 실행 (트랜잭션 인터셉터보다 먼저 실행되도록 가장 높은 우선순위)
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor directoryShardAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(DirectoryShard.class, true), new DirectoryShardInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(ShardRoutingDataSource shardRoutingDataSource,
+                                         @Value("${sharding.directory-cache-ttl-ms:5000}") long cacheTtlMillis,
+                                         MeterRegistry meterRegistry) {
+        return new ShardDirectory(shardRoutingDataSource, cacheTtlMillis, meterRegistry);
+    }
+
+    @Bean
+    public ShardResolver shardResolver(ShardRoutingDataSource shardRoutingDataSource, ShardDirectory shardDirectory) {
+        return new ShardResolver(shardRoutingDataSource, shardDirectory);
+    }
+
+    /**
+     * 요청 샤드 설정 필터 (순서를 지정하지 않아 Spring Security 필터 체인 뒤에 실행됨)
+     */
+    @Bean
+    public ShardContextFilter shardContextFilter(ShardResolver shardResolver) {
+        return new ShardContextFilter(shardResolver);
+    }
+
+    @Bean
+    public ShardTransactionManagers shardTransactionManagers(ShardRoutingDataSource shardRoutingDataSource) {
+        return new ShardTransactionManagers(shardRoutingDataSource);
+    }
+
+    @Bean
+    public UserShardMigrator userShardMigrator(ShardRoutingDataSource shardRoutingDataSource,
+                                               ShardDirectory shardDirectory,
+                                               ShardTransactionManagers shardTransactionManagers,
+                                               ShardingProperties properties) {
+        return new UserShardMigrator(shardRoutingDataSource, shardDirectory, shardTransactionManagers,
+                properties.getMigrationChunkSize(), properties.getMigrationDrainTimeoutMs());
+    }
+
+    /**
+     * 리샤딩 실행: --reshard.user-id=<사용자 ID> --reshard.target-shard=<샤드> 인자로 기동하면
+     * 해당 사용자를 옮긴 뒤 계속 실행된다.
+     */
+    @Bean
+    public ApplicationRunner reshardRunner(UserShardMigrator userShardMigrator) {
+        return args -> {
+            if (!args.containsOption("reshard.user-id") || !args.containsOption("reshard.target-shard")) {
+                return;
+            }
+            long userId = Long.parseLong(args.getOptionValues("reshard.user-id").get(0));
+            int targetShard = Integer.parseInt(args.getOptionValues("reshard.target-shard").get(0));
+            long moved = userShardMigrator.moveUser(userId, targetShard);
+            log.info("리샤딩 완료: userId={}, targetShard={}, rows={}", userId, targetShard, moved);
+        };
+    }
+}
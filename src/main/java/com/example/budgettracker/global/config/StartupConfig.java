@@ -0,0 +1,28 @@
+package com.example.budgettracker.global.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 빠른 기동(fast-startup 프로필) 설정 클래스
+ *
+ * fast-startup 프로필은 spring.main.lazy-initialization=true 로 빈을 첫 사용 시점에 만든다.
+ * 다만 아래 빈은 지연 생성하면 동작하지 않으므로 기동 시 바로 만든다.
+ * - @Scheduled 메서드가 있는 빈: 빈이 만들어져야 스케줄이 등록된다 (아웃박스 폴러, 알림 저장, 백업, 레플리카 헬스 체크 등)
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && AnnotationUtils.isCandidateClass(beanType, Scheduled.class)
+                && !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Object>) method ->
+                        AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.budgettracker.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 레플리카 상태 확인
+ *
+ * 주기마다 프라이머리에 하트비트를 기록하고, 각 레플리카에서
+ * - 연결/조회가 실패하면 제외
+ * - 하트비트 지연이 max-lag-seconds 를 넘으면 제외 (복제 지연 가드)
+ * 한다. max-lag-seconds 가 0 이하면 연결 확인만 한다.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private static final long HEARTBEAT_ID = 1L;
+
+    private final JdbcTemplate primary;
+    private final List<ReplicaNode> replicas;
+    private final long maxLagSeconds;
+
+    public ReplicaHealthChecker(DataSource primary, List<ReplicaNode> replicas, long maxLagSeconds) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:1000}")
+    public void check() {
+        if (maxLagSeconds > 0) {
+            writeHeartbeat();
+        }
+        for (ReplicaNode replica : replicas) {
+            check(replica);
+        }
+    }
+
+    void check(ReplicaNode replica) {
+        boolean wasAvailable = replica.isAvailable();
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.getDataSource());
+            if (maxLagSeconds <= 0) {
+                jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                replica.markAvailable(0);
+            } else {
+                List<Timestamp> beats = jdbcTemplate.queryForList(
+                        "SELECT beat_at FROM replication_heartbeat WHERE id = ?", Timestamp.class, HEARTBEAT_ID);
+                long lag = beats.isEmpty() || beats.get(0) == null
+                        ? Long.MAX_VALUE
+                        : Duration.between(beats.get(0).toLocalDateTime(), LocalDateTime.now()).toSeconds();
+                if (lag <= maxLagSeconds) {
+                    replica.markAvailable(lag);
+                } else {
+                    replica.markUnavailable(lag);
+                }
+            }
+        } catch (DataAccessException e) {
+            replica.markUnavailable(-1);
+        }
+
+        if (wasAvailable != replica.isAvailable()) {
+            log.warn("레플리카 상태 변경: name={}, available={}, lagSeconds={}",
+                    replica.getName(), replica.isAvailable(), replica.getLagSeconds());
+        }
+    }
+
+    private void writeHeartbeat() {
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int updated = primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = ?", now, HEARTBEAT_ID);
+            if (updated == 0) {
+                primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (?, ?)", HEARTBEAT_ID, now);
+            }
+        } catch (DataAccessException e) {
+            log.warn("복제 하트비트 기록 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.budgettracker.global.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * 레플리카 데이터소스와 상태
+ * (상태는 ReplicaHealthChecker 가 주기적으로 갱신)
+ */
+@Getter
+public class ReplicaNode {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available;
+    private volatile long lagSeconds;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void markAvailable(long lagSeconds) {
+        this.available = true;
+        this.lagSeconds = lagSeconds;
+    }
+
+    void markUnavailable(long lagSeconds) {
+        this.available = false;
+        this.lagSeconds = lagSeconds;
+    }
+}
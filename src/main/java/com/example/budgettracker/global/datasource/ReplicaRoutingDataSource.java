@@ -0,0 +1,64 @@
+package com.example.budgettracker.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 라우팅 데이터소스
+ *
+ * - 읽기 전용 트랜잭션: 사용 가능한 레플리카를 라운드 로빈으로 선택
+ * - 그 외(쓰기 트랜잭션, 사용 가능한 레플리카 없음): 프라이머리
+ *
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 이후에 확정되므로,
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 SQL 실행 시점에 커넥션을 고르게 해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<ReplicaNode> replicas;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas) {
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaNode replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return nextAvailableReplica();
+    }
+
+    private String nextAvailableReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.budgettracker.global.datasource;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 복제 지연 측정용 하트비트 엔티티
+ *
+ * 프라이머리에 주기적으로 현재 시각을 기록하고, 레플리카에서 읽은 값과의 차이로 복제 지연을 계산한다.
+ * (테이블 생성용 매핑이며 읽기/쓰기는 ReplicaHealthChecker 가 JDBC 로 직접 수행)
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReplicationHeartbeat {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime beatAt;
+}
@@ -0,0 +1,48 @@
+package com.example.budgettracker.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 데이터소스 설정 (datasource.routing.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class RoutingDataSourceProperties {
+
+    /**
+     * 읽기 전용 트랜잭션을 레플리카로 보낼지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 레플리카 상태 확인 주기
+     */
+    private long healthCheckIntervalMs = 1000;
+
+    /**
+     * 허용하는 최대 복제 지연 (초). 0 이하면 지연 확인을 하지 않는다.
+     */
+    private long maxLagSeconds = 5;
+
+    /**
+     * 레플리카별 커넥션 풀 크기
+     */
+    private int replicaPoolSize = 10;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -11,12 +11,18 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "잘못된 입력값입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
+    QUERY_BUDGET_EXCEEDED(HttpStatus.INTERNAL_SERVER_ERROR, "요청당 쿼리 수 한도를 초과했습니다."),
+    INVALID_FIELDS(HttpStatus.BAD_REQUEST, "fields 파라미터에 지원하지 않는 필드가 있습니다."),
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    LIVE_CONNECTION_LIMIT(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결이 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 시도해주세요."),
 
     // Auth
     DUPLICATE_EMAIL(HttpStatus.BAD_REQUEST, "이미 사용 중인 이메일입니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "잘못된 비밀번호입니다."),
     UNAUTHORIZED_ACCESS(HttpStatus.UNAUTHORIZED, "권한이 없습니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Transaction
     TRANSACTION_NOT_FOUND(HttpStatus.NOT_FOUND, "거래 내역을 찾을 수 없습니다."),
@@ -25,7 +31,17 @@ public enum ErrorCode {
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "카테고리를 찾을 수 없습니다."),
     CATEGORY_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 존재하는 카테고리입니다."),
     CANNOT_MODIFY_DEFAULT_CATEGORY(HttpStatus.BAD_REQUEST, "기본 카테고리는 수정할 수 없습니다."),
-    CANNOT_DELETE_DEFAULT_CATEGORY(HttpStatus.BAD_REQUEST, "기본 카테고리는 삭제할 수 없습니다.");
+    CANNOT_DELETE_DEFAULT_CATEGORY(HttpStatus.BAD_REQUEST, "기본 카테고리는 삭제할 수 없습니다."),
+
+    // Budget
+    BUDGET_NOT_FOUND(HttpStatus.NOT_FOUND, "예산을 찾을 수 없습니다."),
+    BUDGET_ACCESS_DENIED(HttpStatus.FORBIDDEN, "다른 사용자의 예산입니다."),
+    BUDGET_PERIOD_OVERLAP(HttpStatus.CONFLICT, "같은 월/카테고리 예산이 이미 있습니다."),
+
+    // Batch
+    BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 실행할 수 있는 배치 작업 수를 초과했습니다."),
+    BATCH_UNSUPPORTED_OPERATION(HttpStatus.BAD_REQUEST, "배치에서 지원하지 않는 작업입니다."),
+    BATCH_OPERATION_SKIPPED(HttpStatus.FAILED_DEPENDENCY, "앞선 작업이 실패해 실행하지 않았습니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,110 @@
+package com.example.budgettracker.global.logging;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * 느린 쿼리/표본 SQL 로그 리스너 (운영용, org.hibernate.SQL 전체 로그 대체)
+ *
+ * - slowThresholdMs 이상 걸린 문장: WARN
+ * - 그 외 문장: sampleRate 건 중 1건만 INFO (0 이면 기록하지 않음)
+ * - 초당 maxPerSecond 줄을 넘으면 버리고, 다음 초의 첫 줄에 버린 건수를 남긴다.
+ * - 바인딩 파라미터는 로거가 DEBUG 일 때만 포함한다. (개인정보 노출 방지)
+ *
+ * 로거 이름은 com.example.budgettracker.sql 이며, /actuator/loggers 로 실행 중에 레벨을 바꿀 수 있다.
+ * (WARN: 느린 쿼리만, INFO: 표본 포함, DEBUG: 파라미터 포함, OFF: 끄기)
+ */
+public class SqlLogListener implements QueryExecutionListener {
+
+    public static final String LOGGER_NAME = "com.example.budgettracker.sql";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    private final long slowThresholdMs;
+    private final int sampleRate;
+    private final int maxPerSecond;
+
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final AtomicInteger suppressed = new AtomicInteger();
+
+    /**
+     * @param slowThresholdMs 느린 쿼리 기준 (밀리초)
+     * @param sampleRate 일반 쿼리 표본 비율 (1/sampleRate, 0 이면 표본 없음)
+     * @param maxPerSecond 초당 최대 로그 줄 수
+     */
+    public SqlLogListener(long slowThresholdMs, int sampleRate, int maxPerSecond) {
+        this.slowThresholdMs = slowThresholdMs;
+        this.sampleRate = sampleRate;
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        boolean slow = elapsed >= slowThresholdMs;
+        if (slow) {
+            if (log.isWarnEnabled() && tryAcquire()) {
+                log.warn("느린 쿼리 {} {} {} {}", kv("elapsedMs", elapsed), kv("batchSize", execInfo.getBatchSize()),
+                        kv("success", execInfo.isSuccess()), kv("sql", sql(queryInfoList)));
+            }
+            return;
+        }
+        if (sampleRate > 0 && log.isInfoEnabled()
+                && ThreadLocalRandom.current().nextInt(sampleRate) == 0 && tryAcquire()) {
+            log.info("SQL 표본 {} {} {} {}", kv("elapsedMs", elapsed), kv("batchSize", execInfo.getBatchSize()),
+                    kv("sampleRate", sampleRate), kv("sql", sql(queryInfoList)));
+        }
+    }
+
+    private String sql(List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream()
+                .map(queryInfo -> queryInfo.getQuery().replaceAll("\\s+", " ").trim())
+                .distinct()
+                .collect(Collectors.joining("; "));
+        if (log.isDebugEnabled()) {
+            sql = sql + " " + queryInfoList.stream()
+                    .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                    .map(parameters -> parameters.stream().map(parameter -> String.valueOf(parameter.getArgs()[1])).toList())
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", ", "params=", ""));
+        }
+        return sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) + "..." : sql;
+    }
+
+    /**
+     * 초 단위 고정 창 제한
+     */
+    private boolean tryAcquire() {
+        long second = System.currentTimeMillis() / 1000;
+        long current = windowSecond.get();
+        if (current != second && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+            int dropped = suppressed.getAndSet(0);
+            if (dropped > 0) {
+                log.warn("SQL 로그 {}건 생략 (초당 최대 {}건) {}", dropped, maxPerSecond, kv("suppressed", dropped));
+            }
+        }
+        if (windowCount.incrementAndGet() <= maxPerSecond) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.budgettracker.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+
+/**
+ * 메모리 캐시 적중률 메트릭
+ *
+ * Micrometer 캐시 메트릭 규칙을 따른다.
+ * - cache.gets{cache, result=hit|miss}
+ * - cache.size{cache}
+ */
+public class CacheMetrics {
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CacheMetrics(MeterRegistry meterRegistry, String cacheName, Map<?, ?> cache) {
+        this.hits = Counter.builder("cache.gets").tag("cache", cacheName).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", cacheName).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("cache.size", cache, Map::size).tag("cache", cacheName).register(meterRegistry);
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.budgettracker.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별 메트릭 인터셉터
+ *
+ * - budget.controller.latency: 컨트롤러 메서드 처리 시간 (히스토그램)
+ * - budget.request.queries: 요청당 SQL 실행 수
+ * - budget.request.query.time: 요청당 SQL 실행 시간 합계
+ *
+ * 태그: controller(클래스명), method(메서드명), status(HTTP 상태)
+ *
+ * 요청마다 QueryBudgetPolicy 의 예산으로 쿼리 측정 범위를 열고, 요청이 끝나면 예산 초과/N+1 의심을 검사한다.
+ * 비동기 응답(SSE, 스트리밍)은 요청 스레드를 돌려줄 때 범위를 닫고, 응답이 끝난 뒤의 재디스패치를 따로 측정한다.
+ */
+@RequiredArgsConstructor
+public class ControllerMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ControllerMetricsInterceptor.class.getName() + ".start";
+    private static final String STATS_ATTRIBUTE = ControllerMetricsInterceptor.class.getName() + ".stats";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetPolicy queryBudgetPolicy;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            request.setAttribute(STATS_ATTRIBUTE, RequestQueryStats.start(
+                    queryBudgetPolicy.budgetFor(handlerMethod), queryBudgetPolicy.isFailOnExceed()));
+        }
+        return true;
+    }
+
+    /**
+     * 비동기 처리가 시작되면 요청 스레드의 측정 범위를 닫는다. (afterCompletion 은 재디스패치에서 호출된다)
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(STATS_ATTRIBUTE) instanceof RequestQueryStats stats) {
+            stats.close();
+            request.removeAttribute(STATS_ATTRIBUTE);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        RequestQueryStats stats = (RequestQueryStats) request.getAttribute(STATS_ATTRIBUTE);
+        if (stats != null) {
+            stats.close();
+            queryBudgetPolicy.inspect(handlerMethod, stats);
+        }
+
+        Tags tags = Tags.of(
+                "controller", handlerMethod.getBeanType().getSimpleName(),
+                "method", handlerMethod.getMethod().getName(),
+                "status", String.valueOf(response.getStatus()));
+
+        Timer.builder("budget.controller.latency")
+                .description("컨트롤러 메서드 처리 시간")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (stats != null) {
+            DistributionSummary.builder("budget.request.queries")
+                    .description("요청당 SQL 실행 수")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(stats.getQueryCount());
+            Timer.builder("budget.request.query.time")
+                    .description("요청당 SQL 실행 시간 합계")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(stats.getQueryNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.budgettracker.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 첫 요청 처리 시간 측정 필터
+ *
+ * JVM 시작부터 첫 번째 애플리케이션 요청(액추에이터 제외)의 응답 완료까지 걸린 시간을 기록한다.
+ * 지연 초기화(fast-startup 프로필)를 켜면 기동은 빨라지지만 첫 요청에서 빈 생성 비용을 치르므로,
+ * 오토스케일링 시 실제로 트래픽을 받기까지의 시간은 이 값으로 판단한다.
+ *
+ * - application.first.request.time: JVM 시작 → 첫 요청 완료 (Spring Boot 의 application.ready.time 과 비교)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private volatile long readyMillis = -1;
+
+    public FirstRequestTimer(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        readyMillis = uptimeMillis();
+        log.info("애플리케이션 준비 완료: JVM 시작 후 {}ms", readyMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!recorded.get() && !request.getRequestURI().startsWith("/actuator") && recorded.compareAndSet(false, true)) {
+                record(request);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request) {
+        long firstRequestMillis = uptimeMillis();
+        meterRegistry.ifAvailable(registry -> TimeGauge
+                .builder("application.first.request.time", () -> firstRequestMillis, TimeUnit.MILLISECONDS)
+                .description("JVM 시작부터 첫 요청 완료까지 걸린 시간")
+                .register(registry));
+        log.info("첫 요청 처리 완료: JVM 시작 후 {}ms (준비 완료 후 {}ms, {} {})", firstRequestMillis,
+                readyMillis < 0 ? "-" : firstRequestMillis - readyMillis, request.getMethod(), request.getRequestURI());
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.budgettracker.global.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드(또는 클래스)별 요청당 쿼리 예산
+ *
+ * 지정하지 않으면 query-budget.default-max-queries 를 사용한다.
+ * 메서드에 붙인 값이 클래스에 붙인 값보다 우선한다.
+ * perItemOf 를 지정하면 value 는 항목당 쿼리 수이고, 예산은 value x 그 설정값이다. (예: 배치 작업 수 한도)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface QueryBudget {
+
+    /**
+     * 허용 쿼리 수 (perItemOf 지정 시 항목당 쿼리 수)
+     */
+    int value();
+
+    /**
+     * 요청당 최대 항목 수를 담은 설정 키 (비어 있으면 value 가 곧 예산)
+     */
+    String perItemOf() default "";
+}
@@ -0,0 +1,86 @@
+package com.example.budgettracker.global.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Map;
+
+/**
+ * 요청당 쿼리 예산 및 N+1 감지 정책
+ *
+ * - 예산: @QueryBudget (perItemOf 설정값 배수 포함) 또는 query-budget.default-max-queries
+ * - LOG: 요청이 끝난 뒤 초과 사실을 경고 로그로 남긴다.
+ * - FAIL: 예산을 넘는 쿼리를 실행 전에 거부한다. (개발/CI 용)
+ * - 같은 SQL 이 n-plus-one-threshold 번 이상 실행되면 N+1 의심 경고를 남긴다.
+ */
+@Slf4j
+@Component
+public class QueryBudgetPolicy {
+
+    public enum Mode {
+        LOG, FAIL
+    }
+
+    private final boolean enabled;
+    private final int defaultBudget;
+    private final Mode mode;
+    private final int nPlusOneThreshold;
+    private final Environment environment;
+
+    public QueryBudgetPolicy(@Value("${query-budget.enabled:true}") boolean enabled,
+                             @Value("${query-budget.default-max-queries:20}") int defaultBudget,
+                             @Value("${query-budget.mode:LOG}") Mode mode,
+                             @Value("${query-budget.n-plus-one-threshold:5}") int nPlusOneThreshold,
+                             Environment environment) {
+        this.enabled = enabled;
+        this.defaultBudget = defaultBudget;
+        this.mode = mode;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.environment = environment;
+    }
+
+    /**
+     * 핸들러의 쿼리 예산 (비활성화 시 제한 없음)
+     */
+    public int budgetFor(HandlerMethod handlerMethod) {
+        if (!enabled) {
+            return RequestQueryStats.UNLIMITED;
+        }
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+        }
+        if (budget == null) {
+            return defaultBudget;
+        }
+        if (budget.perItemOf().isEmpty()) {
+            return budget.value();
+        }
+        // 항목 수 한도를 바꾸면 예산도 함께 바뀌도록 설정값에서 계산한다. (설정이 없으면 예산을 정할 수 없으므로 실패)
+        return budget.value() * environment.getRequiredProperty(budget.perItemOf(), Integer.class);
+    }
+
+    public boolean isFailOnExceed() {
+        return enabled && mode == Mode.FAIL;
+    }
+
+    /**
+     * 요청 종료 후 예산 초과, N+1 의심 문장 로그
+     */
+    public void inspect(HandlerMethod handlerMethod, RequestQueryStats stats) {
+        if (!enabled) {
+            return;
+        }
+        String handler = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        if (stats.isOverBudget()) {
+            log.warn("쿼리 예산 초과: handler={}, queries={}, budget={}", handler, stats.getQueryCount(), stats.getBudget());
+        }
+        Map<String, Integer> repeated = stats.getRepeatedStatements(nPlusOneThreshold);
+        repeated.forEach((sql, count) ->
+                log.warn("N+1 의심: handler={}, executions={}, sql={}", handler, count, sql));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.budgettracker.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 실행 측정 리스너
+ *
+ * - budget.db.query: 문장(배치 포함) 실행 시간
+ * - 요청 처리 중이면 RequestQueryStats 에 쿼리 수/시간 누적, 쿼리 예산 초과 시 실행 전에 거부
+ *
+ * 데이터소스 프록시가 애플리케이션 시작 초기에 만들어지므로 MeterRegistry 는 처음 쓸 때 가져온다.
+ */
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile Timer queryTimer;
+
+    public QueryMetricsListener(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.beforeQuery(queryInfoList.size());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Timer timer = timer();
+        if (timer != null) {
+            timer.record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+        }
+
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+            for (QueryInfo queryInfo : queryInfoList) {
+                stats.record(queryInfo.getQuery(), 1, nanos);
+                nanos = 0;
+            }
+        }
+    }
+
+    private Timer timer() {
+        Timer timer = queryTimer;
+        if (timer == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return null;
+            }
+            timer = Timer.builder("budget.db.query")
+                    .description("SQL 문장 실행 시간")
+                    .register(registry);
+            queryTimer = timer;
+        }
+        return timer;
+    }
+}
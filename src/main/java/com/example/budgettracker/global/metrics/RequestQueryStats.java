@@ -0,0 +1,131 @@
+package com.example.budgettracker.global.metrics;
+
+import com.example.budgettracker.global.exception.CustomException;
+import com.example.budgettracker.global.exception.ErrorCode;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 통계
+ *
+ * ControllerMetricsInterceptor 가 요청 시작 시 열고, QueryMetricsListener 가 쿼리마다 누적한다.
+ * 요청 스레드가 아닌 곳(스케줄러 등)에서 실행된 쿼리는 누적되지 않는다.
+ *
+ * 범위는 중첩될 수 있다. 안쪽 범위에 기록된 쿼리는 바깥 범위에도 누적되며,
+ * 테스트에서 요청 전체의 쿼리 수를 검증할 때 바깥 범위를 사용한다.
+ */
+public final class RequestQueryStats {
+
+    /**
+     * 쿼리 예산 없음
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final RequestQueryStats parent;
+    private final int budget;
+    private final boolean failOnExceed;
+    private final Map<String, Integer> statementCounts = new LinkedHashMap<>();
+    private int queryCount;
+    private long queryNanos;
+
+    private RequestQueryStats(RequestQueryStats parent, int budget, boolean failOnExceed) {
+        this.parent = parent;
+        this.budget = budget;
+        this.failOnExceed = failOnExceed;
+    }
+
+    public static RequestQueryStats start() {
+        return start(UNLIMITED, false);
+    }
+
+    /**
+     * 새 측정 범위 시작
+     *
+     * @param budget 허용 쿼리 수
+     * @param failOnExceed 예산을 넘는 쿼리를 실행 전에 거부할지 여부
+     */
+    public static RequestQueryStats start(int budget, boolean failOnExceed) {
+        RequestQueryStats stats = new RequestQueryStats(CURRENT.get(), budget, failOnExceed);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 범위의 통계 (범위 밖이면 null)
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 이 범위를 닫고 바깥 범위로 되돌린다.
+     */
+    public void close() {
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 쿼리 실행 전 예산 확인 (failOnExceed 인 범위에서만 예외)
+     */
+    void beforeQuery(int count) {
+        if (failOnExceed && queryCount + count > budget) {
+            throw new CustomException(ErrorCode.QUERY_BUDGET_EXCEEDED);
+        }
+        if (parent != null) {
+            parent.beforeQuery(count);
+        }
+    }
+
+    void record(String sql, int count, long nanos) {
+        this.queryCount += count;
+        this.queryNanos += nanos;
+        statementCounts.merge(sql, count, Integer::sum);
+        if (parent != null) {
+            parent.record(sql, count, nanos);
+        }
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getQueryNanos() {
+        return queryNanos;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public boolean isOverBudget() {
+        return queryCount > budget;
+    }
+
+    /**
+     * 같은 SQL 이 threshold 번 이상 실행된 문장 (N+1 의심)
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * 실행된 SQL 별 실행 횟수 (실행 순서)
+     */
+    public Map<String, Integer> getStatementCounts() {
+        return Collections.unmodifiableMap(statementCounts);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.budgettracker.global.ratelimit;
+
+import com.example.budgettracker.global.exception.CustomException;
+import com.example.budgettracker.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @IpRateLimited 컨트롤러 메서드 요청 제한 인터셉터
+ *
+ * 한도를 넘으면 Retry-After 헤더(초)와 함께 RATE_LIMIT_EXCEEDED(429) 로 응답한다.
+ * IP 는 request.getRemoteAddr() 를 쓴다. 프록시 뒤에서는 server.forward-headers-strategy 로
+ * X-Forwarded-For 를 신뢰하도록 설정해야 프록시 주소 하나로 묶이지 않는다.
+ */
+@RequiredArgsConstructor
+public class IpRateLimitInterceptor implements HandlerInterceptor {
+
+    private final IpRateLimiter ipRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !handlerMethod.hasMethodAnnotation(IpRateLimited.class)) {
+            return true;
+        }
+        String key = request.getRemoteAddr() + "|" + handlerMethod.getBeanType().getSimpleName()
+                + "." + handlerMethod.getMethod().getName();
+        long waitNanos = ipRateLimiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            throw new CustomException(ErrorCode.RATE_LIMIT_EXCEEDED);
+        }
+        return true;
+    }
+}
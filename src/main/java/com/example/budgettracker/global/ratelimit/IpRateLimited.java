@@ -0,0 +1,19 @@
+package com.example.budgettracker.global.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클라이언트 IP 별 요청 수 제한 (토큰 버킷)
+ *
+ * 버킷 크기와 충전 속도는 rate-limit.ip.capacity / refill-per-second 를 사용한다.
+ * 버킷은 IP 와 컨트롤러 메서드 조합마다 따로 둔다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface IpRateLimited {
+}
@@ -0,0 +1,114 @@
+package com.example.budgettracker.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * IP 별 토큰 버킷 요청 제한기
+ *
+ * 키(IP + 엔드포인트)마다 capacity 개 토큰을 두고 초당 refillPerSecond 개씩 채운다.
+ * 요청마다 토큰 1개를 쓰고, 토큰이 없으면 다음 토큰까지 기다릴 시간을 돌려준다.
+ * 가득 찬 채로 오래 쓰이지 않은 버킷은 주기적으로 지운다. (지워도 다음 요청 때 가득 찬 버킷으로 다시 만들어지므로 결과가 같다)
+ *
+ * 인스턴스마다 따로 세므로 전체 한도는 인스턴스 수만큼 늘어난다.
+ *
+ * 메트릭:
+ * - budget.rate_limit.rejected: 거절 수
+ * - budget.rate_limit.buckets: 추적 중인 버킷 수
+ */
+@Component
+public class IpRateLimiter {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final long capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+    private final Counter rejected;
+
+    @Autowired
+    public IpRateLimiter(MeterRegistry meterRegistry,
+                         @Value("${rate-limit.ip.capacity:20}") long capacity,
+                         @Value("${rate-limit.ip.refill-per-second:2}") double refillPerSecond) {
+        this(meterRegistry, capacity, refillPerSecond, System::nanoTime);
+    }
+
+    IpRateLimiter(MeterRegistry meterRegistry, long capacity, double refillPerSecond, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("rate-limit.ip.capacity 는 1 이상, refill-per-second 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.rejected = Counter.builder("budget.rate_limit.rejected").register(meterRegistry);
+        Gauge.builder("budget.rate_limit.buckets", buckets, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @return 허용이면 0, 거절이면 다음 토큰까지 남은 시간(나노초)
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        long waitNanos = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now)).tryAcquire(now);
+        if (waitNanos > 0) {
+            rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 가득 찬 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.ip.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int getBucketCount() {
+        return buckets.size();
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(long tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        private synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano));
+        }
+
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.budgettracker.global.response;
+
+import com.example.budgettracker.global.exception.CustomException;
+import com.example.budgettracker.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * fields 파라미터로 고른 응답 필드 (트리)
+ *
+ * "id,amount,category.name" 은 {id, amount, category: {name}} 이 된다.
+ * 하위 선택이 없는 노드는 그 아래를 모두 포함한다.
+ */
+public final class FieldSelection {
+
+    private static final Pattern FIELD = Pattern.compile("[A-Za-z][A-Za-z0-9_]*(\\.[A-Za-z][A-Za-z0-9_]*){0,3}");
+    private static final int MAX_FIELDS = 50;
+
+    private final Map<String, FieldSelection> children = new LinkedHashMap<>();
+
+    private FieldSelection() {
+    }
+
+    /**
+     * @param fields 쉼표로 구분한 필드 목록
+     * @return 비어 있으면 null (전체 필드)
+     * @throws CustomException 형식이 잘못된 경우 (INVALID_FIELDS)
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        String[] paths = fields.split(",");
+        if (paths.length > MAX_FIELDS) {
+            throw new CustomException(ErrorCode.INVALID_FIELDS);
+        }
+        FieldSelection root = new FieldSelection();
+        for (String path : paths) {
+            String trimmed = path.trim();
+            if (!FIELD.matcher(trimmed).matches()) {
+                throw new CustomException(ErrorCode.INVALID_FIELDS);
+            }
+            String[] names = trimmed.split("\\.");
+            FieldSelection node = root;
+            for (int i = 0; i < names.length && node != null; i++) {
+                FieldSelection child = node.children.get(names[i]);
+                if (child != null && child.children.isEmpty()) {
+                    node = null;  // 상위 필드 전체가 이미 선택됨
+                } else if (i == names.length - 1) {
+                    node.children.put(names[i], new FieldSelection());  // 하위 선택이 있었다면 전체로 바꿈
+                } else {
+                    node = child != null ? child : put(node, names[i]);
+                }
+            }
+        }
+        return root;
+    }
+
+    private static FieldSelection put(FieldSelection parent, String name) {
+        FieldSelection child = new FieldSelection();
+        parent.children.put(name, child);
+        return child;
+    }
+
+    /**
+     * 경로(점 구분)가 선택에 포함되는지 (상위 필드를 통째로 고른 경우 포함)
+     */
+    public boolean includes(String path) {
+        FieldSelection node = this;
+        for (String name : path.split("\\.")) {
+            if (node != this && node.children.isEmpty()) {
+                return true;
+            }
+            node = node.children.get(name);
+            if (node == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 선택한 필드의 전체 경로 목록 (점 구분, 입력 순서)
+     */
+    public List<String> paths() {
+        List<String> paths = new ArrayList<>();
+        collect("", paths);
+        return Collections.unmodifiableList(paths);
+    }
+
+    private void collect(String prefix, List<String> paths) {
+        children.forEach((name, child) -> {
+            String path = prefix + name;
+            if (child.children.isEmpty()) {
+                paths.add(path);
+            } else {
+                child.collect(path + ".", paths);
+            }
+        });
+    }
+
+    /**
+     * 선택하지 않은 필드를 제거한다. (배열은 원소마다 적용, 원본 노드를 바꾼다)
+     */
+    public JsonNode apply(JsonNode node) {
+        if (node instanceof ArrayNode array) {
+            array.forEach(this::apply);
+        } else if (node instanceof ObjectNode object && !children.isEmpty()) {
+            object.retain(children.keySet());
+            children.forEach((name, child) -> {
+                JsonNode value = object.get(name);
+                if (value != null) {
+                    child.apply(value);
+                }
+            });
+        }
+        return node;
+    }
+}
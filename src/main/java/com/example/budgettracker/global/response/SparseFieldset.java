@@ -0,0 +1,22 @@
+package com.example.budgettracker.global.response;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * fields 파라미터로 응답 필드를 고를 수 있는 핸들러 메서드 표시
+ *
+ * 예) ?fields=id,amount,date,category.name
+ * 중첩 필드는 점(.)으로 잇고, 배열은 원소마다 적용한다. 상위 필드만 쓰면 하위 필드를 모두 포함한다.
+ * 응답에 없는 필드 이름은 무시한다. (SQL 컬럼까지 줄이는 API 는 서비스에서 따로 검증한다)
+ *
+ * @see SparseFieldsetAdvice
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SparseFieldset {
+}
@@ -0,0 +1,45 @@
+package com.example.budgettracker.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 필드 선택 (@SparseFieldset 메서드의 fields 파라미터)
+ *
+ * 응답 객체를 JSON 트리로 바꾼 뒤 고르지 않은 필드를 지우고 쓴다. (JSON/CBOR/Smile 공통)
+ * 출력만 줄이므로, 조회 비용까지 줄이려면 서비스에서 FieldSelection 으로 조회 컬럼을 함께 고른다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String PARAMETER = "fields";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(SparseFieldset.class)
+                && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        FieldSelection selection = FieldSelection.parse(servletRequest.getServletRequest().getParameter(PARAMETER));
+        return selection == null ? body : selection.apply(objectMapper.valueToTree(body));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.budgettracker.global.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증된 사용자 정보 (사용자 ID 포함)
+ *
+ * JWT 의 subject 는 이메일이지만, 컨트롤러/서비스는 인증 주체 이름(authentication.getName())을
+ * 사용자 ID 로 사용하므로 JwtAuthenticationFilter 가 이 ID 로 인증 객체를 만든다.
+ */
+public class AuthenticatedUser extends User {
+
+    private final Long id;
+
+    public AuthenticatedUser(Long id, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
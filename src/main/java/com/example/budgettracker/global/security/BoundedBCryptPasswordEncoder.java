@@ -0,0 +1,164 @@
+package com.example.budgettracker.global.security;
+
+import com.example.budgettracker.global.exception.CustomException;
+import com.example.budgettracker.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전용 스레드 풀에서 실행하는 BCrypt 인코더
+ *
+ * BCrypt 해시는 CPU 를 오래 쓰므로 요청 스레드에서 제한 없이 실행하면 로그인이 몰릴 때 모든 요청 스레드가 해시 계산에 묶인다.
+ * 해시는 threads 개 스레드에서만 실행하고, 대기열(queue-capacity)이 차거나 wait-timeout 안에 끝나지 않으면
+ * 기다리지 않고 PASSWORD_HASHING_BUSY(429) 로 거절한다. 해시를 기다리는 요청 스레드는 최대 threads + queue-capacity 개다.
+ *
+ * 저장된 해시의 강도가 설정값과 다르면 upgradeEncoding 이 true 를 반환해 로그인 성공 시 새 강도로 다시 저장된다.
+ * (기존 해시는 강도와 관계없이 검증되므로 강도를 바꿔도 로그인이 막히지 않는다)
+ *
+ * 메트릭:
+ * - budget.password.hash: 해시 계산 시간 (operation=encode|matches)
+ * - budget.password.hash.wait: 대기열에서 기다린 시간
+ * - budget.password.hash.rejected: 거절 수 (reason=queue_full|timeout)
+ * - budget.password.hash.queue / active: 대기 중 / 실행 중 작업 수
+ */
+public class BoundedBCryptPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final Pattern BCRYPT_STRENGTH = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final Duration waitTimeout;
+    private final ThreadPoolTaskExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public BoundedBCryptPasswordEncoder(int strength, int threads, int queueCapacity, Duration waitTimeout,
+                                        MeterRegistry meterRegistry) {
+        this(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity, waitTimeout, meterRegistry);
+    }
+
+    BoundedBCryptPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity,
+                                 Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.strength = strength;
+        this.waitTimeout = waitTimeout;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setDaemon(true);
+        executor.initialize();
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.waitTimer = Timer.builder("budget.password.hash.wait")
+                .description("비밀번호 해시 대기열 대기 시간")
+                .register(meterRegistry);
+        this.queueFullRejections = rejectedCounter(meterRegistry, "queue_full");
+        this.timeoutRejections = rejectedCounter(meterRegistry, "timeout");
+        Gauge.builder("budget.password.hash.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("비밀번호 해시 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("budget.password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("비밀번호 해시 실행 중 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 강도가 설정값과 다르면 다시 해시 (강도를 낮춘 경우도 포함)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_STRENGTH.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);  // 아직 대기열에 있으면 실행하지 않음
+            timeoutRejections.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("budget.password.hash")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("budget.password.hash.rejected")
+                .description("비밀번호 해시 거절 수 (429)")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
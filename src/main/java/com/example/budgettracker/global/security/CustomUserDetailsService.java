@@ -2,25 +2,31 @@ package com.example.budgettracker.global.security;
 
 import com.example.budgettracker.domain.user.entity.User;
 import com.example.budgettracker.domain.user.repository.UserRepository;
+import com.example.budgettracker.global.shard.DirectoryShard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 
 /**
  * Spring Security의 UserDetailsService 구현체
  * 사용자 인증을 위한 사용자 정보를 데이터베이스에서 조회
+ * 로그인 성공 시 해시 강도가 바뀐 비밀번호는 새 해시로 저장한다. (UserDetailsPasswordService)
  * 
  * @Service: 서비스 계층의 컴포넌트로 등록
+ * @DirectoryShard: 샤딩 사용 시 사용자 계정이 있는 디렉터리 샤드에서 조회/저장
  * @RequiredArgsConstructor: final 필드에 대한 생성자 자동 생성
  */
 @Service
+@DirectoryShard
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -37,11 +43,28 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
-        // UserDetails 객체 생성 및 반환
-        return new org.springframework.security.core.userdetails.User(
+        // UserDetails 객체 생성 및 반환 (인증 주체 이름으로 쓸 사용자 ID 포함)
+        return new AuthenticatedUser(
+                user.getId(),
                 user.getEmail(),
                 user.getPassword(),
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
     }
-} 
\ No newline at end of file
+
+    /**
+     * 로그인 성공 후 다시 해시한 비밀번호 저장 (DaoAuthenticationProvider 가 upgradeEncoding 이 true 일 때 호출)
+     * 
+     * @param user 인증된 사용자
+     * @param newPassword 새 해시
+     * @return 새 해시를 담은 UserDetails
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + user.getUsername()));
+        entity.updatePassword(newPassword);
+        return new AuthenticatedUser(entity.getId(), entity.getEmail(), newPassword, user.getAuthorities());
+    }
+}
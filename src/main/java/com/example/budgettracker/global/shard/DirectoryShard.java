@@ -0,0 +1,19 @@
+package com.example.budgettracker.global.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 디렉터리 샤드에서 실행할 서비스
+ *
+ * 사용자 계정(users)의 원본은 디렉터리 샤드에만 있다. 데이터 샤드의 users 행은 외래 키를 위한 사본이며 갱신하지 않는다.
+ * 이 애너테이션이 붙은 클래스의 메서드는 요청 샤드와 관계없이 디렉터리 샤드에서 트랜잭션을 시작한다. (DirectoryShardInterceptor)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DirectoryShard {
+}
@@ -0,0 +1,26 @@
+package com.example.budgettracker.global.shard;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * @DirectoryShard 메서드를 디렉터리 샤드로 실행
+ *
+ * 트랜잭션 인터셉터보다 바깥에서 실행되어야 트랜잭션의 커넥션이 디렉터리 샤드에서 열린다. (ShardingConfig 에서 순서 지정)
+ */
+public class DirectoryShardInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        int previous = ShardContext.current();
+        if (previous == ShardContext.DEFAULT_SHARD) {
+            return invocation.proceed();
+        }
+        ShardContext.set(ShardContext.DEFAULT_SHARD);
+        try {
+            return invocation.proceed();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+}
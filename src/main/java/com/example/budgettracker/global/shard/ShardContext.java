@@ -0,0 +1,56 @@
+package com.example.budgettracker.global.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 샤드
+ *
+ * 요청 스레드는 ShardContextFilter 가, 스케줄러 작업은 ShardRunner 가 설정한다.
+ * 설정되지 않았으면 기본 샤드(디렉터리 샤드, spring.datasource)를 사용한다.
+ */
+public final class ShardContext {
+
+    public static final int DEFAULT_SHARD = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shardId = CURRENT.get();
+        return shardId != null ? shardId : DEFAULT_SHARD;
+    }
+
+    public static void set(int shardId) {
+        CURRENT.set(shardId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 지정한 샤드에서 작업 실행 (실행 후 이전 샤드로 복원)
+     */
+    public static void run(int shardId, Runnable task) {
+        call(shardId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T call(int shardId, Supplier<T> task) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shardId);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
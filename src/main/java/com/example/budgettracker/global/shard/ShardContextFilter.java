@@ -0,0 +1,69 @@
+package com.example.budgettracker.global.shard;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 요청 샤드 설정 필터
+ *
+ * Spring Security 필터 체인 뒤에서 실행되어, 인증된 사용자의 샤드를 ShardContext 에 설정한다.
+ * 인증되지 않은 요청(회원가입, 로그인 등)은 디렉터리 샤드를 사용한다.
+ *
+ * - 읽기 요청(GET, HEAD, OPTIONS)은 캐시된 배정을 사용한다.
+ * - 쓰기 요청은 디렉터리에서 쓰기 임대를 받고 요청이 끝나면 반납한다. 리샤딩은 임대가 모두 반납된 뒤에 복사를 시작한다.
+ * - 리샤딩 중인 사용자의 요청은 503 으로 거절한다.
+ */
+@RequiredArgsConstructor
+public class ShardContextFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ShardResolver shardResolver;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String principalName = authentication.getName();
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        ShardDirectory.Assignment assignment = write
+                ? shardResolver.acquireWrite(principalName)
+                : shardResolver.resolve(principalName);
+        if (assignment == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (assignment.migrating()) {
+            response.setHeader("Retry-After", "5");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "데이터 이전 중입니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        ShardContext.set(assignment.shardId());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ShardContext.clear();
+            if (write) {
+                shardResolver.releaseWrite(principalName);
+            }
+        }
+    }
+}
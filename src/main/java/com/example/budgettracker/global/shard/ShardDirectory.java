@@ -0,0 +1,144 @@
+package com.example.budgettracker.global.shard;
+
+import com.example.budgettracker.global.metrics.CacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 → 샤드 디렉터리
+ *
+ * - 디렉터리 샤드의 user_shard 테이블을 조회하고, 결과를 cache-ttl 동안 메모리에 둔다.
+ * - 처음 보는 사용자는 사용자 ID 해시로 샤드를 배정하고, 배정된 샤드에 사용자 행을 복사한다.
+ *   (거래 내역 등의 외래 키와 JPA 연관관계를 샤드 안에서 해결하기 위함, 계정 정보의 원본은 디렉터리 샤드 - @DirectoryShard)
+ * - 쓰기 요청은 캐시 대신 쓰기 임대(acquireWrite/releaseWrite)로 샤드를 얻는다.
+ *   migrating 이 아닐 때만 active_writes 를 올리므로, 리샤딩은 migrating 표시 후 active_writes 가 0 이 되면
+ *   진행 중인 쓰기 없이 복사를 시작할 수 있다.
+ */
+@Slf4j
+public class ShardDirectory {
+
+    private final ShardRoutingDataSource shards;
+    private final JdbcTemplate directory;
+    private final long cacheTtlMillis;
+    private final Map<Long, Assignment> cache = new ConcurrentHashMap<>();
+    private final CacheMetrics cacheMetrics;
+
+    public ShardDirectory(ShardRoutingDataSource shards, long cacheTtlMillis, MeterRegistry meterRegistry) {
+        this.shards = shards;
+        this.directory = new JdbcTemplate(shards.getShard(ShardContext.DEFAULT_SHARD));
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.cacheMetrics = new CacheMetrics(meterRegistry, "user-shard", cache);
+    }
+
+    /**
+     * 사용자 샤드 배정 정보 (캐시 사용)
+     */
+    public Assignment assignment(long userId) {
+        Assignment cached = cache.get(userId);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < cacheTtlMillis) {
+            cacheMetrics.hit();
+            return cached;
+        }
+        cacheMetrics.miss();
+        Assignment loaded = load(userId);
+        if (loaded == null) {
+            loaded = assign(userId);
+        }
+        cache.put(userId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 캐시를 거치지 않은 배정 정보 (없으면 null)
+     */
+    public Assignment load(long userId) {
+        List<Assignment> rows = directory.query(
+                "SELECT shard_id, migrating FROM user_shard WHERE user_id = ?",
+                (rs, rowNum) -> new Assignment(rs.getInt("shard_id"), rs.getBoolean("migrating"), System.currentTimeMillis()),
+                userId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * 쓰기 임대: 리샤딩 중이 아니면 진행 중인 쓰기 수를 올리고 현재 샤드를 돌려준다.
+     * 캐시를 거치지 않으므로 다른 인스턴스가 방금 옮긴 사용자도 새 샤드로 쓴다.
+     *
+     * @return 배정 정보 (migrating 이면 임대하지 않았으므로 releaseWrite 를 호출하지 않음)
+     */
+    public Assignment acquireWrite(long userId) {
+        assignment(userId);
+        int acquired = directory.update(
+                "UPDATE user_shard SET active_writes = active_writes + 1 WHERE user_id = ? AND migrating = FALSE", userId);
+        Assignment current = load(userId);
+        if (acquired == 0) {
+            return new Assignment(current.shardId(), true, current.loadedAt());
+        }
+        cache.put(userId, current);
+        return current;
+    }
+
+    public void releaseWrite(long userId) {
+        directory.update("UPDATE user_shard SET active_writes = active_writes - 1 WHERE user_id = ? AND active_writes > 0",
+                userId);
+    }
+
+    /**
+     * 진행 중인 쓰기 요청 수 (모든 인스턴스 합계)
+     */
+    public int activeWrites(long userId) {
+        Integer activeWrites = directory.queryForObject(
+                "SELECT active_writes FROM user_shard WHERE user_id = ?", Integer.class, userId);
+        return activeWrites != null ? activeWrites : 0;
+    }
+
+    public void markMigrating(long userId, boolean migrating) {
+        directory.update("UPDATE user_shard SET migrating = ? WHERE user_id = ?", migrating, userId);
+        cache.remove(userId);
+    }
+
+    public void move(long userId, int shardId) {
+        directory.update("UPDATE user_shard SET shard_id = ?, migrating = ? WHERE user_id = ?", shardId, false, userId);
+        cache.remove(userId);
+    }
+
+    public long getCacheTtlMillis() {
+        return cacheTtlMillis;
+    }
+
+    private Assignment assign(long userId) {
+        int shardId = Math.floorMod(Long.hashCode(userId), shards.getShardCount());
+        if (shardId != ShardContext.DEFAULT_SHARD) {
+            copyUserRow(userId, shardId);
+        }
+        try {
+            directory.update("INSERT INTO user_shard (user_id, shard_id, migrating, active_writes) VALUES (?, ?, ?, ?)",
+                    userId, shardId, false, 0);
+            log.info("사용자 샤드 배정: userId={}, shard={}", userId, shardId);
+            return new Assignment(shardId, false, System.currentTimeMillis());
+        } catch (DuplicateKeyException e) {
+            // 다른 요청/인스턴스가 먼저 배정함
+            return load(userId);
+        }
+    }
+
+    /**
+     * 사용자 행을 다른 샤드로 복사 (이미 있으면 건너뜀)
+     * 데이터 샤드의 사용자 행은 외래 키용 사본이므로 항상 디렉터리 샤드의 원본에서 복사한다.
+     */
+    void copyUserRow(long userId, int targetShard) {
+        JdbcTemplate target = new JdbcTemplate(shards.getShard(targetShard));
+        if (!ShardRows.selectById(target, "users", "id", userId).isEmpty()) {
+            return;
+        }
+        ShardRows.insert(target, "users", ShardRows.selectById(directory, "users", "id", userId));
+    }
+
+    public record Assignment(int shardId, boolean migrating, long loadedAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.budgettracker.global.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 주체 → 샤드 해석기
+ *
+ * 인증 주체 이름(이메일 또는 사용자 ID)을 디렉터리 샤드의 사용자 ID 로 바꾼 뒤 샤드 디렉터리에서 샤드를 찾는다.
+ * 이메일 → 사용자 ID 는 바뀌지 않으므로 계속 캐시한다.
+ */
+public class ShardResolver {
+
+    private final JdbcTemplate directory;
+    private final ShardDirectory shardDirectory;
+    private final Map<String, Long> userIds = new ConcurrentHashMap<>();
+
+    public ShardResolver(ShardRoutingDataSource shards, ShardDirectory shardDirectory) {
+        this.directory = new JdbcTemplate(shards.getShard(ShardContext.DEFAULT_SHARD));
+        this.shardDirectory = shardDirectory;
+    }
+
+    /**
+     * @param principalName 인증 주체 이름
+     * @return 샤드 배정 정보 (사용자를 찾을 수 없으면 null)
+     */
+    public ShardDirectory.Assignment resolve(String principalName) {
+        Long userId = userId(principalName);
+        return userId != null ? shardDirectory.assignment(userId) : null;
+    }
+
+    /**
+     * 쓰기 요청용 배정 정보 (ShardDirectory#acquireWrite, 임대했으면 요청이 끝날 때 releaseWrite 를 호출해야 함)
+     */
+    public ShardDirectory.Assignment acquireWrite(String principalName) {
+        Long userId = userId(principalName);
+        return userId != null ? shardDirectory.acquireWrite(userId) : null;
+    }
+
+    public void releaseWrite(String principalName) {
+        Long userId = userId(principalName);
+        if (userId != null) {
+            shardDirectory.releaseWrite(userId);
+        }
+    }
+
+    private Long userId(String principalName) {
+        if (principalName.chars().allMatch(Character::isDigit)) {
+            return Long.parseLong(principalName);
+        }
+        Long cached = userIds.get(principalName);
+        if (cached != null) {
+            return cached;
+        }
+        List<Long> ids = directory.queryForList("SELECT id FROM users WHERE email = ?", Long.class, principalName);
+        if (ids.isEmpty()) {
+            return null;
+        }
+        userIds.put(principalName, ids.get(0));
+        return ids.get(0);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.budgettracker.global.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 샤드 라우팅 데이터소스
+ *
+ * ShardContext 의 샤드 ID 로 물리 데이터소스를 고른다.
+ * 트랜잭션 시작 전에 샤드가 정해져 있어야 하므로 ShardContextFilter/ShardRunner 안에서 사용한다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shardId = 0; shardId < this.shards.size(); shardId++) {
+            targets.put(shardId, this.shards.get(shardId));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(this.shards.get(ShardContext.DEFAULT_SHARD));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public DataSource getShard(int shardId) {
+        return shards.get(shardId);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.budgettracker.global.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 간 행 복사/삭제용 JDBC 헬퍼
+ * (테이블 구조를 몰라도 되도록 조회한 컬럼 그대로 INSERT 한다)
+ */
+final class ShardRows {
+
+    private ShardRows() {
+    }
+
+    /**
+     * 사용자 소유 테이블 정보
+     */
+    record UserTable(String name, String idColumn, String userColumn) {
+    }
+
+    static List<Map<String, Object>> selectChunk(JdbcTemplate jdbcTemplate, UserTable table,
+                                                 long userId, long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT * FROM " + table.name() + " WHERE " + table.userColumn() + " = ? AND " + table.idColumn() + " > ?" +
+                " ORDER BY " + table.idColumn() + " LIMIT ?",
+                userId, afterId, limit);
+    }
+
+    static List<Map<String, Object>> selectById(JdbcTemplate jdbcTemplate, String table, String idColumn, long id) {
+        return jdbcTemplate.queryForList("SELECT * FROM " + table + " WHERE " + idColumn + " = ?", id);
+    }
+
+    static List<Long> selectIdChunk(JdbcTemplate jdbcTemplate, UserTable table, long userId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT " + table.idColumn() + " FROM " + table.name() + " WHERE " + table.userColumn() + " = ?" +
+                " ORDER BY " + table.idColumn() + " LIMIT ?",
+                Long.class, userId, limit);
+    }
+
+    static void insert(JdbcTemplate jdbcTemplate, String table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" +
+                String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            args.add(columns.stream().map(row::get).toArray());
+        }
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    static int deleteByIds(JdbcTemplate jdbcTemplate, String table, String idColumn, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String sql = "DELETE FROM " + table + " WHERE " + idColumn + " IN (" +
+                String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        return jdbcTemplate.update(sql, ids.toArray());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.budgettracker.global.shard;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤드별 작업 실행기 (아웃박스 폴러 등 사용자와 무관하게 도는 스케줄러 작업용)
+ *
+ * 샤딩을 사용하지 않으면 기본 샤드에서 한 번만 실행한다.
+ */
+@Component
+public class ShardRunner {
+
+    private final ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource;
+
+    public ShardRunner(ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        this.shardRoutingDataSource = shardRoutingDataSource;
+    }
+
+    public void forEachShard(Runnable task) {
+        ShardRoutingDataSource routing = shardRoutingDataSource.getIfAvailable();
+        int shardCount = routing != null ? routing.getShardCount() : 1;
+        for (int shardId = 0; shardId < shardCount; shardId++) {
+            ShardContext.run(shardId, task);
+        }
+    }
+}
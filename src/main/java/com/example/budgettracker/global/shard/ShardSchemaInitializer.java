@@ -0,0 +1,64 @@
+package com.example.budgettracker.global.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * 데이터 샤드 스키마 초기화
+ *
+ * Hibernate 는 spring.jpa.hibernate.ddl-auto 를 기본 데이터소스의 커넥션(샤드 0)에만 실행하므로,
+ * 같은 매핑과 같은 설정(update, validate, none 등)으로 샤드 1..N 에도 한 번씩 실행한다.
+ * 매핑 메타데이터는 Hibernate Integrator 로 받아 두고, 모든 싱글턴 생성이 끝난 뒤(웹 서버 기동 전) 실행한다.
+ *
+ * 스키마 비교는 샤드 0 커넥션의 카탈로그 기준이므로 샤드마다 데이터베이스 이름이 같아야 한다.
+ */
+@Slf4j
+public class ShardSchemaInitializer implements Integrator, SmartInitializingSingleton {
+
+    private final ShardRoutingDataSource shards;
+    private Metadata metadata;
+    private SessionFactoryImplementor sessionFactory;
+
+    public ShardSchemaInitializer(ShardRoutingDataSource shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        this.metadata = null;
+        this.sessionFactory = null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (metadata == null) {
+            log.warn("JPA 메타데이터가 없어 데이터 샤드 스키마를 초기화하지 않습니다.");
+            return;
+        }
+        for (int shardId = ShardContext.DEFAULT_SHARD + 1; shardId < shards.getShardCount(); shardId++) {
+            initialize(shardId);
+        }
+    }
+
+    /**
+     * 샤드 하나에 스키마 관리 작업 실행 (커넥션은 ShardContext 의 샤드에서 얻음)
+     */
+    void initialize(int shardId) {
+        ShardContext.run(shardId, () -> SchemaManagementToolCoordinator.process(
+                metadata, sessionFactory.getServiceRegistry(), sessionFactory.getProperties(), action -> {
+                }));
+        log.info("데이터 샤드 스키마 초기화: shard={}", shardId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.budgettracker.global.shard;
+
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샤드별 트랜잭션 매니저
+ *
+ * 애플리케이션 코드(JPA)는 ShardContext 로 라우팅되는 하나의 트랜잭션 매니저를 사용하고,
+ * 샤드를 직접 지정해야 하는 작업(리샤딩 등)은 여기서 샤드별 매니저를 꺼내 쓴다.
+ * (빈으로 등록하면 기본 transactionManager 자동 설정과 충돌하므로 묶어서 관리)
+ */
+public class ShardTransactionManagers {
+
+    private final List<PlatformTransactionManager> managers = new ArrayList<>();
+
+    public ShardTransactionManagers(ShardRoutingDataSource shards) {
+        for (int shardId = 0; shardId < shards.getShardCount(); shardId++) {
+            managers.add(new DataSourceTransactionManager(shards.getShard(shardId)));
+        }
+    }
+
+    public PlatformTransactionManager get(int shardId) {
+        return managers.get(shardId);
+    }
+
+    public TransactionTemplate transactionTemplate(int shardId) {
+        return new TransactionTemplate(get(shardId));
+    }
+}
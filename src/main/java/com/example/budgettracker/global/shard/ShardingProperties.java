@@ -0,0 +1,48 @@
+package com.example.budgettracker.global.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 샤딩 설정 (sharding.*)
+ *
+ * 샤드 0 은 spring.datasource (사용자 계정과 샤드 디렉터리를 보관하는 디렉터리 샤드)이고,
+ * sharding.shards 에 나열한 데이터소스가 샤드 1..N 이 된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 샤드별 커넥션 풀 크기
+     */
+    private int poolSize = 10;
+
+    /**
+     * 리샤딩 시 한 번에 옮기는 행 수
+     */
+    private int migrationChunkSize = 500;
+
+    /**
+     * 리샤딩 전 진행 중인 쓰기 요청이 끝나기를 기다리는 최대 시간
+     */
+    private long migrationDrainTimeoutMs = 30000;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
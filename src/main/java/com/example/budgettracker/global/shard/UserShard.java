@@ -0,0 +1,40 @@
+package com.example.budgettracker.global.shard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 샤드 디렉터리 엔티티 (디렉터리 샤드에만 존재)
+ *
+ * 테이블 생성용 매핑이며 읽기/쓰기는 ShardDirectory 가 JDBC 로 직접 수행한다.
+ */
+@Entity
+@Table(name = "user_shard")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserShard {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "shard_id", nullable = false)
+    private Integer shardId;
+
+    /**
+     * 리샤딩 중 여부 (true 이면 해당 사용자의 요청을 받지 않음)
+     */
+    @Column(nullable = false)
+    private boolean migrating;
+
+    /**
+     * 진행 중인 쓰기 요청 수 (리샤딩은 0 이 될 때까지 기다린 뒤 복사를 시작함)
+     */
+    @Column(name = "active_writes", nullable = false)
+    private int activeWrites;
+}
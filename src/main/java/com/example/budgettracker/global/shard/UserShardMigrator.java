@@ -0,0 +1,168 @@
+package com.example.budgettracker.global.shard;
+
+import com.example.budgettracker.global.shard.ShardRows.UserTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리샤딩 도구: 한 사용자의 행을 다른 샤드로 옮긴다.
+ *
+ * 1. 디렉터리에 migrating 표시 (이후 해당 사용자의 쓰기 요청은 503)
+ * 2. 표시 전에 쓰기 임대를 받은 요청이 모두 끝날 때까지(active_writes = 0) 대기, drain-timeout 을 넘기면 중단
+ * 3. 대상 샤드에 남아 있던 이전 시도의 행 삭제, 사용자 행(외래 키용 사본) 복사
+ * 4. 사용자 소유 테이블을 외래 키 순서대로 chunk-size 행씩 복사 (청크마다 대상 샤드 트랜잭션 커밋)
+ * 5. 디렉터리의 샤드를 바꾸고 migrating 해제
+ * 6. 캐시된 배정으로 원래 샤드를 읽는 요청이 없어질 때까지(cache-ttl) 기다린 뒤 원래 샤드의 행을 청크 단위로 삭제
+ *
+ * 어느 단계에서 실패해도 디렉터리는 원래 샤드를 가리키므로 다시 실행하면 된다.
+ * 행은 ID 를 유지한 채 복사하므로, 샤드마다 auto_increment_increment/offset 을 다르게 두어
+ * ID 가 샤드 간에 겹치지 않게 해야 한다.
+ */
+@Slf4j
+public class UserShardMigrator {
+
+    /**
+     * 사용자 소유 테이블 (외래 키 순서: 부모 → 자식)
+     * 기본 카테고리(user_id 가 NULL)는 모든 샤드에 같은 ID 로 있어야 하며 옮기지 않는다.
+     */
+    static final List<UserTable> USER_TABLES = List.of(
+            new UserTable("categories", "category_id", "user_id"),
+            new UserTable("transactions", "id", "user_id"),
+            new UserTable("budgets", "id", "user_id"),
+            new UserTable("transaction_outbox", "id", "user_id"),
+            new UserTable("transaction_tombstones", "id", "user_id"),
+            new UserTable("user_event_sequences", "user_id", "user_id"),
+            new UserTable("user_balances", "user_id", "user_id"));
+
+    private static final String OUTBOX_TABLE = "transaction_outbox";
+    private static final long DRAIN_POLL_MILLIS = 50;
+
+    private final ShardRoutingDataSource shards;
+    private final ShardDirectory directory;
+    private final ShardTransactionManagers transactionManagers;
+    private final int chunkSize;
+    private final long drainTimeoutMillis;
+
+    public UserShardMigrator(ShardRoutingDataSource shards, ShardDirectory directory,
+                             ShardTransactionManagers transactionManagers, int chunkSize, long drainTimeoutMillis) {
+        this.shards = shards;
+        this.directory = directory;
+        this.transactionManagers = transactionManagers;
+        this.chunkSize = chunkSize;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+    }
+
+    /**
+     * @param userId 사용자 ID
+     * @param targetShard 대상 샤드
+     * @return 옮긴 행 수
+     */
+    public long moveUser(long userId, int targetShard) throws InterruptedException {
+        if (targetShard < 0 || targetShard >= shards.getShardCount()) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + targetShard);
+        }
+        int sourceShard = directory.assignment(userId).shardId();
+        if (sourceShard == targetShard) {
+            return 0;
+        }
+
+        directory.markMigrating(userId, true);
+        long moved = 0;
+        try {
+            awaitWritesDrained(userId);
+
+            purge(targetShard, userId);
+            directory.copyUserRow(userId, targetShard);
+            for (UserTable table : USER_TABLES) {
+                moved += copy(table, userId, sourceShard, targetShard);
+            }
+            alignOutboxIdentity(sourceShard, targetShard);
+
+            directory.move(userId, targetShard);
+        } catch (RuntimeException | InterruptedException e) {
+            directory.markMigrating(userId, false);
+            throw e;
+        }
+
+        // 다른 인스턴스가 캐시된 배정으로 원래 샤드를 읽지 않을 때까지 대기
+        Thread.sleep(directory.getCacheTtlMillis());
+        purge(sourceShard, userId);
+        log.info("사용자 샤드 이동 완료: userId={}, {} -> {}, rows={}", userId, sourceShard, targetShard, moved);
+        return moved;
+    }
+
+    /**
+     * migrating 표시 전에 시작된 쓰기 요청이 모두 끝날 때까지 대기
+     */
+    private void awaitWritesDrained(long userId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + drainTimeoutMillis;
+        int activeWrites;
+        while ((activeWrites = directory.activeWrites(userId)) > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException("진행 중인 쓰기 요청이 끝나지 않았습니다: userId=" + userId
+                        + ", activeWrites=" + activeWrites);
+            }
+            Thread.sleep(DRAIN_POLL_MILLIS);
+        }
+    }
+
+    private long copy(UserTable table, long userId, int sourceShard, int targetShard) {
+        JdbcTemplate source = new JdbcTemplate(shards.getShard(sourceShard));
+        JdbcTemplate target = new JdbcTemplate(shards.getShard(targetShard));
+
+        long copied = 0;
+        long afterId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = ShardRows.selectChunk(source, table, userId, afterId, chunkSize);
+            if (rows.isEmpty()) {
+                return copied;
+            }
+            transactionManagers.transactionTemplate(targetShard)
+                    .executeWithoutResult(status -> ShardRows.insert(target, table.name(), rows));
+
+            afterId = ((Number) rows.get(rows.size() - 1).get(table.idColumn())).longValue();
+            copied += rows.size();
+            if (rows.size() < chunkSize) {
+                return copied;
+            }
+        }
+    }
+
+    /**
+     * 샤드에서 사용자 행 삭제 (자식 테이블부터, 청크 단위)
+     * 디렉터리 샤드의 사용자 행은 로그인에 쓰이므로 남긴다.
+     */
+    private void purge(int shardId, long userId) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.getShard(shardId));
+        for (int i = USER_TABLES.size() - 1; i >= 0; i--) {
+            UserTable table = USER_TABLES.get(i);
+            List<Long> ids;
+            do {
+                ids = ShardRows.selectIdChunk(jdbcTemplate, table, userId, chunkSize);
+                List<Long> chunk = ids;
+                transactionManagers.transactionTemplate(shardId)
+                        .executeWithoutResult(status -> ShardRows.deleteByIds(jdbcTemplate, table.name(), table.idColumn(), chunk));
+            } while (ids.size() == chunkSize);
+        }
+        if (shardId != ShardContext.DEFAULT_SHARD) {
+            ShardRows.deleteByIds(jdbcTemplate, "users", "id", List.of(userId));
+        }
+    }
+
+    /**
+     * 대상 샤드의 아웃박스 ID 가 원래 샤드보다 뒤에서 시작하도록 맞춘다.
+     * 폴러는 id 순서로 읽으므로, 옮겨 온 미처리 이벤트가 이동 후 새 이벤트보다 먼저(순번 순서대로) 전달되어야 한다.
+     */
+    private void alignOutboxIdentity(int sourceShard, int targetShard) {
+        Long sourceMax = new JdbcTemplate(shards.getShard(sourceShard))
+                .queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + OUTBOX_TABLE, Long.class);
+        JdbcTemplate target = new JdbcTemplate(shards.getShard(targetShard));
+        Long targetMax = target.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + OUTBOX_TABLE, Long.class);
+        if (sourceMax != null && targetMax != null && sourceMax > targetMax) {
+            target.execute("ALTER TABLE " + OUTBOX_TABLE + " AUTO_INCREMENT = " + (sourceMax + 1));
+        }
+    }
+}
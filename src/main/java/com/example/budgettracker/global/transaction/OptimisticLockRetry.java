@@ -0,0 +1,102 @@
+package com.example.budgettracker.global.transaction;
+
+import com.example.budgettracker.global.exception.CustomException;
+import com.example.budgettracker.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 잠금(@Version) 충돌 재시도
+ *
+ * 작업을 새 트랜잭션에서 실행하고, 커밋 시 버전 충돌이 나면 처음부터(다시 조회부터) 다시 실행한다.
+ * 행 잠금 없이 동시 수정을 감지하므로 충돌이 없는 대부분의 쓰기는 대기하지 않는다.
+ *
+ * - 멱등 작업(클라이언트가 버전을 보내지 않은 전체 수정, 삭제)만 max-attempts 까지 재시도한다.
+ *   재시도 사이에는 backoff-ms * 시도 횟수 안에서 임의로 쉰다. (같은 행을 동시에 다시 쓰는 것을 피함)
+ * - 멱등이 아니거나(클라이언트가 본 버전 기준 수정) 재시도를 다 쓰면 CONCURRENT_MODIFICATION(409) 으로 응답한다.
+ * - 이미 트랜잭션 안(배치 작업 등)이면 그 트랜잭션에 참여해 한 번만 실행한다. 충돌은 바깥 트랜잭션 커밋 때 드러난다.
+ *
+ * 메트릭 budget.optimistic_lock.conflicts (outcome 태그: retried, rejected)
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Counter retried;
+    private final Counter rejected;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${optimistic-lock.max-attempts:3}") int maxAttempts,
+                               @Value("${optimistic-lock.backoff-ms:20}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.retried = counter(meterRegistry, "retried");
+        this.rejected = counter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 트랜잭션에서 실행하고 버전 충돌 시 재시도
+     *
+     * @param idempotent 다시 실행해도 결과가 같은 작업인지 (false 면 충돌 즉시 409)
+     * @param work 조회부터 변경까지 하는 작업
+     */
+    public <T> T execute(boolean idempotent, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        int attempts = idempotent ? maxAttempts : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= attempts) {
+                    rejected.increment();
+                    log.debug("낙관적 잠금 충돌: {} ({}회 시도)", e.getMessage(), attempt);
+                    throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+                retried.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void execute(boolean idempotent, Runnable work) {
+        execute(idempotent, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("budget.optimistic_lock.conflicts")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.budgettracker.global.util;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -17,14 +18,17 @@ import java.util.Base64;
 public class AESUtil {
 
     private final SecretKeySpec secretKey;
+    private final MeterRegistry meterRegistry;
 
     /**
      * AESUtil 생성자
      * 
      * @param secret 암호화 키
+     * @param meterRegistry 암호화/복호화 횟수 집계 (budget.aes.operations)
      */
-    public AESUtil(@Value("${encryption.aes.key}") String secret) {
+    public AESUtil(@Value("${encryption.aes.key}") String secret, MeterRegistry meterRegistry) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "AES");
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -38,8 +42,10 @@ public class AESUtil {
             Cipher cipher = Cipher.getInstance("AES");
             cipher.init(Cipher.ENCRYPT_MODE, secretKey);
             byte[] encryptedBytes = cipher.doFinal(value.getBytes());
+            count("encrypt", "success");
             return Base64.getEncoder().encodeToString(encryptedBytes);
         } catch (Exception e) {
+            count("encrypt", "failure");
             throw new RuntimeException("암호화 중 오류가 발생했습니다.", e);
         }
     }
@@ -55,9 +61,15 @@ public class AESUtil {
             Cipher cipher = Cipher.getInstance("AES");
             cipher.init(Cipher.DECRYPT_MODE, secretKey);
             byte[] decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(encrypted));
+            count("decrypt", "success");
             return new String(decryptedBytes);
         } catch (Exception e) {
+            count("decrypt", "failure");
             throw new RuntimeException("복호화 중 오류가 발생했습니다.", e);
         }
     }
+
+    private void count(String operation, String result) {
+        meterRegistry.counter("budget.aes.operations", "operation", operation, "result", result).increment();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.example.budgettracker.global.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * JSON 배열 스트리밍 출력
+ *
+ * 목록을 모두 만든 뒤 직렬화하지 않고, 원소를 받는 즉시 응답 스트림에 쓴다.
+ * flushEvery 건마다 flush 하므로 첫 바이트가 결과 크기와 관계없이 바로 나가고, 힙에는 출력 버퍼만 남는다.
+ *
+ * 요청 스레드에서 그대로 쓰므로 트랜잭션, 샤드 컨텍스트, 요청별 쿼리 통계가 일반 응답과 같게 동작한다.
+ * 중간에 실패하면 finish() 를 부르지 않는다. 아직 flush 전이면 버퍼가 버려지고 예외 처리기가 오류 응답을 쓰며,
+ * 이미 응답이 커밋됐다면 배열이 닫히지 않은 채 끝나므로 클라이언트는 잘린 목록을 JSON 파싱 오류로 알 수 있다.
+ */
+public final class JsonArrayStreamWriter<T> implements Consumer<T> {
+
+    public static final int DEFAULT_FLUSH_EVERY = 200;
+
+    private final JsonGenerator generator;
+    private final int flushEvery;
+    private int count;
+
+    private JsonArrayStreamWriter(JsonGenerator generator, int flushEvery) {
+        this.generator = generator;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * 응답 헤더를 설정하고 배열을 연다.
+     */
+    public static <T> JsonArrayStreamWriter<T> open(ObjectMapper objectMapper, HttpServletResponse response)
+            throws IOException {
+        return open(objectMapper, response, DEFAULT_FLUSH_EVERY);
+    }
+
+    public static <T> JsonArrayStreamWriter<T> open(ObjectMapper objectMapper, HttpServletResponse response,
+                                                    int flushEvery) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+        generator.writeStartArray();
+        return new JsonArrayStreamWriter<>(generator, flushEvery);
+    }
+
+    @Override
+    public void accept(T element) {
+        try {
+            generator.writeObject(element);
+            if (++count % flushEvery == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지금까지 쓴 원소 수
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 배열을 닫고 남은 버퍼를 내보낸다. (모든 원소를 쓴 경우에만 호출)
+     */
+    public void finish() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
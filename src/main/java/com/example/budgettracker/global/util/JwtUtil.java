@@ -4,6 +4,8 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -12,6 +14,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -24,11 +27,14 @@ public class JwtUtil {
 
     private final Key key;
     private final long jwtExpiration;
+    private final MeterRegistry meterRegistry;
 
     public JwtUtil(@Value("${jwt.secret}") String secret,
-                   @Value("${jwt.expiration}") long jwtExpiration) {
+                   @Value("${jwt.expiration}") long jwtExpiration,
+                   MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -110,8 +116,7 @@ public class JwtUtil {
      * @return 토큰 유효성 여부
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return isTokenValid(token, userDetails.getUsername());
     }
 
     /**
@@ -122,8 +127,15 @@ public class JwtUtil {
      * @return 토큰 유효성 여부
      */
     public boolean isTokenValid(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        long start = System.nanoTime();
+        boolean valid = false;
+        try {
+            final String extractedUsername = extractUsername(token);
+            valid = extractedUsername.equals(username) && !isTokenExpired(token);
+            return valid;
+        } finally {
+            recordValidation(start, valid);
+        }
     }
 
     /**
@@ -155,14 +167,30 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
+        long start = System.nanoTime();
+        boolean valid = false;
         try {
             Jwts.parserBuilder()
                     .setSigningKey(key)
                     .build()
                     .parseClaimsJws(token);
-            return !isTokenExpired(token);
+            valid = !isTokenExpired(token);
+            return valid;
         } catch (Exception e) {
             return false;
+        } finally {
+            recordValidation(start, valid);
         }
     }
+
+    /**
+     * 토큰 검증 시간 기록 (budget.jwt.validation)
+     */
+    private void recordValidation(long start, boolean valid) {
+        Timer.builder("budget.jwt.validation")
+                .description("JWT 토큰 검증 시간")
+                .tag("result", valid ? "valid" : "invalid")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
 } 
\ No newline at end of file
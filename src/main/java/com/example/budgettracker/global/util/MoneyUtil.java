@@ -0,0 +1,36 @@
+package com.example.budgettracker.global.util;
+
+import java.math.BigDecimal;
+
+/**
+ * 금액 변환 유틸리티
+ *
+ * 카운터/집계 값은 원 단위 x 100 의 long(cents) 으로 보관하여
+ * 원자적 증감($inc, AtomicLong 등)이 가능하도록 한다.
+ */
+public final class MoneyUtil {
+
+    private MoneyUtil() {
+    }
+
+    /**
+     * 금액을 cents(long) 로 변환 (소수점 셋째 자리 이하는 버림)
+     *
+     * @param amount 금액 (null 이면 0)
+     * @return cents
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount == null ? 0L : amount.movePointRight(2).longValue();
+    }
+
+    /**
+     * cents 를 금액으로 변환
+     * 정수 금액은 소수점 없이 (예: 3000000), 그 외에는 소수점 둘째 자리까지 표현한다.
+     *
+     * @param cents 금액 x 100
+     * @return 금액
+     */
+    public static BigDecimal fromCents(long cents) {
+        return cents % 100 == 0 ? BigDecimal.valueOf(cents / 100) : BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.budgettracker.domain.backup.service
+
+import com.example.budgettracker.domain.backup.dto.TransactionBackupRecord
+import com.example.budgettracker.domain.backup.entity.Backup
+import com.example.budgettracker.domain.backup.entity.BackupStatus
+import com.example.budgettracker.domain.backup.repository.BackupRepository
+import com.example.budgettracker.domain.balance.service.BalanceService
+import com.example.budgettracker.domain.transaction.entity.Category
+import com.example.budgettracker.domain.transaction.entity.Transaction
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.ChangeType
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository
+import com.example.budgettracker.domain.transaction.service.TransactionOutboxService
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.repository.UserRepository
+import com.example.budgettracker.global.shard.ShardRunner
+import com.fasterxml.jackson.databind.ObjectMapper
+import jakarta.persistence.EntityManager
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import org.springframework.transaction.PlatformTransactionManager
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+import java.util.stream.Stream
+
+/**
+ * 백업 복원 테스트
+ *
+ * 네이티브 INSERT ... ON DUPLICATE KEY UPDATE 와 이벤트 순번 발급을 실행하므로 H2 를 MySQL 모드로 띄운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:backup-restore;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class BackupRestoreServiceSpec extends Specification {
+
+    static final LocalDateTime MARCH = LocalDateTime.of(2024, 3, 10, 12, 0)
+
+    @Autowired
+    TransactionRepository transactionRepository
+    @Autowired
+    TransactionOutboxRepository outboxRepository
+    @Autowired
+    CategoryRepository categoryRepository
+    @Autowired
+    UserRepository userRepository
+    @Autowired
+    JdbcTemplate jdbcTemplate
+    @Autowired
+    EntityManager entityManager
+    @Autowired
+    PlatformTransactionManager transactionManager
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+    BackupChunkCodec codec = new BackupChunkCodec(objectMapper)
+    BackupRepository backupRepository = Mock()
+    BalanceService balanceService = Mock()
+    BackupRestoreService restoreService
+    User user
+    Category food
+
+    def setup() {
+        def outboxService = new TransactionOutboxService(outboxRepository, objectMapper,
+                [], new ShardRunner(Mock(ObjectProvider)), false, 200, 10, 10, 1000, 300000, 72)
+        restoreService = new BackupRestoreService(backupRepository, codec, jdbcTemplate, transactionRepository,
+                outboxService, balanceService, transactionManager, 2)
+
+        user = userRepository.save(User.builder().email("restore@test.com").password("pw").name("tester").build())
+        food = categoryRepository.save(new Category("식비", "음식", "food", "#FF5733", null, true))
+    }
+
+    def "변경은 upsert, 삭제는 DELETE 로 반영하고 실제로 바뀐 행마다 변경 전 값을 담은 이벤트를 순번대로 쌓는다"() {
+        given: "A 는 백업 이후 값이 달라졌고, B 는 백업에서 삭제되었고, C 는 DB 에 없고, D 는 백업과 같다"
+        def a = save(12000)
+        def b = save(3000)
+        def d = save(5000)
+        def c = d.id + 100
+        entityManager.flush()
+        entityManager.clear()
+        chunks([record(a.id, 20000), record(c, 8000), record(d.id, 5000)],
+                [TransactionBackupRecord.deleted(b.id, user.id, MARCH.plusDays(1))])
+
+        when:
+        def count = restoreService.restoreToDatabase(user.id)
+        entityManager.flush()
+        entityManager.clear()
+
+        then:
+        count == 4
+        transactionRepository.findById(a.id).get().amount == 20000G
+        transactionRepository.findById(c).get().amount == 8000G
+        transactionRepository.findById(d.id).get().amount == 5000G
+        !transactionRepository.existsById(b.id)
+        1 * balanceService.reconcile(user.id)
+
+        and:
+        def rows = outboxRepository.findAll().sort { it.id }
+        def events = rows.collect { objectMapper.readValue(it.payload, TransactionChangedEvent) }
+        rows*.eventId == [1L, 2L, 3L]
+        events*.changeType == [ChangeType.UPDATED, ChangeType.CREATED, ChangeType.DELETED]
+        events*.transactionId == [a.id, c, b.id]
+        events[0].before.amount == 12000G
+        events[0].after.amount == 20000G
+        events[1].before == null
+        events[2].before.amount == 3000G
+        events[2].after == null
+    }
+
+    def "다시 실행해도 같은 결과가 되고 바뀐 행이 없으므로 이벤트를 더 쌓지 않는다"() {
+        given:
+        def a = save(12000)
+        entityManager.flush()
+        entityManager.clear()
+        def backup = [[record(a.id, 20000)], [TransactionBackupRecord.deleted(a.id + 100, user.id, MARCH)]]
+        backupRepository.streamByUserIdAndStatusOrderByCreatedAtAscChunkNoAsc(user.id, BackupStatus.COMPLETED) >>
+                { Stream.of(backup.collect { chunk(it) } as Backup[]) }
+
+        when:
+        restoreService.restoreToDatabase(user.id)
+        restoreService.restoreToDatabase(user.id)
+        entityManager.clear()
+
+        then:
+        transactionRepository.findById(a.id).get().amount == 20000G
+        outboxRepository.count() == 1
+    }
+
+    private Transaction save(long amount) {
+        transactionRepository.save(Transaction.builder()
+                .user(user).category(food).type(TransactionType.EXPENSE)
+                .amount(amount as BigDecimal).description("점심").date(MARCH)
+                .build())
+    }
+
+    private void chunks(List<TransactionBackupRecord>... chunks) {
+        backupRepository.streamByUserIdAndStatusOrderByCreatedAtAscChunkNoAsc(user.id, BackupStatus.COMPLETED) >>
+                Stream.of(chunks.collect { chunk(it) } as Backup[])
+    }
+
+    private Backup chunk(List<TransactionBackupRecord> records) {
+        Backup.builder().userId(user.id).recordCount(records.size()).data(codec.encode(records)).build()
+    }
+
+    private TransactionBackupRecord record(Long id, long amount) {
+        new TransactionBackupRecord(id, user.id, food.id, TransactionType.EXPENSE, amount as BigDecimal,
+                "점심", MARCH, MARCH, MARCH)
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.budgettracker.domain.backup.service
+
+import com.example.budgettracker.domain.backup.dto.TransactionBackupRecord
+import com.example.budgettracker.domain.backup.entity.Backup
+import com.example.budgettracker.domain.backup.entity.BackupCheckpoint
+import com.example.budgettracker.domain.backup.entity.BackupStatus
+import com.example.budgettracker.domain.backup.repository.BackupRepository
+import com.example.budgettracker.domain.transaction.entity.TransactionTombstone
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionTombstoneRepository
+import com.example.budgettracker.global.shard.ShardRunner
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.data.mongodb.core.MongoTemplate
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.math.BigDecimal
+import java.time.LocalDateTime
+
+class BackupServiceSpec extends Specification {
+
+    def transactionRepository = Mock(TransactionRepository)
+    def tombstoneRepository = Mock(TransactionTombstoneRepository)
+    def backupRepository = Mock(BackupRepository)
+    def mongoTemplate = Mock(MongoTemplate)
+    def codec = new BackupChunkCodec(new ObjectMapper().findAndRegisterModules())
+
+    @Subject
+    def backupService = new BackupService(
+        transactionRepository, tombstoneRepository, backupRepository, mongoTemplate, codec, { Runnable r -> r.run() },
+        new ShardRunner(Mock(ObjectProvider)), true, 2, 60L)
+
+    def "기준점 이후 변경분을 청크 단위로 압축 저장하고 실행을 완료 처리한다"() {
+        given:
+        def until = LocalDateTime.of(2024, 3, 31, 0, 0)
+        def watermark = LocalDateTime.of(2024, 3, 1, 0, 0)
+        def previous = Backup.builder().userId(1L).watermarkUpdatedAt(watermark).watermarkTransactionId(7L).build()
+        backupRepository.findFirstByUserIdAndStatusOrderByCreatedAtDescChunkNoDesc(1L, BackupStatus.COMPLETED) >> Optional.of(previous)
+        def saved = []
+
+        when:
+        def count = backupService.backupUser(1L, until)
+
+        then:
+        1 * transactionRepository.findBackupRecordsAfter(1L, watermark, 7L, until, _) >> [record(8L, 2), record(9L, 3)]
+        1 * transactionRepository.findBackupRecordsAfter(1L, LocalDateTime.of(2024, 3, 3, 0, 0), 9L, until, _) >> [record(10L, 4)]
+        1 * tombstoneRepository.findAfter(1L, 0L, until, _) >> []
+        2 * backupRepository.insert(_ as Backup) >> { Backup chunk -> saved << chunk; chunk }
+        1 * mongoTemplate.updateMulti(_, _, Backup)
+
+        count == 3
+        saved*.chunkNo == [0, 1]
+        saved*.watermarkTransactionId == [9L, 10L]
+
+        and:
+        def restored = []
+        saved.each { codec.decode(it.data) { TransactionBackupRecord r -> restored << r } }
+        restored*.id == [8L, 9L, 10L]
+        restored*.amount == [new BigDecimal("1000.50")] * 3
+    }
+
+    def "변경분이 없으면 청크를 만들지 않는다"() {
+        given:
+        backupRepository.findFirstByUserIdAndStatusOrderByCreatedAtDescChunkNoDesc(1L, BackupStatus.COMPLETED) >> Optional.empty()
+        transactionRepository.findBackupRecordsAfter(*_) >> []
+        tombstoneRepository.findAfter(*_) >> []
+
+        when:
+        def count = backupService.backupUser(1L, LocalDateTime.now())
+
+        then:
+        count == 0
+        0 * backupRepository.insert(_ as Backup)
+        0 * mongoTemplate.updateMulti(*_)
+    }
+
+    def "삭제 기록은 변경분 뒤 청크에 담고 기준점은 유지하며 실행이 완료된 뒤에 툼스톤을 지운다"() {
+        given:
+        def until = LocalDateTime.of(2024, 3, 31, 0, 0)
+        backupRepository.findFirstByUserIdAndStatusOrderByCreatedAtDescChunkNoDesc(1L, BackupStatus.COMPLETED) >> Optional.empty()
+        transactionRepository.findBackupRecordsAfter(*_) >>> [[record(8L, 2)], []]
+        def saved = []
+
+        when:
+        def count = backupService.backupUser(1L, until)
+
+        then:
+        1 * tombstoneRepository.findAfter(1L, 0L, until, _) >> [tombstone(50L, 3L), tombstone(51L, 4L)]
+        1 * tombstoneRepository.findAfter(1L, 51L, until, _) >> []
+        2 * backupRepository.insert(_ as Backup) >> { Backup chunk -> saved << chunk; chunk }
+
+        then:
+        1 * mongoTemplate.updateMulti(_, _, Backup)
+
+        then:
+        1 * tombstoneRepository.deleteAllByIdInBatch([50L, 51L])
+
+        and:
+        count == 3
+        saved*.watermarkTransactionId == [8L, 8L]
+        def restored = []
+        saved.each { codec.decode(it.data) { TransactionBackupRecord r -> restored << r } }
+        restored*.id == [8L, 3L, 4L]
+        restored*.deleted == [false, true, true]
+    }
+
+    def "모든 사용자를 백업하면 기준점을 저장하고 다음 실행은 저장된 기준점 이후 변경된 사용자와 툼스톤이 남은 사용자만 찾는다"() {
+        given:
+        def checkpoint = null
+        mongoTemplate.findById(BackupCheckpoint.INCREMENTAL, BackupCheckpoint) >> { checkpoint }
+        mongoTemplate.save(_ as BackupCheckpoint) >> { BackupCheckpoint saved -> checkpoint = saved }
+        backupRepository.findFirstByUserIdAndStatusOrderByCreatedAtDescChunkNoDesc(*_) >> Optional.empty()
+        transactionRepository.findBackupRecordsAfter(*_) >> []
+        tombstoneRepository.findAfter(*_) >> []
+
+        when:
+        backupService.backupAll().join()
+
+        then:
+        1 * transactionRepository.findAllUserIds() >> [1L]
+        1 * tombstoneRepository.findUserIds() >> []
+        checkpoint.changedSince != null
+
+        when: "재시작해도 저장된 기준점을 쓴다"
+        def restarted = new BackupService(transactionRepository, tombstoneRepository, backupRepository, mongoTemplate, codec,
+            { Runnable r -> r.run() }, new ShardRunner(Mock(ObjectProvider)), true, 2, 60L)
+        restarted.backupAll().join()
+
+        then:
+        0 * transactionRepository.findAllUserIds()
+        1 * transactionRepository.findUserIdsUpdatedSince({ it == checkpoint.changedSince }) >> [1L]
+        1 * tombstoneRepository.findUserIds() >> [2L]
+        1 * backupRepository.findFirstByUserIdAndStatusOrderByCreatedAtDescChunkNoDesc(2L, BackupStatus.COMPLETED) >> Optional.empty()
+    }
+
+    private static TransactionTombstone tombstone(Long id, Long transactionId) {
+        def tombstone = TransactionTombstone.builder().userId(1L).transactionId(transactionId).build()
+        tombstone.id = id
+        return tombstone
+    }
+
+    private static TransactionBackupRecord record(Long id, int day) {
+        def updatedAt = LocalDateTime.of(2024, 3, day, 0, 0)
+        return new TransactionBackupRecord(id, 1L, 10L, TransactionType.EXPENSE, new BigDecimal("1000.50"),
+            "점심", updatedAt, updatedAt, updatedAt)
+    }
+}
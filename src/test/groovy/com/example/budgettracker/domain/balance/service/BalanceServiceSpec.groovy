@@ -0,0 +1,145 @@
+package com.example.budgettracker.domain.balance.service
+
+import com.example.budgettracker.domain.balance.entity.UserBalance
+import com.example.budgettracker.domain.balance.repository.UserBalanceRepository
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository
+import com.example.budgettracker.global.shard.ShardRunner
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.math.BigDecimal
+import java.time.LocalDateTime
+
+class BalanceServiceSpec extends Specification {
+
+    def balanceRepository = Mock(UserBalanceRepository)
+    def transactionRepository = Mock(TransactionRepository)
+
+    @Subject
+    def balanceService = new BalanceService(balanceRepository, transactionRepository, Mock(TransactionOutboxRepository),
+        Mock(PlatformTransactionManager), new ShardRunner(Mock(ObjectProvider)), new SimpleMeterRegistry(), 60000L, 1)
+
+    def cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    def "스냅샷이 있으면 거래 내역을 합산하지 않고 변경분만 더한다"() {
+        when:
+        write(expense(12000G), TransactionSynchronization.STATUS_COMMITTED)
+
+        then:
+        1 * balanceRepository.addCents(1L, -1200000L, _) >> 1
+        0 * transactionRepository.sumBalanceByUserId(_)
+        0 * balanceRepository.insertOrAddCents(*_)
+    }
+
+    def "스냅샷이 없으면 이번 쓰기를 포함한 거래 내역 합계로 만든다"() {
+        when:
+        write(expense(12000G), TransactionSynchronization.STATUS_COMMITTED)
+
+        then:
+        1 * balanceRepository.addCents(1L, -1200000L, _) >> 0
+        1 * transactionRepository.sumBalanceByUserId(1L) >> 88000G
+        1 * balanceRepository.insertOrAddCents(1L, 8800000L, -1200000L, _)
+    }
+
+    def "커밋된 변경분만 캐시에 더하고 스냅샷은 처음 한 번만 읽는다"() {
+        given:
+        balanceRepository.addCents(*_) >> 1
+
+        when:
+        def loaded = balanceService.getBalanceCents(1L)
+        write(expense(12000G), TransactionSynchronization.STATUS_COMMITTED)
+        write(expense(500G), TransactionSynchronization.STATUS_ROLLED_BACK)
+        write(income(3000G), TransactionSynchronization.STATUS_COMMITTED)
+        def current = balanceService.getBalanceCents(1L)
+
+        then:
+        1 * balanceRepository.findById(1L) >> Optional.of(snapshot(10000000L))
+        loaded == 10000000L
+        current == 10000000L - 1200000L + 300000L
+    }
+
+    def "스냅샷을 읽는 동안 쓰기가 진행 중이었으면 캐시에 올리지 않는다"() {
+        given:
+        balanceRepository.addCents(*_) >> 1
+        TransactionSynchronizationManager.initSynchronization()
+
+        when:
+        def first = balanceService.getBalanceCents(1L)
+        TransactionSynchronizationManager.synchronizations*.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+        def second = balanceService.getBalanceCents(1L)
+
+        then: "읽는 도중 시작된 쓰기는 스냅샷에 빠져 있으므로 다음 조회에서 다시 읽는다"
+        1 * balanceRepository.findById(1L) >> {
+            balanceService.onTransactionChanged(expense(12000G))
+            Optional.of(snapshot(10000000L))
+        }
+        1 * balanceRepository.findById(1L) >> Optional.of(snapshot(8800000L))
+        first == 10000000L
+        second == 8800000L
+    }
+
+    def "보정은 거래 내역 합계와 다른 스냅샷을 교체하고 차이를 돌려준다"() {
+        given:
+        def balance = snapshot(10000000L)
+        balanceRepository.findByUserIdForUpdate(1L) >> Optional.of(balance)
+        transactionRepository.sumBalanceByUserId(1L) >> 88000G
+
+        when:
+        def result = balanceService.reconcile(1L)
+
+        then:
+        result.corrected
+        result.previousBalance == 100000G
+        result.balance == 88000G
+        result.drift == -12000G
+        balance.balanceCents == 8800000L
+    }
+
+    private void write(TransactionChangedEvent event, int status) {
+        TransactionSynchronizationManager.initSynchronization()
+        try {
+            balanceService.onTransactionChanged(event)
+            TransactionSynchronizationManager.synchronizations*.afterCompletion(status)
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    private static UserBalance snapshot(long cents) {
+        new UserBalance(userId: 1L, balanceCents: cents, updatedAt: LocalDateTime.now())
+    }
+
+    private static TransactionChangedEvent expense(BigDecimal amount) {
+        event(TransactionType.EXPENSE, amount)
+    }
+
+    private static TransactionChangedEvent income(BigDecimal amount) {
+        event(TransactionType.INCOME, amount)
+    }
+
+    private static TransactionChangedEvent event(TransactionType type, BigDecimal amount) {
+        TransactionChangedEvent.builder()
+            .changeType(TransactionChangedEvent.ChangeType.CREATED)
+            .transactionId(1L)
+            .userId(1L)
+            .after(TransactionChangedEvent.Snapshot.builder()
+                .categoryId(10L)
+                .type(type)
+                .amount(amount)
+                .date(LocalDateTime.of(2024, 3, 10, 12, 0))
+                .build())
+            .build()
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.budgettracker.domain.batch.service
+
+import com.example.budgettracker.domain.batch.dto.BatchOperation
+import com.example.budgettracker.domain.batch.dto.BatchRequest
+import com.example.budgettracker.domain.budget.service.BudgetService
+import com.example.budgettracker.domain.transaction.entity.Category
+import com.example.budgettracker.domain.transaction.entity.Transaction
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionTombstoneRepository
+import com.example.budgettracker.domain.transaction.service.CategoryService
+import com.example.budgettracker.domain.transaction.service.TransactionOutboxService
+import com.example.budgettracker.domain.transaction.service.TransactionService
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.repository.UserRepository
+import com.example.budgettracker.global.config.MetricsConfig
+import com.example.budgettracker.global.exception.CustomException
+import com.example.budgettracker.global.exception.ErrorCode
+import com.example.budgettracker.global.logging.SqlLogListener
+import com.example.budgettracker.global.metrics.RequestQueryStats
+import com.example.budgettracker.global.shard.ShardRunner
+import com.example.budgettracker.global.transaction.OptimisticLockRetry
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import jakarta.validation.Validation
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.context.TestConfiguration
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Import
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import org.springframework.test.context.TestPropertySource
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+
+/**
+ * 배치 작업 실행 테스트
+ *
+ * ATOMIC/CONTINUE 의 커밋·롤백을 확인하기 위해 테스트 트랜잭션 없이 실행하고 데이터는 cleanup 에서 지운다.
+ * 아웃박스 이벤트 순번 발급이 네이티브 ON DUPLICATE KEY UPDATE 를 쓰므로 H2 를 MySQL 모드로 띄운다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:batch-service;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@Import(QueryCountConfig)
+class BatchServiceSpec extends Specification {
+
+    @TestConfiguration
+    static class QueryCountConfig {
+        @Bean
+        static BeanPostProcessor queryMetricsDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                     ObjectProvider<SqlLogListener> sqlLogListener) {
+            MetricsConfig.queryMetricsDataSourcePostProcessor(meterRegistry, sqlLogListener)
+        }
+    }
+
+    @Autowired
+    TransactionRepository transactionRepository
+    @Autowired
+    TransactionOutboxRepository outboxRepository
+    @Autowired
+    TransactionTombstoneRepository tombstoneRepository
+    @Autowired
+    CategoryRepository categoryRepository
+    @Autowired
+    UserRepository userRepository
+    @Autowired
+    PlatformTransactionManager transactionManager
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+    BudgetService budgetService = Mock()
+    Closure onAppend = {}
+    BatchService batchService
+    User user
+    Category food
+    Category others
+
+    def setup() {
+        // 이벤트 적재 직전(변경이 아직 flush 되지 않은 시점)에 끼어들 수 있게 한다
+        def outboxService = new TransactionOutboxService(outboxRepository, objectMapper,
+                [], new ShardRunner(Mock(ObjectProvider)), false, 200, 10, 10, 1000, 300000, 72) {
+            @Override
+            void append(TransactionChangedEvent event) {
+                onAppend(event)
+                super.append(event)
+            }
+        }
+        batchService = new BatchService(
+                new TransactionService(transactionRepository, tombstoneRepository, userRepository, outboxService,
+                        Mock(ApplicationEventPublisher),
+                        new OptimisticLockRetry(transactionManager, new SimpleMeterRegistry(), 3, 0)),
+                new CategoryService(categoryRepository, userRepository),
+                budgetService, userRepository, categoryRepository, objectMapper,
+                Validation.buildDefaultValidatorFactory().validator, transactionManager, 6)
+
+        user = userRepository.save(User.builder().email("batch@test.com").password("pw").name("tester").build())
+        food = categoryRepository.save(new Category("식비", "음식", "food", "#FF5733", null, true))
+        others = categoryRepository.save(new Category("남의 카테고리", null, null, "#000000", user.id + 1, false))
+    }
+
+    def cleanup() {
+        outboxRepository.deleteAll()
+        tombstoneRepository.deleteAll()
+        transactionRepository.deleteAll()
+        categoryRepository.deleteAll()
+        userRepository.deleteAll()
+    }
+
+    def "사용자와 카테고리는 배치당 한 번만 조회하고 전체를 한 트랜잭션으로 커밋한다"() {
+        given:
+        def request = new BatchRequest((1..3).collect { create(food.id, 1000 * it) }, BatchRequest.ErrorPolicy.ATOMIC)
+
+        when:
+        def stats = RequestQueryStats.start()
+        def response
+        try {
+            response = batchService.execute(user.id.toString(), request)
+        } finally {
+            stats.close()
+        }
+
+        then:
+        response.committed
+        response.succeeded == 3
+        response.results*.status == [200, 200, 200]
+        response.results[0].body.category.name == "식비"
+        stats.queryCount == 2 + 3 * 4  // 사용자, 카테고리 + (거래 저장, 이벤트 순번 발급/조회, 아웃박스 저장) x 3
+        transactionRepository.count() == 3
+    }
+
+    def "ATOMIC 은 하나라도 실패하면 모두 되돌리고 남은 작업은 실행하지 않는다"() {
+        given:
+        def request = new BatchRequest([
+                create(food.id, 1000),
+                operation(BatchOperation.Method.DELETE, "/api/transactions/999999", null),
+                create(food.id, 2000)
+        ], BatchRequest.ErrorPolicy.ATOMIC)
+
+        when:
+        def response = batchService.execute(user.id.toString(), request)
+
+        then:
+        !response.committed
+        response.results*.status == [200, 404, 424]
+        transactionRepository.count() == 0
+        outboxRepository.count() == 0
+    }
+
+    def "CONTINUE 는 작업마다 커밋하고 실패한 작업만 건너뛴다"() {
+        given:
+        def request = new BatchRequest([
+                create(food.id, 1000),
+                create(others.id, 1000),
+                create(food.id, -1),
+                operation(BatchOperation.Method.POST, "/api/transactions/1", null),
+                operation(BatchOperation.Method.POST, "/api/categories",
+                        objectMapper.valueToTree([name: "간식", color: "#123456"])),
+                create(food.id, 3000)
+        ], BatchRequest.ErrorPolicy.CONTINUE)
+
+        when:
+        def response = batchService.execute(user.id.toString(), request)
+
+        then:
+        response.committed
+        response.results*.status == [200, 401, 400, 400, 200, 200]
+        response.results[3].error == ErrorCode.BATCH_UNSUPPORTED_OPERATION.message
+        response.results[4].body.name == "간식"
+        transactionRepository.count() == 2
+    }
+
+    def "작업 결과의 상태 코드는 개별 API 와 같이 ErrorCode 를 따르고, 예상하지 못한 예외는 500 으로 남긴다"() {
+        given:
+        def request = new BatchRequest([
+                operation(BatchOperation.Method.DELETE, "/api/budgets/1", null),
+                operation(BatchOperation.Method.DELETE, "/api/budgets/2", null),
+                operation(BatchOperation.Method.DELETE, "/api/budgets/3", null),
+                create(food.id, -1)
+        ], BatchRequest.ErrorPolicy.CONTINUE)
+
+        when:
+        def response = batchService.execute(user.id.toString(), request)
+
+        then:
+        1 * budgetService.deleteBudget(user.id, 1L) >> { throw new CustomException(ErrorCode.BUDGET_NOT_FOUND) }
+        1 * budgetService.deleteBudget(user.id, 2L) >> { throw new CustomException(ErrorCode.BUDGET_ACCESS_DENIED) }
+        1 * budgetService.deleteBudget(user.id, 3L) >> { throw new IllegalArgumentException("unexpected") }
+        response.results*.status == [404, 403, 500, 400]
+        response.results*.error == [ErrorCode.BUDGET_NOT_FOUND.message, ErrorCode.BUDGET_ACCESS_DENIED.message,
+                                    ErrorCode.INTERNAL_SERVER_ERROR.message, "금액은 양수여야 합니다."]
+    }
+
+    def "예산 작업은 배치에서 조회한 사용자로 생성한다"() {
+        when:
+        def response = batchService.execute(user.id.toString(), new BatchRequest([
+                operation(BatchOperation.Method.POST, "/api/budgets",
+                        objectMapper.valueToTree([amount: 300000, yearMonth: "2024-03", categoryId: food.id]))
+        ], BatchRequest.ErrorPolicy.ATOMIC))
+
+        then:
+        1 * budgetService.createBudgetForUser({ it.id == user.id } as User, { it.categoryId == food.id }) >> 7L
+        response.results[0].body == 7L
+    }
+
+    def "거래 내역 수정은 요청의 버전을 그대로 넘겨 이미 지난 버전이면 409 로 끝난다"() {
+        given:
+        def lunch = saveTransaction(12000)
+        editConcurrently(lunch.id, 7000G)
+
+        when:
+        def response = batchService.execute(user.id.toString(), new BatchRequest([
+                operation(BatchOperation.Method.PUT, "/api/transactions/${lunch.id}",
+                        objectMapper.valueToTree(transactionBody(food.id, 15000) + [version: 0]))
+        ], BatchRequest.ErrorPolicy.CONTINUE))
+
+        then:
+        response.results*.status == [409]
+        response.results[0].error == ErrorCode.CONCURRENT_MODIFICATION.message
+        transactionRepository.findById(lunch.id).get().amount == 7000G
+    }
+
+    def "ATOMIC 에서 삭제 중 다른 요청이 같은 거래를 수정하면 해당 작업이 409 로 끝나고 모두 되돌린다"() {
+        given:
+        def lunch = saveTransaction(12000)
+        onAppend = { TransactionChangedEvent event ->
+            if (event.changeType == TransactionChangedEvent.ChangeType.DELETED) {
+                editConcurrently(lunch.id, 7000G)
+            }
+        }
+
+        when:
+        def response = batchService.execute(user.id.toString(), new BatchRequest([
+                create(food.id, 1000),
+                operation(BatchOperation.Method.DELETE, "/api/transactions/${lunch.id}", null)
+        ], BatchRequest.ErrorPolicy.ATOMIC))
+
+        then:
+        !response.committed
+        response.results*.status == [200, 409]
+        transactionRepository.count() == 1
+        transactionRepository.findById(lunch.id).get().amount == 7000G
+    }
+
+    def "작업 수가 한도를 넘으면 실행하지 않는다"() {
+        when:
+        batchService.execute(user.id.toString(), new BatchRequest((1..7).collect { create(food.id, 1000) }, null))
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.BATCH_TOO_LARGE
+        transactionRepository.count() == 0
+    }
+
+    private BatchOperation create(Long categoryId, long amount) {
+        operation(BatchOperation.Method.POST, "/api/transactions", objectMapper.valueToTree(transactionBody(categoryId, amount)))
+    }
+
+    private static Map transactionBody(Long categoryId, long amount) {
+        [
+                amount     : amount,
+                type       : "EXPENSE",
+                category   : [id: categoryId],
+                description: "배치",
+                date       : "2024-03-15T09:00:00"
+        ]
+    }
+
+    private Transaction saveTransaction(long amount) {
+        transactionRepository.save(Transaction.builder()
+                .user(user).category(food).type(TransactionType.EXPENSE)
+                .amount(BigDecimal.valueOf(amount)).description("점심").date(LocalDateTime.of(2024, 3, 10, 12, 0))
+                .build())
+    }
+
+    void editConcurrently(Long transactionId, BigDecimal amount) {
+        def template = new TransactionTemplate(transactionManager)
+        template.propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+        template.executeWithoutResult { transactionRepository.findById(transactionId).get().updateAmount(amount) }
+    }
+
+    private static BatchOperation operation(BatchOperation.Method method, String path, body) {
+        new BatchOperation(method, path, body)
+    }
+}
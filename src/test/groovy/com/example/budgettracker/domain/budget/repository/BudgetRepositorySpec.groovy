@@ -0,0 +1,174 @@
+package com.example.budgettracker.domain.budget.repository
+
+import com.example.budgettracker.domain.budget.dto.BudgetRequest
+import com.example.budgettracker.domain.budget.entity.Budget
+import com.example.budgettracker.domain.budget.service.BudgetService
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.repository.UserRepository
+import com.example.budgettracker.global.exception.CustomException
+import com.example.budgettracker.global.exception.ErrorCode
+import com.example.budgettracker.global.transaction.OptimisticLockRetry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import jakarta.persistence.EntityManager
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.test.context.TestPropertySource
+import org.springframework.transaction.PlatformTransactionManager
+import spock.lang.Specification
+
+import java.time.Year
+import java.time.YearMonth
+
+/**
+ * 예산 upsert 와 유니크 제약 테스트
+ *
+ * 네이티브 INSERT ... ON DUPLICATE KEY UPDATE 를 실행하므로 H2 를 MySQL 모드로 띄운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:budget-upsert;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class BudgetRepositorySpec extends Specification {
+
+    @Autowired
+    BudgetRepository budgetRepository
+    @Autowired
+    UserRepository userRepository
+    @Autowired
+    EntityManager entityManager
+    @Autowired
+    PlatformTransactionManager transactionManager
+
+    BudgetService budgetService
+    User user
+
+    def setup() {
+        budgetService = new BudgetService(budgetRepository, userRepository,
+                new OptimisticLockRetry(transactionManager, new SimpleMeterRegistry(), 3, 0))
+        user = userRepository.save(User.builder().email("budget@test.com").password("pw").name("tester").build())
+    }
+
+    def "upsert 는 없으면 만들고 있으면 금액을 바꾸며 버전을 올린다"() {
+        when:
+        budgetRepository.upsert(user.id, 10L, "2024-03", 50000G)
+        budgetRepository.upsert(user.id, 10L, "2024-03", 70000G)
+        entityManager.clear()
+
+        then:
+        def budget = find(10L, YearMonth.of(2024, 3))
+        budget.amount == 70000G
+        budget.version == 1L
+        budgetRepository.count() == 1
+    }
+
+    def "1년 예산은 한 문장으로 12개월을 만들고 다시 저장하면 월마다 금액을 바꾼다"() {
+        given:
+        budgetRepository.upsert(user.id, 10L, "2024-03", 1G)
+
+        when:
+        budgetRepository.upsertYear(user.id, 10L, Year.of(2024), (1..12).collect { it * 10000G })
+        budgetRepository.upsertYear(user.id, 10L, Year.of(2024), (1..12).collect { it * 20000G })
+        entityManager.clear()
+
+        then:
+        budgetRepository.count() == 12
+        (1..12).every { find(10L, YearMonth.of(2024, it)).amount == it * 20000G }
+        find(10L, YearMonth.of(2024, 3)).version == 2L
+        find(10L, YearMonth.of(2024, 4)).version == 1L
+    }
+
+    def "같은 월/카테고리 예산을 또 만들면 유니크 제약으로 거절한다"() {
+        given:
+        budgetService.createBudgetForUser(user, request(10L, YearMonth.of(2024, 3)))
+
+        when:
+        budgetService.createBudgetForUser(user, request(10L, YearMonth.of(2024, 3)))
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.BUDGET_PERIOD_OVERLAP
+    }
+
+    def "다른 카테고리면 같은 월에도 예산을 만들 수 있다"() {
+        when:
+        budgetService.createBudgetForUser(user, request(10L, YearMonth.of(2024, 3)))
+        budgetService.createBudgetForUser(user, request(20L, YearMonth.of(2024, 3)))
+
+        then:
+        budgetRepository.count() == 2
+    }
+
+    def "수정으로 다른 예산과 월/카테고리가 겹치면 반영할 때 거절한다"() {
+        given:
+        budgetService.createBudgetForUser(user, request(10L, YearMonth.of(2024, 3)))
+        def april = budgetService.createBudgetForUser(user, request(10L, YearMonth.of(2024, 4)))
+
+        when:
+        budgetService.updateBudget(user.id, april, request(10L, YearMonth.of(2024, 3)))
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.BUDGET_PERIOD_OVERLAP
+    }
+
+    def "요청 버전이 현재 버전과 다르면 수정하지 않고 충돌로 거절한다"() {
+        given:
+        def id = budgetService.createBudgetForUser(user, request(10L, YearMonth.of(2024, 3)))
+        budgetService.updateBudget(user.id, id, request(10L, YearMonth.of(2024, 4), 0L))
+
+        when: "버전 0 을 보고 만든 요청이 늦게 도착한다"
+        budgetService.updateBudget(user.id, id, request(10L, YearMonth.of(2024, 5), 0L))
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.CONCURRENT_MODIFICATION
+        budgetRepository.findById(id).get().yearMonth == YearMonth.of(2024, 4)
+    }
+
+    def "다른 사용자의 예산은 수정/삭제할 수 없고 없는 예산은 찾을 수 없다고 돌려준다"() {
+        given:
+        def id = budgetService.createBudgetForUser(user, request(10L, YearMonth.of(2024, 3)))
+
+        when:
+        budgetService.updateBudget(user.id + 1, id, request(10L, YearMonth.of(2024, 4)))
+
+        then:
+        def denied = thrown(CustomException)
+        denied.errorCode == ErrorCode.BUDGET_ACCESS_DENIED
+
+        when:
+        budgetService.deleteBudget(user.id + 1, id)
+
+        then:
+        def deleteDenied = thrown(CustomException)
+        deleteDenied.errorCode == ErrorCode.BUDGET_ACCESS_DENIED
+        budgetRepository.existsById(id)
+
+        when:
+        budgetService.deleteBudget(user.id, id + 100)
+
+        then:
+        def notFound = thrown(CustomException)
+        notFound.errorCode == ErrorCode.BUDGET_NOT_FOUND
+    }
+
+    def "본인 예산은 삭제된다"() {
+        given:
+        def id = budgetService.createBudgetForUser(user, request(10L, YearMonth.of(2024, 3)))
+
+        when:
+        budgetService.deleteBudget(user.id, id)
+        entityManager.flush()
+
+        then:
+        !budgetRepository.existsById(id)
+    }
+
+    private Budget find(Long categoryId, YearMonth yearMonth) {
+        budgetRepository.findByUserIdAndCategoryIdAndYearMonth(user.id, categoryId, yearMonth).get()
+    }
+
+    private static BudgetRequest request(Long categoryId, YearMonth yearMonth, Long version = null) {
+        new BudgetRequest(amount: 50000G, yearMonth: yearMonth, categoryId: categoryId, version: version)
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.budgettracker.domain.budget.service
+
+import com.example.budgettracker.domain.budget.dto.BudgetRequest
+import com.example.budgettracker.domain.budget.dto.BudgetYearRequest
+import com.example.budgettracker.domain.budget.entity.Budget
+import com.example.budgettracker.domain.budget.repository.BudgetRepository
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.repository.UserRepository
+import com.example.budgettracker.global.exception.CustomException
+import com.example.budgettracker.global.exception.ErrorCode
+import com.example.budgettracker.global.transaction.OptimisticLockRetry
+import org.springframework.dao.DataIntegrityViolationException
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Year
+import java.time.YearMonth
+
+class BudgetServiceSpec extends Specification {
+
+    def budgetRepository = Mock(BudgetRepository)
+
+    @Subject
+    def budgetService = new BudgetService(budgetRepository, Mock(UserRepository), Mock(OptimisticLockRetry))
+
+    def "예산 생성은 미리 조회하지 않고 중복이면 유니크 제약 위반을 기간 중복으로 돌려준다"() {
+        when:
+        budgetService.createBudgetForUser(new User(id: 1L), request(10L, YearMonth.of(2024, 3)))
+
+        then:
+        0 * budgetRepository.findByUserIdAndYearMonth(*_)
+        1 * budgetRepository.save(_ as Budget) >> { throw new DataIntegrityViolationException("uk_budgets_user_category_month") }
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.BUDGET_PERIOD_OVERLAP
+    }
+
+    def "예산 저장은 조회 없이 upsert 한 번으로 처리한다"() {
+        when:
+        budgetService.upsertBudget(1L, request(10L, YearMonth.of(2024, 3)))
+
+        then:
+        1 * budgetRepository.upsert(1L, 10L, "2024-03", 50000G)
+        0 * budgetRepository._
+    }
+
+    def "1년 예산은 12개월을 한 번에 저장한다"() {
+        given:
+        def amounts = (1..12).collect { it * 10000G }
+
+        when:
+        budgetService.upsertYearBudgets(1L, Year.of(2024), new BudgetYearRequest(categoryId: 10L, monthlyAmounts: amounts))
+
+        then:
+        1 * budgetRepository.upsertYear(1L, 10L, Year.of(2024), amounts)
+        0 * budgetRepository._
+    }
+
+    private static BudgetRequest request(Long categoryId, YearMonth yearMonth) {
+        new BudgetRequest(amount: 50000G, yearMonth: yearMonth, categoryId: categoryId)
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.budgettracker.domain.live.service
+
+import com.example.budgettracker.domain.live.controller.LiveUpdateController
+import com.example.budgettracker.domain.live.dto.LiveUpdate
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.ChangeType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.Snapshot
+import com.example.budgettracker.global.exception.GlobalExceptionHandler
+import com.example.budgettracker.global.metrics.ControllerMetricsInterceptor
+import com.example.budgettracker.global.metrics.QueryBudgetPolicy
+import com.example.budgettracker.global.metrics.RequestQueryStats
+import com.fasterxml.jackson.databind.ObjectMapper
+import groovy.json.JsonSlurper
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.mock.env.MockEnvironment
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.setup.MockMvcBuilders
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Clock
+import java.time.Duration
+import java.time.LocalDateTime
+import java.time.YearMonth
+import java.time.ZoneId
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+
+class LiveUpdateServiceSpec extends Specification {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 20, 12, 0)
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+    LiveUpdateService liveUpdateService = new LiveUpdateService(new ObjectMapper(), meterRegistry, Duration.ofMinutes(1), 3, 2, 64,
+            Duration.ofSeconds(3), Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()))
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+    MockMvc mockMvc
+
+    def setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new LiveUpdateController(liveUpdateService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new ControllerMetricsInterceptor(new SimpleMeterRegistry(),
+                        new QueryBudgetPolicy(true, 20, QueryBudgetPolicy.Mode.LOG, 5, new MockEnvironment())))
+                .build()
+    }
+
+    def cleanup() {
+        liveUpdateService.destroy()
+    }
+
+    def "연결하면 connected 이벤트를 받고 커밋된 변경분을 순번과 함께 받는다"() {
+        given:
+        def response = connect(1L)
+
+        when:
+        liveUpdateService.onTransactionChanged(created(1L, 1L, TransactionType.EXPENSE, 12000, NOW))
+        liveUpdateService.onTransactionChanged(created(1L, 2L, TransactionType.EXPENSE, 500, NOW))
+
+        then:
+        RequestQueryStats.current() == null  // 비동기 시작 시 요청 스레드의 측정 범위를 닫는다
+        conditions.eventually {
+            assert events(response)*.name == ["connected", "transaction", "transaction"]
+        }
+        def events = events(response)
+        events[0].data == [sequence: 0]
+        events[1].id == "1"
+        events[1].data.balanceDelta == -12000
+        events[1].data.monthToDate == [yearMonth: "2024-03", incomeDelta: 0, expenseDelta: 12000]
+        events[1].data.budgetUsage == [[categoryId: 10, yearMonth: "2024-03", spentDelta: 12000]]
+        events[2].id == "2"
+    }
+
+    def "다른 사용자의 변경분은 받지 않는다"() {
+        given:
+        def response = connect(1L)
+
+        when:
+        liveUpdateService.onTransactionChanged(created(2L, 3L, TransactionType.INCOME, 1000, NOW))
+        liveUpdateService.heartbeat()
+
+        then:
+        conditions.eventually {
+            assert response.contentAsString.contains(":heartbeat")
+        }
+        events(response)*.name == ["connected"]
+    }
+
+    def "사용자당 한도를 넘으면 가장 오래된 연결을 닫고 노드 한도를 넘으면 503 으로 거절한다"() {
+        given:
+        3.times { connect(1L) }
+
+        expect:
+        liveUpdateService.connectionCount == 2
+
+        when:
+        connect(2L)
+
+        then:
+        liveUpdateService.connectionCount == 3
+        mockMvc.perform(get("/api/live").principal(authentication(3L)))
+                .andExpect(status().isServiceUnavailable())
+        meterRegistry.counter("budget.live.rejected").count() == 1
+    }
+
+    def "다른 달로 옮긴 수정은 잔액은 그대로, 예산 사용액은 두 달에 나눠 반영한다"() {
+        given:
+        def before = new Snapshot(10L, TransactionType.EXPENSE, 12000G, NOW)
+        def after = new Snapshot(10L, TransactionType.EXPENSE, 12000G, NOW.minusMonths(1))
+        def event = TransactionChangedEvent.builder()
+                .changeType(ChangeType.UPDATED).transactionId(7L).userId(1L).before(before).after(after).build()
+
+        when:
+        def update = LiveUpdate.of(event, YearMonth.from(NOW), 5)
+
+        then:
+        update.balanceDelta == 0
+        update.monthToDate.expenseDelta() == -12000
+        update.budgetUsage*.yearMonth() == ["2024-02", "2024-03"]
+        update.budgetUsage*.spentDelta() == [12000, -12000]
+    }
+
+    private MockHttpServletResponse connect(Long userId) {
+        mockMvc.perform(get("/api/live").principal(authentication(userId)))
+                .andExpect(request().asyncStarted())
+                .andReturn().response
+    }
+
+    private static TransactionChangedEvent created(Long userId, Long transactionId, TransactionType type, long amount,
+                                                   LocalDateTime date) {
+        TransactionChangedEvent.builder()
+                .changeType(ChangeType.CREATED)
+                .transactionId(transactionId)
+                .userId(userId)
+                .after(new Snapshot(10L, type, BigDecimal.valueOf(amount), date))
+                .build()
+    }
+
+    private static List<Map> events(MockHttpServletResponse response) {
+        response.contentAsString.split("\n\n").findAll { !it.startsWith(":") && it.contains("event:") }.collect { block ->
+            def fields = block.readLines().collectEntries { line ->
+                def index = line.indexOf(":")
+                [(line.substring(0, index)): line.substring(index + 1)]
+            }
+            [name: fields.event, id: fields.id, data: new JsonSlurper().parseText(fields.data)]
+        }
+    }
+
+    private static def authentication(Long userId) {
+        new UsernamePasswordAuthenticationToken(userId.toString(), null, [])
+    }
+}
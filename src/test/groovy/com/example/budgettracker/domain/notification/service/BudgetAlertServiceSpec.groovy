@@ -0,0 +1,162 @@
+package com.example.budgettracker.domain.notification.service
+
+import com.example.budgettracker.domain.budget.entity.Budget
+import com.example.budgettracker.domain.budget.repository.BudgetRepository
+import com.example.budgettracker.domain.notification.entity.NotificationType
+import com.example.budgettracker.domain.notification.repository.NotificationRepository
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.transaction.PlatformTransactionManager
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.math.BigDecimal
+import java.time.LocalDateTime
+import java.time.YearMonth
+
+class BudgetAlertServiceSpec extends Specification {
+
+    def budgetRepository = Mock(BudgetRepository)
+    def transactionRepository = Mock(TransactionRepository)
+    def categoryRepository = Mock(CategoryRepository)
+    def notificationRepository = Mock(NotificationRepository)
+    def outboxRepository = Mock(TransactionOutboxRepository)
+
+    @Subject
+    def budgetAlertService = new BudgetAlertService(
+        budgetRepository, transactionRepository, categoryRepository, notificationRepository, outboxRepository,
+        Mock(PlatformTransactionManager), new SimpleMeterRegistry(), [80, 100] as int[], 100, 600000L)
+
+    def "임계치를 넘는 순간에만 알림을 만들고 카운터는 최초 1회만 적재한다"() {
+        given:
+        givenBudget(new BigDecimal("100000"))
+        outboxRepository.findLastEventIdByUserId(1L) >> 1L
+
+        when:
+        budgetAlertService.onTransactionEvents([created(1L, new BigDecimal("10000"))])
+        budgetAlertService.onTransactionEvents([created(2L, new BigDecimal("5000"))])
+        budgetAlertService.onTransactionEvents([created(3L, new BigDecimal("15000"))])
+        budgetAlertService.flush()
+
+        then:
+        1 * transactionRepository.sumAmountByCategory(1L, 10L, TransactionType.EXPENSE, _, _) >> new BigDecimal("80000")
+        1 * notificationRepository.insert({ List batch ->
+            batch.size() == 2 &&
+                batch.every { it.type == NotificationType.BUDGET_ALERT && it.userId == "1" } &&
+                batch[0].message.contains("80%") &&
+                batch[1].message.contains("100%")
+        })
+    }
+
+    def "수입 거래와 예산이 없는 카테고리는 무시한다"() {
+        given:
+        budgetRepository.findByUserIdAndCategoryIdAndYearMonth(*_) >> Optional.empty()
+
+        when:
+        budgetAlertService.onTransactionEvents([event(1L, TransactionType.INCOME, new BigDecimal("5000000"))])
+        budgetAlertService.onTransactionEvents([created(2L, new BigDecimal("5000000"))])
+        budgetAlertService.flush()
+
+        then:
+        0 * transactionRepository.sumAmountByCategory(*_)
+        0 * notificationRepository.insert(_)
+    }
+
+    def "카운터가 비어 있을 때 같은 카운터 안의 수정은 변경 전후를 합산해 한 번만 반영한다"() {
+        given: "7만원 지출을 9만원으로 고친 수정이 커밋되어 합계는 이미 9만원이다"
+        givenBudget(new BigDecimal("100000"))
+        outboxRepository.findLastEventIdByUserId(1L) >> 5L
+        transactionRepository.sumAmountByCategory(*_) >> new BigDecimal("90000")
+
+        when:
+        budgetAlertService.onTransactionEvents([updated(5L, new BigDecimal("70000"), new BigDecimal("90000"))])
+        budgetAlertService.onTransactionEvents([created(6L, new BigDecimal("5000"))])
+        budgetAlertService.flush()
+
+        then: "변경분이 두 번 더해졌다면 11만원으로 100% 알림이 잘못 나간다"
+        1 * notificationRepository.insert({ List batch ->
+            batch.size() == 1 && batch[0].message.contains("80%") && batch[0].message.contains("90000")
+        })
+    }
+
+    def "적재 시점까지 커밋되어 밀려 있던 이벤트는 다시 더하지 않는다"() {
+        given: "이벤트 1~3 이 모두 커밋된 뒤 적재되어 합계 9만원에 포함되어 있다"
+        givenBudget(new BigDecimal("100000"))
+        outboxRepository.findLastEventIdByUserId(1L) >> 3L
+        transactionRepository.sumAmountByCategory(*_) >> new BigDecimal("90000")
+
+        when:
+        budgetAlertService.onTransactionEvents([
+            created(1L, new BigDecimal("60000")),
+            created(2L, new BigDecimal("20000")),
+            created(3L, new BigDecimal("10000"))])
+        budgetAlertService.onTransactionEvents([created(4L, new BigDecimal("9000"))])
+        budgetAlertService.flush()
+
+        then: "4번 이벤트까지 9만 9천원이므로 100% 알림은 없다"
+        1 * notificationRepository.insert({ List batch -> batch.size() == 1 && batch[0].message.contains("80%") })
+    }
+
+    def "다른 구독자의 실패로 같은 묶음이 다시 전달되어도 변경분을 다시 더하지 않는다"() {
+        given:
+        givenBudget(new BigDecimal("100000"))
+        outboxRepository.findLastEventIdByUserId(1L) >> 1L
+        transactionRepository.sumAmountByCategory(*_) >> new BigDecimal("10000")
+        budgetAlertService.onTransactionEvents([created(1L, new BigDecimal("10000"))])
+        def batch = [created(2L, new BigDecimal("30000")), created(3L, new BigDecimal("30000"))]
+
+        when:
+        budgetAlertService.onTransactionEvents(batch)
+        budgetAlertService.onTransactionEvents(batch)
+        budgetAlertService.onTransactionEvents([created(4L, new BigDecimal("5000"))])
+        budgetAlertService.flush()
+
+        then: "재전달분이 더해졌다면 13만 5천원으로 100% 알림이 나간다"
+        0 * notificationRepository.insert(_)
+    }
+
+    private void givenBudget(BigDecimal amount) {
+        def yearMonth = YearMonth.of(2024, 3)
+        budgetRepository.findByUserIdAndCategoryIdAndYearMonth(1L, 10L, yearMonth) >>
+            Optional.of(Budget.builder().amount(amount).categoryId(10L).yearMonth(yearMonth).build())
+        categoryRepository.findById(10L) >> Optional.empty()
+    }
+
+    private static TransactionChangedEvent created(Long eventId, BigDecimal amount) {
+        return event(eventId, TransactionType.EXPENSE, amount)
+    }
+
+    private static TransactionChangedEvent event(Long eventId, TransactionType type, BigDecimal amount) {
+        return TransactionChangedEvent.builder()
+            .eventId(eventId)
+            .changeType(TransactionChangedEvent.ChangeType.CREATED)
+            .transactionId(eventId)
+            .userId(1L)
+            .after(snapshot(type, amount))
+            .build()
+    }
+
+    private static TransactionChangedEvent updated(Long eventId, BigDecimal before, BigDecimal after) {
+        return TransactionChangedEvent.builder()
+            .eventId(eventId)
+            .changeType(TransactionChangedEvent.ChangeType.UPDATED)
+            .transactionId(eventId)
+            .userId(1L)
+            .before(snapshot(TransactionType.EXPENSE, before))
+            .after(snapshot(TransactionType.EXPENSE, after))
+            .build()
+    }
+
+    private static TransactionChangedEvent.Snapshot snapshot(TransactionType type, BigDecimal amount) {
+        return TransactionChangedEvent.Snapshot.builder()
+            .categoryId(10L)
+            .type(type)
+            .amount(amount)
+            .date(LocalDateTime.of(2024, 3, 15, 12, 0))
+            .build()
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.budgettracker.domain.statistics.service
+
+import com.example.budgettracker.domain.statistics.readmodel.InMemoryMonthlyStatisticsStore
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.ChangeType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent.Snapshot
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.math.BigDecimal
+import java.time.LocalDateTime
+import java.time.YearMonth
+
+class StatisticsProjectionServiceSpec extends Specification {
+
+    def statisticsStore = new InMemoryMonthlyStatisticsStore()
+    def categoryRepository = Mock(CategoryRepository)
+
+    @Subject
+    def projectionService = new StatisticsProjectionService(statisticsStore, categoryRepository, new SimpleMeterRegistry())
+
+    def setup() {
+        categoryRepository.findById(_) >> Optional.empty()
+    }
+
+    def "재전달된 이벤트는 한 번만 반영한다"() {
+        given:
+        def income = event(1L, ChangeType.CREATED, null, snapshot(TransactionType.INCOME, "3000000", 3))
+        def expense = event(2L, ChangeType.CREATED, null, snapshot(TransactionType.EXPENSE, "12500.50", 3))
+
+        when:
+        projectionService.onTransactionEvents([income, expense])
+        projectionService.onTransactionEvents([income, expense])
+
+        then:
+        def statistics = statisticsStore.find(1L, YearMonth.of(2024, 3)).get()
+        statistics.incomeCents == 300000000L
+        statistics.expenseCents == 1250050L
+        statistics.categoryExpenses["10"].amountCents == 1250050L
+        statistics.lastEventId == 2L
+    }
+
+    def "월이 바뀌는 수정은 이전 달에서 빼고 새 달에 더한다"() {
+        given:
+        def before = snapshot(TransactionType.EXPENSE, "10000", 3)
+        def after = snapshot(TransactionType.EXPENSE, "15000", 4)
+
+        when:
+        projectionService.onTransactionEvents([
+            event(1L, ChangeType.CREATED, null, before),
+            event(2L, ChangeType.UPDATED, before, after)
+        ])
+
+        then:
+        statisticsStore.find(1L, YearMonth.of(2024, 3)).get().expenseCents == 0L
+        statisticsStore.find(1L, YearMonth.of(2024, 4)).get().expenseCents == 1500000L
+        statisticsStore.findRange(1L, YearMonth.of(2024, 1), YearMonth.of(2024, 12))*.yearMonth == ["2024-03", "2024-04"]
+    }
+
+    private static TransactionChangedEvent event(Long eventId, ChangeType changeType, Snapshot before, Snapshot after) {
+        return TransactionChangedEvent.builder()
+            .eventId(eventId)
+            .changeType(changeType)
+            .transactionId(100L)
+            .userId(1L)
+            .before(before)
+            .after(after)
+            .build()
+    }
+
+    private static Snapshot snapshot(TransactionType type, String amount, int month) {
+        return Snapshot.builder()
+            .categoryId(10L)
+            .type(type)
+            .amount(new BigDecimal(amount))
+            .date(LocalDateTime.of(2024, month, 15, 12, 0))
+            .build()
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.budgettracker.domain.statistics.service
+
+import com.example.budgettracker.domain.statistics.readmodel.InMemoryMonthlyStatisticsStore
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatisticsDelta
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository.TypeCategoryAmount
+import com.example.budgettracker.global.shard.ShardRunner
+import org.springframework.transaction.PlatformTransactionManager
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.math.BigDecimal
+import java.time.YearMonth
+
+class StatisticsReconciliationServiceSpec extends Specification {
+
+    static final YearMonth MARCH = YearMonth.of(2024, 3)
+
+    def transactionRepository = Mock(TransactionRepository)
+    def outboxRepository = Mock(TransactionOutboxRepository)
+    def statisticsStore = new InMemoryMonthlyStatisticsStore()
+
+    @Subject
+    def reconciliationService = new StatisticsReconciliationService(transactionRepository, outboxRepository,
+        statisticsStore, Mock(PlatformTransactionManager), Mock(ShardRunner), 2)
+
+    def "도큐먼트가 집계와 다르면 집계 결과로 교체한다"() {
+        given:
+        statisticsStore.apply(1L, MARCH, 3L, expense(10L, 500000L))
+        outboxRepository.findLastEventIdByUserId(1L) >> 4L
+        transactionRepository.sumAmountGroupByTypeAndCategory(1L, _, _) >> [
+            row(TransactionType.INCOME, null, null, "3000000"),
+            row(TransactionType.EXPENSE, 10L, "식비", "8000")]
+
+        when:
+        def corrected = reconciliationService.reconcile(1L, MARCH)
+
+        then:
+        corrected
+        def statistics = statisticsStore.find(1L, MARCH).get()
+        statistics.incomeCents == 300000000L
+        statistics.expenseCents == 800000L
+        statistics.categoryExpenses["10"].name == "식비"
+        statistics.lastEventId == 4L
+    }
+
+    def "집계와 같으면 교체하지 않는다"() {
+        given:
+        statisticsStore.apply(1L, MARCH, 3L, expense(10L, 800000L, "식비"))
+        outboxRepository.findLastEventIdByUserId(1L) >> 3L
+        transactionRepository.sumAmountGroupByTypeAndCategory(1L, _, _) >> [row(TransactionType.EXPENSE, 10L, "식비", "8000")]
+
+        expect:
+        !reconciliationService.reconcile(1L, MARCH)
+    }
+
+    def "교체한 도큐먼트는 사용자 이벤트 순번까지 반영한 것으로 표시되어 이후 순번만 이어서 반영된다"() {
+        given: "순번 42 까지 반영된 도큐먼트가 틀렸다"
+        statisticsStore.apply(1L, MARCH, 42L, expense(10L, 500000L))
+        outboxRepository.findLastEventIdByUserId(1L) >> 42L
+        transactionRepository.sumAmountGroupByTypeAndCategory(1L, _, _) >> [row(TransactionType.EXPENSE, 10L, "식비", "8000")]
+
+        when:
+        reconciliationService.reconcile(1L, MARCH)
+
+        then:
+        def statistics = statisticsStore.find(1L, MARCH).get()
+        statistics.expenseCents == 800000L
+        statistics.lastEventId == 42L
+
+        when: "재전달된 42 는 무시되고 43 은 반영된다"
+        statisticsStore.apply(1L, MARCH, 42L, expense(10L, 100000L))
+        statisticsStore.apply(1L, MARCH, 43L, expense(10L, 100000L))
+
+        then:
+        statisticsStore.find(1L, MARCH).get().expenseCents == 900000L
+    }
+
+    private static MonthlyStatisticsDelta expense(Long categoryId, long cents, String name = null) {
+        def delta = new MonthlyStatisticsDelta()
+        delta.addExpense(categoryId, name, cents)
+        return delta
+    }
+
+    private TypeCategoryAmount row(TransactionType type, Long categoryId, String categoryName, String amount) {
+        def row = Stub(TypeCategoryAmount)
+        row.type >> type
+        row.categoryId >> categoryId
+        row.categoryName >> categoryName
+        row.amount >> new BigDecimal(amount)
+        return row
+    }
+}
@@ -3,6 +3,10 @@ package com.example.budgettracker.domain.statistics.service
 import com.example.budgettracker.domain.statistics.dto.BudgetComparisonResponse
 import com.example.budgettracker.domain.statistics.dto.MonthlyStatisticsResponse
 import com.example.budgettracker.domain.statistics.dto.PeriodTrendResponse
+import com.example.budgettracker.domain.statistics.readmodel.InMemoryMonthlyStatisticsStore
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatisticsDelta
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatisticsStore
+import com.example.budgettracker.domain.statistics.readmodel.StatisticsReadMode
 import com.example.budgettracker.domain.transaction.entity.Transaction
 import com.example.budgettracker.domain.transaction.entity.TransactionType
 import com.example.budgettracker.domain.transaction.repository.TransactionRepository
@@ -12,12 +16,13 @@ import spock.lang.Subject
 import java.math.BigDecimal
 import java.time.LocalDate
 import java.time.LocalDateTime
+import java.time.YearMonth
 
 class StatisticsServiceSpec extends Specification {
 
     def transactionRepository = Mock(TransactionRepository)
     @Subject
-    def statisticsService = new StatisticsService(transactionRepository)
+    def statisticsService = new StatisticsService(transactionRepository, Mock(MonthlyStatisticsStore), StatisticsReadMode.OLTP)
 
     def "월별 통계를 정상적으로 계산한다"() {
         given:
@@ -161,6 +166,51 @@ class StatisticsServiceSpec extends Specification {
         result.categoryBudgets.find { it.categoryName == "쇼핑" }.ratio == 75.0
     }
 
+    def "READ_MODEL 모드의 월별 통계는 거래 내역 대신 읽기 모델 도큐먼트로 계산한다"() {
+        given:
+        def statisticsStore = new InMemoryMonthlyStatisticsStore()
+        def readModelService = readModelService(statisticsStore)
+        def delta = new MonthlyStatisticsDelta()
+        delta.addIncome(300000000L)
+        delta.addExpense(10L, "식비", 50000000L)
+        delta.addExpense(20L, null, 30000000L)
+        delta.addExpense(30L, "쇼핑", 0L)
+        statisticsStore.apply(1L, YearMonth.of(2024, 3), 1L, delta)
+
+        when:
+        def result = readModelService.getMonthlyStatistics("1", "2024-03")
+
+        then:
+        0 * transactionRepository.findByUserIdAndDateBetween(*_)
+        result.totalIncome == new BigDecimal("3000000")
+        result.totalExpense == new BigDecimal("800000")
+        result.netIncome == new BigDecimal("2200000")
+        result.categoryExpenses*.categoryName.toSet() == ["식비", "카테고리 20"] as Set
+        result.categoryExpenses.find { it.categoryName == "식비" }.percentage == 62.5
+    }
+
+    def "READ_MODEL 모드의 기간별 추이는 도큐먼트가 없는 달을 0 으로 채운다"() {
+        given:
+        def statisticsStore = new InMemoryMonthlyStatisticsStore()
+        def readModelService = readModelService(statisticsStore)
+        def delta = new MonthlyStatisticsDelta()
+        delta.addIncome(100000L)
+        delta.addExpense(10L, "식비", 40000L)
+        statisticsStore.apply(1L, YearMonth.of(2024, 2), 1L, delta)
+
+        when:
+        def result = readModelService.getPeriodTrend("1", "2024-01", "2024-03")
+
+        then:
+        0 * transactionRepository.findByUserIdAndDateBetween(*_)
+        result.monthlyTrends*.yearMonth == ["2024-01", "2024-02", "2024-03"]
+        result.monthlyTrends*.netIncome == [BigDecimal.ZERO, new BigDecimal("600"), BigDecimal.ZERO]
+    }
+
+    private StatisticsService readModelService(MonthlyStatisticsStore statisticsStore) {
+        return new StatisticsService(transactionRepository, statisticsStore, StatisticsReadMode.READ_MODEL)
+    }
+
     private Transaction createTransaction(TransactionType type, String categoryName, BigDecimal amount) {
         return Transaction.builder()
             .type(type)
@@ -0,0 +1,117 @@
+package com.example.budgettracker.domain.transaction.repository
+
+import com.example.budgettracker.domain.transaction.entity.TransactionOutbox.OutboxStatus
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.service.TransactionOutboxService
+import com.example.budgettracker.global.shard.ShardRunner
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.data.domain.PageRequest
+import org.springframework.test.context.TestPropertySource
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * 사용자 이벤트 순번 테스트
+ *
+ * 두 쓰기 트랜잭션을 실제로 겹쳐 실행해야 하므로 테스트 트랜잭션 없이 H2(MySQL 모드)에 커밋한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:outbox-sequence;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+class TransactionOutboxRepositorySpec extends Specification {
+
+    @Autowired
+    TransactionOutboxRepository outboxRepository
+    @Autowired
+    PlatformTransactionManager transactionManager
+
+    TransactionOutboxService outboxService
+    TransactionTemplate transaction
+
+    def setup() {
+        outboxService = new TransactionOutboxService(outboxRepository, new ObjectMapper(), [],
+            new ShardRunner(Mock(ObjectProvider)), false, 10, 1, 3, 1000L, 60000L, 72L)
+        transaction = new TransactionTemplate(transactionManager)
+    }
+
+    def cleanup() {
+        outboxRepository.deleteAll()
+    }
+
+    def "다음 순번은 앞선 쓰기 트랜잭션이 커밋된 뒤에야 발급되므로 순번이 커밋 순서를 따른다"() {
+        given:
+        def firstAppended = new CountDownLatch(1)
+        long firstCommitStartedAt = 0
+        long secondAppendedAt = 0
+
+        when: "첫 쓰기가 순번을 받은 채 커밋을 늦추는 동안 두 번째 쓰기가 시작된다"
+        def first = Thread.start {
+            transaction.executeWithoutResult {
+                outboxService.append(event(10L, 100L))
+                firstAppended.countDown()
+                Thread.sleep(300)
+                firstCommitStartedAt = System.nanoTime()
+            }
+        }
+        firstAppended.await(5, TimeUnit.SECONDS)
+        def second = Thread.start {
+            transaction.executeWithoutResult {
+                outboxService.append(event(10L, 101L))
+                secondAppendedAt = System.nanoTime()
+            }
+        }
+        first.join()
+        second.join()
+
+        then:
+        secondAppendedAt > firstCommitStartedAt
+        def rows = outboxRepository.findAll().sort { it.id }
+        rows*.transactionId == [100L, 101L]
+        rows*.eventId == [1L, 2L]
+    }
+
+    def "순번은 사용자마다 따로 매기고 아웃박스 행을 정리해도 줄지 않는다"() {
+        when:
+        [20L, 21L, 20L].each { userId -> transaction.executeWithoutResult { outboxService.append(event(userId, 1L)) } }
+        outboxRepository.deleteAll()
+
+        then:
+        outboxRepository.findLastEventIdByUserId(20L) == 2L
+        outboxRepository.findLastEventIdByUserId(21L) == 1L
+        outboxRepository.findLastEventIdByUserId(22L) == 0L
+    }
+
+    def "재시도 대기 중인 사용자는 대기 시각 전까지 뒤 순번 이벤트도 조회하지 않는다"() {
+        given:
+        [30L, 30L, 31L].each { userId -> transaction.executeWithoutResult { outboxService.append(event(userId, 1L)) } }
+        def rows = outboxRepository.findAll().sort { it.id }
+        def now = LocalDateTime.now()
+
+        when: "사용자 30 의 첫 이벤트 전달이 실패해 1분 뒤로 미뤄졌다"
+        outboxRepository.incrementAttempts([rows[0].id], now.plusMinutes(1))
+
+        then:
+        outboxRepository.findDue(OutboxStatus.PENDING, now, PageRequest.of(0, 10))*.userId == [31L]
+        outboxRepository.findDue(OutboxStatus.PENDING, now.plusMinutes(2), PageRequest.of(0, 10))*.id == rows*.id
+    }
+
+    private static TransactionChangedEvent event(Long userId, Long transactionId) {
+        TransactionChangedEvent.builder()
+            .changeType(TransactionChangedEvent.ChangeType.CREATED)
+            .transactionId(transactionId)
+            .userId(userId)
+            .build()
+    }
+}
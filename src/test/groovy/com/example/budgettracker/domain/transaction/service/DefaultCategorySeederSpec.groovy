@@ -0,0 +1,37 @@
+package com.example.budgettracker.domain.transaction.service
+
+import com.example.budgettracker.domain.transaction.entity.Category
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import spock.lang.Specification
+
+@DataJpaTest
+class DefaultCategorySeederSpec extends Specification {
+
+    @Autowired
+    CategoryRepository categoryRepository
+
+    def "빈 DB 에는 기본 카테고리를 모두 만들고, 다시 실행하면 아무것도 만들지 않는다"() {
+        given:
+        def seeder = new DefaultCategorySeeder(categoryRepository)
+
+        expect:
+        seeder.seed() == 7
+        seeder.seed() == 0
+        categoryRepository.findByIsDefaultTrue()*.name as Set == DefaultCategorySeeder.DEFAULT_CATEGORIES*.name() as Set
+    }
+
+    def "일부만 있으면 없는 기본 카테고리만 추가한다"() {
+        given:
+        categoryRepository.save(new Category("식비", "음식 관련 지출", "food", "#FF5733", null, true))
+        categoryRepository.save(new Category("식비", "사용자 카테고리", "food", "#000000", 1L, false))
+
+        when:
+        def created = new DefaultCategorySeeder(categoryRepository).seed()
+
+        then:
+        created == 6
+        categoryRepository.findByIsDefaultTrue().size() == 7
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.budgettracker.domain.transaction.service
+
+import com.example.budgettracker.domain.transaction.entity.TransactionOutbox
+import com.example.budgettracker.domain.transaction.entity.TransactionOutbox.OutboxStatus
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.event.TransactionEventSubscriber
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository
+import com.example.budgettracker.global.shard.ShardRunner
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import org.springframework.beans.factory.ObjectProvider
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.LocalDateTime
+
+class TransactionOutboxServiceSpec extends Specification {
+
+    def outboxRepository = Mock(TransactionOutboxRepository)
+    def objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+    def subscriber = Mock(TransactionEventSubscriber)
+
+    @Subject
+    def outboxService = new TransactionOutboxService(
+        outboxRepository, objectMapper, [subscriber], new ShardRunner(Mock(ObjectProvider)), true, 10, 1, 3, 1000L, 60000L, 72L)
+
+    def "이벤트를 쌓을 때 사용자 순번을 올리고 발급된 순번을 함께 저장한다"() {
+        given:
+        def event = TransactionChangedEvent.builder()
+            .changeType(TransactionChangedEvent.ChangeType.CREATED)
+            .transactionId(10L)
+            .userId(1L)
+            .build()
+
+        when:
+        outboxService.append(event)
+
+        then:
+        1 * outboxRepository.incrementEventId(1L)
+
+        then:
+        1 * outboxRepository.findLastEventIdByUserId(1L) >> 7L
+        1 * outboxRepository.save({ TransactionOutbox row -> row.userId == 1L && row.eventId == 7L })
+    }
+
+    def "사용자별로 묶어 순서대로 전달하고 실패한 사용자만 재시도 대기로 미룬다"() {
+        given:
+        def rows = [row(1L, 1L, 1L), row(2L, 2L, 1L), row(3L, 1L, 2L)]
+        outboxRepository.findDue(OutboxStatus.PENDING, _, _) >> rows
+        def before = LocalDateTime.now()
+
+        when:
+        outboxService.poll()
+
+        then: "eventId 는 행 ID 가 아니라 사용자 순번이다"
+        1 * subscriber.onTransactionEvents({ it*.eventId == [1L, 2L] && it*.transactionId == [1L, 3L] })
+        1 * subscriber.onTransactionEvents({ it*.eventId == [1L] }) >> { throw new IllegalStateException("boom") }
+        1 * outboxRepository.updateStatus([1L, 3L], OutboxStatus.PUBLISHED, _)
+        1 * outboxRepository.incrementAttempts([2L], { it >= before.plusSeconds(1) })
+        0 * outboxRepository.updateStatus(_, OutboxStatus.FAILED, _)
+    }
+
+    def "재시도 대기 시간은 실패할 때마다 두 배로 늘어나고 최대값을 넘지 않는다"() {
+        expect:
+        outboxService.backoffMs(attempts) == backoff
+
+        where:
+        attempts | backoff
+        1        | 1000L
+        2        | 2000L
+        3        | 4000L
+        7        | 60000L
+        40       | 60000L
+    }
+
+    def "최대 재시도 횟수에 도달하면 FAILED 로 표시한다"() {
+        given:
+        def stuck = row(5L, 1L, 1L)
+        stuck.attempts = 2
+        outboxRepository.findDue(OutboxStatus.PENDING, _, _) >> [stuck]
+        subscriber.onTransactionEvents(_) >> { throw new IllegalStateException("boom") }
+
+        when:
+        outboxService.poll()
+
+        then:
+        1 * outboxRepository.updateStatus([5L], OutboxStatus.FAILED, _)
+        0 * outboxRepository.incrementAttempts(*_)
+    }
+
+    private TransactionOutbox row(Long id, Long userId, Long eventId) {
+        def event = TransactionChangedEvent.builder()
+            .changeType(TransactionChangedEvent.ChangeType.CREATED)
+            .transactionId(id)
+            .userId(userId)
+            .build()
+        def row = TransactionOutbox.builder()
+            .userId(userId)
+            .eventId(eventId)
+            .transactionId(id)
+            .payload(objectMapper.writeValueAsString(event))
+            .build()
+        row.id = id
+        return row
+    }
+}
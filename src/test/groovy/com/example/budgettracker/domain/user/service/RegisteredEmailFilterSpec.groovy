@@ -0,0 +1,167 @@
+package com.example.budgettracker.domain.user.service
+
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.repository.UserRepository
+import com.example.budgettracker.global.config.MetricsConfig
+import com.example.budgettracker.global.logging.SqlLogListener
+import com.example.budgettracker.global.metrics.RequestQueryStats
+import com.example.budgettracker.global.util.BloomFilter
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.context.TestConfiguration
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Import
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+/**
+ * 가입된 이메일 Bloom 필터 테스트
+ *
+ * 적재는 별도 읽기 전용 트랜잭션에서 실행하므로 테스트 트랜잭션 없이 실행하고 데이터는 cleanup 에서 지운다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(QueryCountConfig)
+class RegisteredEmailFilterSpec extends Specification {
+
+    @TestConfiguration
+    static class QueryCountConfig {
+        @Bean
+        static BeanPostProcessor queryMetricsDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                     ObjectProvider<SqlLogListener> sqlLogListener) {
+            MetricsConfig.queryMetricsDataSourcePostProcessor(meterRegistry, sqlLogListener)
+        }
+    }
+
+    @Autowired
+    UserRepository userRepository
+    @Autowired
+    PlatformTransactionManager transactionManager
+    @Autowired
+    DataSource dataSource
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+    RegisteredEmailFilter emailFilter
+
+    def setup() {
+        ["a@test.com", "b@test.com", "Mixed.Case@Test.com"].each {
+            userRepository.save(User.builder().email(it).password("pw").name("tester").build())
+        }
+        emailFilter = new RegisteredEmailFilter(userRepository, transactionManager, meterRegistry, true, 1000, 0.01, 1000)
+    }
+
+    def cleanup() {
+        userRepository.deleteAll()
+    }
+
+    def "적재 전에는 모든 이메일을 DB 로 확인한다"() {
+        given:
+        def stats = RequestQueryStats.start()
+
+        when:
+        def exists = emailFilter.exists("new@test.com")
+
+        then:
+        !exists
+        stats.queryCount == 1
+        count("not_ready") == 1
+
+        cleanup:
+        stats.close()
+    }
+
+    def "적재 후 가입되지 않은 이메일은 DB 조회 없이 사용 가능으로 답한다"() {
+        given:
+        emailFilter.load()
+        def stats = RequestQueryStats.start()
+
+        when:
+        def exists = emailFilter.exists("new@test.com")
+
+        then:
+        !exists
+        stats.queryCount == 0
+        count("filtered") == 1
+
+        cleanup:
+        stats.close()
+    }
+
+    def "필터에 있는 이메일은 대소문자와 공백에 관계없이 DB 로 확인한다"() {
+        given:
+        emailFilter.load()
+        def stats = RequestQueryStats.start()
+
+        when:
+        emailFilter.exists(" MIXED.case@test.com ")
+        def exists = emailFilter.exists("a@test.com")
+
+        then:
+        exists
+        stats.queryCount == 2
+        count("filtered") == 0
+
+        cleanup:
+        stats.close()
+    }
+
+    def "가입한 이메일과 다른 인스턴스에서 가입한 이메일도 필터에 반영된다"() {
+        given:
+        emailFilter.load()
+
+        when:
+        emailFilter.put("signed-up@test.com")
+        userRepository.save(User.builder().email("other-instance@test.com").password("pw").name("tester").build())
+        emailFilter.syncNewUsers()
+
+        then:
+        emailFilter.exists("signed-up@test.com") == false  // 필터에는 있으나 DB 에 없으면 오탐으로 센다
+        count("false_positive") == 1
+        emailFilter.exists("other-instance@test.com")
+        count("taken") == 1
+    }
+
+    def "마지막으로 읽은 ID 보다 낮은 ID 가 늦게 커밋되어도 다음 동기화에서 반영된다"() {
+        given: "late 가 먼저 ID 를 받았지만 커밋 전이고, 뒤에 ID 를 받은 early 는 먼저 커밋되었다"
+        emailFilter.load()
+        def late = userRepository.save(User.builder().email("late@test.com").password("pw").name("tester").build())
+        userRepository.save(User.builder().email("early@test.com").password("pw").name("tester").build())
+        userRepository.delete(late)
+        emailFilter.syncNewUsers()
+
+        when: "late 가 원래 ID 로 커밋된다"
+        new JdbcTemplate(dataSource).update("INSERT INTO users (id, email, password, name) VALUES (?, ?, ?, ?)",
+                late.id, "late@test.com", "pw", "tester")
+        emailFilter.syncNewUsers()
+
+        then:
+        emailFilter.exists("late@test.com")
+        count("filtered") == 0
+    }
+
+    def "Bloom 필터 오탐률은 목표치 근처다"() {
+        given:
+        def filter = new BloomFilter(100_000, 0.01)
+        (0..<100_000).each { filter.put("user${it}@test.com") }
+
+        when:
+        def falsePositives = (0..<100_000).count { filter.mightContain("other${it}@test.com") }
+
+        then:
+        (0..<100_000).every { filter.mightContain("user${it}@test.com") }
+        falsePositives < 1_500
+    }
+
+    private long count(String result) {
+        meterRegistry.counter("budget.email.check", "result", result).count()
+    }
+}
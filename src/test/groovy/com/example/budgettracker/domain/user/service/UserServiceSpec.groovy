@@ -0,0 +1,110 @@
+package com.example.budgettracker.domain.user.service
+
+import com.example.budgettracker.domain.user.dto.LoginRequest
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.repository.UserRepository
+import com.example.budgettracker.global.exception.CustomException
+import com.example.budgettracker.global.exception.ErrorCode
+import com.example.budgettracker.global.util.AESUtil
+import com.example.budgettracker.global.util.JwtUtil
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+
+/**
+ * 로그인 테스트
+ *
+ * 로그인은 트랜잭션을 직접 나누므로 테스트 트랜잭션 없이 실행하고 데이터는 cleanup 에서 지운다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceSpec extends Specification {
+
+    @Autowired
+    UserRepository userRepository
+    @Autowired
+    PlatformTransactionManager transactionManager
+
+    JwtUtil jwtUtil = Mock()
+    List<Boolean> transactionActiveOnMatch = []
+    UserService userService
+
+    def setup() {
+        // 설정 강도 5, 해시를 비교하는 동안 트랜잭션이 열려 있었는지 기록한다
+        def passwordEncoder = new BCryptPasswordEncoder(5) {
+            @Override
+            boolean matches(CharSequence rawPassword, String encodedPassword) {
+                transactionActiveOnMatch << TransactionSynchronizationManager.isActualTransactionActive()
+                return super.matches(rawPassword, encodedPassword)
+            }
+        }
+        userService = new UserService(userRepository, passwordEncoder, jwtUtil, Mock(AESUtil),
+                Mock(RegisteredEmailFilter), transactionManager)
+    }
+
+    def cleanup() {
+        userRepository.deleteAll()
+    }
+
+    def "설정보다 약한 해시로 로그인하면 트랜잭션 밖에서 비교한 뒤 새 강도로 다시 저장한다"() {
+        given:
+        def user = save(new BCryptPasswordEncoder(4).encode("password1"))
+
+        when:
+        def response = userService.login(login("password1"))
+
+        then:
+        1 * jwtUtil.generateToken("login@test.com") >> "token"
+        response.token == "token"
+        transactionActiveOnMatch == [false]
+
+        and:
+        def rehashed = password(user)
+        rehashed.startsWith('$2a$05$')
+        new BCryptPasswordEncoder().matches("password1", rehashed)
+    }
+
+    def "해시 강도가 설정과 같으면 비밀번호를 다시 저장하지 않는다"() {
+        given:
+        def hash = new BCryptPasswordEncoder(5).encode("password1")
+        def user = save(hash)
+
+        when:
+        userService.login(login("password1"))
+
+        then:
+        password(user) == hash
+    }
+
+    def "비밀번호가 틀리면 다시 저장하지 않고 거절한다"() {
+        given:
+        def hash = new BCryptPasswordEncoder(4).encode("password1")
+        def user = save(hash)
+
+        when:
+        userService.login(login("wrong"))
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.INVALID_PASSWORD
+        password(user) == hash
+        0 * jwtUtil.generateToken(_)
+    }
+
+    private User save(String hash) {
+        userRepository.save(User.builder().email("login@test.com").password(hash).name("tester").build())
+    }
+
+    private String password(User user) {
+        userRepository.findByEmail(user.email).get().password
+    }
+
+    private static LoginRequest login(String password) {
+        new LoginRequest(email: "login@test.com", password: password)
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.budgettracker.fixture
+
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.fixture.SyntheticDataSink.BudgetRow
+import com.example.budgettracker.fixture.SyntheticDataSink.TransactionRow
+import com.example.budgettracker.fixture.SyntheticDataSink.UserRow
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.time.DayOfWeek
+import java.time.YearMonth
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataGeneratorSpec extends Specification {
+
+    @Autowired
+    DataSource dataSource
+
+    def cleanup() {
+        def jdbc = new JdbcTemplate(dataSource)
+        ["transactions", "budgets", "users", "categories"].each { jdbc.update("DELETE FROM $it".toString()) }
+    }
+
+    def "같은 시드로 생성하면 같은 데이터가 나온다"() {
+        given:
+        def options = SyntheticDataOptions.of(3, YearMonth.of(2024, 1), 2)
+
+        expect:
+        collect(new SyntheticDataGenerator(options)) == collect(new SyntheticDataGenerator(options))
+        collect(new SyntheticDataGenerator(options)) != collect(new SyntheticDataGenerator(options.withSeed(7)))
+    }
+
+    def "사용자 범위를 나눠 생성해도 전체 생성 결과와 같다"() {
+        given:
+        def generator = new SyntheticDataGenerator(SyntheticDataOptions.of(4, YearMonth.of(2024, 1), 2))
+        def first = new CollectingSink()
+        def second = new CollectingSink()
+
+        when:
+        generator.generate(first, 0, 2)
+        generator.generate(second, 2, 4)
+
+        then:
+        collect(generator).transactions == first.transactions + second.transactions
+    }
+
+    def "월급은 평일에 들어오고 11월 쇼핑이 평소보다 많다"() {
+        given:
+        def sink = collect(new SyntheticDataGenerator(SyntheticDataOptions.of(200, YearMonth.of(2024, 1), 12)))
+
+        when:
+        def salaries = sink.transactions.findAll { it.category() == DefaultCategory.SALARY && it.description() == "급여" }
+        def shopping = sink.transactions.findAll { it.category() == DefaultCategory.SHOPPING }
+                .countBy { it.date().monthValue }
+
+        then:
+        salaries.size() == 200 * 12
+        salaries.every { it.type() == TransactionType.INCOME }
+        salaries.every { !(it.date().dayOfWeek in [DayOfWeek.SATURDAY, DayOfWeek.SUNDAY]) }
+        shopping[11] > shopping[6] * 1.4
+        sink.budgets.size() == 200 * 12 * 4
+    }
+
+    def "JDBC 배치 적재는 생성한 행 수만큼 저장한다"() {
+        given:
+        def generator = new SyntheticDataGenerator(SyntheticDataOptions.of(6, YearMonth.of(2024, 3), 2))
+        def expected = collect(generator)
+        def jdbc = new JdbcTemplate(dataSource)
+
+        when:
+        def result = new JdbcBulkLoader(dataSource, 100, { it }).load(generator, 2)
+
+        then:
+        result.users() == 6
+        result.transactions() == expected.transactions.size()
+        jdbc.queryForObject("SELECT COUNT(*) FROM users", Long) == 6
+        jdbc.queryForObject("SELECT COUNT(*) FROM budgets", Long) == expected.budgets.size()
+        jdbc.queryForObject("SELECT COUNT(*) FROM transactions", Long) == expected.transactions.size()
+        jdbc.queryForObject("SELECT COUNT(*) FROM categories", Long) == DefaultCategory.values().length
+    }
+
+    private static CollectingSink collect(SyntheticDataGenerator generator) {
+        def sink = new CollectingSink()
+        generator.generate(sink)
+        sink
+    }
+
+    @groovy.transform.EqualsAndHashCode
+    static class CollectingSink implements SyntheticDataSink {
+        List<UserRow> users = []
+        List<BudgetRow> budgets = []
+        List<TransactionRow> transactions = []
+
+        @Override
+        void user(UserRow user) { users << user }
+
+        @Override
+        void budget(BudgetRow budget) { budgets << budget }
+
+        @Override
+        void transaction(TransactionRow transaction) { transactions << transaction }
+    }
+}
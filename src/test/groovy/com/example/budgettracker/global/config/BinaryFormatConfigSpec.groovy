@@ -0,0 +1,101 @@
+package com.example.budgettracker.global.config
+
+import com.example.budgettracker.domain.statistics.controller.StatisticsController
+import com.example.budgettracker.domain.statistics.dto.MonthlyStatisticsResponse
+import com.example.budgettracker.domain.statistics.service.StatisticsService
+import com.example.budgettracker.domain.transaction.controller.TransactionController
+import com.example.budgettracker.domain.transaction.dto.CategorySummary
+import com.example.budgettracker.domain.transaction.dto.TransactionResponse
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.service.TransactionService
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory
+import com.fasterxml.jackson.dataformat.smile.SmileFactory
+import org.springframework.http.MediaType
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.setup.MockMvcBuilders
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+
+class BinaryFormatConfigSpec extends Specification {
+
+    static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile")
+
+    def transactionService = Mock(TransactionService)
+    def statisticsService = Mock(StatisticsService)
+    MockMvc mockMvc
+
+    def setup() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TransactionController(transactionService, new ObjectMapper()),
+                        new StatisticsController(statisticsService))
+                .setMessageConverters(
+                        new MappingJackson2HttpMessageConverter(bootObjectMapperBuilder().build()),
+                        BinaryFormatConfig.cborConverter(bootObjectMapperBuilder()),
+                        BinaryFormatConfig.smileConverter(bootObjectMapperBuilder()))
+                .build()
+        transactionService.getUserTransactions("1") >> [
+                new TransactionResponse(1L, 12000.00G, TransactionType.EXPENSE, new CategorySummary(1L, "식비", "#FF5733"),
+                        "점심", LocalDateTime.of(2024, 3, 10, 12, 0), 0L)]
+    }
+
+    def "Accept 헤더가 없으면 JSON 으로 응답한다"() {
+        expect:
+        mockMvc.perform(get("/api/transactions").principal(authentication()))
+                .andExpect(status().isOk())
+                .andReturn().response.contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)
+    }
+
+    def "Accept 헤더로 요청한 바이너리 형식으로 거래 목록을 응답한다"() {
+        when:
+        def response = mockMvc.perform(get("/api/transactions").accept(mediaType).principal(authentication()))
+                .andExpect(status().isOk())
+                .andReturn().response
+
+        then:
+        response.contentType.startsWith(mediaType.toString())
+        def body = new ObjectMapper(factory).readValue(response.contentAsByteArray, List)
+        body[0].category == [id: 1, name: "식비", color: "#FF5733"]
+        body[0].date == "2024-03-10T12:00:00"
+
+        where:
+        mediaType                  | factory
+        MediaType.APPLICATION_CBOR | new CBORFactory()
+        SMILE                      | new SmileFactory()
+    }
+
+    def "통계 응답도 CBOR 로 받을 수 있다"() {
+        given:
+        statisticsService.getMonthlyStatistics("1", "2024-03") >> MonthlyStatisticsResponse.builder()
+                .yearMonth("2024-03").totalIncome(3000000G).totalExpense(1000000G).netIncome(2000000G)
+                .categoryExpenses([]).build()
+
+        when:
+        def response = mockMvc.perform(get("/api/statistics/monthly").param("yearMonth", "2024-03")
+                .accept(MediaType.APPLICATION_CBOR).principal(authentication()))
+                .andExpect(status().isOk())
+                .andReturn().response
+
+        then:
+        new ObjectMapper(new CBORFactory()).readValue(response.contentAsByteArray, Map).netIncome == 2000000
+    }
+
+    /**
+     * Spring Boot 기본 ObjectMapper 와 같은 날짜 설정
+     */
+    private static Jackson2ObjectMapperBuilder bootObjectMapperBuilder() {
+        Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+    }
+
+    private static def authentication() {
+        new UsernamePasswordAuthenticationToken("1", null, [])
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.budgettracker.global.datasource
+
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.datasource.DataSourceTransactionManager
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+class ReplicaRoutingDataSourceSpec extends Specification {
+
+    def primary = h2("primary")
+    def replica1 = h2("replica1")
+    def replica2 = h2("replica2")
+    def nodes = [new ReplicaNode("replica-1", replica1), new ReplicaNode("replica-2", replica2)]
+    def dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, nodes))
+    def transactionManager = new DataSourceTransactionManager(dataSource)
+    def jdbcTemplate = new JdbcTemplate(dataSource)
+
+    def "읽기 전용 트랜잭션은 사용 가능한 레플리카를 번갈아 사용하고 쓰기는 프라이머리로 보낸다"() {
+        given:
+        new ReplicaHealthChecker(primary, nodes, 0).check()
+
+        expect:
+        (1..4).collect { readOnly { jdbcTemplate.queryForObject("SELECT name FROM node", String) } } ==
+            ["replica1", "replica2", "replica1", "replica2"]
+        readWrite { jdbcTemplate.queryForObject("SELECT name FROM node", String) } == "primary"
+    }
+
+    def "복제 지연이 허용치를 넘은 레플리카는 제외하고, 모두 제외되면 프라이머리를 사용한다"() {
+        given:
+        heartbeat(replica1, LocalDateTime.now())
+        heartbeat(replica2, LocalDateTime.now().minusMinutes(5))
+        def checker = new ReplicaHealthChecker(primary, nodes, 5)
+
+        when:
+        checker.check()
+
+        then:
+        nodes*.available == [true, false]
+        (1..2).collect { readOnly { jdbcTemplate.queryForObject("SELECT name FROM node", String) } } == ["replica1", "replica1"]
+
+        when:
+        heartbeat(replica1, LocalDateTime.now().minusMinutes(5))
+        nodes.each { checker.check(it) }
+
+        then:
+        readOnly { jdbcTemplate.queryForObject("SELECT name FROM node", String) } == "primary"
+    }
+
+    private Object readOnly(Closure work) {
+        def template = new TransactionTemplate(transactionManager)
+        template.readOnly = true
+        return template.execute { work() }
+    }
+
+    private Object readWrite(Closure work) {
+        return new TransactionTemplate(transactionManager).execute { work() }
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        def dataSource = new DriverManagerDataSource("jdbc:h2:mem:${name}-${UUID.randomUUID()};DB_CLOSE_DELAY=-1", "sa", "")
+        def jdbc = new JdbcTemplate(dataSource)
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))")
+        jdbc.update("INSERT INTO node VALUES (?)", name)
+        jdbc.execute("CREATE TABLE replication_heartbeat (id BIGINT PRIMARY KEY, beat_at TIMESTAMP)")
+        return dataSource
+    }
+
+    private static void heartbeat(DriverManagerDataSource dataSource, LocalDateTime beatAt) {
+        def jdbc = new JdbcTemplate(dataSource)
+        jdbc.update("DELETE FROM replication_heartbeat")
+        jdbc.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", Timestamp.valueOf(beatAt))
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.budgettracker.global.logging
+
+import ch.qos.logback.classic.Level
+import ch.qos.logback.classic.Logger
+import ch.qos.logback.classic.spi.ILoggingEvent
+import ch.qos.logback.core.read.ListAppender
+import net.ttddyy.dsproxy.ExecutionInfo
+import net.ttddyy.dsproxy.QueryInfo
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+
+class SqlLogListenerSpec extends Specification {
+
+    Logger logger = (Logger) LoggerFactory.getLogger(SqlLogListener.LOGGER_NAME)
+    ListAppender<ILoggingEvent> appender = new ListAppender<>()
+
+    def setup() {
+        appender.start()
+        logger.addAppender(appender)
+        logger.level = Level.INFO
+    }
+
+    def cleanup() {
+        logger.detachAppender(appender)
+        logger.level = null
+    }
+
+    def "기준 시간 이상 걸린 쿼리만 WARN 으로 남긴다"() {
+        given:
+        def listener = new SqlLogListener(100, 0, 20)
+
+        when:
+        listener.afterQuery(execution(150), queries("select *\n  from transactions"))
+        listener.afterQuery(execution(10), queries("select * from categories"))
+
+        then:
+        appender.list.size() == 1
+        appender.list[0].level == Level.WARN
+        appender.list[0].formattedMessage.contains("sql=select * from transactions")
+        appender.list[0].formattedMessage.contains("elapsedMs=150")
+    }
+
+    def "표본 비율이 1이면 모든 일반 쿼리를 INFO 로 남기고, 로거가 WARN 이면 남기지 않는다"() {
+        given:
+        def listener = new SqlLogListener(1000, 1, 20)
+
+        when:
+        listener.afterQuery(execution(5), queries("select 1"))
+        logger.level = Level.WARN
+        listener.afterQuery(execution(5), queries("select 2"))
+
+        then:
+        appender.list*.level == [Level.INFO]
+    }
+
+    def "초당 최대 건수를 넘는 로그는 버린다"() {
+        given:
+        def listener = new SqlLogListener(0, 0, 3)
+
+        when:
+        10.times { listener.afterQuery(execution(1), queries("select ${it}")) }
+
+        then:
+        // 반복 중에 초가 바뀌면 다음 창에서 최대 3건이 더 남는다
+        appender.list.count { it.formattedMessage.startsWith("느린 쿼리") } in 3..6
+    }
+
+    private static ExecutionInfo execution(long elapsed) {
+        def info = new ExecutionInfo()
+        info.elapsedTime = elapsed
+        info.success = true
+        info
+    }
+
+    private static List<QueryInfo> queries(String sql) {
+        [new QueryInfo(sql)]
+    }
+}
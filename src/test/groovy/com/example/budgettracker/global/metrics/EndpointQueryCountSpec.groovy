@@ -0,0 +1,443 @@
+package com.example.budgettracker.global.metrics
+
+import com.example.budgettracker.domain.budget.controller.BudgetController
+import com.example.budgettracker.domain.budget.entity.Budget
+import com.example.budgettracker.domain.budget.repository.BudgetRepository
+import com.example.budgettracker.domain.budget.service.BudgetService
+import com.example.budgettracker.domain.statistics.controller.StatisticsController
+import com.example.budgettracker.domain.statistics.readmodel.MonthlyStatisticsStore
+import com.example.budgettracker.domain.statistics.readmodel.StatisticsReadMode
+import com.example.budgettracker.domain.statistics.service.StatisticsService
+import com.example.budgettracker.domain.transaction.controller.CategoryController
+import com.example.budgettracker.domain.transaction.controller.TransactionController
+import com.example.budgettracker.domain.transaction.entity.Category
+import com.example.budgettracker.domain.transaction.entity.Transaction
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionTombstoneRepository
+import com.example.budgettracker.domain.transaction.service.CategoryService
+import com.example.budgettracker.domain.transaction.service.TransactionOutboxService
+import com.example.budgettracker.domain.transaction.service.TransactionService
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.repository.UserRepository
+import com.example.budgettracker.global.config.MetricsConfig
+import com.example.budgettracker.global.exception.GlobalExceptionHandler
+import com.example.budgettracker.global.logging.SqlLogListener
+import com.example.budgettracker.global.response.SparseFieldsetAdvice
+import com.example.budgettracker.global.shard.ShardRunner
+import com.example.budgettracker.global.transaction.OptimisticLockRetry
+import com.example.budgettracker.support.ExpectedQueries
+import com.fasterxml.jackson.databind.ObjectMapper
+import groovy.json.JsonSlurper
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import jakarta.persistence.EntityManager
+import org.hibernate.Session
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.context.TestConfiguration
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Import
+import org.springframework.http.MediaType
+import org.springframework.mock.env.MockEnvironment
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.test.web.servlet.setup.MockMvcBuilders
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+import java.time.YearMonth
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+
+/**
+ * 컨트롤러 엔드포인트별 쿼리 수 회귀 테스트
+ *
+ * 쿼리 수가 바뀌면(N+1 재발 등) 실패한다. 의도한 변경이면 @ExpectedQueries 값을 함께 고친다.
+ * 쓰기 API 는 커밋 시점에 나갈 UPDATE/DELETE 까지 세도록 요청 직후 flush 한다.
+ * 예산 upsert 가 네이티브 ON DUPLICATE KEY UPDATE 를 쓰므로 H2 를 MySQL 모드로 띄운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:endpoint-query-count;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@Import(QueryCountConfig)
+class EndpointQueryCountSpec extends Specification {
+
+    @TestConfiguration
+    static class QueryCountConfig {
+        @Bean
+        static BeanPostProcessor queryMetricsDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                     ObjectProvider<SqlLogListener> sqlLogListener) {
+            MetricsConfig.queryMetricsDataSourcePostProcessor(meterRegistry, sqlLogListener)
+        }
+    }
+
+    @Autowired
+    TransactionRepository transactionRepository
+    @Autowired
+    TransactionOutboxRepository outboxRepository
+    @Autowired
+    TransactionTombstoneRepository tombstoneRepository
+    @Autowired
+    CategoryRepository categoryRepository
+    @Autowired
+    UserRepository userRepository
+    @Autowired
+    BudgetRepository budgetRepository
+    @Autowired
+    EntityManager entityManager
+    @Autowired
+    PlatformTransactionManager transactionManager
+
+    MockMvc mockMvc
+    User user
+    Category food
+    Category salary
+    Category etc
+    Transaction lunch
+    Budget foodBudget
+
+    def setup() {
+        def objectMapper = new ObjectMapper().findAndRegisterModules()
+        def outboxService = new TransactionOutboxService(outboxRepository, objectMapper,
+                [], new ShardRunner(Mock(ObjectProvider)), false, 200, 10, 10, 1000, 300000, 72)
+        def transactionService = new TransactionService(transactionRepository, tombstoneRepository, userRepository, outboxService, Mock(ApplicationEventPublisher),
+                new OptimisticLockRetry(transactionManager, new SimpleMeterRegistry(), 3, 0))
+        def categoryService = new CategoryService(categoryRepository, userRepository)
+        def statisticsService = new StatisticsService(transactionRepository, Mock(MonthlyStatisticsStore), StatisticsReadMode.OLTP)
+        def budgetService = new BudgetService(budgetRepository, userRepository,
+                new OptimisticLockRetry(transactionManager, new SimpleMeterRegistry(), 3, 0))
+        def policy = new QueryBudgetPolicy(true, 20, QueryBudgetPolicy.Mode.LOG, 5, new MockEnvironment())
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TransactionController(transactionService, objectMapper),
+                        new CategoryController(categoryService, objectMapper),
+                        new StatisticsController(statisticsService),
+                        new BudgetController(budgetService))
+                .setControllerAdvice(new SparseFieldsetAdvice(objectMapper), new GlobalExceptionHandler())
+                .addInterceptors(new ControllerMetricsInterceptor(new SimpleMeterRegistry(), policy))
+                .build()
+
+        user = userRepository.save(User.builder().email("query@test.com").password("pw").name("tester").build())
+        food = categoryRepository.save(new Category("식비", "음식", "food", "#FF5733", null, true))
+        def transport = categoryRepository.save(new Category("교통비", "교통", "transport", "#33A8FF", null, true))
+        salary = categoryRepository.save(new Category("월급", "급여", "salary", "#33FFA8", user.id, false))
+        etc = categoryRepository.save(new Category("기타", "기타", "etc", "#999999", user.id, false))
+        def march = LocalDateTime.of(2024, 3, 10, 12, 0)
+        lunch = transactionRepository.save(transaction(food, TransactionType.EXPENSE, 12000, march))
+        transactionRepository.save(transaction(transport, TransactionType.EXPENSE, 1500, march.plusDays(1)))
+        transactionRepository.save(transaction(salary, TransactionType.INCOME, 3000000, march.plusDays(2)))
+        foodBudget = budgetRepository.save(Budget.builder().user(user).amount(500000G)
+                .yearMonth(YearMonth.of(2024, 3)).categoryId(food.id).build())
+
+        entityManager.flush()
+        entityManager.clear()
+    }
+
+    @ExpectedQueries(1)
+    def "거래 내역 목록은 카테고리 수와 관계없이 쿼리 1번으로 조회한다"() {
+        expect:
+        mockMvc.perform(get("/api/transactions").principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(1)
+    def "거래 내역 목록은 엔티티를 영속성 컨텍스트에 올리지 않고 카테고리 요약만 응답한다"() {
+        when:
+        def response = mockMvc.perform(get("/api/transactions").principal(authentication()))
+                .andExpect(status().isOk())
+                .andReturn().response
+
+        then:
+        entityManager.unwrap(Session).statistics.entityCount == 0
+        def body = new JsonSlurper().parseText(response.contentAsString)
+        body*.category*.keySet().unique() == [["id", "name", "color"] as Set]
+        body.find { it.description == "식비" }.category == [id: food.id, name: "식비", color: "#FF5733"]
+    }
+
+    @ExpectedQueries(2)  // 스트리밍 1번 + 비교용 목록 조회 1번
+    def "거래 내역 스트리밍 조회는 목록 조회와 같은 JSON 배열을 쓴다"() {
+        when:
+        def streamed = mockMvc.perform(get("/api/transactions").param("stream", "true").principal(authentication()))
+                .andExpect(status().isOk())
+                .andReturn().response
+        def listed = mockMvc.perform(get("/api/transactions").principal(authentication()))
+                .andReturn().response
+
+        then:
+        streamed.contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)
+        new JsonSlurper().parseText(streamed.contentAsString) == new JsonSlurper().parseText(listed.contentAsString)
+    }
+
+    @ExpectedQueries(1)
+    def "fields 를 주면 고른 컬럼만 조회하고 고른 필드만 응답한다"() {
+        given:
+        def stats = RequestQueryStats.current()
+
+        when:
+        def response = mockMvc.perform(get("/api/transactions")
+                .param("fields", "id,amount,date,category.name")
+                .principal(authentication()))
+                .andExpect(status().isOk())
+                .andReturn().response
+
+        then:
+        def body = new JsonSlurper().parseText(response.contentAsString)
+        body*.keySet().unique() == [["id", "amount", "date", "category"] as Set]
+        body.find { it.id == lunch.id }.category == [name: "식비"]
+        def sql = stats.statementCounts.keySet().find { it.toLowerCase().contains("from transaction") }.toLowerCase()
+        !sql.contains("description")
+        !sql.contains("color")
+    }
+
+    @ExpectedQueries(1)
+    def "fields 에 카테고리 ID 만 고르면 카테고리를 조인하지 않는다"() {
+        given:
+        def stats = RequestQueryStats.current()
+
+        when:
+        def response = mockMvc.perform(get("/api/transactions")
+                .param("fields", "id,category.id")
+                .principal(authentication()))
+                .andExpect(status().isOk())
+                .andReturn().response
+
+        then:
+        new JsonSlurper().parseText(response.contentAsString).find { it.id == lunch.id } == [id: lunch.id, category: [id: food.id]]
+        !stats.statementCounts.keySet().any { it.toLowerCase().contains(" join ") }
+    }
+
+    @ExpectedQueries(0)
+    def "fields 에 지원하지 않는 필드가 있으면 쿼리 없이 400 을 응답한다"() {
+        expect:
+        mockMvc.perform(get("/api/transactions").param("fields", field).principal(authentication()))
+                .andExpect(status().isBadRequest())
+
+        where:
+        field << ["id,user.password", "id,,amount", "category.name.x"]
+    }
+
+    @ExpectedQueries(1)
+    def "거래 내역 상세는 카테고리를 함께 조회한다"() {
+        expect:
+        mockMvc.perform(get("/api/transactions/${lunch.id}").principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(5)
+    def "거래 내역 생성은 사용자 조회, 거래 저장, 이벤트 순번 발급/조회, 아웃박스 저장 쿼리만 실행한다"() {
+        expect:
+        mockMvc.perform(post("/api/transactions")
+                .principal(authentication())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""{"amount": 5000, "type": "EXPENSE", "category": {"id": ${food.id}},
+                             "description": "커피", "date": "2024-03-15T09:00:00"}"""))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(2)
+    def "카테고리 목록은 기본 카테고리와 사용자 카테고리를 각각 한 번씩 조회한다"() {
+        expect:
+        mockMvc.perform(get("/api/categories").principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(1)
+    def "카테고리 스트리밍 조회는 기본 카테고리를 먼저 쿼리 1번으로 쓴다"() {
+        when:
+        def response = mockMvc.perform(get("/api/categories").param("stream", "true").principal(authentication()))
+                .andExpect(status().isOk())
+                .andReturn().response
+
+        then:
+        new JsonSlurper().parseText(response.contentAsString)*.name == ["식비", "교통비", "월급", "기타"]
+    }
+
+    @ExpectedQueries(1)
+    def "카테고리 상세는 쿼리 1번으로 조회한다"() {
+        expect:
+        mockMvc.perform(get("/api/categories/${food.id}").principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(1)
+    def "월별 통계는 카테고리 이름을 포함해 쿼리 1번으로 집계한다"() {
+        expect:
+        mockMvc.perform(get("/api/statistics/monthly").param("yearMonth", "2024-03").principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(5)
+    def "거래 내역 수정은 카테고리를 조인한 조회, 이벤트 순번 발급/조회, 아웃박스 저장, 버전 조건 UPDATE 만 실행한다"() {
+        when:
+        mockMvc.perform(put("/api/transactions/${lunch.id}")
+                .principal(authentication())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""{"amount": 15000, "type": "EXPENSE", "category": {"id": ${food.id}},
+                             "description": "점심", "date": "2024-03-10T12:00:00"}"""))
+                .andExpect(status().isOk())
+        entityManager.flush()
+
+        then:
+        noExceptionThrown()
+    }
+
+    @ExpectedQueries(6)
+    def "거래 내역 삭제는 조회, 툼스톤 저장, 이벤트 순번 발급/조회, 아웃박스 저장, DELETE 만 실행한다"() {
+        when:
+        mockMvc.perform(delete("/api/transactions/${lunch.id}").principal(authentication()))
+                .andExpect(status().isOk())
+        entityManager.flush()
+
+        then:
+        noExceptionThrown()
+    }
+
+    @ExpectedQueries(3)
+    def "카테고리 생성은 사용자 확인, 이름 중복 확인, INSERT 만 실행한다"() {
+        when:
+        mockMvc.perform(post("/api/categories")
+                .principal(authentication())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content('{"name": "카페", "description": "커피", "icon": "cafe", "color": "#6F4E37"}'))
+                .andExpect(status().isOk())
+        entityManager.flush()
+
+        then:
+        noExceptionThrown()
+    }
+
+    @ExpectedQueries(3)
+    def "카테고리 수정은 조회, 이름 중복 확인, UPDATE 만 실행한다"() {
+        when:
+        mockMvc.perform(put("/api/categories/${salary.id}")
+                .principal(authentication())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content('{"name": "급여", "description": "월급", "icon": "salary", "color": "#33FFA8"}'))
+                .andExpect(status().isOk())
+        entityManager.flush()
+
+        then:
+        noExceptionThrown()
+    }
+
+    @ExpectedQueries(2)
+    def "카테고리 삭제는 조회와 DELETE 만 실행한다"() {
+        when:
+        mockMvc.perform(delete("/api/categories/${etc.id}").principal(authentication()))
+                .andExpect(status().isOk())
+        entityManager.flush()
+
+        then:
+        noExceptionThrown()
+    }
+
+    @ExpectedQueries(3)
+    def "기간별 추이는 달마다 쿼리 1번으로 집계한다"() {
+        expect:
+        mockMvc.perform(get("/api/statistics/trend")
+                .param("startYearMonth", "2024-01")
+                .param("endYearMonth", "2024-03")
+                .principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(1)
+    def "예산 대비 지출은 카테고리 이름을 포함해 쿼리 1번으로 조회한다"() {
+        expect:
+        mockMvc.perform(get("/api/statistics/budget-comparison").param("yearMonth", "2024-03").principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(2)
+    def "예산 생성은 사용자 조회와 INSERT 만 실행한다"() {
+        expect:
+        mockMvc.perform(post("/api/budgets")
+                .principal(authentication())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""{"amount": 300000, "yearMonth": "2024-03", "categoryId": ${salary.id}}"""))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(1)
+    def "예산 상세는 쿼리 1번으로 조회한다"() {
+        expect:
+        mockMvc.perform(get("/api/budgets/${foodBudget.id}").principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(1)
+    def "예산 목록은 사용자를 따로 조회하지 않는다"() {
+        expect:
+        mockMvc.perform(get("/api/budgets").principal(authentication()))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(2)
+    def "예산 수정은 조회와 버전 조건 UPDATE 만 실행한다"() {
+        expect:
+        mockMvc.perform(put("/api/budgets/${foodBudget.id}")
+                .principal(authentication())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""{"amount": 600000, "yearMonth": "2024-03", "categoryId": ${food.id}, "version": 0}"""))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(1)
+    def "예산 저장은 조회 없이 upsert 1번으로 처리한다"() {
+        expect:
+        mockMvc.perform(put("/api/budgets")
+                .principal(authentication())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""{"amount": 700000, "yearMonth": "2024-03", "categoryId": ${food.id}}"""))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(1)
+    def "1년 예산 저장은 12개월을 upsert 1번으로 처리한다"() {
+        expect:
+        mockMvc.perform(put("/api/budgets/years/2024")
+                .principal(authentication())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""{"categoryId": ${food.id}, "monthlyAmounts": [${(1..12).collect { it * 10000 }.join(", ")}]}"""))
+                .andExpect(status().isOk())
+    }
+
+    @ExpectedQueries(2)
+    def "예산 삭제는 조회와 DELETE 만 실행한다"() {
+        when:
+        mockMvc.perform(delete("/api/budgets/${foodBudget.id}").principal(authentication()))
+                .andExpect(status().isOk())
+        entityManager.flush()
+
+        then:
+        noExceptionThrown()
+    }
+
+    private Transaction transaction(Category category, TransactionType type, long amount, LocalDateTime date) {
+        Transaction.builder()
+                .user(user)
+                .category(category)
+                .type(type)
+                .amount(BigDecimal.valueOf(amount))
+                .description(category.name)
+                .date(date)
+                .build()
+    }
+
+    private def authentication() {
+        new UsernamePasswordAuthenticationToken(user.id.toString(), null, [])
+    }
+}
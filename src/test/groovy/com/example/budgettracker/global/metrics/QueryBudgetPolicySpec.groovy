@@ -0,0 +1,43 @@
+package com.example.budgettracker.global.metrics
+
+import com.example.budgettracker.domain.batch.controller.BatchController
+import org.springframework.mock.env.MockEnvironment
+import org.springframework.web.method.HandlerMethod
+import spock.lang.Specification
+
+/**
+ * 쿼리 예산 정책 테스트
+ */
+class QueryBudgetPolicySpec extends Specification {
+
+    def "perItemOf 를 지정한 예산은 항목당 쿼리 수 x 설정값으로 계산한다"() {
+        given:
+        def environment = new MockEnvironment().withProperty("batch.max-operations", maxOperations)
+        def policy = new QueryBudgetPolicy(true, 20, QueryBudgetPolicy.Mode.LOG, 5, environment)
+
+        expect:
+        policy.budgetFor(handler(new BatchController(null), "executeBatch")) == budget
+
+        where:
+        maxOperations | budget
+        "100"         | 400
+        "25"          | 100
+    }
+
+    def "@QueryBudget 이 없으면 기본 예산, 비활성화하면 제한 없음"() {
+        given:
+        def handler = handler(this, "plain")
+
+        expect:
+        new QueryBudgetPolicy(true, 20, QueryBudgetPolicy.Mode.LOG, 5, new MockEnvironment()).budgetFor(handler) == 20
+        new QueryBudgetPolicy(false, 20, QueryBudgetPolicy.Mode.LOG, 5, new MockEnvironment()).budgetFor(handler) ==
+                RequestQueryStats.UNLIMITED
+    }
+
+    void plain() {
+    }
+
+    private static HandlerMethod handler(Object bean, String name) {
+        new HandlerMethod(bean, bean.class.methods.find { it.name == name })
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.budgettracker.global.ratelimit
+
+import com.example.budgettracker.global.exception.CustomException
+import com.example.budgettracker.global.exception.ErrorCode
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.web.method.HandlerMethod
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class IpRateLimiterSpec extends Specification {
+
+    long now = 0
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+    IpRateLimiter limiter = new IpRateLimiter(meterRegistry, 3, 2, { now })
+
+    def "버킷 크기만큼 허용한 뒤 충전 속도로만 허용한다"() {
+        expect:
+        (1..3).every { limiter.tryAcquire("1.1.1.1") == 0 }
+        limiter.tryAcquire("1.1.1.1") == TimeUnit.MILLISECONDS.toNanos(500)
+        limiter.tryAcquire("2.2.2.2") == 0  // IP 마다 따로 센다
+
+        when:
+        now += TimeUnit.MILLISECONDS.toNanos(500)
+
+        then:
+        limiter.tryAcquire("1.1.1.1") == 0
+        limiter.tryAcquire("1.1.1.1") > 0
+        meterRegistry.counter("budget.rate_limit.rejected").count() == 2
+    }
+
+    def "가득 찬 버킷만 정리한다"() {
+        given:
+        limiter.tryAcquire("1.1.1.1")
+        limiter.tryAcquire("2.2.2.2")
+        now += TimeUnit.MILLISECONDS.toNanos(400)
+        limiter.tryAcquire("2.2.2.2")
+
+        when:
+        now += TimeUnit.MILLISECONDS.toNanos(200)
+        limiter.evictIdleBuckets()
+
+        then:
+        limiter.bucketCount == 1
+    }
+
+    def "@IpRateLimited 메서드만 제한하고 초과하면 Retry-After 와 함께 429 로 거절한다"() {
+        given:
+        def interceptor = new IpRateLimitInterceptor(limiter)
+        def limited = new HandlerMethod(new Handlers(), Handlers.getMethod("limited"))
+        def open = new HandlerMethod(new Handlers(), Handlers.getMethod("open"))
+        def request = new MockHttpServletRequest(remoteAddr: "10.0.0.1")
+        def response = new MockHttpServletResponse()
+        3.times { interceptor.preHandle(request, response, limited) }
+
+        expect:
+        (1..10).every { interceptor.preHandle(request, response, open) }
+
+        when:
+        interceptor.preHandle(request, response, limited)
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.RATE_LIMIT_EXCEEDED
+        response.getHeader("Retry-After") == "1"
+    }
+
+    static class Handlers {
+        @IpRateLimited
+        void limited() {
+        }
+
+        void open() {
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.budgettracker.global.security
+
+import com.example.budgettracker.global.exception.CustomException
+import com.example.budgettracker.global.exception.ErrorCode
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+import org.springframework.security.crypto.password.PasswordEncoder
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class BoundedBCryptPasswordEncoderSpec extends Specification {
+
+    def registry = new SimpleMeterRegistry()
+
+    def "전용 풀에서 해시하고 연산별 시간을 기록한다"() {
+        given:
+        def encoder = new BoundedBCryptPasswordEncoder(4, 2, 4, Duration.ofSeconds(5), registry)
+
+        when:
+        def hash = encoder.encode("secret")
+
+        then:
+        encoder.matches("secret", hash)
+        !encoder.matches("wrong", hash)
+        registry.get("budget.password.hash").tag("operation", "encode").timer().count() == 1
+        registry.get("budget.password.hash").tag("operation", "matches").timer().count() == 2
+
+        cleanup:
+        encoder.destroy()
+    }
+
+    def "저장된 해시의 강도가 설정과 다르면 다시 해시 대상이다"() {
+        given:
+        def encoder = new BoundedBCryptPasswordEncoder(5, 1, 1, Duration.ofSeconds(5), registry)
+
+        expect:
+        encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))
+        encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw"))
+        !encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("pw"))
+        !encoder.upgradeEncoding("plain")
+        !encoder.upgradeEncoding(null)
+
+        and: "강도가 달라도 검증은 된다"
+        encoder.matches("pw", new BCryptPasswordEncoder(4).encode("pw"))
+
+        cleanup:
+        encoder.destroy()
+    }
+
+    def "스레드와 대기열이 가득 차면 기다리지 않고 429 로 거절한다"() {
+        given:
+        def release = new CountDownLatch(1)
+        def started = new CountDownLatch(1)
+        def encoder = new BoundedBCryptPasswordEncoder(blockingDelegate(started, release), 10, 1, 0,
+                Duration.ofSeconds(5), registry)
+        def first = CompletableFuture.supplyAsync { encoder.encode("first") }
+        started.await(5, TimeUnit.SECONDS)
+
+        when:
+        encoder.encode("second")
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.PASSWORD_HASHING_BUSY
+        e.errorCode.status.value() == 429
+        registry.get("budget.password.hash.rejected").tag("reason", "queue_full").counter().count() == 1
+
+        when:
+        release.countDown()
+
+        then:
+        first.get(5, TimeUnit.SECONDS) == "hashed"
+
+        cleanup:
+        encoder.destroy()
+    }
+
+    def "대기 시간을 넘기면 429 로 거절하고 대기열의 작업은 실행하지 않는다"() {
+        given:
+        def release = new CountDownLatch(1)
+        def started = new CountDownLatch(1)
+        def delegate = blockingDelegate(started, release)
+        def encoder = new BoundedBCryptPasswordEncoder(delegate, 10, 1, 1, Duration.ofMillis(100), registry)
+        def first = CompletableFuture.runAsync { encoder.encode("first") }
+        started.await(5, TimeUnit.SECONDS)
+
+        when:
+        encoder.encode("queued")
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.PASSWORD_HASHING_BUSY
+        // 실행 중인 첫 요청도 대기 시간을 넘겨 거절된다 (거절이 집계될 때까지 기다린 뒤 확인)
+        first.handle { r, ex -> ex }.get(5, TimeUnit.SECONDS) != null
+        registry.get("budget.password.hash.rejected").tag("reason", "timeout").counter().count() == 2
+
+        when: "실행 중이던 해시가 끝나도"
+        release.countDown()
+        Thread.sleep(200)
+
+        then: "취소된 대기 작업은 실행되지 않는다"
+        registry.get("budget.password.hash").tag("operation", "encode").timer().count() == 1
+
+        cleanup:
+        encoder.destroy()
+    }
+
+    private PasswordEncoder blockingDelegate(CountDownLatch started, CountDownLatch release) {
+        Stub(PasswordEncoder) {
+            encode(_) >> {
+                started.countDown()
+                release.await(5, TimeUnit.SECONDS)
+                "hashed"
+            }
+        }
+    }
+}
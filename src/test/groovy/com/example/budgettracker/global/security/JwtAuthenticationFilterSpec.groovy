@@ -0,0 +1,80 @@
+package com.example.budgettracker.global.security
+
+import com.example.budgettracker.domain.budget.controller.BudgetController
+import com.example.budgettracker.domain.budget.dto.BudgetResponse
+import com.example.budgettracker.domain.budget.service.BudgetService
+import com.example.budgettracker.domain.user.controller.UserController
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.service.UserService
+import com.example.budgettracker.global.util.JwtUtil
+import groovy.json.JsonSlurper
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.security.core.authority.SimpleGrantedAuthority
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.security.core.userdetails.UserDetailsService
+import org.springframework.security.web.servletapi.SecurityContextHolderAwareRequestFilter
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.setup.MockMvcBuilders
+import spock.lang.Specification
+
+import java.time.YearMonth
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+
+/**
+ * JWT 인증 필터를 거친 요청의 인증 주체 테스트
+ *
+ * 토큰의 subject 는 이메일이지만 컨트롤러는 authentication.getName() 을 사용자 ID 로 받아야 한다.
+ * 필터 체인과 같은 순서로 JwtAuthenticationFilter 다음에 SecurityContextHolderAwareRequestFilter 를 둔다.
+ */
+class JwtAuthenticationFilterSpec extends Specification {
+
+    def jwtUtil = new JwtUtil("test-secret-key-test-secret-key-test-secret-key", 3600000L, new SimpleMeterRegistry())
+    def userDetailsService = Mock(UserDetailsService)
+    def userService = Mock(UserService)
+    def budgetService = Mock(BudgetService)
+
+    MockMvc mockMvc
+    String token
+
+    def setup() {
+        def requestWrapper = new SecurityContextHolderAwareRequestFilter()
+        requestWrapper.afterPropertiesSet()
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new UserController(userService), new BudgetController(budgetService))
+                .addFilters(new JwtAuthenticationFilter(jwtUtil, userDetailsService), requestWrapper)
+                .build()
+
+        userDetailsService.loadUserByUsername("me@test.com") >>
+                new AuthenticatedUser(7L, "me@test.com", "pw", [new SimpleGrantedAuthority("ROLE_USER")])
+        token = jwtUtil.generateToken("me@test.com")
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "내 프로필은 토큰의 이메일이 아닌 사용자 ID 로 조회한다"() {
+        when:
+        def response = mockMvc.perform(get("/api/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().response
+
+        then:
+        1 * userService.getProfile("7") >> User.builder().email("me@test.com").password("pw").name("tester").build()
+        new JsonSlurper().parseText(response.contentAsString).email == "me@test.com"
+    }
+
+    def "예산 API 는 사용자 ID 로 조회한다"() {
+        when:
+        def response = mockMvc.perform(get("/api/budgets").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().response
+
+        then:
+        1 * budgetService.getBudgets(7L) >> [BudgetResponse.builder().id(1L).amount(50000G)
+                .yearMonth(YearMonth.of(2024, 3)).categoryId(10L).version(0L).build()]
+        new JsonSlurper().parseText(response.contentAsString).data*.id == [1]
+    }
+}
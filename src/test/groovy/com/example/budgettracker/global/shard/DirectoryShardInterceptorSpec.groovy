@@ -0,0 +1,32 @@
+package com.example.budgettracker.global.shard
+
+import org.springframework.aop.framework.ProxyFactory
+import spock.lang.Specification
+
+import java.util.function.IntSupplier
+
+class DirectoryShardInterceptorSpec extends Specification {
+
+    def "요청 샤드가 설정되어 있어도 디렉터리 샤드에서 실행하고 끝나면 요청 샤드로 되돌린다"() {
+        given:
+        def factory = new ProxyFactory({ -> ShardContext.current() } as IntSupplier)
+        factory.addAdvice(new DirectoryShardInterceptor())
+        def service = factory.getProxy() as IntSupplier
+
+        when:
+        def shardInCall = ShardContext.call(2, { -> service.getAsInt() })
+
+        then:
+        shardInCall == ShardContext.DEFAULT_SHARD
+
+        when:
+        ShardContext.set(2)
+        service.getAsInt()
+
+        then:
+        ShardContext.current() == 2
+
+        cleanup:
+        ShardContext.clear()
+    }
+}
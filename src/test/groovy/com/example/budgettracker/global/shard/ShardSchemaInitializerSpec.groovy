@@ -0,0 +1,50 @@
+package com.example.budgettracker.global.shard
+
+import org.hibernate.boot.MetadataSources
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder
+import org.hibernate.cfg.AvailableSettings
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy
+import spock.lang.Specification
+
+class ShardSchemaInitializerSpec extends Specification {
+
+    def shard0 = h2("shard0")
+    def shard1 = h2("shard1")
+    def shards = new ShardRoutingDataSource([shard0, shard1])
+
+    def "기본 샤드에 적용한 ddl-auto 를 데이터 샤드에도 같은 설정으로 적용한다"() {
+        given:
+        def initializer = new ShardSchemaInitializer(shards)
+        def registry = new StandardServiceRegistryBuilder(
+            new BootstrapServiceRegistryBuilder().applyIntegrator(initializer).build())
+            .applySetting(AvailableSettings.DATASOURCE, new LazyConnectionDataSourceProxy(shards))
+            .applySetting(AvailableSettings.HBM2DDL_AUTO, "update")
+            .build()
+        def sessionFactory = new MetadataSources(registry).addAnnotatedClass(UserShard).buildMetadata().buildSessionFactory()
+
+        expect: "세션 팩토리 생성 시에는 기본 샤드에만 테이블이 생긴다"
+        columns(shard0) == ["ACTIVE_WRITES", "MIGRATING", "SHARD_ID", "USER_ID"]
+        columns(shard1).isEmpty()
+
+        when:
+        initializer.afterSingletonsInstantiated()
+
+        then:
+        columns(shard1) == ["ACTIVE_WRITES", "MIGRATING", "SHARD_ID", "USER_ID"]
+
+        cleanup:
+        sessionFactory?.close()
+    }
+
+    private static List<String> columns(DriverManagerDataSource dataSource) {
+        new JdbcTemplate(dataSource).queryForList(
+            "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'USER_SHARD' ORDER BY COLUMN_NAME", String)
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        new DriverManagerDataSource("jdbc:h2:mem:${name}-${UUID.randomUUID()};DB_CLOSE_DELAY=-1", "sa", "")
+    }
+}
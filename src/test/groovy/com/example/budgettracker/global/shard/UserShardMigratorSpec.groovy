@@ -0,0 +1,139 @@
+package com.example.budgettracker.global.shard
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import spock.lang.Specification
+
+class UserShardMigratorSpec extends Specification {
+
+    def shard0 = h2("shard0")
+    def shard1 = h2("shard1")
+    def shards = new ShardRoutingDataSource([shard0, shard1])
+    def directory = new ShardDirectory(shards, 0L, new SimpleMeterRegistry())
+    def migrator = new UserShardMigrator(shards, directory, new ShardTransactionManagers(shards), 2, 2000L)
+
+    def "사용자 행을 청크 단위로 대상 샤드에 옮기고 디렉터리를 갱신한다"() {
+        given:
+        def source = new JdbcTemplate(shard0)
+        source.update("INSERT INTO users (id, email) VALUES (2, 'user@example.com')")
+        source.update("INSERT INTO users (id, email) VALUES (3, 'other@example.com')")
+        source.update("INSERT INTO categories (category_id, user_id, name) VALUES (10, 2, '식비'), (11, NULL, '기본')")
+        (1..5).each { source.update("INSERT INTO transactions (id, user_id, category_id, amount) VALUES (?, 2, 10, ?)", it, it * 1000) }
+        source.update("INSERT INTO transactions (id, user_id, category_id, amount) VALUES (6, 3, 11, 500)")
+        source.update("INSERT INTO transaction_outbox (id, user_id) VALUES (40, 2), (41, 3)")
+        source.update("INSERT INTO user_balances (user_id, balance_cents) VALUES (2, -1500000), (3, -50000)")
+        source.update("INSERT INTO user_event_sequences (user_id, last_event_id) VALUES (2, 12), (3, 1)")
+        source.update("INSERT INTO transaction_tombstones (id, user_id, transaction_id) VALUES (70, 2, 7)")
+        source.update("INSERT INTO user_shard (user_id, shard_id, migrating, active_writes) VALUES (2, 0, FALSE, 0)")
+
+        when:
+        def moved = migrator.moveUser(2L, 1)
+
+        then:
+        moved == 10
+        directory.load(2L).shardId() == 1
+        !directory.load(2L).migrating()
+
+        and: "대상 샤드에 사용자 행이 모두 있고"
+        def target = new JdbcTemplate(shard1)
+        target.queryForObject("SELECT COUNT(*) FROM users WHERE id = 2", Long) == 1
+        target.queryForList("SELECT id FROM transactions ORDER BY id", Long) == [1L, 2L, 3L, 4L, 5L]
+        target.queryForObject("SELECT SUM(amount) FROM transactions", BigDecimal) == 15000
+        target.queryForObject("SELECT balance_cents FROM user_balances WHERE user_id = 2", Long) == -1500000
+        target.queryForObject("SELECT last_event_id FROM user_event_sequences WHERE user_id = 2", Long) == 12
+        target.queryForList("SELECT transaction_id FROM transaction_tombstones", Long) == [7L]
+
+        and: "원래 샤드에는 다른 사용자 행과 디렉터리 샤드의 사용자 계정만 남는다"
+        source.queryForList("SELECT id FROM transactions", Long) == [6L]
+        source.queryForList("SELECT category_id FROM categories", Long) == [11L]
+        source.queryForList("SELECT id FROM transaction_outbox", Long) == [41L]
+        source.queryForList("SELECT user_id FROM user_balances", Long) == [3L]
+        source.queryForList("SELECT user_id FROM user_event_sequences", Long) == [3L]
+        source.queryForObject("SELECT COUNT(*) FROM transaction_tombstones", Long) == 0
+        source.queryForObject("SELECT COUNT(*) FROM users", Long) == 2
+    }
+
+    def "새 사용자는 해시로 샤드를 배정하고 배정된 샤드에 사용자 행을 복사한다"() {
+        given:
+        new JdbcTemplate(shard0).update("INSERT INTO users (id, email) VALUES (5, 'new@example.com')")
+
+        when:
+        def assignment = new ShardResolver(shards, directory).resolve("new@example.com")
+
+        then:
+        assignment.shardId() == 1
+        new JdbcTemplate(shard1).queryForObject("SELECT email FROM users WHERE id = 5", String) == "new@example.com"
+    }
+
+    def "진행 중인 쓰기가 끝난 뒤 복사하고, 이전 중 새 쓰기는 받지 않으며, 끝나면 새 샤드로 쓴다"() {
+        given:
+        def source = new JdbcTemplate(shard0)
+        source.update("INSERT INTO users (id, email) VALUES (2, 'user@example.com')")
+        source.update("INSERT INTO user_shard (user_id, shard_id, migrating, active_writes) VALUES (2, 0, FALSE, 0)")
+        def inFlight = directory.acquireWrite(2L)
+
+        when: "쓰기 임대가 남아 있는 동안 이전을 시작한다"
+        def migration = Thread.start { migrator.moveUser(2L, 1) }
+        waitUntil { directory.load(2L).migrating() }
+
+        then: "새 쓰기는 임대를 받지 못하고 이전은 복사를 시작하지 않는다"
+        inFlight.shardId() == 0
+        directory.acquireWrite(2L).migrating()
+        directory.activeWrites(2L) == 1
+        directory.load(2L).shardId() == 0
+
+        when: "진행 중이던 쓰기가 원래 샤드에 커밋되고 임대를 반납한다"
+        source.update("INSERT INTO transactions (id, user_id, amount) VALUES (7, 2, 700)")
+        directory.releaseWrite(2L)
+        migration.join(5000)
+
+        then: "그 쓰기까지 옮겨지고 이후 쓰기는 새 샤드를 받는다"
+        new JdbcTemplate(shard1).queryForList("SELECT id FROM transactions", Long) == [7L]
+        def next = directory.acquireWrite(2L)
+        !next.migrating()
+        next.shardId() == 1
+    }
+
+    def "진행 중인 쓰기가 제한 시간 안에 끝나지 않으면 이전을 중단하고 표시를 해제한다"() {
+        given:
+        def source = new JdbcTemplate(shard0)
+        source.update("INSERT INTO users (id, email) VALUES (2, 'user@example.com')")
+        source.update("INSERT INTO user_shard (user_id, shard_id, migrating, active_writes) VALUES (2, 0, FALSE, 0)")
+        directory.acquireWrite(2L)
+        def impatient = new UserShardMigrator(shards, directory, new ShardTransactionManagers(shards), 2, 100L)
+
+        when:
+        impatient.moveUser(2L, 1)
+
+        then:
+        thrown(IllegalStateException)
+        !directory.load(2L).migrating()
+        directory.load(2L).shardId() == 0
+        new JdbcTemplate(shard1).queryForObject("SELECT COUNT(*) FROM users", Long) == 0
+    }
+
+    private static void waitUntil(Closure<Boolean> condition) {
+        def deadline = System.currentTimeMillis() + 5000
+        while (!condition() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        def dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:${name}-${UUID.randomUUID()};MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "")
+        def jdbc = new JdbcTemplate(dataSource)
+        jdbc.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(100))")
+        jdbc.execute("CREATE TABLE categories (category_id BIGINT PRIMARY KEY, user_id BIGINT REFERENCES users(id), name VARCHAR(50))")
+        jdbc.execute("CREATE TABLE transactions (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT REFERENCES users(id), " +
+            "category_id BIGINT REFERENCES categories(category_id), amount DECIMAL(10, 2))")
+        jdbc.execute("CREATE TABLE budgets (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT REFERENCES users(id))")
+        jdbc.execute("CREATE TABLE transaction_outbox (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT)")
+        jdbc.execute("CREATE TABLE user_balances (user_id BIGINT PRIMARY KEY, balance_cents BIGINT)")
+        jdbc.execute("CREATE TABLE user_event_sequences (user_id BIGINT PRIMARY KEY, last_event_id BIGINT)")
+        jdbc.execute("CREATE TABLE transaction_tombstones (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, transaction_id BIGINT)")
+        jdbc.execute("CREATE TABLE user_shard (user_id BIGINT PRIMARY KEY, shard_id INT, migrating BOOLEAN, active_writes INT)")
+        return dataSource
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.budgettracker.global.transaction
+
+import com.example.budgettracker.domain.transaction.dto.TransactionRequest
+import com.example.budgettracker.domain.transaction.entity.Category
+import com.example.budgettracker.domain.transaction.entity.Transaction
+import com.example.budgettracker.domain.transaction.entity.TransactionType
+import com.example.budgettracker.domain.transaction.event.TransactionChangedEvent
+import com.example.budgettracker.domain.transaction.repository.CategoryRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionOutboxRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionRepository
+import com.example.budgettracker.domain.transaction.repository.TransactionTombstoneRepository
+import com.example.budgettracker.domain.transaction.service.TransactionOutboxService
+import com.example.budgettracker.domain.transaction.service.TransactionService
+import com.example.budgettracker.domain.user.entity.User
+import com.example.budgettracker.domain.user.repository.UserRepository
+import com.example.budgettracker.global.exception.CustomException
+import com.example.budgettracker.global.exception.ErrorCode
+import com.example.budgettracker.global.shard.ShardRunner
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import org.springframework.test.context.TestPropertySource
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+
+/**
+ * 낙관적 잠금 충돌 재시도 테스트
+ *
+ * 수정 트랜잭션이 커밋되기 전에 다른 트랜잭션이 같은 거래 내역을 바꾸도록 해 실제 버전 충돌을 만든다.
+ * 재시도가 새 트랜잭션으로 실행되어야 하므로 테스트 트랜잭션 없이 실행하고 데이터는 cleanup 에서 지운다.
+ * 아웃박스 이벤트 순번 발급이 네이티브 ON DUPLICATE KEY UPDATE 를 쓰므로 H2 를 MySQL 모드로 띄운다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:optimistic-lock-retry;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class OptimisticLockRetrySpec extends Specification {
+
+    @Autowired
+    TransactionRepository transactionRepository
+    @Autowired
+    TransactionOutboxRepository outboxRepository
+    @Autowired
+    TransactionTombstoneRepository tombstoneRepository
+    @Autowired
+    CategoryRepository categoryRepository
+    @Autowired
+    UserRepository userRepository
+    @Autowired
+    PlatformTransactionManager transactionManager
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+    List<TransactionChangedEvent> published = []
+    int concurrentEdits
+    TransactionService transactionService
+    User user
+    Category food
+    Transaction lunch
+
+    def setup() {
+        // 이벤트 적재 직전(변경이 아직 flush 되지 않은 시점)에 다른 요청이 같은 거래 내역을 수정한 것처럼 만든다
+        // 순번 발급 쿼리가 변경을 먼저 flush 하므로 충돌은 적재 중에 드러난다
+        def outboxService = new TransactionOutboxService(outboxRepository, new ObjectMapper().findAndRegisterModules(),
+                [], new ShardRunner(Mock(ObjectProvider)), false, 200, 10, 10, 1000, 300000, 72) {
+            @Override
+            void append(TransactionChangedEvent event) {
+                if (concurrentEdits > 0) {
+                    concurrentEdits--
+                    // 매번 다른 금액이어야 실제로 UPDATE 되어 버전이 오른다
+                    editConcurrently(event.transactionId, 7000G + concurrentEdits * 1000G)
+                }
+                super.append(event)
+            }
+        }
+        ApplicationEventPublisher publisher = { event -> published << (TransactionChangedEvent) event } as ApplicationEventPublisher
+        transactionService = new TransactionService(transactionRepository, tombstoneRepository, userRepository, outboxService, publisher,
+                new OptimisticLockRetry(transactionManager, meterRegistry, 3, 0))
+
+        user = userRepository.save(User.builder().email("conflict@test.com").password("pw").name("tester").build())
+        food = categoryRepository.save(new Category("식비", "음식", "food", "#FF5733", null, true))
+        lunch = transactionRepository.save(Transaction.builder()
+                .user(user).category(food).type(TransactionType.EXPENSE)
+                .amount(12000G).description("점심").date(LocalDateTime.of(2024, 3, 10, 12, 0))
+                .build())
+    }
+
+    def cleanup() {
+        outboxRepository.deleteAll()
+        tombstoneRepository.deleteAll()
+        transactionRepository.deleteAll()
+        categoryRepository.deleteAll()
+        userRepository.deleteAll()
+    }
+
+    def "버전 없이 보낸 수정은 충돌하면 다시 조회해 재시도하고 변경 전 값도 다시 읽는다"() {
+        given:
+        concurrentEdits = 1
+
+        when:
+        def response = transactionService.updateTransaction(user.id.toString(), lunch.id, request(15000G, null))
+
+        then:
+        response.amount == 15000G
+        transactionRepository.findById(lunch.id).get().amount == 15000G
+        response.version == 2L
+        published.size() == 1
+        published.last().before.amount == 7000G
+        outboxRepository.count() == 1
+        retries("retried") == 1
+    }
+
+    def "클라이언트가 본 버전으로 보낸 수정은 충돌하면 재시도하지 않고 409 로 끝난다"() {
+        given:
+        concurrentEdits = 1
+
+        when:
+        transactionService.updateTransaction(user.id.toString(), lunch.id, request(15000G, 0L))
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.CONCURRENT_MODIFICATION
+        e.errorCode.status.value() == 409
+        transactionRepository.findById(lunch.id).get().amount == 7000G
+        outboxRepository.count() == 0
+        retries("rejected") == 1
+    }
+
+    def "이미 지난 버전으로 보낸 수정은 쓰지 않고 409 로 끝난다"() {
+        given:
+        editConcurrently(lunch.id, 7000G)
+
+        when:
+        transactionService.updateTransaction(user.id.toString(), lunch.id, request(15000G, 0L))
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.CONCURRENT_MODIFICATION
+        published.isEmpty()
+        transactionRepository.findById(lunch.id).get().version == 1L
+    }
+
+    def "재시도를 모두 쓰면 409 로 끝난다"() {
+        given:
+        concurrentEdits = 3
+
+        when:
+        transactionService.updateTransaction(user.id.toString(), lunch.id, request(15000G, null))
+
+        then:
+        def e = thrown(CustomException)
+        e.errorCode == ErrorCode.CONCURRENT_MODIFICATION
+        retries("retried") == 2
+        retries("rejected") == 1
+    }
+
+    void editConcurrently(Long transactionId, BigDecimal amount) {
+        def template = new TransactionTemplate(transactionManager)
+        template.propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+        template.executeWithoutResult { transactionRepository.findById(transactionId).get().updateAmount(amount) }
+    }
+
+    private TransactionRequest request(BigDecimal amount, Long version) {
+        TransactionRequest.builder()
+                .amount(amount)
+                .type(TransactionType.EXPENSE)
+                .category(food)
+                .description("점심")
+                .date(LocalDateTime.of(2024, 3, 10, 12, 0))
+                .version(version)
+                .build()
+    }
+
+    private double retries(String outcome) {
+        meterRegistry.find("budget.optimistic_lock.conflicts").tag("outcome", outcome).counter()?.count() ?: 0
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.budgettracker.support
+
+import org.spockframework.runtime.extension.ExtensionAnnotation
+
+import java.lang.annotation.ElementType
+import java.lang.annotation.Retention
+import java.lang.annotation.RetentionPolicy
+import java.lang.annotation.Target
+
+/**
+ * 피처 메서드 본문에서 실행된 SQL 수를 검증한다.
+ *
+ * setup() 에서 만든 테스트 데이터의 쿼리는 세지 않는다.
+ * 애플리케이션 데이터소스가 쿼리 측정 프록시(MetricsConfig)로 감싸져 있어야 한다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@ExtensionAnnotation(ExpectedQueriesExtension)
+@interface ExpectedQueries {
+
+    /**
+     * 기대 쿼리 수
+     */
+    int value()
+}
@@ -0,0 +1,31 @@
+package com.example.budgettracker.support
+
+import com.example.budgettracker.global.metrics.RequestQueryStats
+import org.spockframework.runtime.SpockAssertionError
+import org.spockframework.runtime.extension.IAnnotationDrivenExtension
+import org.spockframework.runtime.model.FeatureInfo
+
+/**
+ * @ExpectedQueries 처리 확장
+ *
+ * 피처 메서드 실행 동안 쿼리 측정 범위를 열고, 실행된 쿼리 수가 기대값과 다르면 실행된 SQL 목록과 함께 실패시킨다.
+ */
+class ExpectedQueriesExtension implements IAnnotationDrivenExtension<ExpectedQueries> {
+
+    @Override
+    void visitFeatureAnnotation(ExpectedQueries annotation, FeatureInfo feature) {
+        feature.featureMethod.addInterceptor { invocation ->
+            def stats = RequestQueryStats.start()
+            try {
+                invocation.proceed()
+            } finally {
+                stats.close()
+            }
+            if (stats.queryCount != annotation.value()) {
+                def statements = stats.statementCounts.collect { sql, count -> "  ${count}x ${sql}" }.join('\n')
+                throw new SpockAssertionError(
+                        "expected ${annotation.value()} queries but ${stats.queryCount} were executed:\n${statements}")
+            }
+        }
+    }
+}
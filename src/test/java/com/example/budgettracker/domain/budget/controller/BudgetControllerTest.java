@@ -2,15 +2,18 @@ package com.example.budgettracker.domain.budget.controller;
 
 import com.example.budgettracker.domain.budget.dto.BudgetRequest;
 import com.example.budgettracker.domain.budget.service.BudgetService;
+import com.example.budgettracker.global.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.math.BigDecimal;
 import java.time.YearMonth;
@@ -21,6 +24,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BudgetController.class)
+@MockBean(JpaMetamodelMappingContext.class)  // @EnableJpaAuditing 이 요구하는 JPA 매핑 정보 (웹 계층 슬라이스에는 없음)
 class BudgetControllerTest {
 
     @Autowired
@@ -32,6 +36,13 @@ class BudgetControllerTest {
     @MockBean
     private BudgetService budgetService;
 
+    // JwtAuthenticationFilter 의존성 (웹 계층 슬라이스에는 없는 빈)
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
     @Test
     @WithMockUser
     @DisplayName("예산 생성 - 성공")
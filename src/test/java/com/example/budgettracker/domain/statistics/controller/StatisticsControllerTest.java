@@ -4,12 +4,15 @@ import com.example.budgettracker.domain.statistics.dto.BudgetComparisonResponse;
 import com.example.budgettracker.domain.statistics.dto.MonthlyStatisticsResponse;
 import com.example.budgettracker.domain.statistics.dto.PeriodTrendResponse;
 import com.example.budgettracker.domain.statistics.service.StatisticsService;
+import com.example.budgettracker.global.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -29,6 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @MockBean: 의존성 주입이 필요한 모의 서비스
  */
 @WebMvcTest(StatisticsController.class)
+@MockBean(JpaMetamodelMappingContext.class)  // @EnableJpaAuditing 이 요구하는 JPA 매핑 정보 (웹 계층 슬라이스에는 없음)
 class StatisticsControllerTest {
 
     @Autowired
@@ -37,6 +41,13 @@ class StatisticsControllerTest {
     @MockBean
     private StatisticsService statisticsService;
 
+    // JwtAuthenticationFilter 의존성 (웹 계층 슬라이스에는 없는 빈)
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
     private static final String USER_ID = "test-user";
     private static final String YEAR_MONTH = "2024-03";
     private static final String START_YEAR_MONTH = "2024-01";
@@ -0,0 +1,166 @@
+package com.example.budgettracker.fixture;
+
+import com.example.budgettracker.fixture.SyntheticDataSink.BudgetRow;
+import com.example.budgettracker.fixture.SyntheticDataSink.TransactionRow;
+import com.example.budgettracker.fixture.SyntheticDataSink.UserRow;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.function.UnaryOperator;
+
+/**
+ * 합성 데이터 CSV 출력 (MySQL LOAD DATA 용)
+ *
+ * users.csv, budgets.csv, transactions.csv 와 이를 적재하는 load.sql 을 만든다.
+ * 카테고리는 이름으로 기록하고 load.sql 에서 기본 카테고리 ID 로 바꾼다. (없으면 먼저 생성)
+ *
+ * 적재: 출력 디렉터리에서 mysql --local-infile=1 budget_tracker < load.sql
+ */
+public class CsvExporter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+    private final UnaryOperator<String> nameEncoder;
+
+    public CsvExporter(Path directory, UnaryOperator<String> nameEncoder) {
+        this.directory = directory;
+        this.nameEncoder = nameEncoder;
+    }
+
+    public JdbcBulkLoader.LoadResult export(SyntheticDataGenerator generator) throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(directory);
+        String passwordHash = new BCryptPasswordEncoder().encode(JdbcBulkLoader.PASSWORD);
+        try (CsvSink sink = new CsvSink(passwordHash)) {
+            generator.generate(sink);
+            writeLoadScript();
+            return new JdbcBulkLoader.LoadResult(sink.users, sink.budgets, sink.transactions,
+                    Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private void writeLoadScript() throws IOException {
+        StringBuilder sql = new StringBuilder()
+                .append("-- 합성 데이터 적재 (SyntheticDataCli --csv-dir 로 생성)\n")
+                .append("-- 실행: 이 디렉터리에서 mysql --local-infile=1 budget_tracker < load.sql\n")
+                .append("SET foreign_key_checks = 0;\n")
+                .append("SET unique_checks = 0;\n\n");
+        for (DefaultCategory category : DefaultCategory.values()) {
+            sql.append(String.format(
+                    "INSERT INTO categories (name, description, icon, color, is_default, created_at, updated_at)%n"
+                            + "SELECT '%s', '%s', '%s', '%s', true, NOW(), NOW() FROM DUAL%n"
+                            + "WHERE NOT EXISTS (SELECT 1 FROM categories WHERE name = '%s' AND is_default = true);%n",
+                    category.getDisplayName(), category.getDescription(), category.getIcon(), category.getColor(),
+                    category.getDisplayName()));
+        }
+        String categoryId = "category_id = (SELECT c.category_id FROM categories c "
+                + "WHERE c.name = @category AND c.is_default = true LIMIT 1)";
+        sql.append("\nLOAD DATA LOCAL INFILE 'users.csv' INTO TABLE users\n")
+                .append(fieldsClause())
+                .append("(id, email, password, name, created_at, updated_at);\n\n")
+                .append("LOAD DATA LOCAL INFILE 'budgets.csv' INTO TABLE budgets\n")
+                .append(fieldsClause())
+                .append("(user_id, @category, amount, budget_month)\n")
+                .append("SET ").append(categoryId).append(";\n\n")
+                .append("LOAD DATA LOCAL INFILE 'transactions.csv' INTO TABLE transactions\n")
+                .append(fieldsClause())
+                .append("(user_id, @category, type, amount, date, description, created_at, updated_at)\n")
+                .append("SET ").append(categoryId).append(";\n\n")
+                .append("SET unique_checks = 1;\n")
+                .append("SET foreign_key_checks = 1;\n");
+        Files.writeString(directory.resolve("load.sql"), sql, StandardCharsets.UTF_8);
+    }
+
+    private static String fieldsClause() {
+        return "CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' "
+                + "LINES TERMINATED BY '\\n' IGNORE 1 LINES\n";
+    }
+
+    private final class CsvSink implements SyntheticDataSink, AutoCloseable {
+
+        private final String passwordHash;
+        private final BufferedWriter usersWriter;
+        private final BufferedWriter budgetsWriter;
+        private final BufferedWriter transactionsWriter;
+        private long users;
+        private long budgets;
+        private long transactions;
+
+        private CsvSink(String passwordHash) throws IOException {
+            this.passwordHash = passwordHash;
+            this.usersWriter = open("users.csv", "id,email,password,name,created_at,updated_at");
+            this.budgetsWriter = open("budgets.csv", "user_id,category,amount,budget_month");
+            this.transactionsWriter = open("transactions.csv",
+                    "user_id,category,type,amount,date,description,created_at,updated_at");
+        }
+
+        private BufferedWriter open(String fileName, String header) throws IOException {
+            BufferedWriter writer = Files.newBufferedWriter(directory.resolve(fileName), StandardCharsets.UTF_8);
+            writer.write(header);
+            writer.write('\n');
+            return writer;
+        }
+
+        @Override
+        public void user(UserRow user) {
+            String createdAt = DATE_TIME.format(user.createdAt());
+            line(usersWriter, String.valueOf(user.id()), user.email(), passwordHash,
+                    nameEncoder.apply(user.name()), createdAt, createdAt);
+            users++;
+        }
+
+        @Override
+        public void budget(BudgetRow budget) {
+            line(budgetsWriter, String.valueOf(budget.userId()), budget.category().getDisplayName(),
+                    BigDecimal.valueOf(budget.amountCents(), 2).toPlainString(), budget.month().toString());
+            budgets++;
+        }
+
+        @Override
+        public void transaction(TransactionRow transaction) {
+            String date = DATE_TIME.format(transaction.date());
+            line(transactionsWriter, String.valueOf(transaction.userId()), transaction.category().getDisplayName(),
+                    transaction.type().name(), BigDecimal.valueOf(transaction.amountCents(), 2).toPlainString(),
+                    date, transaction.description(), date, date);
+            transactions++;
+        }
+
+        private void line(Writer writer, String... values) {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(quote(values[i]));
+                }
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private String quote(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (usersWriter; budgetsWriter; transactionsWriter) {
+                // 세 파일을 모두 닫는다. (하나가 실패해도 나머지는 닫힘)
+            }
+        }
+    }
+}
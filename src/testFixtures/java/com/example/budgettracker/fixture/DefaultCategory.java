@@ -0,0 +1,54 @@
+package com.example.budgettracker.fixture;
+
+import com.example.budgettracker.domain.transaction.entity.Category;
+
+/**
+ * 기본 카테고리 (DefaultCategorySeeder 와 같은 이름/속성)
+ *
+ * 합성 데이터는 기본 카테고리만 사용하며, 적재 시 이름으로 실제 ID 를 찾는다.
+ */
+public enum DefaultCategory {
+
+    FOOD("식비", "음식 관련 지출", "food", "#FF5733"),
+    TRANSPORT("교통비", "교통 수단 관련 지출", "transport", "#33A8FF"),
+    HOUSING("주거비", "주택 관련 고정 지출", "home", "#33FF57"),
+    SHOPPING("쇼핑", "의류, 생필품 등 구매", "shopping", "#A833FF"),
+    CULTURE("문화생활", "영화, 공연, 취미 활동 등", "entertainment", "#FF33A8"),
+    SALARY("월급", "정기적인 급여 수입", "salary", "#33FFA8"),
+    GIFT("용돈", "가족, 친구 등에게 받은 용돈", "gift", "#FFA833");
+
+    private final String displayName;
+    private final String description;
+    private final String icon;
+    private final String color;
+
+    DefaultCategory(String displayName, String description, String icon, String color) {
+        this.displayName = displayName;
+        this.description = description;
+        this.icon = icon;
+        this.color = color;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    /**
+     * 저장되지 않은 카테고리 엔티티 (벤치마크 등 DB 없이 쓰는 경우)
+     */
+    public Category toEntity() {
+        return new Category(displayName, description, icon, color, null, true);
+    }
+}
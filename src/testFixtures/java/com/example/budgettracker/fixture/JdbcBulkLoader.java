@@ -0,0 +1,274 @@
+package com.example.budgettracker.fixture;
+
+import com.example.budgettracker.fixture.SyntheticDataSink.BudgetRow;
+import com.example.budgettracker.fixture.SyntheticDataSink.TransactionRow;
+import com.example.budgettracker.fixture.SyntheticDataSink.UserRow;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+/**
+ * 합성 데이터 JDBC 배치 적재
+ *
+ * - 사용자 범위를 스레드 수만큼 나눠 스레드마다 커넥션 하나로 적재한다.
+ * - batch-size 건마다 사용자 → 예산 → 거래 순으로 배치를 실행하고 커밋한다. (외래 키 순서)
+ * - MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 를 주면 배치가 다중 행 INSERT 로 바뀌어 훨씬 빠르다.
+ * - 기본 카테고리는 이름으로 찾고 없으면 만든다.
+ *
+ * 사용자 비밀번호는 모두 PASSWORD (BCrypt 해시는 한 번만 계산), 이름은 nameEncoder 로 변환해 저장한다.
+ * (애플리케이션은 이름을 AES 로 암호화해 저장하므로, 실제 서버에서 조회하려면 AESUtil::encrypt 를 넘긴다.)
+ */
+public class JdbcBulkLoader {
+
+    public static final String PASSWORD = "synthetic1234";
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, email, password, name, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BUDGET =
+            "INSERT INTO budgets (user_id, category_id, amount, budget_month) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_TRANSACTION =
+            "INSERT INTO transactions (user_id, category_id, type, amount, date, description, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final UnaryOperator<String> nameEncoder;
+
+    public JdbcBulkLoader(DataSource dataSource) {
+        this(dataSource, DEFAULT_BATCH_SIZE, UnaryOperator.identity());
+    }
+
+    public JdbcBulkLoader(DataSource dataSource, int batchSize, UnaryOperator<String> nameEncoder) {
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+        this.nameEncoder = nameEncoder;
+    }
+
+    /**
+     * 생성기 전체 데이터를 적재한다.
+     *
+     * @param threads 병렬 적재 스레드 수 (사용자 범위를 나눔)
+     */
+    public LoadResult load(SyntheticDataGenerator generator, int threads) throws Exception {
+        long started = System.nanoTime();
+        Map<DefaultCategory, Long> categoryIds = ensureDefaultCategories();
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        int users = generator.getOptions().users();
+        int workers = Math.max(1, Math.min(threads, users));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                int from = (int) ((long) users * i / workers);
+                int to = (int) ((long) users * (i + 1) / workers);
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection();
+                         BatchSink sink = new BatchSink(connection, categoryIds, passwordHash)) {
+                        generator.generate(sink, from, to);
+                        sink.flush();
+                        return new long[]{sink.users, sink.budgets, sink.transactions};
+                    }
+                }));
+            }
+            long[] total = new long[3];
+            for (Future<long[]> future : futures) {
+                long[] counts = future.get();
+                for (int i = 0; i < total.length; i++) {
+                    total[i] += counts[i];
+                }
+            }
+            return new LoadResult(total[0], total[1], total[2], Duration.ofNanos(System.nanoTime() - started));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 기본 카테고리 ID (없으면 생성)
+     */
+    public Map<DefaultCategory, Long> ensureDefaultCategories() throws SQLException {
+        Map<DefaultCategory, Long> ids = new EnumMap<>(DefaultCategory.class);
+        try (Connection connection = dataSource.getConnection()) {
+            for (DefaultCategory category : DefaultCategory.values()) {
+                ids.put(category, findOrCreate(connection, category));
+            }
+        }
+        return ids;
+    }
+
+    private Long findOrCreate(Connection connection, DefaultCategory category) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT category_id FROM categories WHERE name = ? AND is_default = true")) {
+            select.setString(1, category.getDisplayName());
+            try (ResultSet rs = select.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO categories (name, description, icon, color, is_default, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, true, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            insert.setString(1, category.getDisplayName());
+            insert.setString(2, category.getDescription());
+            insert.setString(3, category.getIcon());
+            insert.setString(4, category.getColor());
+            insert.setTimestamp(5, now);
+            insert.setTimestamp(6, now);
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * 적재 결과
+     */
+    public record LoadResult(long users, long budgets, long transactions, Duration elapsed) {
+
+        public long totalRows() {
+            return users + budgets + transactions;
+        }
+
+        public long rowsPerSecond() {
+            long millis = Math.max(1, elapsed.toMillis());
+            return totalRows() * 1000 / millis;
+        }
+    }
+
+    /**
+     * 커넥션 하나에 대한 배치 적재 대상
+     */
+    private final class BatchSink implements SyntheticDataSink, AutoCloseable {
+
+        private final Connection connection;
+        private final Map<DefaultCategory, Long> categoryIds;
+        private final String passwordHash;
+        private final boolean autoCommit;
+        private final PreparedStatement userStatement;
+        private final PreparedStatement budgetStatement;
+        private final PreparedStatement transactionStatement;
+        private int pending;
+        private long users;
+        private long budgets;
+        private long transactions;
+
+        private BatchSink(Connection connection, Map<DefaultCategory, Long> categoryIds, String passwordHash)
+                throws SQLException {
+            this.connection = connection;
+            this.categoryIds = categoryIds;
+            this.passwordHash = passwordHash;
+            this.autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            this.userStatement = connection.prepareStatement(INSERT_USER);
+            this.budgetStatement = connection.prepareStatement(INSERT_BUDGET);
+            this.transactionStatement = connection.prepareStatement(INSERT_TRANSACTION);
+        }
+
+        @Override
+        public void user(UserRow user) {
+            try {
+                Timestamp createdAt = Timestamp.valueOf(user.createdAt());
+                userStatement.setLong(1, user.id());
+                userStatement.setString(2, user.email());
+                userStatement.setString(3, passwordHash);
+                userStatement.setString(4, nameEncoder.apply(user.name()));
+                userStatement.setTimestamp(5, createdAt);
+                userStatement.setTimestamp(6, createdAt);
+                userStatement.addBatch();
+                users++;
+                added();
+            } catch (SQLException e) {
+                throw new IllegalStateException("사용자 적재 실패: " + user.id(), e);
+            }
+        }
+
+        @Override
+        public void budget(BudgetRow budget) {
+            try {
+                budgetStatement.setLong(1, budget.userId());
+                budgetStatement.setLong(2, categoryIds.get(budget.category()));
+                budgetStatement.setBigDecimal(3, BigDecimal.valueOf(budget.amountCents(), 2));
+                budgetStatement.setString(4, budget.month().toString());
+                budgetStatement.addBatch();
+                budgets++;
+                added();
+            } catch (SQLException e) {
+                throw new IllegalStateException("예산 적재 실패: " + budget.userId(), e);
+            }
+        }
+
+        @Override
+        public void transaction(TransactionRow transaction) {
+            try {
+                Timestamp date = Timestamp.valueOf(transaction.date());
+                transactionStatement.setLong(1, transaction.userId());
+                transactionStatement.setLong(2, categoryIds.get(transaction.category()));
+                transactionStatement.setString(3, transaction.type().name());
+                transactionStatement.setBigDecimal(4, BigDecimal.valueOf(transaction.amountCents(), 2));
+                transactionStatement.setTimestamp(5, date);
+                transactionStatement.setString(6, transaction.description());
+                transactionStatement.setTimestamp(7, date);
+                transactionStatement.setTimestamp(8, date);
+                transactionStatement.addBatch();
+                transactions++;
+                added();
+            } catch (SQLException e) {
+                throw new IllegalStateException("거래 적재 실패: " + transaction.userId(), e);
+            }
+        }
+
+        private void added() throws SQLException {
+            if (++pending >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * 외래 키 순서대로 배치 실행 후 커밋
+         */
+        void flush() throws SQLException {
+            if (pending == 0) {
+                return;
+            }
+            userStatement.executeBatch();
+            budgetStatement.executeBatch();
+            transactionStatement.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                userStatement.close();
+                budgetStatement.close();
+                transactionStatement.close();
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.budgettracker.fixture;
+
+import com.example.budgettracker.global.util.AESUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 합성 데이터 생성 커맨드
+ *
+ * ./gradlew generateSyntheticData --args="--users=7500 --months=12 --jdbc-url=jdbc:mysql://localhost:3306/budget_tracker?rewriteBatchedStatements=true --username=root --password=root"
+ * ./gradlew generateSyntheticData --args="--users=7500 --months=12 --csv-dir=build/synthetic"
+ *
+ * 옵션
+ * - --users (1000), --months (12), --from (2024-01), --seed (42), --first-user-id (1000000)
+ * - --jdbc-url, --username, --password, --threads (4), --batch-size (1000): JDBC 배치 적재
+ * - --csv-dir: CSV + load.sql 출력 (jdbc-url 대신)
+ * - --aes-key: 주면 사용자 이름을 애플리케이션과 같은 AES 키로 암호화해 저장
+ */
+public final class SyntheticDataCli {
+
+    private SyntheticDataCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        SyntheticDataOptions dataOptions = new SyntheticDataOptions(
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(SyntheticDataOptions.DEFAULT_SEED))),
+                Integer.parseInt(options.getOrDefault("users", "1000")),
+                YearMonth.parse(options.getOrDefault("from", "2024-01")),
+                Integer.parseInt(options.getOrDefault("months", "12")),
+                Long.parseLong(options.getOrDefault("first-user-id", String.valueOf(SyntheticDataOptions.DEFAULT_FIRST_USER_ID))));
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(dataOptions);
+
+        UnaryOperator<String> nameEncoder = UnaryOperator.identity();
+        if (options.containsKey("aes-key")) {
+            AESUtil aesUtil = new AESUtil(options.get("aes-key"), new SimpleMeterRegistry());
+            nameEncoder = aesUtil::encrypt;
+        }
+
+        JdbcBulkLoader.LoadResult result;
+        if (options.containsKey("csv-dir")) {
+            result = new CsvExporter(Path.of(options.get("csv-dir")), nameEncoder).export(generator);
+        } else if (options.containsKey("jdbc-url")) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    options.get("jdbc-url"), options.getOrDefault("username", "root"), options.getOrDefault("password", ""));
+            result = new JdbcBulkLoader(dataSource,
+                    Integer.parseInt(options.getOrDefault("batch-size", String.valueOf(JdbcBulkLoader.DEFAULT_BATCH_SIZE))),
+                    nameEncoder)
+                    .load(generator, Integer.parseInt(options.getOrDefault("threads", "4")));
+        } else {
+            throw new IllegalArgumentException("--jdbc-url 또는 --csv-dir 중 하나가 필요합니다.");
+        }
+
+        System.out.printf("users=%d, budgets=%d, transactions=%d, elapsed=%ds, rows/s=%d%n",
+                result.users(), result.budgets(), result.transactions(),
+                result.elapsed().toSeconds(), result.rowsPerSecond());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
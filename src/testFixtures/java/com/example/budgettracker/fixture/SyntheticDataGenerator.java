@@ -0,0 +1,246 @@
+package com.example.budgettracker.fixture;
+
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+import com.example.budgettracker.fixture.SyntheticDataSink.BudgetRow;
+import com.example.budgettracker.fixture.SyntheticDataSink.TransactionRow;
+import com.example.budgettracker.fixture.SyntheticDataSink.UserRow;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 시드 기반 합성 가계부 데이터 생성기
+ *
+ * 사용자마다 월급, 월세, 식비 수준, 출퇴근 여부, 쇼핑 성향을 정하고 달마다 아래 패턴으로 거래를 만든다.
+ * - 월급: 급여일(주말이면 직전 금요일) 수입, 12월 보너스
+ * - 주거비: 매달 고정 날짜
+ * - 식비: 매일 1~3건, 주말 저녁은 더 큰 금액
+ * - 교통비: 출퇴근자는 평일 2건, 가끔 택시
+ * - 쇼핑: 월 평균 3건에 계절 가중치 (11~12월 최대)
+ * - 문화생활: 주말 일부
+ * - 용돈: 설/추석 달에 수입
+ * 예산은 사용자 성향으로 예상한 지출에 여유분을 더해 식비/교통비/쇼핑/문화생활에 월별로 만든다.
+ *
+ * 난수는 (시드, 사용자, 월) 조합마다 따로 만들기 때문에 사용자 범위를 나눠 병렬로 생성해도 결과가 같다.
+ * 사용자-월 하나당 평균 약 110건이므로 1,000만 건은 사용자 7,500명 x 12개월 정도다.
+ */
+public class SyntheticDataGenerator {
+
+    private static final double[] SHOPPING_SEASONALITY = {
+            1.2, 0.9, 1.0, 1.0, 1.1, 0.9, 1.2, 1.0, 1.1, 1.0, 1.8, 1.6
+    };
+    private static final String[] FOOD_DESCRIPTIONS = {"아침", "점심", "저녁", "카페", "편의점", "배달"};
+    private static final String[] SHOPPING_DESCRIPTIONS = {"온라인 쇼핑", "의류", "생필품", "전자제품", "선물"};
+    private static final String[] CULTURE_DESCRIPTIONS = {"영화", "공연", "도서", "전시", "운동"};
+
+    private final SyntheticDataOptions options;
+
+    public SyntheticDataGenerator(SyntheticDataOptions options) {
+        this.options = options;
+    }
+
+    public SyntheticDataOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * 전체 사용자 생성
+     */
+    public void generate(SyntheticDataSink sink) {
+        generate(sink, 0, options.users());
+    }
+
+    /**
+     * 사용자 범위 [fromUser, toUser) 생성 (병렬 적재 시 범위를 나눠 호출)
+     */
+    public void generate(SyntheticDataSink sink, int fromUser, int toUser) {
+        for (int userIndex = fromUser; userIndex < toUser; userIndex++) {
+            UserProfile profile = profile(userIndex);
+            sink.user(profile.user());
+            for (int monthIndex = 0; monthIndex < options.months(); monthIndex++) {
+                YearMonth month = options.firstMonth().plusMonths(monthIndex);
+                budgets(profile, month, sink);
+                transactions(profile, monthIndex, month, sink);
+            }
+        }
+    }
+
+    /**
+     * 한 달 거래를 rows 건이 될 때까지 사용자 순서대로 생성 (벤치마크용, 사용자/예산 행 없음)
+     */
+    public List<TransactionRow> monthOfTransactions(YearMonth month, int rows) {
+        List<TransactionRow> result = new ArrayList<>(rows);
+        SyntheticDataSink collector = new SyntheticDataSink() {
+            @Override
+            public void user(UserRow user) {
+            }
+
+            @Override
+            public void budget(BudgetRow budget) {
+            }
+
+            @Override
+            public void transaction(TransactionRow transaction) {
+                if (result.size() < rows) {
+                    result.add(transaction);
+                }
+            }
+        };
+        int monthIndex = (int) options.firstMonth().until(month, ChronoUnit.MONTHS);
+        for (int userIndex = 0; result.size() < rows; userIndex++) {
+            transactions(profile(userIndex), monthIndex, month, collector);
+        }
+        return result;
+    }
+
+    private UserProfile profile(int userIndex) {
+        SplittableRandom random = new SplittableRandom(mix(options.seed(), userIndex, -1));
+        long userId = options.firstUserId() + userIndex;
+        LocalDateTime createdAt = options.firstMonth().atDay(1).atStartOfDay()
+                .minusDays(random.nextInt(1, 365))
+                .plusSeconds(random.nextInt(86_400));
+        return new UserProfile(
+                userIndex,
+                new UserRow(userId, "user" + userId + "@synthetic.example", "합성사용자" + userId, createdAt),
+                roundWon(random.nextLong(2_400_000, 7_200_000), 10_000),
+                random.nextInt(10) < 3 ? 10 : 25,
+                random.nextInt(10) < 8 ? roundWon(random.nextLong(300_000, 1_200_000), 10_000) : 0,
+                random.nextInt(1, 6),
+                0.7 + random.nextDouble() * 0.8,
+                random.nextInt(10) < 7,
+                0.5 + random.nextDouble() * 1.5);
+    }
+
+    private void budgets(UserProfile profile, YearMonth month, SyntheticDataSink sink) {
+        long userId = profile.user().id();
+        int days = month.lengthOfMonth();
+        double shopping = 3 * profile.shopper() * SHOPPING_SEASONALITY[month.getMonthValue() - 1];
+        sink.budget(new BudgetRow(userId, DefaultCategory.FOOD, month,
+                cents(roundUpWon((long) (days * 2 * 14_000 * profile.foodLevel() * 1.1), 10_000))));
+        sink.budget(new BudgetRow(userId, DefaultCategory.TRANSPORT, month,
+                cents(roundUpWon(profile.commuter() ? 100_000 : 40_000, 10_000))));
+        sink.budget(new BudgetRow(userId, DefaultCategory.SHOPPING, month,
+                cents(roundUpWon((long) (shopping * 80_000), 10_000))));
+        sink.budget(new BudgetRow(userId, DefaultCategory.CULTURE, month, cents(100_000)));
+    }
+
+    private void transactions(UserProfile profile, int monthIndex, YearMonth month, SyntheticDataSink sink) {
+        SplittableRandom random = new SplittableRandom(mix(options.seed(), profile.index(), monthIndex));
+        long userId = profile.user().id();
+
+        // 월급 (급여일이 주말이면 직전 금요일)
+        LocalDate payday = weekdayOnOrBefore(month.atDay(Math.min(profile.payday(), month.lengthOfMonth())));
+        sink.transaction(new TransactionRow(userId, DefaultCategory.SALARY, TransactionType.INCOME,
+                cents(profile.salaryWon()), payday.atTime(9, 0), "급여"));
+        if (month.getMonthValue() == 12 && random.nextBoolean()) {
+            sink.transaction(new TransactionRow(userId, DefaultCategory.SALARY, TransactionType.INCOME,
+                    cents(profile.salaryWon() / 2), weekdayOnOrBefore(month.atDay(24)).atTime(9, 0), "연말 보너스"));
+        }
+
+        // 주거비
+        if (profile.rentWon() > 0) {
+            sink.transaction(new TransactionRow(userId, DefaultCategory.HOUSING, TransactionType.EXPENSE,
+                    cents(profile.rentWon()), month.atDay(profile.rentDay()).atTime(10, 0), "월세"));
+        }
+
+        // 용돈 (설/추석 달, 그 외 가끔)
+        int monthValue = month.getMonthValue();
+        if (((monthValue == 1 || monthValue == 9) && random.nextBoolean()) || random.nextInt(100) < 3) {
+            sink.transaction(new TransactionRow(userId, DefaultCategory.GIFT, TransactionType.INCOME,
+                    cents(roundWon(random.nextLong(30_000, 500_000), 10_000)),
+                    month.atDay(random.nextInt(1, month.lengthOfMonth() + 1)).atTime(random.nextInt(10, 21), 0),
+                    "용돈"));
+        }
+
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+
+            // 식비
+            int meals = 1 + random.nextInt(weekend ? 3 : 2) + (random.nextInt(4) == 0 ? 1 : 0);
+            for (int meal = 0; meal < meals; meal++) {
+                int slot = random.nextInt(FOOD_DESCRIPTIONS.length);
+                long won = weekend && slot == 2
+                        ? random.nextLong(20_000, 60_000)
+                        : random.nextLong(3_000, 18_000) * (long) Math.round(profile.foodLevel() * 10) / 10;
+                sink.transaction(new TransactionRow(userId, DefaultCategory.FOOD, TransactionType.EXPENSE,
+                        cents(roundWon(won, 100)), date.atTime(8 + slot * 2, random.nextInt(60)),
+                        FOOD_DESCRIPTIONS[slot]));
+            }
+
+            // 교통비
+            if (profile.commuter() && !weekend) {
+                sink.transaction(new TransactionRow(userId, DefaultCategory.TRANSPORT, TransactionType.EXPENSE,
+                        cents(1_400 + random.nextInt(4) * 100L), date.atTime(8, random.nextInt(60)), "지하철"));
+                sink.transaction(new TransactionRow(userId, DefaultCategory.TRANSPORT, TransactionType.EXPENSE,
+                        cents(1_400 + random.nextInt(4) * 100L), date.atTime(18, random.nextInt(60)), "지하철"));
+            }
+            if (random.nextInt(100) < 5) {
+                sink.transaction(new TransactionRow(userId, DefaultCategory.TRANSPORT, TransactionType.EXPENSE,
+                        cents(roundWon(random.nextLong(8_000, 30_000), 100)), date.atTime(23, random.nextInt(60)), "택시"));
+            }
+
+            // 문화생활
+            if (weekend && random.nextInt(100) < 35) {
+                sink.transaction(new TransactionRow(userId, DefaultCategory.CULTURE, TransactionType.EXPENSE,
+                        cents(roundWon(random.nextLong(12_000, 80_000), 1_000)), date.atTime(15, random.nextInt(60)),
+                        CULTURE_DESCRIPTIONS[random.nextInt(CULTURE_DESCRIPTIONS.length)]));
+            }
+        }
+
+        // 쇼핑 (계절 가중치)
+        int purchases = poisson(random, 3 * profile.shopper() * SHOPPING_SEASONALITY[monthValue - 1]);
+        for (int i = 0; i < purchases; i++) {
+            sink.transaction(new TransactionRow(userId, DefaultCategory.SHOPPING, TransactionType.EXPENSE,
+                    cents(roundWon(random.nextLong(10_000, 300_000), 1_000)),
+                    month.atDay(random.nextInt(1, month.lengthOfMonth() + 1)).atTime(random.nextInt(10, 23), random.nextInt(60)),
+                    SHOPPING_DESCRIPTIONS[random.nextInt(SHOPPING_DESCRIPTIONS.length)]));
+        }
+    }
+
+    private static LocalDate weekdayOnOrBefore(LocalDate date) {
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.minusDays(1);
+        }
+        return date;
+    }
+
+    private static int poisson(SplittableRandom random, double lambda) {
+        double limit = Math.exp(-lambda);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static long mix(long seed, int userIndex, int monthIndex) {
+        long h = seed * 0x9E3779B97F4A7C15L + userIndex;
+        h = h * 0xBF58476D1CE4E5B9L + monthIndex;
+        return h ^ (h >>> 31);
+    }
+
+    private static long roundWon(long won, long unit) {
+        return Math.max(unit, won / unit * unit);
+    }
+
+    private static long roundUpWon(long won, long unit) {
+        return (won + unit - 1) / unit * unit;
+    }
+
+    private static long cents(long won) {
+        return won * 100;
+    }
+
+    private record UserProfile(int index, UserRow user, long salaryWon, int payday, long rentWon, int rentDay,
+                               double foodLevel, boolean commuter, double shopper) {
+    }
+}
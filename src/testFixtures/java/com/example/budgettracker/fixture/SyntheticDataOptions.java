@@ -0,0 +1,40 @@
+package com.example.budgettracker.fixture;
+
+import java.time.YearMonth;
+
+/**
+ * 합성 데이터 생성 옵션
+ *
+ * @param seed 난수 시드 (같은 시드, 같은 옵션이면 항상 같은 데이터)
+ * @param users 사용자 수
+ * @param firstMonth 첫 달
+ * @param months 개월 수
+ * @param firstUserId 첫 사용자 ID (기존 데이터와 겹치지 않게 큰 값 사용)
+ */
+public record SyntheticDataOptions(long seed, int users, YearMonth firstMonth, int months, long firstUserId) {
+
+    public static final long DEFAULT_SEED = 42L;
+    public static final long DEFAULT_FIRST_USER_ID = 1_000_000L;
+
+    public SyntheticDataOptions {
+        if (users < 0 || months < 1) {
+            throw new IllegalArgumentException("users >= 0, months >= 1 이어야 합니다.");
+        }
+    }
+
+    public static SyntheticDataOptions of(int users, YearMonth firstMonth, int months) {
+        return new SyntheticDataOptions(DEFAULT_SEED, users, firstMonth, months, DEFAULT_FIRST_USER_ID);
+    }
+
+    public SyntheticDataOptions withSeed(long seed) {
+        return new SyntheticDataOptions(seed, users, firstMonth, months, firstUserId);
+    }
+
+    public SyntheticDataOptions withFirstUserId(long firstUserId) {
+        return new SyntheticDataOptions(seed, users, firstMonth, months, firstUserId);
+    }
+
+    public YearMonth lastMonth() {
+        return firstMonth.plusMonths(months - 1L);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.budgettracker.fixture;
+
+import com.example.budgettracker.domain.transaction.entity.TransactionType;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 합성 데이터 출력 대상 (JDBC 배치 적재, CSV 파일, 메모리 수집 등)
+ *
+ * 한 사용자의 행은 user → (월별) budget, transaction 순서로 전달된다.
+ * 금액은 원 단위가 아닌 센트(소수 둘째 자리까지의 정수, MoneyUtil 과 같은 단위)이다.
+ */
+public interface SyntheticDataSink {
+
+    void user(UserRow user);
+
+    void budget(BudgetRow budget);
+
+    void transaction(TransactionRow transaction);
+
+    record UserRow(long id, String email, String name, LocalDateTime createdAt) {
+    }
+
+    record BudgetRow(long userId, DefaultCategory category, YearMonth month, long amountCents) {
+    }
+
+    record TransactionRow(long userId, DefaultCategory category, TransactionType type, long amountCents,
+                          LocalDateTime date, String description) {
+    }
+}